@@ -15,9 +15,12 @@
 package swim.avro;
 
 import swim.avro.decoder.AvroDecoder;
+import swim.avro.encoder.AvroEncoder;
 import swim.avro.schema.AvroType;
 import swim.codec.Decoder;
+import swim.codec.Encoder;
 import swim.codec.InputBuffer;
+import swim.codec.OutputBuffer;
 
 /**
  * Factory for constructing Avro decoders and encoders.
@@ -25,6 +28,7 @@ import swim.codec.InputBuffer;
 public final class Avro {
 
   private static AvroDecoder decoder;
+  private static AvroEncoder encoder;
 
   private Avro() {
     // static
@@ -45,6 +49,21 @@ public final class Avro {
     return decoder().typeDecoder(type);
   }
 
+  public static AvroEncoder encoder() {
+    if (encoder == null) {
+      encoder = new AvroEncoder();
+    }
+    return encoder;
+  }
+
+  public static <T> Encoder<?, T> encodeType(AvroType<T> type, T value, OutputBuffer<?> output) {
+    return encoder().encodeType(type, value, output);
+  }
+
+  public static <T> Encoder<?, T> typeEncoder(AvroType<T> type, T value) {
+    return encoder().typeEncoder(type, value);
+  }
+
   public static boolean isNameStartChar(int c) {
     return 'A' <= c && c <= 'Z'
         || 'a' <= c && c <= 'z'
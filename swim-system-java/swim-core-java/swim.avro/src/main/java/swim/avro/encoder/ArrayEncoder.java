@@ -0,0 +1,110 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.avro.encoder;
+
+import java.util.Iterator;
+import swim.avro.schema.AvroArrayType;
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+
+final class ArrayEncoder<I, T> extends Encoder<Object, T> {
+
+  final AvroEncoder avro;
+  final AvroArrayType<I, T> type;
+  final T value;
+  final Iterator<I> items;
+  final Encoder<?, ?> part;
+  final int step;
+
+  ArrayEncoder(AvroEncoder avro, AvroArrayType<I, T> type, T value,
+               Iterator<I> items, Encoder<?, ?> part, int step) {
+    this.avro = avro;
+    this.type = type;
+    this.value = value;
+    this.items = items;
+    this.part = part;
+    this.step = step;
+  }
+
+  ArrayEncoder(AvroEncoder avro, AvroArrayType<I, T> type, T value) {
+    this(avro, type, value, null, null, 1);
+  }
+
+  static <I, T> Encoder<Object, T> encode(OutputBuffer<?> output, AvroEncoder avro, AvroArrayType<I, T> type,
+                                          T value, Iterator<I> items, Encoder<?, ?> part, int step) {
+    if (step == 1) {
+      if (part == null) {
+        // Write all items as a single block.
+        items = type.itemIterator(value);
+        part = VarintEncoder.encode(output, null, VarintEncoder.zigZag(type.itemCount(value)));
+      } else {
+        part = part.pull(output);
+      }
+      if (part.isDone()) {
+        part = null;
+        if (items.hasNext()) {
+          step = 2;
+        } else {
+          return done(value);
+        }
+      } else if (part.isError()) {
+        return part.asError();
+      }
+    }
+    if (step == 2) {
+      do {
+        if (part == null) {
+          if (items.hasNext()) {
+            part = avro.encodeType(type.itemType(), items.next(), output);
+          } else {
+            step = 3;
+            break;
+          }
+        }
+        while (part.isCont() && output.isCont()) {
+          part = part.pull(output);
+        }
+        if (part.isDone()) {
+          part = null;
+          continue;
+        } else if (part.isError()) {
+          return part.asError();
+        }
+        break;
+      } while (true);
+    }
+    if (step == 3 && output.isCont()) {
+      output = output.write(0);
+      return done(value);
+    }
+    if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new ArrayEncoder<I, T>(avro, type, value, items, part, step);
+  }
+
+  static <I, T> Encoder<Object, T> encode(OutputBuffer<?> output, AvroEncoder avro,
+                                          AvroArrayType<I, T> type, T value) {
+    return encode(output, avro, type, value, null, null, 1);
+  }
+
+  @Override
+  public Encoder<Object, T> pull(OutputBuffer<?> output) {
+    return encode(output, this.avro, this.type, this.value, this.items, this.part, this.step);
+  }
+
+}
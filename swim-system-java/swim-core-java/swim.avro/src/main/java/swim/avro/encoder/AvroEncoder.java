@@ -0,0 +1,250 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.avro.encoder;
+
+import swim.avro.schema.AvroArrayType;
+import swim.avro.schema.AvroBooleanType;
+import swim.avro.schema.AvroComplexType;
+import swim.avro.schema.AvroDataType;
+import swim.avro.schema.AvroDoubleType;
+import swim.avro.schema.AvroEnumType;
+import swim.avro.schema.AvroFixedType;
+import swim.avro.schema.AvroFloatType;
+import swim.avro.schema.AvroMapType;
+import swim.avro.schema.AvroNullType;
+import swim.avro.schema.AvroPrimitiveType;
+import swim.avro.schema.AvroRecordType;
+import swim.avro.schema.AvroStringType;
+import swim.avro.schema.AvroType;
+import swim.avro.schema.AvroUnionType;
+import swim.avro.schema.AvroVarintType;
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+
+public class AvroEncoder {
+
+  public <T> Encoder<?, T> encodeType(AvroType<T> type, T value, OutputBuffer<?> output) {
+    if (type instanceof AvroPrimitiveType<?>) {
+      return encodePrimitive((AvroPrimitiveType<T>) type, value, output);
+    } else if (type instanceof AvroComplexType<?>) {
+      return encodeComplex((AvroComplexType<T>) type, value, output);
+    } else {
+      return Encoder.error(new EncoderException("unsupported avro type: " + type));
+    }
+  }
+
+  public <T> Encoder<?, T> encodePrimitive(AvroPrimitiveType<T> type, T value, OutputBuffer<?> output) {
+    if (type instanceof AvroNullType<?>) {
+      return encodeNull((AvroNullType<T>) type, value, output);
+    } else if (type instanceof AvroBooleanType<?>) {
+      return encodeBoolean((AvroBooleanType<T>) type, value, output);
+    } else if (type instanceof AvroVarintType<?>) {
+      return encodeVarint((AvroVarintType<T>) type, value, output);
+    } else if (type instanceof AvroFloatType<?>) {
+      return encodeFloat((AvroFloatType<T>) type, value, output);
+    } else if (type instanceof AvroDoubleType<?>) {
+      return encodeDouble((AvroDoubleType<T>) type, value, output);
+    } else if (type instanceof AvroDataType<?>) {
+      return encodeData((AvroDataType<T>) type, value, output);
+    } else if (type instanceof AvroStringType<?>) {
+      return encodeString((AvroStringType<T>) type, value, output);
+    } else {
+      return Encoder.error(new EncoderException("unsupported avro type: " + type));
+    }
+  }
+
+  public <T> Encoder<?, T> encodeComplex(AvroComplexType<T> type, T value, OutputBuffer<?> output) {
+    if (type instanceof AvroRecordType<?, ?>) {
+      return encodeRecord((AvroRecordType<T, ?>) type, value, output);
+    } else if (type instanceof AvroEnumType<?>) {
+      return encodeEnum((AvroEnumType<T>) type, value, output);
+    } else if (type instanceof AvroArrayType<?, ?>) {
+      return encodeArray((AvroArrayType<?, T>) type, value, output);
+    } else if (type instanceof AvroMapType<?, ?, ?>) {
+      return encodeMap((AvroMapType<?, ?, T>) type, value, output);
+    } else if (type instanceof AvroUnionType<?>) {
+      return encodeUnion((AvroUnionType<T>) type, value, output);
+    } else if (type instanceof AvroFixedType<?>) {
+      return encodeFixed((AvroFixedType<T>) type, value, output);
+    } else {
+      return Encoder.error(new EncoderException("unsupported avro type: " + type));
+    }
+  }
+
+  public <T> Encoder<?, T> encodeNull(AvroNullType<T> type, T value, OutputBuffer<?> output) {
+    return Encoder.done(value);
+  }
+
+  public <T> Encoder<?, T> encodeBoolean(AvroBooleanType<T> type, T value, OutputBuffer<?> output) {
+    return BooleanEncoder.encode(output, type, value);
+  }
+
+  public <T> Encoder<?, T> encodeVarint(AvroVarintType<T> type, T value, OutputBuffer<?> output) {
+    return VarintEncoder.encode(output, type, value);
+  }
+
+  public <T> Encoder<?, T> encodeFloat(AvroFloatType<T> type, T value, OutputBuffer<?> output) {
+    return FloatEncoder.encode(output, type, value);
+  }
+
+  public <T> Encoder<?, T> encodeDouble(AvroDoubleType<T> type, T value, OutputBuffer<?> output) {
+    return DoubleEncoder.encode(output, type, value);
+  }
+
+  public <T> Encoder<?, T> encodeData(AvroDataType<T> type, T value, OutputBuffer<?> output) {
+    return DataEncoder.encode(output, type, value);
+  }
+
+  public <T> Encoder<?, T> encodeString(AvroStringType<T> type, T value, OutputBuffer<?> output) {
+    return DataEncoder.encode(output, type, value);
+  }
+
+  public <T, R> Encoder<?, T> encodeRecord(AvroRecordType<T, R> type, T value, OutputBuffer<?> output) {
+    return RecordEncoder.encode(output, this, type, value);
+  }
+
+  public <T> Encoder<?, T> encodeEnum(AvroEnumType<T> type, T value, OutputBuffer<?> output) {
+    final int ordinal = type.ordinal(value);
+    if (ordinal < 0) {
+      return Encoder.error(new EncoderException("unknown enum symbol: " + value));
+    }
+    return VarintEncoder.encode(output, value, VarintEncoder.zigZag(ordinal));
+  }
+
+  public <I, T> Encoder<?, T> encodeArray(AvroArrayType<I, T> type, T value, OutputBuffer<?> output) {
+    return ArrayEncoder.encode(output, this, type, value);
+  }
+
+  public <K, V, T> Encoder<?, T> encodeMap(AvroMapType<K, V, T> type, T value, OutputBuffer<?> output) {
+    return MapEncoder.encode(output, this, type, value);
+  }
+
+  public <T> Encoder<?, T> encodeUnion(AvroUnionType<T> type, T value, OutputBuffer<?> output) {
+    return UnionEncoder.encode(output, this, type, value);
+  }
+
+  public <T> Encoder<?, T> encodeFixed(AvroFixedType<T> type, T value, OutputBuffer<?> output) {
+    return DataEncoder.encode(output, type, value);
+  }
+
+  public <T> Encoder<?, T> typeEncoder(AvroType<T> type, T value) {
+    if (type instanceof AvroPrimitiveType<?>) {
+      return primitiveEncoder((AvroPrimitiveType<T>) type, value);
+    } else if (type instanceof AvroComplexType<?>) {
+      return complexEncoder((AvroComplexType<T>) type, value);
+    } else {
+      return Encoder.error(new EncoderException("unsupported avro type: " + type));
+    }
+  }
+
+  public <T> Encoder<?, T> primitiveEncoder(AvroPrimitiveType<T> type, T value) {
+    if (type instanceof AvroNullType<?>) {
+      return nullEncoder((AvroNullType<T>) type, value);
+    } else if (type instanceof AvroBooleanType<?>) {
+      return booleanEncoder((AvroBooleanType<T>) type, value);
+    } else if (type instanceof AvroVarintType<?>) {
+      return varintEncoder((AvroVarintType<T>) type, value);
+    } else if (type instanceof AvroFloatType<?>) {
+      return floatEncoder((AvroFloatType<T>) type, value);
+    } else if (type instanceof AvroDoubleType<?>) {
+      return doubleEncoder((AvroDoubleType<T>) type, value);
+    } else if (type instanceof AvroDataType<?>) {
+      return dataEncoder((AvroDataType<T>) type, value);
+    } else if (type instanceof AvroStringType<?>) {
+      return stringEncoder((AvroStringType<T>) type, value);
+    } else {
+      return Encoder.error(new EncoderException("unsupported avro type: " + type));
+    }
+  }
+
+  public <T> Encoder<?, T> complexEncoder(AvroComplexType<T> type, T value) {
+    if (type instanceof AvroRecordType<?, ?>) {
+      return recordEncoder((AvroRecordType<T, ?>) type, value);
+    } else if (type instanceof AvroEnumType<?>) {
+      return enumEncoder((AvroEnumType<T>) type, value);
+    } else if (type instanceof AvroArrayType<?, ?>) {
+      return arrayEncoder((AvroArrayType<?, T>) type, value);
+    } else if (type instanceof AvroMapType<?, ?, ?>) {
+      return mapEncoder((AvroMapType<?, ?, T>) type, value);
+    } else if (type instanceof AvroUnionType<?>) {
+      return unionEncoder((AvroUnionType<T>) type, value);
+    } else if (type instanceof AvroFixedType<?>) {
+      return fixedEncoder((AvroFixedType<T>) type, value);
+    } else {
+      return Encoder.error(new EncoderException("unsupported avro type: " + type));
+    }
+  }
+
+  public <T> Encoder<?, T> nullEncoder(AvroNullType<T> type, T value) {
+    return Encoder.done(value);
+  }
+
+  public <T> Encoder<?, T> booleanEncoder(AvroBooleanType<T> type, T value) {
+    return new BooleanEncoder<T>(type, value);
+  }
+
+  public <T> Encoder<?, T> varintEncoder(AvroVarintType<T> type, T value) {
+    return new VarintEncoder<T>(type, value);
+  }
+
+  public <T> Encoder<?, T> floatEncoder(AvroFloatType<T> type, T value) {
+    return new FloatEncoder<T>(type, value);
+  }
+
+  public <T> Encoder<?, T> doubleEncoder(AvroDoubleType<T> type, T value) {
+    return new DoubleEncoder<T>(type, value);
+  }
+
+  public <T> Encoder<?, T> dataEncoder(AvroDataType<T> type, T value) {
+    return new DataEncoder<T>(type, value);
+  }
+
+  public <T> Encoder<?, T> stringEncoder(AvroStringType<T> type, T value) {
+    return new DataEncoder<T>(type, value);
+  }
+
+  public <T, R> Encoder<?, T> recordEncoder(AvroRecordType<T, R> type, T value) {
+    return new RecordEncoder<T, R>(this, type, value);
+  }
+
+  public <T> Encoder<?, T> enumEncoder(AvroEnumType<T> type, T value) {
+    final int ordinal = type.ordinal(value);
+    if (ordinal < 0) {
+      return Encoder.error(new EncoderException("unknown enum symbol: " + value));
+    }
+    return new VarintEncoder<T>(value, VarintEncoder.zigZag(ordinal));
+  }
+
+  public <I, T> Encoder<?, T> arrayEncoder(AvroArrayType<I, T> type, T value) {
+    return new ArrayEncoder<I, T>(this, type, value);
+  }
+
+  public <K, V, T> Encoder<?, T> mapEncoder(AvroMapType<K, V, T> type, T value) {
+    return new MapEncoder<K, V, T>(this, type, value);
+  }
+
+  public <T> Encoder<?, T> unionEncoder(AvroUnionType<T> type, T value) {
+    return new UnionEncoder<T>(this, type, value);
+  }
+
+  public <T> Encoder<?, T> fixedEncoder(AvroFixedType<T> type, T value) {
+    try {
+      return new DataEncoder<T>(type, value);
+    } catch (EncoderException cause) {
+      return Encoder.error(cause);
+    }
+  }
+
+}
@@ -0,0 +1,129 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.avro.encoder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import swim.avro.schema.AvroDataType;
+import swim.avro.schema.AvroFixedType;
+import swim.avro.schema.AvroStringType;
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+
+final class DataEncoder<T> extends Encoder<Object, T> {
+
+  final T value;
+  final ByteBuffer data;
+  final Encoder<?, ?> sizeEncoder;
+  final int index;
+  final int step;
+
+  DataEncoder(T value, ByteBuffer data, Encoder<?, ?> sizeEncoder, int index, int step) {
+    this.value = value;
+    this.data = data;
+    this.sizeEncoder = sizeEncoder;
+    this.index = index;
+    this.step = step;
+  }
+
+  DataEncoder(T value, ByteBuffer data, int step) {
+    this(value, data, null, data.position(), step);
+  }
+
+  DataEncoder(AvroDataType<T> type, T value) {
+    this(value, type.dataValue(value), 1);
+  }
+
+  DataEncoder(AvroStringType<T> type, T value) {
+    this(value, stringData(type, value), 1);
+  }
+
+  DataEncoder(AvroFixedType<T> type, T value) {
+    this(value, fixedData(type, value), 2);
+  }
+
+  static <T> ByteBuffer fixedData(AvroFixedType<T> type, T value) {
+    final ByteBuffer data = type.fixedValue(value);
+    if (data.remaining() != type.size()) {
+      throw new EncoderException("expected " + type.size() + " fixed bytes, but found "
+                                 + data.remaining());
+    }
+    return data;
+  }
+
+  static <T> ByteBuffer stringData(AvroStringType<T> type, T value) {
+    return ByteBuffer.wrap(type.stringValue(value).getBytes(UTF_8));
+  }
+
+  static <T> Encoder<Object, T> encode(OutputBuffer<?> output, T value, ByteBuffer data,
+                                       Encoder<?, ?> sizeEncoder, int index, int step) {
+    if (step == 1) {
+      if (sizeEncoder == null) {
+        sizeEncoder = VarintEncoder.encode(output, null, VarintEncoder.zigZag(data.limit() - index));
+      } else {
+        sizeEncoder = sizeEncoder.pull(output);
+      }
+      if (sizeEncoder.isDone()) {
+        sizeEncoder = null;
+        step = 2;
+      } else if (sizeEncoder.isError()) {
+        return sizeEncoder.asError();
+      }
+    }
+    if (step == 2) {
+      final int limit = data.limit();
+      while (index < limit && output.isCont()) {
+        output = output.write(data.get(index) & 0xff);
+        index += 1;
+      }
+      if (index == limit) {
+        return done(value);
+      }
+    }
+    if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new DataEncoder<T>(value, data, sizeEncoder, index, step);
+  }
+
+  static <T> Encoder<Object, T> encode(OutputBuffer<?> output, AvroDataType<T> type, T value) {
+    final ByteBuffer data = type.dataValue(value);
+    return encode(output, value, data, null, data.position(), 1);
+  }
+
+  static <T> Encoder<Object, T> encode(OutputBuffer<?> output, AvroStringType<T> type, T value) {
+    return encode(output, value, stringData(type, value), null, 0, 1);
+  }
+
+  static <T> Encoder<Object, T> encode(OutputBuffer<?> output, AvroFixedType<T> type, T value) {
+    final ByteBuffer data;
+    try {
+      data = fixedData(type, value);
+    } catch (EncoderException cause) {
+      return error(cause);
+    }
+    return encode(output, value, data, null, data.position(), 2);
+  }
+
+  @Override
+  public Encoder<Object, T> pull(OutputBuffer<?> output) {
+    return encode(output, this.value, this.data, this.sizeEncoder, this.index, this.step);
+  }
+
+  static final Charset UTF_8 = Charset.forName("UTF-8");
+
+}
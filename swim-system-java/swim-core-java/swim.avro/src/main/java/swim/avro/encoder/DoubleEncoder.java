@@ -0,0 +1,62 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.avro.encoder;
+
+import swim.avro.schema.AvroDoubleType;
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+
+final class DoubleEncoder<T> extends Encoder<Object, T> {
+
+  final T value;
+  final long bits;
+  final int shift;
+
+  DoubleEncoder(T value, long bits, int shift) {
+    this.value = value;
+    this.bits = bits;
+    this.shift = shift;
+  }
+
+  DoubleEncoder(AvroDoubleType<T> type, T value) {
+    this(value, Double.doubleToLongBits(type.doubleValue(value)), 0);
+  }
+
+  static <T> Encoder<Object, T> encode(OutputBuffer<?> output, T value, long bits, int shift) {
+    while (output.isCont()) {
+      output = output.write((int) (bits >>> shift) & 0xff);
+      shift += 8;
+      if (shift == 64) {
+        return done(value);
+      }
+    }
+    if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new DoubleEncoder<T>(value, bits, shift);
+  }
+
+  static <T> Encoder<Object, T> encode(OutputBuffer<?> output, AvroDoubleType<T> type, T value) {
+    return encode(output, value, Double.doubleToLongBits(type.doubleValue(value)), 0);
+  }
+
+  @Override
+  public Encoder<Object, T> pull(OutputBuffer<?> output) {
+    return encode(output, this.value, this.bits, this.shift);
+  }
+
+}
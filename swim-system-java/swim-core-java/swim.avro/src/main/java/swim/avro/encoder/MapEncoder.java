@@ -0,0 +1,133 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.avro.encoder;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Map;
+import swim.avro.schema.AvroMapType;
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+
+final class MapEncoder<K, V, T> extends Encoder<Object, T> {
+
+  final AvroEncoder avro;
+  final AvroMapType<K, V, T> type;
+  final T value;
+  final Iterator<? extends Map.Entry<K, V>> pairs;
+  final Map.Entry<K, V> pair;
+  final Encoder<?, ?> part;
+  final int step;
+
+  MapEncoder(AvroEncoder avro, AvroMapType<K, V, T> type, T value,
+             Iterator<? extends Map.Entry<K, V>> pairs, Map.Entry<K, V> pair,
+             Encoder<?, ?> part, int step) {
+    this.avro = avro;
+    this.type = type;
+    this.value = value;
+    this.pairs = pairs;
+    this.pair = pair;
+    this.part = part;
+    this.step = step;
+  }
+
+  MapEncoder(AvroEncoder avro, AvroMapType<K, V, T> type, T value) {
+    this(avro, type, value, null, null, null, 1);
+  }
+
+  static <K, V, T> Encoder<Object, T> encode(OutputBuffer<?> output, AvroEncoder avro,
+                                             AvroMapType<K, V, T> type, T value,
+                                             Iterator<? extends Map.Entry<K, V>> pairs,
+                                             Map.Entry<K, V> pair, Encoder<?, ?> part, int step) {
+    if (step == 1) {
+      if (part == null) {
+        // Write all pairs as a single block.
+        pairs = type.pairIterator(value);
+        part = VarintEncoder.encode(output, null, VarintEncoder.zigZag(type.pairCount(value)));
+      } else {
+        part = part.pull(output);
+      }
+      if (part.isDone()) {
+        part = null;
+        if (pairs.hasNext()) {
+          step = 2;
+        } else {
+          return done(value);
+        }
+      } else if (part.isError()) {
+        return part.asError();
+      }
+    }
+    do {
+      if (step == 2) {
+        if (part == null) {
+          if (pairs.hasNext()) {
+            pair = pairs.next();
+            final byte[] key = type.keyString(pair.getKey()).getBytes(DataEncoder.UTF_8);
+            part = DataEncoder.encode(output, null, ByteBuffer.wrap(key), null, 0, 1);
+          } else {
+            step = 4;
+            break;
+          }
+        } else {
+          part = part.pull(output);
+        }
+        if (part.isDone()) {
+          part = avro.encodeType(type.valueType(), pair.getValue(), output);
+          step = 3;
+        } else if (part.isError()) {
+          return part.asError();
+        } else {
+          break;
+        }
+      }
+      if (step == 3) {
+        while (part.isCont() && output.isCont()) {
+          part = part.pull(output);
+        }
+        if (part.isDone()) {
+          pair = null;
+          part = null;
+          step = 2;
+          continue;
+        } else if (part.isError()) {
+          return part.asError();
+        }
+      }
+      break;
+    } while (true);
+    if (step == 4 && output.isCont()) {
+      output = output.write(0);
+      return done(value);
+    }
+    if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new MapEncoder<K, V, T>(avro, type, value, pairs, pair, part, step);
+  }
+
+  static <K, V, T> Encoder<Object, T> encode(OutputBuffer<?> output, AvroEncoder avro,
+                                             AvroMapType<K, V, T> type, T value) {
+    return encode(output, avro, type, value, null, null, null, 1);
+  }
+
+  @Override
+  public Encoder<Object, T> pull(OutputBuffer<?> output) {
+    return encode(output, this.avro, this.type, this.value, this.pairs, this.pair, this.part, this.step);
+  }
+
+}
@@ -0,0 +1,92 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.avro.encoder;
+
+import swim.avro.schema.AvroType;
+import swim.avro.schema.AvroUnionType;
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+
+final class UnionEncoder<T> extends Encoder<Object, T> {
+
+  final AvroEncoder avro;
+  final AvroUnionType<T> type;
+  final T value;
+  final int variant;
+  final Encoder<?, ?> part;
+  final int step;
+
+  UnionEncoder(AvroEncoder avro, AvroUnionType<T> type, T value,
+               int variant, Encoder<?, ?> part, int step) {
+    this.avro = avro;
+    this.type = type;
+    this.value = value;
+    this.variant = variant;
+    this.part = part;
+    this.step = step;
+  }
+
+  UnionEncoder(AvroEncoder avro, AvroUnionType<T> type, T value) {
+    this(avro, type, value, type.variantIndex(value), null, 1);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> Encoder<Object, T> encode(OutputBuffer<?> output, AvroEncoder avro, AvroUnionType<T> type,
+                                       T value, int variant, Encoder<?, ?> part, int step) {
+    if (variant < 0) {
+      return error(new EncoderException("no union variant for value: " + value));
+    }
+    if (step == 1) {
+      if (part == null) {
+        part = VarintEncoder.encode(output, null, VarintEncoder.zigZag(variant));
+      } else {
+        part = part.pull(output);
+      }
+      if (part.isDone()) {
+        final AvroType<T> variantType = (AvroType<T>) type.getVariant(variant);
+        part = avro.encodeType(variantType, value, output);
+        step = 2;
+      } else if (part.isError()) {
+        return part.asError();
+      }
+    } else if (step == 2) {
+      part = part.pull(output);
+    }
+    if (step == 2) {
+      if (part.isDone()) {
+        return done(value);
+      } else if (part.isError()) {
+        return part.asError();
+      }
+    }
+    if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new UnionEncoder<T>(avro, type, value, variant, part, step);
+  }
+
+  static <T> Encoder<Object, T> encode(OutputBuffer<?> output, AvroEncoder avro,
+                                       AvroUnionType<T> type, T value) {
+    return encode(output, avro, type, value, type.variantIndex(value), null, 1);
+  }
+
+  @Override
+  public Encoder<Object, T> pull(OutputBuffer<?> output) {
+    return encode(output, this.avro, this.type, this.value, this.variant, this.part, this.step);
+  }
+
+}
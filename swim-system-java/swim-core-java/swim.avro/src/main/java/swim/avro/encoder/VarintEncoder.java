@@ -0,0 +1,66 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.avro.encoder;
+
+import swim.avro.schema.AvroVarintType;
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+
+final class VarintEncoder<T> extends Encoder<Object, T> {
+
+  final T value;
+  final long bits;
+
+  VarintEncoder(T value, long bits) {
+    this.value = value;
+    this.bits = bits;
+  }
+
+  VarintEncoder(AvroVarintType<T> type, T value) {
+    this(value, zigZag(type.longValue(value)));
+  }
+
+  static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  static <T> Encoder<Object, T> encode(OutputBuffer<?> output, T value, long bits) {
+    while (output.isCont()) {
+      if ((bits >>> 7) == 0L) {
+        output = output.write((int) bits & 0x7f);
+        return done(value);
+      } else {
+        output = output.write(0x80 | ((int) bits & 0x7f));
+        bits >>>= 7;
+      }
+    }
+    if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new VarintEncoder<T>(value, bits);
+  }
+
+  static <T> Encoder<Object, T> encode(OutputBuffer<?> output, AvroVarintType<T> type, T value) {
+    return encode(output, value, zigZag(type.longValue(value)));
+  }
+
+  @Override
+  public Encoder<Object, T> pull(OutputBuffer<?> output) {
+    return encode(output, this.value, this.bits);
+  }
+
+}
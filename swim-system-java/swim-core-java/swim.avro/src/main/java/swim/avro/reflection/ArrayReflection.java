@@ -16,6 +16,8 @@ package swim.avro.reflection;
 
 import java.lang.reflect.Array;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import swim.avro.schema.AvroArrayType;
 import swim.avro.schema.AvroType;
 import swim.util.Builder;
@@ -40,6 +42,16 @@ final class ArrayReflection<I> extends AvroArrayType<I, Object> {
     return new ArrayReflectionBuilder<I>(this.itemClass);
   }
 
+  @Override
+  public int itemCount(Object array) {
+    return Array.getLength(array);
+  }
+
+  @Override
+  public Iterator<I> itemIterator(Object array) {
+    return new ArrayReflectionIterator<I>(array);
+  }
+
 }
 
 final class ArrayReflectionBuilder<I> implements Builder<I, Object> {
@@ -126,3 +138,32 @@ final class ArrayReflectionBuilder<I> implements Builder<I, Object> {
   }
 
 }
+
+final class ArrayReflectionIterator<I> implements Iterator<I> {
+
+  final Object array;
+  int index;
+
+  ArrayReflectionIterator(Object array) {
+    this.array = array;
+    this.index = 0;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return this.index < Array.getLength(this.array);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public I next() {
+    final int index = this.index;
+    if (index < Array.getLength(this.array)) {
+      this.index = index + 1;
+      return (I) Array.get(this.array, index);
+    } else {
+      throw new NoSuchElementException();
+    }
+  }
+
+}
@@ -27,4 +27,9 @@ final class DataReflection extends AvroDataType<ByteBuffer> {
     return Binary.parseOutput(Binary.byteBufferOutput(), input);
   }
 
+  @Override
+  public ByteBuffer dataValue(ByteBuffer value) {
+    return value;
+  }
+
 }
@@ -23,4 +23,9 @@ final class FloatReflection extends AvroFloatType<Float> {
     return Float.valueOf(value);
   }
 
+  @Override
+  public float floatValue(Float value) {
+    return value.floatValue();
+  }
+
 }
@@ -23,4 +23,9 @@ final class LongReflection extends AvroLongType<Long> {
     return Long.valueOf(value);
   }
 
+  @Override
+  public long longValue(Long value) {
+    return value.longValue();
+  }
+
 }
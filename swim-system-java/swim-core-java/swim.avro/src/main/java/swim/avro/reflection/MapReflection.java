@@ -15,6 +15,7 @@
 package swim.avro.reflection;
 
 import java.lang.reflect.Constructor;
+import java.util.Iterator;
 import java.util.Map;
 import swim.avro.AvroException;
 import swim.avro.schema.AvroMapType;
@@ -49,6 +50,21 @@ final class MapReflection<V> extends AvroMapType<String, V, Map<String, V>> {
     return new MapReflectionBuilder<V>(this.constructor);
   }
 
+  @Override
+  public String keyString(String key) {
+    return key;
+  }
+
+  @Override
+  public int pairCount(Map<String, V> map) {
+    return map.size();
+  }
+
+  @Override
+  public Iterator<? extends Map.Entry<String, V>> pairIterator(Map<String, V> map) {
+    return map.entrySet().iterator();
+  }
+
 }
 
 final class MapReflectionBuilder<V> implements PairBuilder<String, V, Map<String, V>> {
@@ -104,4 +104,9 @@ final class RecordReflection<T> extends AvroRecordType<T, T> {
     return record;
   }
 
+  @Override
+  public T recordValue(T value) {
+    return value;
+  }
+
 }
@@ -14,6 +14,8 @@
 
 package swim.avro.reflection;
 
+import java.nio.ByteBuffer;
+import java.util.Map;
 import swim.avro.schema.AvroType;
 import swim.avro.schema.AvroUnionType;
 import swim.collections.FingerTrieSeq;
@@ -45,4 +47,54 @@ final class UnionReflection<T> extends AvroUnionType<T> {
     return new UnionReflection<T>(this.variants.appended(variant));
   }
 
+  @Override
+  public int variantIndex(T value) {
+    final FingerTrieSeq<AvroType<? extends T>> variants = this.variants;
+    for (int i = 0, n = variants.size(); i < n; i += 1) {
+      if (isVariant(variants.get(i), value)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  static boolean isVariant(AvroType<?> type, Object value) {
+    if (type instanceof NullReflection<?>) {
+      return value == null;
+    } else if (type instanceof BooleanReflection) {
+      return value instanceof Boolean;
+    } else if (type instanceof ByteReflection) {
+      return value instanceof Byte;
+    } else if (type instanceof ShortReflection) {
+      return value instanceof Short;
+    } else if (type instanceof IntReflection) {
+      return value instanceof Integer;
+    } else if (type instanceof LongReflection) {
+      return value instanceof Long;
+    } else if (type instanceof CharReflection) {
+      return value instanceof Character;
+    } else if (type instanceof FloatReflection) {
+      return value instanceof Float;
+    } else if (type instanceof DoubleReflection) {
+      return value instanceof Double;
+    } else if (type instanceof StringReflection) {
+      return value instanceof String;
+    } else if (type instanceof DataReflection) {
+      return value instanceof ByteBuffer;
+    } else if (type instanceof FixedReflection) {
+      return value instanceof byte[] && ((byte[]) value).length == ((FixedReflection) type).size;
+    } else if (type instanceof EnumReflection<?>) {
+      return ((EnumReflection<?>) type).symbols.contains(value);
+    } else if (type instanceof ArrayReflection<?>) {
+      return value != null && value.getClass().isArray()
+          && ((ArrayReflection<?>) type).itemClass.isAssignableFrom(value.getClass().getComponentType());
+    } else if (type instanceof MapReflection<?>) {
+      return value instanceof Map<?, ?>;
+    } else if (type instanceof RecordReflection<?>) {
+      return ((RecordReflection<?>) type).constructor.getDeclaringClass().isInstance(value);
+    } else {
+      return false;
+    }
+  }
+
 }
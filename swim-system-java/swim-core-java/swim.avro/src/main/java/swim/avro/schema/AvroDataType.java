@@ -14,6 +14,7 @@
 
 package swim.avro.schema;
 
+import java.nio.ByteBuffer;
 import swim.codec.Decoder;
 import swim.codec.InputBuffer;
 
@@ -21,4 +22,6 @@ public abstract class AvroDataType<T> extends AvroPrimitiveType<T> {
 
   public abstract Decoder<T> decodeData(InputBuffer input);
 
+  public abstract ByteBuffer dataValue(T value);
+
 }
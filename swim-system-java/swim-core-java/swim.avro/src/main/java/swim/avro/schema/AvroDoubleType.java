@@ -18,4 +18,6 @@ public abstract class AvroDoubleType<T> extends AvroPrimitiveType<T> {
 
   public abstract T cast(double value);
 
+  public abstract double doubleValue(T value);
+
 }
@@ -28,4 +28,6 @@ public abstract class AvroEnumType<T> extends AvroNamedType<T> {
 
   public abstract T cast(int ordinal);
 
+  public abstract int ordinal(T value);
+
 }
@@ -36,4 +36,6 @@ public abstract class AvroFieldType<R, V> {
 
   public abstract R updated(R record, V value);
 
+  public abstract V get(R record);
+
 }
@@ -14,6 +14,7 @@
 
 package swim.avro.schema;
 
+import java.nio.ByteBuffer;
 import swim.codec.Decoder;
 import swim.codec.InputBuffer;
 
@@ -23,4 +24,6 @@ public abstract class AvroFixedType<T> extends AvroNamedType<T> {
 
   public abstract Decoder<T> decodeFixed(InputBuffer input);
 
+  public abstract ByteBuffer fixedValue(T value);
+
 }
@@ -18,4 +18,6 @@ public abstract class AvroFloatType<T> extends AvroPrimitiveType<T> {
 
   public abstract T cast(float value);
 
+  public abstract float floatValue(T value);
+
 }
@@ -35,4 +35,6 @@ public abstract class AvroRecordType<T, R> extends AvroNamedType<T> {
 
   public abstract T cast(R record);
 
+  public abstract R recordValue(T value);
+
 }
@@ -25,4 +25,9 @@ final class BooleanStructure extends AvroBooleanType<Value> {
     return Bool.from(value);
   }
 
+  @Override
+  public boolean booleanValue(Value value) {
+    return value.booleanValue();
+  }
+
 }
@@ -25,4 +25,9 @@ final class DoubleStructure extends AvroDoubleType<Value> {
     return Num.from(value);
   }
 
+  @Override
+  public double doubleValue(Value value) {
+    return value.doubleValue();
+  }
+
 }
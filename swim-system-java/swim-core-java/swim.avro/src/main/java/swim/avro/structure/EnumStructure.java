@@ -93,4 +93,9 @@ final class EnumStructure extends AvroEnumType<Value> {
     return this.symbols.get(ordinal);
   }
 
+  @Override
+  public int ordinal(Value value) {
+    return this.symbols.indexOf(value);
+  }
+
 }
@@ -14,6 +14,7 @@
 
 package swim.avro.structure;
 
+import java.nio.ByteBuffer;
 import swim.avro.AvroName;
 import swim.avro.schema.AvroFixedType;
 import swim.codec.Binary;
@@ -69,4 +70,9 @@ final class FixedStructure extends AvroFixedType<Value> {
     return (Decoder<Value>) (Decoder<?>) Binary.parseOutput(Data.output(this.size), input);
   }
 
+  @Override
+  public ByteBuffer fixedValue(Value value) {
+    return DataStructure.byteBuffer(value);
+  }
+
 }
@@ -25,4 +25,9 @@ final class FloatStructure extends AvroFloatType<Value> {
     return Num.from(value);
   }
 
+  @Override
+  public float floatValue(Value value) {
+    return value.floatValue();
+  }
+
 }
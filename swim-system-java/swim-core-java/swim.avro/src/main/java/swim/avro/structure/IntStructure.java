@@ -25,4 +25,9 @@ final class IntStructure extends AvroIntType<Value> {
     return Num.from((int) value);
   }
 
+  @Override
+  public long longValue(Value value) {
+    return value.intValue();
+  }
+
 }
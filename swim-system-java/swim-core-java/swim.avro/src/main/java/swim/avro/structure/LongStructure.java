@@ -25,4 +25,9 @@ final class LongStructure extends AvroLongType<Value> {
     return Num.from(value);
   }
 
+  @Override
+  public long longValue(Value value) {
+    return value.longValue();
+  }
+
 }
@@ -14,6 +14,8 @@
 
 package swim.avro.structure;
 
+import java.util.Iterator;
+import java.util.Map;
 import swim.avro.schema.AvroMapType;
 import swim.avro.schema.AvroType;
 import swim.codec.Input;
@@ -49,4 +51,20 @@ final class MapStructure<V extends Value> extends AvroMapType<Value, V, Record>
     return (PairBuilder<Value, V, Record>) (PairBuilder<Value, ?, Record>) Record.create();
   }
 
+  @Override
+  public String keyString(Value key) {
+    return key.stringValue();
+  }
+
+  @Override
+  public int pairCount(Record map) {
+    return map.fieldCount();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Iterator<? extends Map.Entry<Value, V>> pairIterator(Record map) {
+    return (Iterator<? extends Map.Entry<Value, V>>) (Iterator<?>) map.fieldIterator();
+  }
+
 }
@@ -94,4 +94,9 @@ final class RecordStructure extends AvroRecordType<Record, Record> {
     return record;
   }
 
+  @Override
+  public Record recordValue(Record value) {
+    return value;
+  }
+
 }
@@ -14,9 +14,28 @@
 
 package swim.avro.structure;
 
+import swim.avro.schema.AvroArrayType;
+import swim.avro.schema.AvroBooleanType;
+import swim.avro.schema.AvroDataType;
+import swim.avro.schema.AvroDoubleType;
+import swim.avro.schema.AvroEnumType;
+import swim.avro.schema.AvroFixedType;
+import swim.avro.schema.AvroFloatType;
+import swim.avro.schema.AvroIntType;
+import swim.avro.schema.AvroMapType;
+import swim.avro.schema.AvroNullType;
+import swim.avro.schema.AvroRecordType;
+import swim.avro.schema.AvroStringType;
 import swim.avro.schema.AvroType;
 import swim.avro.schema.AvroUnionType;
+import swim.avro.schema.AvroVarintType;
 import swim.collections.FingerTrieSeq;
+import swim.structure.Bool;
+import swim.structure.Data;
+import swim.structure.Extant;
+import swim.structure.Num;
+import swim.structure.Record;
+import swim.structure.Text;
 import swim.structure.Value;
 
 final class UnionStructure extends AvroUnionType<Value> {
@@ -46,4 +65,45 @@ final class UnionStructure extends AvroUnionType<Value> {
     return new UnionStructure(this.variants.appended(variant));
   }
 
+  @Override
+  public int variantIndex(Value value) {
+    final FingerTrieSeq<AvroType<? extends Value>> variants = this.variants;
+    for (int i = 0, n = variants.size(); i < n; i += 1) {
+      if (isVariant(variants.get(i), value)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @SuppressWarnings("unchecked")
+  static boolean isVariant(AvroType<?> type, Value value) {
+    if (type instanceof AvroNullType<?>) {
+      return !value.isDefined() || value instanceof Extant;
+    } else if (type instanceof AvroBooleanType<?>) {
+      return value instanceof Bool;
+    } else if (type instanceof AvroIntType<?>) {
+      return value instanceof Num && ((Num) value).isValidInt();
+    } else if (type instanceof AvroVarintType<?>) {
+      return value instanceof Num && ((Num) value).isValidLong();
+    } else if (type instanceof AvroFloatType<?>) {
+      return value instanceof Num && ((Num) value).isValidFloat();
+    } else if (type instanceof AvroDoubleType<?>) {
+      return value instanceof Num;
+    } else if (type instanceof AvroStringType<?>) {
+      return value instanceof Text;
+    } else if (type instanceof AvroEnumType<?>) {
+      return value instanceof Text && ((AvroEnumType<Value>) type).ordinal(value) >= 0;
+    } else if (type instanceof AvroDataType<?>) {
+      return value instanceof Data;
+    } else if (type instanceof AvroFixedType<?>) {
+      return value instanceof Data && ((Data) value).size() == ((AvroFixedType<?>) type).size();
+    } else if (type instanceof AvroRecordType<?, ?> || type instanceof AvroArrayType<?, ?>
+        || type instanceof AvroMapType<?, ?, ?>) {
+      return value instanceof Record;
+    } else {
+      return false;
+    }
+  }
+
 }
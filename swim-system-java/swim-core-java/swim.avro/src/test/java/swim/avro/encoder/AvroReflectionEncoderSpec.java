@@ -0,0 +1,208 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.avro.encoder;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.testng.annotations.Test;
+import swim.avro.Assertions;
+import swim.avro.Avro;
+import swim.avro.reflection.AvroReflection;
+import swim.avro.schema.AvroType;
+import swim.structure.Data;
+import swim.util.Murmur3;
+
+public class AvroReflectionEncoderSpec {
+
+  public static <T> void assertEncodes(AvroType<T> type, Data expected, T value) {
+    Assertions.assertEncodes(Avro.typeEncoder(type, value), expected);
+  }
+
+  @Test
+  public void encodeNullReflections() {
+    assertEncodes(AvroReflection.nullType(),
+        Data.empty(), null);
+  }
+
+  @Test
+  public void encodeBooleanReflections() {
+    assertEncodes(AvroReflection.booleanType(),
+        Data.fromBase16("00"), false);
+    assertEncodes(AvroReflection.booleanType(),
+        Data.fromBase16("01"), true);
+  }
+
+  @Test
+  public void encodeIntReflections() {
+    assertEncodes(AvroReflection.intType(),
+        Data.fromBase16("00"), 0);
+    assertEncodes(AvroReflection.intType(),
+        Data.fromBase16("01"), -1);
+    assertEncodes(AvroReflection.intType(),
+        Data.fromBase16("02"), 1);
+    assertEncodes(AvroReflection.intType(),
+        Data.fromBase16("03"), -2);
+    assertEncodes(AvroReflection.intType(),
+        Data.fromBase16("04"), 2);
+    assertEncodes(AvroReflection.intType(),
+        Data.fromBase16("7f"), -64);
+    assertEncodes(AvroReflection.intType(),
+        Data.fromBase16("8001"), 64);
+  }
+
+  @Test
+  public void encodeLongReflections() {
+    assertEncodes(AvroReflection.longType(),
+        Data.fromBase16("00"), 0L);
+    assertEncodes(AvroReflection.longType(),
+        Data.fromBase16("01"), -1L);
+    assertEncodes(AvroReflection.longType(),
+        Data.fromBase16("02"), 1L);
+    assertEncodes(AvroReflection.longType(),
+        Data.fromBase16("03"), -2L);
+    assertEncodes(AvroReflection.longType(),
+        Data.fromBase16("04"), 2L);
+    assertEncodes(AvroReflection.longType(),
+        Data.fromBase16("7f"), -64L);
+    assertEncodes(AvroReflection.longType(),
+        Data.fromBase16("8001"), 64L);
+  }
+
+  @Test
+  public void encodeFloatReflections() {
+    assertEncodes(AvroReflection.floatType(),
+        Data.fromBase16("00000000"), 0.0f);
+    assertEncodes(AvroReflection.floatType(),
+        Data.fromBase16("0000803f"), 1.0f);
+    assertEncodes(AvroReflection.floatType(),
+        Data.fromBase16("000080bf"), -1.0f);
+    assertEncodes(AvroReflection.floatType(),
+        Data.fromBase16("0000c07f"), Float.NaN);
+    assertEncodes(AvroReflection.floatType(),
+        Data.fromBase16("0000807f"), Float.POSITIVE_INFINITY);
+    assertEncodes(AvroReflection.floatType(),
+        Data.fromBase16("000080ff"), Float.NEGATIVE_INFINITY);
+  }
+
+  @Test
+  public void encodeDoubleReflections() {
+    assertEncodes(AvroReflection.doubleType(),
+        Data.fromBase16("0000000000000000"), 0.0);
+    assertEncodes(AvroReflection.doubleType(),
+        Data.fromBase16("000000000000f03f"), 1.0);
+    assertEncodes(AvroReflection.doubleType(),
+        Data.fromBase16("000000000000f0bf"), -1.0);
+    assertEncodes(AvroReflection.doubleType(),
+        Data.fromBase16("000000000000f87f"), Double.NaN);
+    assertEncodes(AvroReflection.doubleType(),
+        Data.fromBase16("000000000000f07f"), Double.POSITIVE_INFINITY);
+    assertEncodes(AvroReflection.doubleType(),
+        Data.fromBase16("000000000000f0ff"), Double.NEGATIVE_INFINITY);
+  }
+
+  @Test
+  public void encodeDataReflections() {
+    assertEncodes(AvroReflection.dataType(),
+        Data.fromBase16("08f0e1d2c3"), Data.fromBase16("f0e1d2c3").toByteBuffer());
+  }
+
+  @Test
+  public void encodeStringReflections() {
+    assertEncodes(AvroReflection.stringType(),
+        Data.fromBase16("06666f6f"), "foo");
+  }
+
+  @Test
+  public void encodeRecordReflections() {
+    assertEncodes(AvroReflection.classType(TestRecord.class),
+        Data.fromBase16("3606666f6f"), new TestRecord(27, "foo"));
+  }
+
+  @Test
+  public void encodeEnumReflections() {
+    assertEncodes(AvroReflection.enumType(TestEnum.class),
+        Data.fromBase16("04"), TestEnum.C);
+  }
+
+  @Test
+  public void encodeArrayReflections() {
+    assertEncodes(AvroReflection.arrayType(Long.TYPE, AvroReflection.longType()),
+        Data.fromBase16("04063600"), new long[] {3, 27});
+  }
+
+  @Test
+  public void encodeMapReflections() {
+    final Map<String, Long> map = new HashMap<String, Long>();
+    map.put("a", 3L);
+    map.put("b", 27L);
+    assertEncodes(AvroReflection.mapType(AvroReflection.longType()),
+        Data.fromBase16("0402610602623600"), map);
+  }
+
+  @Test
+  public void encodeUnionReflections() {
+    assertEncodes(AvroReflection.unionType().variant(AvroReflection.nullType())
+            .variant(AvroReflection.stringType()),
+        Data.fromBase16("00"), null);
+    assertEncodes(AvroReflection.unionType().variant(AvroReflection.nullType())
+            .variant(AvroReflection.stringType()),
+        Data.fromBase16("020261"), "a");
+  }
+
+  @Test
+  public void encodeFixedReflections() {
+    assertEncodes(AvroReflection.fixedType("quad", 4),
+        Data.fromBase16("f0e1d2c3"), new byte[] {(byte) 0xf0, (byte) 0xe1, (byte) 0xd2, (byte) 0xc3});
+  }
+
+  public enum TestEnum {
+    A,
+    B,
+    C,
+    D;
+  }
+
+  public static class TestRecord {
+
+    long a;
+    String b;
+
+    TestRecord(long a, String b) {
+      this.a = a;
+      this.b = b;
+    }
+
+    public TestRecord() {
+      // stub
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other instanceof TestRecord) {
+        final TestRecord that = (TestRecord) other;
+        return this.a == that.a && (this.b == null ? that.b == null : this.b.equals(that.b));
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.seed(TestRecord.class),
+          Murmur3.hash(this.a)), Murmur3.hash(this.b)));
+    }
+
+  }
+
+}
@@ -0,0 +1,220 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.avro.encoder;
+
+import org.testng.annotations.Test;
+import swim.avro.schema.AvroRecordType;
+import swim.codec.Binary;
+import swim.codec.Encoder;
+import swim.codec.OutputBuffer;
+import swim.avro.Assertions;
+import swim.avro.Avro;
+import swim.avro.schema.AvroType;
+import swim.avro.structure.AvroStructure;
+import swim.structure.Bool;
+import swim.structure.Data;
+import swim.structure.Num;
+import swim.structure.Record;
+import swim.structure.Slot;
+import swim.structure.Text;
+import swim.structure.Value;
+import static org.testng.Assert.assertTrue;
+
+public class AvroStructureEncoderSpec {
+
+  public static <T> void assertEncodes(AvroType<T> type, Data expected, T value) {
+    Assertions.assertEncodes(Avro.typeEncoder(type, value), expected);
+  }
+
+  @Test
+  public void encodeNullStructures() {
+    assertEncodes(AvroStructure.nullType(),
+        Data.empty(), Value.extant());
+  }
+
+  @Test
+  public void encodeBooleanStructures() {
+    assertEncodes(AvroStructure.booleanType(),
+        Data.fromBase16("00"), Bool.from(false));
+    assertEncodes(AvroStructure.booleanType(),
+        Data.fromBase16("01"), Bool.from(true));
+  }
+
+  @Test
+  public void encodeIntStructures() {
+    assertEncodes(AvroStructure.intType(),
+        Data.fromBase16("00"), Num.from(0));
+    assertEncodes(AvroStructure.intType(),
+        Data.fromBase16("01"), Num.from(-1));
+    assertEncodes(AvroStructure.intType(),
+        Data.fromBase16("02"), Num.from(1));
+    assertEncodes(AvroStructure.intType(),
+        Data.fromBase16("03"), Num.from(-2));
+    assertEncodes(AvroStructure.intType(),
+        Data.fromBase16("04"), Num.from(2));
+    assertEncodes(AvroStructure.intType(),
+        Data.fromBase16("7f"), Num.from(-64));
+    assertEncodes(AvroStructure.intType(),
+        Data.fromBase16("8001"), Num.from(64));
+  }
+
+  @Test
+  public void encodeLongStructures() {
+    assertEncodes(AvroStructure.longType(),
+        Data.fromBase16("00"), Num.from(0L));
+    assertEncodes(AvroStructure.longType(),
+        Data.fromBase16("01"), Num.from(-1L));
+    assertEncodes(AvroStructure.longType(),
+        Data.fromBase16("02"), Num.from(1L));
+    assertEncodes(AvroStructure.longType(),
+        Data.fromBase16("03"), Num.from(-2L));
+    assertEncodes(AvroStructure.longType(),
+        Data.fromBase16("04"), Num.from(2L));
+    assertEncodes(AvroStructure.longType(),
+        Data.fromBase16("7f"), Num.from(-64L));
+    assertEncodes(AvroStructure.longType(),
+        Data.fromBase16("8001"), Num.from(64L));
+  }
+
+  @Test
+  public void encodeFloatStructures() {
+    assertEncodes(AvroStructure.floatType(),
+        Data.fromBase16("00000000"), Num.from(0.0f));
+    assertEncodes(AvroStructure.floatType(),
+        Data.fromBase16("0000803f"), Num.from(1.0f));
+    assertEncodes(AvroStructure.floatType(),
+        Data.fromBase16("000080bf"), Num.from(-1.0f));
+    assertEncodes(AvroStructure.floatType(),
+        Data.fromBase16("0000c07f"), Num.from(Float.NaN));
+    assertEncodes(AvroStructure.floatType(),
+        Data.fromBase16("0000807f"), Num.from(Float.POSITIVE_INFINITY));
+    assertEncodes(AvroStructure.floatType(),
+        Data.fromBase16("000080ff"), Num.from(Float.NEGATIVE_INFINITY));
+  }
+
+  @Test
+  public void encodeDoubleStructures() {
+    assertEncodes(AvroStructure.doubleType(),
+        Data.fromBase16("0000000000000000"), Num.from(0.0));
+    assertEncodes(AvroStructure.doubleType(),
+        Data.fromBase16("000000000000f03f"), Num.from(1.0));
+    assertEncodes(AvroStructure.doubleType(),
+        Data.fromBase16("000000000000f0bf"), Num.from(-1.0));
+    assertEncodes(AvroStructure.doubleType(),
+        Data.fromBase16("000000000000f87f"), Num.from(Double.NaN));
+    assertEncodes(AvroStructure.doubleType(),
+        Data.fromBase16("000000000000f07f"), Num.from(Double.POSITIVE_INFINITY));
+    assertEncodes(AvroStructure.doubleType(),
+        Data.fromBase16("000000000000f0ff"), Num.from(Double.NEGATIVE_INFINITY));
+  }
+
+  @Test
+  public void encodeDataStructures() {
+    assertEncodes(AvroStructure.dataType(),
+        Data.fromBase16("08f0e1d2c3"), Data.fromBase16("f0e1d2c3"));
+  }
+
+  @Test
+  public void encodeStringStructures() {
+    assertEncodes(AvroStructure.stringType(),
+        Data.fromBase16("06666f6f"), Text.from("foo"));
+  }
+
+  @Test
+  public void encodeRecordStructures() {
+    assertEncodes(AvroStructure.recordType("test")
+            .field(AvroStructure.field("a", AvroStructure.longType()))
+            .field(AvroStructure.field("b", AvroStructure.stringType())),
+        Data.fromBase16("3606666f6f"), Record.of(Slot.of("a", 27), Slot.of("b", "foo")));
+  }
+
+  @Test
+  public void encodeEnumStructures() {
+    assertEncodes(AvroStructure.enumType("Foo", "A", "B", "C", "D"),
+        Data.fromBase16("04"), Text.from("C"));
+  }
+
+  @Test
+  public void encodeArrayStructures() {
+    assertEncodes(AvroStructure.arrayType(AvroStructure.longType()),
+        Data.fromBase16("04063600"), Record.of(3, 27));
+  }
+
+  @Test
+  public void encodeMapStructures() {
+    assertEncodes(AvroStructure.mapType(AvroStructure.longType()),
+        Data.fromBase16("0402610602623600"), Record.of(Slot.of("a", 3), Slot.of("b", 27)));
+  }
+
+  @Test
+  public void encodeUnionStructures() {
+    assertEncodes(AvroStructure.unionType().variant(AvroStructure.nullType())
+            .variant(AvroStructure.stringType()),
+        Data.fromBase16("00"), Value.extant());
+    assertEncodes(AvroStructure.unionType().variant(AvroStructure.nullType())
+            .variant(AvroStructure.stringType()),
+        Data.fromBase16("020261"), Text.from("a"));
+  }
+
+  @Test
+  public void encodeFixedStructures() {
+    assertEncodes(AvroStructure.fixedType("quad", 4),
+        Data.fromBase16("f0e1d2c3"), Data.fromBase16("f0e1d2c3"));
+  }
+
+  @Test
+  public void encodeEmptyArrayStructures() {
+    assertEncodes(AvroStructure.arrayType(AvroStructure.longType()),
+        Data.fromBase16("00"), Record.empty());
+    assertEncodes(AvroStructure.mapType(AvroStructure.longType()),
+        Data.fromBase16("00"), Record.empty());
+  }
+
+  @Test
+  public void encodeNestedStructures() {
+    final AvroRecordType<Record, Record> type = AvroStructure.recordType("test")
+        .field(AvroStructure.field("id", AvroStructure.longType()))
+        .field(AvroStructure.field("tags", AvroStructure.arrayType(AvroStructure.stringType())))
+        .field(AvroStructure.field("props", AvroStructure.mapType(AvroStructure.doubleType())))
+        .field(AvroStructure.field("note", AvroStructure.unionType().variant(AvroStructure.nullType())
+                                                                   .variant(AvroStructure.stringType())));
+    final Record value = Record.of(Slot.of("id", 1234567890123L),
+                                   Slot.of("tags", Record.of("x", "yz")),
+                                   Slot.of("props", Record.of(Slot.of("w", 0.5), Slot.of("h", 2.0))),
+                                   Slot.of("note", "ok"));
+    final byte[] bytes = new byte[64];
+    final OutputBuffer<?> output = Binary.outputBuffer(bytes);
+    final Encoder<?, Record> encoder = Avro.encodeType(type, value, output);
+    assertTrue(encoder.isDone());
+    final Data data = Data.wrap(bytes, 0, output.index());
+    assertEncodes(type, data, value);
+    Assertions.assertDecodes(Avro.typeDecoder(type), data, value);
+  }
+
+  @Test
+  public void encodeUnknownEnumStructures() {
+    final Encoder<?, Value> encoder = Avro.typeEncoder(AvroStructure.enumType("Foo", "A", "B"), Text.from("C"));
+    assertTrue(encoder.isError());
+  }
+
+  @Test
+  public void encodeUnmatchedUnionStructures() {
+    final Encoder<?, Value> encoder = Avro.encodeType(AvroStructure.unionType().variant(AvroStructure.nullType())
+                                                                              .variant(AvroStructure.longType()),
+                                                      Text.from("a"), Binary.outputBuffer(new byte[8]));
+    assertTrue(encoder.isError());
+  }
+
+}
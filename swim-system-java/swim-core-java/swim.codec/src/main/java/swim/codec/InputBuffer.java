@@ -159,6 +159,14 @@ public abstract class InputBuffer extends Input {
 
   public abstract int remaining();
 
+  /**
+   * Returns {@code true} if this buffer is backed by an accessible byte
+   * {@link #array()}; array-backed buffers override this method.
+   */
+  public boolean hasArray() {
+    return false;
+  }
+
   public abstract byte[] array();
 
   public abstract int arrayOffset();
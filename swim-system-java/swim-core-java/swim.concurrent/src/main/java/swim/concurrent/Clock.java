@@ -18,9 +18,18 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 
 /**
- * Hashed wheel timer {@link Schedule}.
+ * Hierarchical hashed wheel timer {@link Schedule}.
+ *
+ * <p>Above the base dial sit successively coarser overflow wheels, each of
+ * whose ticks spans one full revolution of the next finer wheel.  Timers are
+ * inserted into the coarsest wheel whose tick spanning the timer deadline has
+ * yet to start.  The clock thread cascades the timers in an overflow tick down
+ * into the finer wheels when the base dial reaches the start of that tick, so
+ * long timers are inserted and cancelled in constant time, without wrapping
+ * around the base dial for many revolutions.</p>
  */
 public class Clock implements Schedule {
 
@@ -38,6 +47,21 @@ public class Clock implements Schedule {
    * {@code 512} clock ticks per revolution.
    */
   public static final int TICK_COUNT;
+  /**
+   * Default number of nanoseconds between clock ticks, used by the no-arg
+   * {@link #Clock()} constructor.  Defaults to the value of the {@code
+   * swim.clock.tick.nanos} system property, if defined; otherwise defaults to
+   * {@link #TICK_MILLIS} milliseconds.  Set to a sub-millisecond value to fire
+   * short timers at sub-millisecond granularity.
+   */
+  public static final long TICK_NANOS;
+  /**
+   * Default number of timer wheels, including the base dial, used by the
+   * no-arg {@link #Clock()} constructor.  Defaults to the value of the {@code
+   * swim.clock.level.count} system property, if defined; otherwise defaults to
+   * {@code 4} timer wheels.
+   */
+  public static final int LEVEL_COUNT;
   /**
    * Atomic {@link #status} bit flag indicating that the clock has started, and
    * is currently running.
@@ -73,6 +97,24 @@ public class Clock implements Schedule {
       tickCount = 512;
     }
     TICK_COUNT = tickCount;
+
+    // Initialize the default number of nanoseconds between clock ticks.
+    long tickNanos;
+    try {
+      tickNanos = Long.parseLong(System.getProperty("swim.clock.tick.nanos"));
+    } catch (NumberFormatException e) {
+      tickNanos = (long) TICK_MILLIS * 1000000L;
+    }
+    TICK_NANOS = tickNanos;
+
+    // Initialize the default number of timer wheels.
+    int levelCount;
+    try {
+      levelCount = Integer.parseInt(System.getProperty("swim.clock.level.count"));
+    } catch (NumberFormatException e) {
+      levelCount = 4;
+    }
+    LEVEL_COUNT = levelCount;
   }
 
   /**
@@ -81,6 +123,13 @@ public class Clock implements Schedule {
    * clock ticks.
    */
   final ClockQueue[] dial;
+  /**
+   * Immutable array of {@link #levelCount} timer wheels, each containing
+   * {@link #tickCount} timer buckets.  {@code levels[0]} is the base {@link
+   * #dial}; each tick of {@code levels[k]} spans one full revolution of
+   * {@code levels[k - 1]}.
+   */
+  final ClockQueue[][] levels;
   /**
    * Barrier used to sequence clock startup.
    */
@@ -101,6 +150,16 @@ public class Clock implements Schedule {
    * Number of ticks per clock revolution.
    */
   final int tickCount;
+  /**
+   * Base 2 logarithm of {@link #tickCount}; the number of bits by which to
+   * shift a tick sequence number to get the tick sequence number of the next
+   * coarser timer wheel.
+   */
+  final int tickShift;
+  /**
+   * Number of timer wheels, including the base dial.
+   */
+  final int levelCount;
   /**
    * Time at which the clock started, in nanoseconds, with arbitrary origin.
    * Set exactly once when the clock thread starts.
@@ -113,15 +172,15 @@ public class Clock implements Schedule {
 
   /**
    * Constructs a new {@code Clock} with a timer resolution of {@code
-   * tickMillis} milliseconds, and a clock period of {@code tickCount} ticks
-   * per revolution.
+   * tickNanos} nanoseconds, a clock period of {@code tickCount} ticks per
+   * revolution, and {@code levelCount} hierarchical timer wheels.
    */
-  public Clock(int tickMillis, int tickCount) {
+  public Clock(long tickNanos, int tickCount, int levelCount) {
     // Initialize the number of nanoseconds between clock ticks.
-    if (tickMillis <= 0) {
-      throw new IllegalArgumentException(Long.toString(tickMillis));
+    if (tickNanos <= 0L) {
+      throw new IllegalArgumentException(Long.toString(tickNanos));
     }
-    this.tickNanos = (long) tickMillis * 1000000L;
+    this.tickNanos = tickNanos;
 
     // Initialize the number of ticks per clock revolution.
     if (tickCount <= 0) {
@@ -136,12 +195,31 @@ public class Clock implements Schedule {
     tickCount |= tickCount >> 16;
     tickCount = tickCount + 1;
     this.tickCount = tickCount;
+    this.tickShift = Integer.numberOfTrailingZeros(tickCount);
 
-    // Initialize the clock dial with one revolution worth of clock ticks.
-    this.dial = new ClockQueue[tickCount];
-    for (int i = 0; i < tickCount; i += 1) {
-      this.dial[i] = new ClockQueue((long) i);
+    // Initialize the number of timer wheels.
+    if (levelCount <= 0) {
+      throw new IllegalArgumentException(Integer.toString(levelCount));
+    }
+    // Limit the number of timer wheels to those whose ticks span a positive
+    // number of base ticks.
+    if (this.tickShift == 0) {
+      levelCount = 1;
+    } else {
+      levelCount = Math.min(levelCount, 62 / this.tickShift);
+    }
+    this.levelCount = levelCount;
+
+    // Initialize each timer wheel with one revolution worth of clock ticks.
+    this.levels = new ClockQueue[levelCount][];
+    for (int k = 0; k < levelCount; k += 1) {
+      final ClockQueue[] wheel = new ClockQueue[tickCount];
+      for (int i = 0; i < tickCount; i += 1) {
+        wheel[i] = new ClockQueue((long) i);
+      }
+      this.levels[k] = wheel;
     }
+    this.dial = this.levels[0];
 
     // Initialize the barrier used to sequence clock startup.
     this.startLatch = new CountDownLatch(1);
@@ -154,20 +232,36 @@ public class Clock implements Schedule {
   }
 
   /**
-   * Constructs a new {@code Clock} with the timer resolution and clock period
-   * specified by the given {@code clockDef}.
+   * Constructs a new {@code Clock} with a timer resolution of {@code
+   * tickMillis} milliseconds, a clock period of {@code tickCount} ticks
+   * per revolution, and {@link #LEVEL_COUNT} hierarchical timer wheels.
+   */
+  public Clock(int tickMillis, int tickCount) {
+    this(checkTickMillis(tickMillis) * 1000000L, tickCount, LEVEL_COUNT);
+  }
+
+  /**
+   * Constructs a new {@code Clock} with the timer resolution, clock period,
+   * and number of timer wheels specified by the given {@code clockDef}.
    */
   public Clock(ClockDef clockDef) {
-    this(clockDef.tickMillis, clockDef.tickCount);
+    this(clockDef.tickNanos, clockDef.tickCount, clockDef.levelCount);
   }
 
   /**
    * Constructs a new {@code Clock} with a timer resolution of {@link
-   * #TICK_MILLIS} milliseconds, and a clock period of {@link #TICK_COUNT}
-   * ticks per revolution.
+   * #TICK_NANOS} nanoseconds, a clock period of {@link #TICK_COUNT} ticks
+   * per revolution, and {@link #LEVEL_COUNT} hierarchical timer wheels.
    */
   public Clock() {
-    this(TICK_MILLIS, TICK_COUNT);
+    this(TICK_NANOS, TICK_COUNT, LEVEL_COUNT);
+  }
+
+  static long checkTickMillis(int tickMillis) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException(Long.toString(tickMillis));
+    }
+    return (long) tickMillis;
   }
 
   /**
@@ -327,11 +421,7 @@ public class Clock implements Schedule {
     final long deadline = Math.max(0L, nanoTime() + nanos - this.startTime);
     // Divide the deadline by the tick interval to get the tick sequence number
     // at which to fire the timer, rounding up to the next tick.
-    long targetTick = (deadline + (this.tickNanos - 1L)) / this.tickNanos;
-    // Take the modulus of the target tick with respect to to the number of
-    // ticks per clock revolution, yielding the index in the dial at which to
-    // insert the event.
-    int targetHand = (int) (targetTick % (long) this.tickCount);
+    final long targetTick = (deadline + (this.tickNanos - 1L)) / this.tickNanos;
 
     // Create a timer event to insert into the clock.
     final ClockEvent newEvent = new ClockEvent(0L, targetTick, context, context.timer);
@@ -345,6 +435,113 @@ public class Clock implements Schedule {
       oldEvent.cancel();
     }
 
+    // Insert the event into the timer wheel that spans its deadline.
+    insert(newEvent, this.thread.tick, this.levelCount - 1);
+  }
+
+  /**
+   * Returns the index of the coarsest timer wheel, no coarser than {@code
+   * maxLevel}, whose tick spanning {@code targetTick} may not yet have been
+   * cascaded, given that the clock thread is next to execute {@code
+   * currentTick}.  Placing events in the coarsest uncascaded wheel keeps
+   * events with the same target tick in the order in which they were
+   * scheduled.
+   */
+  final int level(long targetTick, long currentTick, int maxLevel) {
+    // Wheel ticks that started before the current tick have been cascaded.
+    final long lastTick = currentTick - 1L;
+    if (targetTick <= lastTick || maxLevel == 0) {
+      return 0;
+    }
+    // Find the coarsest wheel in which the target tick and the last tick fall
+    // into different wheel ticks.
+    final int level = (63 - Long.numberOfLeadingZeros(targetTick ^ lastTick)) / this.tickShift;
+    return Math.min(level, maxLevel);
+  }
+
+  /**
+   * Inserts a {@code newEvent} into the coarsest timer wheel, no coarser than
+   * {@code maxLevel}, that has yet to cascade the target tick of the event,
+   * relative to the {@code currentTick} of the clock.  Falls back to finer
+   * timer wheels if the clock concurrently cascades the target tick of a
+   * coarser wheel.
+   */
+  final void insert(ClockEvent newEvent, long currentTick, int maxLevel) {
+    int level = level(newEvent.targetTick, currentTick, maxLevel);
+    while (level > 0) {
+      if (insertLevel(level, newEvent)) {
+        return;
+      }
+      level -= 1;
+    }
+    insertDial(newEvent);
+  }
+
+  /**
+   * Tries to insert a {@code newEvent} into the overflow timer wheel at the
+   * given {@code level}.  Returns {@code false} if the clock thread has
+   * already cascaded, or is currently cascading, the tick of the wheel that
+   * spans the target tick of the event.
+   */
+  final boolean insertLevel(int level, ClockEvent newEvent) {
+    // Shift the target tick to get the sequence number of the wheel tick
+    // during which the event will cascade into the next finer wheel.
+    final long targetSlot = newEvent.targetTick >>> (this.tickShift * level);
+    // Get the event queue for the target hand of the wheel.
+    final ClockQueue queue = this.levels[level][(int) (targetSlot & (long) (this.tickCount - 1))];
+    // Capture the current foot of the queue.
+    ClockEvent foot = queue.foot;
+    // Search for the last event of in the queue, starting with foot.
+    ClockEvent prev = foot;
+    do {
+      // Load the next event after the currently referenced last event.
+      final ClockEvent next = prev.next;
+      if (next == null) {
+        // prev is the last event in the queue.
+        if (targetSlot >= prev.insertTick) {
+          // The clock thread hasn't yet cascaded the target slot.
+          newEvent.insertTick = prev.insertTick;
+          // Try to insert the new event to the end of the queue;
+          // linearization point for timer scheduling.
+          if (ClockEvent.NEXT.compareAndSet(prev, null, newEvent)) {
+            // Only update the foot reference if it lags at least two events
+            // behind the last event in the queue.
+            if (prev != foot) {
+              // Try to update the foot reference; ok if this fails.
+              ClockQueue.FOOT.compareAndSet(queue, foot, newEvent);
+            }
+            return true;
+          }
+          // Lost insertion race to another thread; try again.
+        } else {
+          // The clock thread has already cascaded the target slot.
+          return false;
+        }
+      } else {
+        // Jump to the new foot, if the previously loaded foot lags at least two
+        // events behind the prev event; otherwise advance to the next event.
+        final ClockEvent newFoot = queue.foot;
+        if (foot != newFoot) {
+          foot = newFoot;
+          prev = foot;
+        } else {
+          prev = next;
+        }
+      }
+    } while (true);
+  }
+
+  /**
+   * Inserts a {@code newEvent} into the base dial of the clock, at the first
+   * hand that has yet to execute its target tick.
+   */
+  final void insertDial(ClockEvent newEvent) {
+    long targetTick = newEvent.targetTick;
+    // Take the modulus of the target tick with respect to to the number of
+    // ticks per clock revolution, yielding the index in the dial at which to
+    // insert the event.
+    int targetHand = (int) (targetTick % (long) this.tickCount);
+
     // Get the event queue for the target hand of the clock.
     ClockQueue queue = this.dial[targetHand];
     // Capture the current foot of the queue.
@@ -515,6 +712,20 @@ public class Clock implements Schedule {
     Thread.sleep(millis);
   }
 
+  /**
+   * Parks the current thread for up to the specified number of {@code nanos}.
+   * Used by the clock thread to wait for the next clock tick when the tick
+   * interval isn't a whole number of milliseconds.  Defaults to {@link
+   * LockSupport#parkNanos(long)}.  Can be overridden to substitute an
+   * alternative wait mechanism.
+   */
+  protected void sleepNanos(long nanos) throws InterruptedException {
+    LockSupport.parkNanos(nanos);
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+  }
+
 }
 
 /**
@@ -655,7 +866,8 @@ final class ClockEvent implements Runnable {
    * at the time this {@code ClockEvent} was inserted into the queue.  {@code
    * insertTick} is non-decreasing over successive queued events, and the
    * {@code insertTick} of the last event in the queue always represents the
-   * very next tick that the clock thread will execute.
+   * very next tick that the clock thread will execute.  Tick sequence numbers
+   * of overflow wheel queues count ticks of their respective wheels.
    */
   long insertTick;
   /**
@@ -762,15 +974,21 @@ final class ClockThread extends Thread {
         // Can't run for longer than about 292 years.
         throw new InternalError("Clock elapsed time overflow");
       }
-      // Calculate the number of milliseconds until the deadline for the target
-      // tick, rounding up to the next millisecond.
-      final long sleepMillis = ((deadline - currentTime) + 999999L) / 1000000L;
+      // Calculate the number of nanoseconds until the deadline for the target
+      // tick.
+      final long sleepNanos = deadline - currentTime;
       // Check if the deadline for the target tick is in the future.
-      if (sleepMillis > 0L) {
-        // Park the timer thread for the number of milliseconds until the
-        // deadline for the target tick.
+      if (sleepNanos > 0L) {
+        // Park the timer thread until the deadline for the target tick.
         try {
-          clock.sleep(sleepMillis);
+          if (clock.tickNanos % 1000000L == 0L) {
+            // Sleep for the number of milliseconds until the deadline,
+            // rounding up to the next millisecond.
+            clock.sleep((sleepNanos + 999999L) / 1000000L);
+          } else {
+            // Park for the sub-millisecond remainder of the tick interval.
+            clock.sleepNanos(sleepNanos);
+          }
         } catch (InterruptedException e) {
           // Interrupted while waiting for the target tick; check if the clock
           // has been stopped.
@@ -792,9 +1010,96 @@ final class ClockThread extends Thread {
   }
 
   /**
-   * Executes all {@code clock} timers set to fire at the target {@code tick}.
+   * Moves all {@code clock} timers in the overflow wheel at the given {@code
+   * level} whose wheel tick starts at the target base {@code tick} into finer
+   * timer wheels.
+   */
+  static void cascadeTick(final Clock clock, final int level, final long tick) {
+    // Compute the number of bits to shift base ticks to get wheel ticks.
+    final int levelShift = clock.tickShift * level;
+    // Compute the wheel tick sequence number of the target tick.
+    final long slot = tick >>> levelShift;
+    // Compute the wheel tick sequence number for the next revolution of the
+    // wheel.
+    final long nextSlot = slot + (long) clock.tickCount;
+
+    // Get the event queue for the target hand of the wheel.
+    final ClockQueue queue = clock.levels[level][(int) (slot & (long) (clock.tickCount - 1))];
+    // The first known still scheduled event to keep in the queue.
+    ClockEvent head = null;
+    // The last known still scheduled event to keep in the queue.
+    ClockEvent prev = null;
+    // The next queued event to process.
+    ClockEvent next = queue.head;
+    // The sentinel event that will be inserted at the end of the queue to
+    // complete the cascade of this wheel tick.
+    final ClockEvent nextFoot = new ClockEvent(nextSlot, nextSlot, null, null);
+    // Loop until no events scheduled for this wheel tick remain in the queue.
+    do {
+      if ((next.targetTick >>> levelShift) <= slot) {
+        // The next event is scheduled for this wheel tick; move it into a
+        // finer wheel, unless it has been cancelled.
+        final TimerFunction timer = ClockEvent.TIMER.get(next);
+        if (timer != null && next.context != null) {
+          // Replace the event with a new event for the same deadline.
+          final ClockEvent newEvent = new ClockEvent(0L, next.targetTick, next.context, timer);
+          // Try to rebind the timer context to the new event; fails if the
+          // timer was concurrently cancelled or rescheduled.
+          if (ClockTimer.EVENT.compareAndSet(next.context, next, newEvent)) {
+            if (next.cancel() != null) {
+              // Insert the new event into a finer wheel.
+              clock.insert(newEvent, tick, level - 1);
+            } else {
+              newEvent.cancel();
+            }
+          }
+        }
+      } else if (next.isScheduled()) {
+        // The next event is scheduled for a future revolution of the wheel.
+        if (prev != null) {
+          // Insert the next event after the last kept event in the queue,
+          // bypassing any cascaded or cancelled events.
+          prev.next = next;
+        } else {
+          // The next event is the first event to keep in the queue.
+          head = next;
+        }
+        // The next event is now the last known event to keep in the queue.
+        prev = next;
+      }
+      // Check if the next event is the last in the queue.
+      if (next.next == null) {
+        // Try to finish the cascade by appending a cancelled event to the end
+        // of the queue, preventing further scheduling of events for the
+        // current wheel tick.
+        if (ClockEvent.NEXT.compareAndSet(next, null, nextFoot)) {
+          ClockQueue.FOOT.set(queue, nextFoot);
+          if (head == null) {
+            head = nextFoot;
+          }
+          queue.head = head;
+          break;
+        }
+      }
+      // Advance to the next event in the queue.
+      next = next.next;
+    } while (true);
+  }
+
+  /**
+   * Executes all {@code clock} timers set to fire at the target {@code tick},
+   * after cascading any overflow wheel ticks that start at the target
+   * {@code tick} into the base dial.
    */
   static void executeTick(final Clock clock, final long tick) {
+    // Cascade overflow wheels from coarsest to finest, so that cascaded events
+    // land in finer wheel ticks that have yet to be cascaded themselves.
+    for (int level = clock.levelCount - 1; level > 0; level -= 1) {
+      if ((tick & ((1L << (clock.tickShift * level)) - 1L)) == 0L) {
+        cascadeTick(clock, level, tick);
+      }
+    }
+
     // Compute the tick sequence number for the next revolution of the clock.
     final long nextTick = tick + (long) clock.tickCount;
     // Compute the index in the clock dial of the target clock tick.
@@ -29,17 +29,23 @@ public class ClockDef implements ScheduleDef, Debug {
   private static int hashSeed;
   private static ClockDef standard;
   private static Form<ClockDef> clockForm;
-  final int tickMillis;
+  final long tickNanos;
   final int tickCount;
+  final int levelCount;
 
-  public ClockDef(int tickMillis, int tickCount) {
-    this.tickMillis = tickMillis;
+  public ClockDef(long tickNanos, int tickCount, int levelCount) {
+    this.tickNanos = tickNanos;
     this.tickCount = tickCount;
+    this.levelCount = levelCount;
+  }
+
+  public ClockDef(int tickMillis, int tickCount) {
+    this((long) tickMillis * 1000000L, tickCount, Clock.LEVEL_COUNT);
   }
 
   public static ClockDef standard() {
     if (standard == null) {
-      standard = new ClockDef(Clock.TICK_MILLIS, Clock.TICK_COUNT);
+      standard = new ClockDef(Clock.TICK_NANOS, Clock.TICK_COUNT, Clock.LEVEL_COUNT);
     }
     return standard;
   }
@@ -53,11 +59,19 @@ public class ClockDef implements ScheduleDef, Debug {
   }
 
   public final int tickMillis() {
-    return this.tickMillis;
+    return (int) (this.tickNanos / 1000000L);
   }
 
   public ClockDef tickMillis(int tickMillis) {
-    return copy(tickMillis, this.tickCount);
+    return copy((long) tickMillis * 1000000L, this.tickCount, this.levelCount);
+  }
+
+  public final long tickNanos() {
+    return this.tickNanos;
+  }
+
+  public ClockDef tickNanos(long tickNanos) {
+    return copy(tickNanos, this.tickCount, this.levelCount);
   }
 
   public final int tickCount() {
@@ -65,11 +79,19 @@ public class ClockDef implements ScheduleDef, Debug {
   }
 
   public ClockDef tickCount(int tickCount) {
-    return copy(this.tickMillis, tickCount);
+    return copy(this.tickNanos, tickCount, this.levelCount);
+  }
+
+  public final int levelCount() {
+    return this.levelCount;
   }
 
-  protected ClockDef copy(int tickMillis, int tickCount) {
-    return new ClockDef(tickMillis, tickCount);
+  public ClockDef levelCount(int levelCount) {
+    return copy(this.tickNanos, this.tickCount, levelCount);
+  }
+
+  protected ClockDef copy(long tickNanos, int tickCount, int levelCount) {
+    return new ClockDef(tickNanos, tickCount, levelCount);
   }
 
   @Override
@@ -78,8 +100,9 @@ public class ClockDef implements ScheduleDef, Debug {
       return true;
     } else if (other instanceof ClockDef) {
       final ClockDef that = (ClockDef) other;
-      return this.tickMillis == that.tickMillis
-          && this.tickCount == that.tickCount;
+      return this.tickNanos == that.tickNanos
+          && this.tickCount == that.tickCount
+          && this.levelCount == that.levelCount;
     }
     return false;
   }
@@ -89,19 +112,26 @@ public class ClockDef implements ScheduleDef, Debug {
     if (hashSeed == 0) {
       hashSeed = Murmur3.seed(ClockDef.class);
     }
-    return Murmur3.mash(Murmur3.mix(Murmur3.mix(hashSeed,
-        this.tickMillis), this.tickCount));
+    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(hashSeed,
+        Murmur3.hash(this.tickNanos)), this.tickCount), this.levelCount));
   }
 
   @Override
   public void debug(Output<?> output) {
     output = output.write("ClockDef").write('.').write("standard").write('(').write(')');
-    if (this.tickMillis != Clock.TICK_MILLIS) {
-      output = output.write('.').write("tickMillis").write('(').debug(tickMillis).write(')');
+    if (this.tickNanos != Clock.TICK_NANOS) {
+      if (this.tickNanos % 1000000L == 0L) {
+        output = output.write('.').write("tickMillis").write('(').debug(tickMillis()).write(')');
+      } else {
+        output = output.write('.').write("tickNanos").write('(').debug(tickNanos).write(')');
+      }
     }
     if (this.tickCount != Clock.TICK_COUNT) {
       output = output.write('.').write("tickCount").write('(').debug(tickCount).write(')');
     }
+    if (this.levelCount != Clock.LEVEL_COUNT) {
+      output = output.write('.').write("levelCount").write('(').debug(levelCount).write(')');
+    }
   }
 
   @Override
@@ -142,9 +172,14 @@ final class ClockForm extends Form<ClockDef> {
   @Override
   public Item mold(ClockDef clockDef) {
     if (clockDef != null) {
-      final Record record = Record.create(3).attr(tag());
-      record.slot("tickMillis", clockDef.tickMillis);
+      final Record record = Record.create(4).attr(tag());
+      if (clockDef.tickNanos % 1000000L == 0L) {
+        record.slot("tickMillis", clockDef.tickMillis());
+      } else {
+        record.slot("tickNanos", clockDef.tickNanos);
+      }
       record.slot("tickCount", clockDef.tickCount);
+      record.slot("levelCount", clockDef.levelCount);
       return record;
     } else {
       return Item.extant();
@@ -156,9 +191,12 @@ final class ClockForm extends Form<ClockDef> {
     final Value value = item.toValue();
     final Value header = value.getAttr(tag());
     if (header.isDefined()) {
-      final int tickMillis = value.get("tickMillis").intValue(Clock.TICK_MILLIS);
+      final Value tickMillis = value.get("tickMillis");
+      final long tickNanos = value.get("tickNanos").longValue(tickMillis.isDefined()
+          ? (long) tickMillis.intValue() * 1000000L : Clock.TICK_NANOS);
       final int tickCount = value.get("tickCount").intValue(Clock.TICK_COUNT);
-      return new ClockDef(tickMillis, tickCount);
+      final int levelCount = value.get("levelCount").intValue(Clock.LEVEL_COUNT);
+      return new ClockDef(tickNanos, tickCount, levelCount);
     }
     return null;
   }
@@ -25,6 +25,17 @@ public class StageClock extends Clock {
    */
   protected final Stage stage;
 
+  /**
+   * Constructs a new {@code StageClock} with a timer resolution of {@code
+   * tickNanos} nanoseconds, a clock period of {@code tickCount} ticks per
+   * revolution, and {@code levelCount} hierarchical timer wheels, that
+   * executes timer functions on the given {@code stage}.
+   */
+  public StageClock(Stage stage, long tickNanos, int tickCount, int levelCount) {
+    super(tickNanos, tickCount, levelCount);
+    this.stage = stage;
+  }
+
   /**
    * Constructs a new {@code StageClock} with a timer resolution of {@code
    * tickMillis} milliseconds, and a clock period of {@code tickCount} ticks
@@ -36,22 +47,22 @@ public class StageClock extends Clock {
   }
 
   /**
-   * Constructs a new {@code StageClock}, with the timer resolution and clock
-   * period specified by the given {@code clockDef}, that executes timer
-   * functions on the given {@code stage}.
+   * Constructs a new {@code StageClock}, with the timer resolution, clock
+   * period, and number of timer wheels specified by the given {@code
+   * clockDef}, that executes timer functions on the given {@code stage}.
    */
   public StageClock(Stage stage, ClockDef clockDef) {
-    this(stage, clockDef.tickMillis, clockDef.tickCount);
+    this(stage, clockDef.tickNanos, clockDef.tickCount, clockDef.levelCount);
   }
 
   /**
    * Constructs a new {@code StageClock} with a timer resolution of {@link
-   * #TICK_MILLIS} milliseconds, and a clock period of {@link #TICK_COUNT}
-   * ticks per revolution, that executes timer functions on the given
-   * {@code stage}.
+   * #TICK_NANOS} nanoseconds, a clock period of {@link #TICK_COUNT} ticks
+   * per revolution, and {@link #LEVEL_COUNT} hierarchical timer wheels, that
+   * executes timer functions on the given {@code stage}.
    */
   public StageClock(Stage stage) {
-    this(stage, TICK_MILLIS, TICK_COUNT);
+    this(stage, TICK_NANOS, TICK_COUNT, LEVEL_COUNT);
   }
 
   /**
@@ -0,0 +1,149 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.concurrent;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Contention-free counter whose increments are summed only when read.
+ * Updates go to a single base value until two threads collide on it, after
+ * which threads add to cache-line-padded stripes selected by thread.  Like
+ * {@link java.util.concurrent.atomic.LongAdder}, a counter starts with two
+ * stripes, and doubles its stripes only when updates keep colliding, up to
+ * the processor count, so uncontended counters stay small.  Intended for
+ * metrics that are written on every message and read once per report
+ * interval; {@link #sumThenReset()} drains the counter without losing
+ * concurrent increments.
+ */
+public final class StripedCounter {
+
+  volatile long base;
+  volatile StripedCounterCell[] cells;
+
+  public void add(long delta) {
+    StripedCounterCell[] cells = this.cells;
+    if (cells == null) {
+      final long base = this.base;
+      if (BASE.compareAndSet(this, base, base + delta)) {
+        return;
+      }
+      cells = expand(null);
+    }
+    do {
+      final StripedCounterCell cell = cells[stripe() & (cells.length - 1)];
+      final long value = cell.value;
+      if (StripedCounterCell.VALUE.compareAndSet(cell, value, value + delta)) {
+        return;
+      }
+      cells = expand(cells);
+    } while (true);
+  }
+
+  public void increment() {
+    add(1L);
+  }
+
+  /**
+   * Returns the current total; not an atomic snapshot when updates are
+   * concurrent.
+   */
+  public long sum() {
+    long sum = this.base;
+    final StripedCounterCell[] cells = this.cells;
+    if (cells != null) {
+      for (int i = 0; i < cells.length; i += 1) {
+        sum += cells[i].value;
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Returns the total accumulated since the last reset and resets it to zero.
+   * Increments racing with the reset are counted in either this total or
+   * the next one, never dropped.
+   */
+  public long sumThenReset() {
+    long sum = BASE.getAndSet(this, 0L);
+    final StripedCounterCell[] cells = this.cells;
+    if (cells != null) {
+      for (int i = 0; i < cells.length; i += 1) {
+        sum += StripedCounterCell.VALUE.getAndSet(cells[i], 0L);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Returns the number of stripes currently allocated by this counter.
+   */
+  public int stripeCount() {
+    final StripedCounterCell[] cells = this.cells;
+    return cells != null ? cells.length : 0;
+  }
+
+  /**
+   * Doubles the stripes of this counter, unless another thread has already
+   * replaced {@code oldCells}, or the stripe limit has been reached.  New
+   * arrays share the cells of the arrays they replace, so updates racing
+   * with expansion are never lost.
+   */
+  StripedCounterCell[] expand(StripedCounterCell[] oldCells) {
+    synchronized (this) {
+      final StripedCounterCell[] cells = this.cells;
+      if (cells != oldCells) {
+        return cells;
+      }
+      final int oldCount = oldCells != null ? oldCells.length : 0;
+      final int newCount = oldCount == 0 ? Math.min(2, MAX_STRIPES) : oldCount << 1;
+      if (newCount > MAX_STRIPES || newCount == oldCount) {
+        return oldCells;
+      }
+      final StripedCounterCell[] newCells = new StripedCounterCell[newCount];
+      if (oldCells != null) {
+        System.arraycopy(oldCells, 0, newCells, 0, oldCount);
+      }
+      for (int i = oldCount; i < newCount; i += 1) {
+        newCells[i] = new StripedCounterCell();
+      }
+      this.cells = newCells;
+      return newCells;
+    }
+  }
+
+  static int stripe() {
+    int h = (int) Thread.currentThread().getId();
+    h ^= h >>> 16;
+    h *= 0x85ebca6b;
+    h ^= h >>> 13;
+    return h;
+  }
+
+  static int maxStripes() {
+    int maxStripes;
+    try {
+      maxStripes = Integer.parseInt(System.getProperty("swim.concurrent.striped.counter.stripes"));
+    } catch (NumberFormatException e) {
+      maxStripes = Runtime.getRuntime().availableProcessors();
+    }
+    maxStripes = Math.max(1, Math.min(maxStripes, 1 << 10));
+    return maxStripes == 1 ? 1 : Integer.highestOneBit(maxStripes - 1) << 1;
+  }
+
+  static final int MAX_STRIPES = maxStripes();
+
+  static final AtomicLongFieldUpdater<StripedCounter> BASE =
+      AtomicLongFieldUpdater.newUpdater(StripedCounter.class, "base");
+
+}
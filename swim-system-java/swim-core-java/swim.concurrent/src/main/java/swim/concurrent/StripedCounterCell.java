@@ -0,0 +1,32 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.concurrent;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Single stripe of a {@link StripedCounter}, padded on both sides of its
+ * value to keep neighbouring stripes off its cache lines.
+ */
+final class StripedCounterCell {
+
+  long p0, p1, p2, p3, p4, p5, p6;
+  volatile long value;
+  long q0, q1, q2, q3, q4, q5, q6;
+
+  static final AtomicLongFieldUpdater<StripedCounterCell> VALUE =
+      AtomicLongFieldUpdater.newUpdater(StripedCounterCell.class, "value");
+
+}
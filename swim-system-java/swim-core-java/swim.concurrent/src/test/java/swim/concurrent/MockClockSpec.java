@@ -197,6 +197,61 @@ public class MockClockSpec {
     }
   }
 
+  @Test
+  public void scheduleATimerForAnOverflowWheel() {
+    final MockClock clock = new MockClock(100, 8);
+    final CountDownLatch fire = new CountDownLatch(1);
+    try {
+      clock.start();
+      clock.setTimer(100L * 100L, new AbstractTimer() {
+        @Override
+        public void runTimer() {
+          assertEquals(clock.tick(), 100L);
+          assertEquals(fire.getCount(), 1);
+          fire.countDown();
+        }
+      });
+
+      clock.tick(99);
+      assertEquals(fire.getCount(), 1);
+
+      clock.tick(1);
+      clock.await(fire);
+    } finally {
+      clock.stop();
+    }
+  }
+
+  @Test
+  public void cancelATimerInAnOverflowWheel() {
+    final MockClock clock = new MockClock(100, 8);
+    final CountDownLatch cancel = new CountDownLatch(1);
+    try {
+      clock.start();
+      final TimerRef timer = clock.setTimer(70L * 100L, new AbstractTimer() {
+        @Override
+        public void runTimer() {
+          fail();
+        }
+
+        @Override
+        public void timerDidCancel() {
+          assertEquals(cancel.getCount(), 1);
+          cancel.countDown();
+        }
+      });
+      clock.tick(66);
+      assertTrue(timer.isScheduled());
+      timer.cancel();
+      clock.await(cancel);
+      assertFalse(timer.isScheduled());
+
+      clock.tick(8);
+    } finally {
+      clock.stop();
+    }
+  }
+
   @Test
   public void scheduleLaterTimerAfterSoonerTimerForSameTickOfDifferentRevolutions() {
     final MockClock clock = new MockClock(100, 512);
@@ -0,0 +1,111 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.concurrent;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+
+public class StripedCounterSpec {
+
+  @Test
+  public void sumUncontendedIncrements() {
+    final StripedCounter counter = new StripedCounter();
+    counter.increment();
+    counter.add(41L);
+    assertEquals(counter.stripeCount(), 0);
+    assertEquals(counter.sum(), 42L);
+    assertEquals(counter.sumThenReset(), 42L);
+    assertEquals(counter.sum(), 0L);
+    assertEquals(counter.sumThenReset(), 0L);
+  }
+
+  @Test
+  public void sumInflatedStripes() {
+    final StripedCounter counter = new StripedCounter();
+    counter.add(3L);
+    counter.expand(null);
+    counter.add(4L);
+    counter.increment();
+    assertEquals(counter.sum(), 8L);
+    assertEquals(counter.sumThenReset(), 8L);
+    counter.add(-2L);
+    assertEquals(counter.sumThenReset(), -2L);
+  }
+
+  @Test
+  public void neverDropConcurrentIncrements() throws Exception {
+    final int threadCount = 8;
+    final int incrementCount = 100000;
+    final StripedCounter counter = new StripedCounter();
+    final AtomicLong drained = new AtomicLong();
+    final CyclicBarrier barrier = new CyclicBarrier(threadCount + 1);
+    final Thread[] threads = new Thread[threadCount];
+    for (int i = 0; i < threadCount; i += 1) {
+      threads[i] = new Thread() {
+        @Override
+        public void run() {
+          try {
+            barrier.await();
+          } catch (Exception cause) {
+            throw new RuntimeException(cause);
+          }
+          for (int j = 0; j < incrementCount; j += 1) {
+            counter.increment();
+          }
+        }
+      };
+      threads[i].start();
+    }
+    barrier.await();
+    boolean alive;
+    do {
+      drained.addAndGet(counter.sumThenReset());
+      alive = false;
+      for (int i = 0; i < threadCount; i += 1) {
+        alive |= threads[i].isAlive();
+      }
+    } while (alive);
+    for (int i = 0; i < threadCount; i += 1) {
+      threads[i].join();
+    }
+    drained.addAndGet(counter.sumThenReset());
+    assertEquals(drained.get(), (long) threadCount * (long) incrementCount);
+  }
+
+  @Test
+  public void growStripesUpToLimit() {
+    final StripedCounter counter = new StripedCounter();
+    counter.add(5L);
+    StripedCounterCell[] cells = counter.expand(null);
+    assertEquals(counter.stripeCount(), Math.min(2, StripedCounter.MAX_STRIPES));
+    counter.add(6L);
+    long total = 11L;
+    while (counter.stripeCount() < StripedCounter.MAX_STRIPES) {
+      cells = counter.expand(cells);
+      counter.increment();
+      total += 1L;
+    }
+    assertEquals(counter.expand(cells), cells);
+    assertEquals(counter.stripeCount(), StripedCounter.MAX_STRIPES);
+    assertEquals(counter.sumThenReset(), total);
+  }
+
+  @Test
+  public void roundStripeCountToPowerOfTwo() {
+    assertEquals(Integer.bitCount(StripedCounter.MAX_STRIPES), 1);
+  }
+
+}
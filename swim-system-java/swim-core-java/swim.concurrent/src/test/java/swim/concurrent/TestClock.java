@@ -24,6 +24,10 @@ class TestClock extends Clock {
     super(tickMillis, tickCount);
   }
 
+  TestClock(long tickNanos, int tickCount, int levelCount) {
+    super(tickNanos, tickCount, levelCount);
+  }
+
   TestClock() {
     super();
   }
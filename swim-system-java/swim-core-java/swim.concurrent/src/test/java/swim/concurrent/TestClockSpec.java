@@ -115,6 +115,31 @@ public class TestClockSpec {
     }
   }
 
+  @Test
+  public void scheduleTimersWithSubMillisecondTicks() {
+    final TestClock clock = new TestClock(250000L, 64, 3);
+    final CountDownLatch fire = new CountDownLatch(2);
+    try {
+      clock.start();
+      clock.setTimer(1L, new AbstractTimer() {
+        @Override
+        public void runTimer() {
+          fire.countDown();
+        }
+      });
+      clock.setTimer(20L, new AbstractTimer() {
+        @Override
+        public void runTimer() {
+          assertEquals(fire.getCount(), 1);
+          fire.countDown();
+        }
+      });
+      clock.await(fire);
+    } finally {
+      clock.stop();
+    }
+  }
+
   @Test
   public void rescheduleATimerBeforeItFires() {
     final TestClock clock = new TestClock(10, 512);
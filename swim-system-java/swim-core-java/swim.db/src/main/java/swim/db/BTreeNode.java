@@ -771,6 +771,33 @@ public final class BTreeNode extends BTreePage {
 
   @Override
   void memoizeSize(BTreePageRef pageRef) {
+    final BTreePageRef[] childRefs = this.childRefs;
+    final int n = childRefs.length;
+    int diffSize = 0;
+    long treeSize = 0L;
+    for (int i = 0; i < n; i += 1) {
+      final BTreePageRef childRef = childRefs[i];
+      if (this.version == childRef.softVersion()) {
+        diffSize += childRef.diffSize();
+      }
+      treeSize += childRef.treeSize();
+    }
+
+    final int pageSize;
+    if (this.pageRef.context.pageFormat().isBinary()) {
+      pageSize = BinaryPage.sizeOf(toValue());
+    } else {
+      pageSize = reconPageSize();
+    }
+    diffSize += pageSize;
+    treeSize += pageSize;
+
+    pageRef.pageSize = pageSize; // Must match bytes written by writePage
+    pageRef.diffSize = diffSize; // Must match bytes written by writeDiff
+    pageRef.treeSize = treeSize;
+  }
+
+  int reconPageSize() {
     int pageSize = 12; // "@bnode(stem:"
     pageSize += Recon.sizeOf(Num.from(this.pageRef.stem));
     pageSize += 3; // ",v:"
@@ -780,8 +807,6 @@ public final class BTreeNode extends BTreePage {
     final BTreePageRef[] childRefs = this.childRefs;
     final int n = childRefs.length;
     final Value[] knotKeys = this.knotKeys;
-    int diffSize = 0;
-    long treeSize = 0L;
     if (n > 0) {
       pageSize += 1; // '{'
       for (int i = 0; i < n; i += 1) {
@@ -791,22 +816,12 @@ public final class BTreeNode extends BTreePage {
           pageSize += Recon.sizeOf(key);
           pageSize += 2; // "),"
         }
-        final BTreePageRef childRef = childRefs[i];
-        pageSize += childRef.pageRefSize();
-        if (this.version == childRef.softVersion()) {
-          diffSize += childRef.diffSize();
-        }
-        treeSize += childRef.treeSize();
+        pageSize += childRefs[i].pageRefSize();
       }
       pageSize += 1; // '}'
       pageSize += 1; // '\n'
     }
-    diffSize += pageSize;
-    treeSize += pageSize;
-
-    pageRef.pageSize = pageSize; // Must match bytes written by writePage
-    pageRef.diffSize = diffSize; // Must match bytes written by writeDiff
-    pageRef.treeSize = treeSize;
+    return pageSize;
   }
 
   @Override
@@ -909,9 +924,13 @@ public final class BTreeNode extends BTreePage {
 
   @Override
   public void writePage(Output<?> output) {
-    Recon.write(toHeader(), output);
-    writePageContent(output);
-    output.write('\n');
+    if (this.pageRef.context.pageFormat().isBinary()) {
+      BinaryPage.write(toValue(), output);
+    } else {
+      Recon.writeStream(toHeader(), output);
+      writePageContent(output);
+      output.write('\n');
+    }
   }
 
   void writePageContent(Output<?> output) {
@@ -924,7 +943,7 @@ public final class BTreeNode extends BTreePage {
         if (i > 0) {
           output.write(',').write('@').write('k').write('n').write('o').write('t')
               .write('(').write('k').write('e').write('y').write(':');
-          Recon.write(knotKeys[i - 1], output);
+          Recon.writeStream(knotKeys[i - 1], output);
           output.write(')').write(',');
         }
         childRefs[i].writePageRef(output);
@@ -990,7 +1009,7 @@ public final class BTreeNode extends BTreePage {
   @Override
   public String toString() {
     final Output<String> output = Unicode.stringOutput(pageSize() - 1); // ignore trailing '\n'
-    Recon.write(toHeader(), output);
+    Recon.writeStream(toHeader(), output);
     writePageContent(output);
     return output.bind();
   }
@@ -110,6 +110,15 @@ public abstract class BTreePage extends Page {
 
   abstract void memoizeSize(BTreePageRef pageRef);
 
+  @Override
+  int pageWeight() {
+    final BTreePageRef pageRef = pageRef();
+    if (pageRef.pageSize < 0) {
+      memoizeSize(pageRef);
+    }
+    return pageRef.pageSize;
+  }
+
   @Override
   public abstract OrderedMapCursor<Value, Value> cursor();
 
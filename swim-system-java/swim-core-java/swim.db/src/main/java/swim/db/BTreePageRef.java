@@ -335,7 +335,7 @@ public final class BTreePageRef extends PageRef {
 
   @Override
   public void writePageRef(Output<?> output) {
-    Recon.write(toValue(), output);
+    Recon.writeStream(toValue(), output);
   }
 
   @Override
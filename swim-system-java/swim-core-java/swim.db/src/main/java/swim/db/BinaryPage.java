@@ -0,0 +1,67 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.db;
+
+import java.nio.ByteBuffer;
+import swim.codec.DecoderException;
+import swim.codec.Output;
+import swim.recon.BinaryRecon;
+import swim.structure.Value;
+
+/**
+ * Compact binary encoding of store pages.  A binary page begins with a
+ * {@code 0xFF} magic byte, which can never start a UTF-8 encoded Recon page,
+ * followed by a version byte and a single page value, tagged as described by
+ * {@link BinaryRecon}.
+ */
+public final class BinaryPage {
+
+  static final int MAGIC = 0xFF;
+  static final int VERSION = 0x01;
+
+  private BinaryPage() {
+    // static
+  }
+
+  public static boolean isBinaryPage(ByteBuffer buffer) {
+    return buffer.remaining() > 0 && (buffer.get(buffer.position()) & 0xFF) == MAGIC;
+  }
+
+  public static int sizeOf(Value page) {
+    return 2 + BinaryRecon.sizeOf(page);
+  }
+
+  public static void write(Value page, Output<?> output) {
+    output.write(MAGIC);
+    output.write(VERSION);
+    BinaryRecon.write(page, output);
+  }
+
+  public static Value read(ByteBuffer buffer) {
+    if (buffer.remaining() < 2 || (buffer.get() & 0xFF) != MAGIC) {
+      throw new StoreException("not a binary page");
+    }
+    final int version = buffer.get() & 0xFF;
+    if (version != VERSION) {
+      throw new StoreException("unsupported binary page version: " + version);
+    }
+    try {
+      return BinaryRecon.read(buffer).toValue();
+    } catch (DecoderException cause) {
+      throw new StoreException("malformed binary page", cause);
+    }
+  }
+
+}
@@ -70,7 +70,8 @@ public class Database {
     this.sprouts = HashTrieMap.empty();
 
     final long time = System.currentTimeMillis();
-    this.germ = new Germ(stem, version, time, time, this.seedTrunk.tree.rootRef().toValue());
+    this.germ = new Germ(stem, version, time, time, this.seedTrunk.tree.rootRef().toValue(),
+        settings().pageFormat);
   }
 
   Database(Store store, Germ germ) {
@@ -557,7 +558,8 @@ public class Database {
     final FingerTrieSeq<Tree> commits = commitBuilder.bind();
     final int size = (int) (step - base);
     final OutputBuffer<ByteBuffer> output = Binary.outputBuffer(new byte[size]);
-    final Output<ByteBuffer> encoder = Utf8.encodedOutput(output);
+    final PageFormat pageFormat = settings().pageFormat;
+    final Output<ByteBuffer> encoder = pageFormat.isBinary() ? output : Utf8.encodedOutput(output);
     step = base;
 
     // Write data pages
@@ -582,7 +584,7 @@ public class Database {
     }
 
     final Germ germ = new Germ(this.stem, version, this.germ.created(), time,
-        seedTree.rootRef().toValue());
+        seedTree.rootRef().toValue(), pageFormat);
     this.germ = germ;
     return new Chunk(this, commit, zone, germ, commits, output.bind());
   }
@@ -60,6 +60,11 @@ final class FilePageLoader extends PageLoader {
 
   void loadPageAsync(FileZone zone, PageRef pageRef, Cont<Page> cont) {
     try {
+      if (zone.isMapped()) {
+        // Mapped zones don't need a read channel.
+        zone.loadPageAsync(null, pageRef, this.treeDelegate, this.isResident, cont);
+        return;
+      }
       final Integer zoneId = zone.id;
       FileChannel channel = null;
       do {
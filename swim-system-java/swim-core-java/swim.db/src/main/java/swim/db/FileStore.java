@@ -28,7 +28,6 @@ import swim.concurrent.Cont;
 import swim.concurrent.Conts;
 import swim.concurrent.Stage;
 import swim.concurrent.Sync;
-import swim.util.HashGenCacheSet;
 
 public class FileStore extends Store {
 
@@ -48,7 +47,7 @@ public class FileStore extends Store {
   final String baseName;
   final String zoneFileExt;
   final Stage stage;
-  final HashGenCacheSet<Page> pageCache;
+  final PageCache pageCache;
   final FileStoreCommitter committer;
   final FileStoreCompactor compactor;
   final Pattern zonePattern;
@@ -69,7 +68,7 @@ public class FileStore extends Store {
       this.zoneFileExt = "swimdb";
     }
     this.stage = stage;
-    this.pageCache = new HashGenCacheSet<Page>(context.settings.pageCacheSize);
+    this.pageCache = new PageCache(context.settings.pageCacheLimit, context.settings.pageCacheSize);
     this.committer = new FileStoreCommitter(this);
     stage.task(this.committer);
     this.compactor = new FileStoreCompactor(this);
@@ -132,7 +131,7 @@ public class FileStore extends Store {
     return this.stage;
   }
 
-  public final HashGenCacheSet<Page> pageCache() {
+  public final PageCache pageCache() {
     return this.pageCache;
   }
 
@@ -332,6 +331,8 @@ public class FileStore extends Store {
   }
 
   void closeZones() {
+    this.committer.cancelTimers();
+    this.pageCache.clear();
     do {
       final HashTrieMap<Integer, FileZone> oldZones = this.zones;
       final HashTrieMap<Integer, FileZone> newZones = HashTrieMap.empty();
@@ -422,6 +423,7 @@ public class FileStore extends Store {
         final HashTrieMap<Integer, FileZone> newZones = oldZones.updated(newZoneId, newZone);
         if (ZONES.compareAndSet(this, oldZones, newZones)) {
           ZONE.set(this, newZone);
+          oldZone.closeWriteChannel();
           this.context.databaseDidShiftZone(this, newZone.database, newZone);
           break;
         }
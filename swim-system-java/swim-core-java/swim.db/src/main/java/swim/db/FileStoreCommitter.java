@@ -16,7 +16,9 @@ package swim.db;
 
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import swim.concurrent.AbstractTask;
+import swim.concurrent.AbstractTimer;
 import swim.concurrent.Conts;
+import swim.concurrent.TimerRef;
 
 final class FileStoreCommitter extends AbstractTask {
 
@@ -24,6 +26,8 @@ final class FileStoreCommitter extends AbstractTask {
       AtomicReferenceFieldUpdater.newUpdater(FileStoreCommitter.class, Commit.class, "commit");
   final FileStore store;
   volatile Commit commit;
+  TimerRef windowTimer;
+  TimerRef syncTimer;
 
   FileStoreCommitter(FileStore store) {
     this.store = store;
@@ -49,7 +53,13 @@ final class FileStoreCommitter extends AbstractTask {
               break;
             }
           } while (true);
-          cue();
+          final int commitWindow = this.store.settings().commitWindow;
+          if (commitWindow > 0) {
+            // Coalesce commits arriving within the window into a single chunk.
+            scheduleWindow(commitWindow);
+          } else {
+            cue();
+          }
         }
         break;
       }
@@ -81,6 +91,9 @@ final class FileStoreCommitter extends AbstractTask {
       if (chunk != null) {
         chunk.soften();
       }
+      if (zone.isDirty()) {
+        scheduleSync(store.settings().fsyncInterval);
+      }
       commit.bind(chunk);
     } catch (InterruptedException cause) {
       try {
@@ -109,4 +122,95 @@ final class FileStoreCommitter extends AbstractTask {
     }
   }
 
+  synchronized void scheduleWindow(int commitWindow) {
+    TimerRef windowTimer = this.windowTimer;
+    if (windowTimer == null) {
+      windowTimer = this.store.stage.setTimer(commitWindow, new FileStoreCommitWindow(this));
+      this.windowTimer = windowTimer;
+    } else if (!windowTimer.isScheduled()) {
+      windowTimer.reschedule(commitWindow);
+    }
+  }
+
+  synchronized void scheduleSync(int fsyncInterval) {
+    TimerRef syncTimer = this.syncTimer;
+    if (syncTimer == null) {
+      syncTimer = this.store.stage.setTimer(fsyncInterval, new FileStoreSyncTimer(this.store));
+      this.syncTimer = syncTimer;
+    } else if (!syncTimer.isScheduled()) {
+      syncTimer.reschedule(fsyncInterval);
+    }
+  }
+
+  synchronized void cancelTimers() {
+    if (this.windowTimer != null) {
+      this.windowTimer.cancel();
+      this.windowTimer = null;
+    }
+    if (this.syncTimer != null) {
+      this.syncTimer.cancel();
+      this.syncTimer = null;
+    }
+  }
+
+}
+
+final class FileStoreCommitWindow extends AbstractTimer {
+
+  final FileStoreCommitter committer;
+
+  FileStoreCommitWindow(FileStoreCommitter committer) {
+    this.committer = committer;
+  }
+
+  @Override
+  public void runTimer() {
+    this.committer.cue();
+  }
+
+}
+
+final class FileStoreSyncTimer extends AbstractTimer {
+
+  final FileStore store;
+
+  FileStoreSyncTimer(FileStore store) {
+    this.store = store;
+  }
+
+  @Override
+  public void runTimer() {
+    // Don't block the timer thread on fsync.
+    this.store.stage.execute(new FileStoreSync(this.store));
+  }
+
+}
+
+final class FileStoreSync implements Runnable {
+
+  final FileStore store;
+
+  FileStoreSync(FileStore store) {
+    this.store = store;
+  }
+
+  @Override
+  public void run() {
+    final FileZone zone = this.store.zone;
+    if (zone != null) {
+      try {
+        zone.sync();
+      } catch (Throwable cause) {
+        if (Conts.isNonFatal(cause)) {
+          final Database database = zone.database;
+          if (database != null) {
+            database.databaseCommitDidFail(cause);
+          }
+        } else {
+          throw cause;
+        }
+      }
+    }
+  }
+
 }
@@ -21,6 +21,7 @@ import java.io.RandomAccessFile;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.channels.FileLock;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
@@ -42,10 +43,14 @@ public class FileZone extends Zone {
   static final int OPENED = 1 << 1;
   static final int FAILED = 1 << 2;
   static final boolean WINDOWS = System.getProperty("os.name").toLowerCase().indexOf("win") >= 0;
+  static final int MAP_REGION_SIZE = 1 << 30;
+  static final ByteBuffer[] UNMAPPED = new ByteBuffer[0];
   static final AtomicReferenceFieldUpdater<FileZone, Database> DATABASE =
       AtomicReferenceFieldUpdater.newUpdater(FileZone.class, Database.class, "database");
   static final AtomicIntegerFieldUpdater<FileZone> STATUS =
       AtomicIntegerFieldUpdater.newUpdater(FileZone.class, "status");
+  static final AtomicReferenceFieldUpdater<FileZone, ByteBuffer[]> REGIONS =
+      AtomicReferenceFieldUpdater.newUpdater(FileZone.class, ByteBuffer[].class, "regions");
   final Store store;
   final int id;
   final File file;
@@ -54,6 +59,10 @@ public class FileZone extends Zone {
   volatile Germ germ;
   volatile long size;
   volatile int status;
+  volatile ByteBuffer[] regions;
+  FileChannel writeChannel;
+  boolean dirty;
+  long syncTime;
 
   public FileZone(Store store, int id, File file, Stage stage, Database database, Germ germ) {
     if (database == null || germ == null) {
@@ -171,7 +180,77 @@ public class FileZone extends Zone {
 
   @Override
   public void close() {
-    // nop
+    // Drop mapped regions; the OS reclaims them when the buffers are collected.
+    REGIONS.set(this, null);
+    closeWriteChannel();
+  }
+
+  /**
+   * Returns {@code true} if this zone precedes the active zone of its store,
+   * and will therefore never be written again.
+   */
+  public boolean isSealed() {
+    if (this.store instanceof FileStore) {
+      final FileZone activeZone = ((FileStore) this.store).zone();
+      return activeZone != null && this.id < activeZone.id;
+    }
+    return false;
+  }
+
+  /**
+   * Returns {@code true} if page loads from this zone read directly from
+   * memory mapped regions of the zone file.
+   */
+  public boolean isMapped() {
+    final ByteBuffer[] regions = mappedRegions();
+    return regions != null && regions != UNMAPPED;
+  }
+
+  ByteBuffer[] mappedRegions() {
+    ByteBuffer[] regions = this.regions;
+    if (regions == null && (this.status & OPENED) != 0
+        && settings().mapSealedZones && isSealed()) {
+      try (FileChannel channel = openReadChannel()) {
+        final long size = channel.size();
+        final int regionCount = (int) ((size + (MAP_REGION_SIZE - 1)) / MAP_REGION_SIZE);
+        regions = new ByteBuffer[regionCount];
+        for (int i = 0; i < regionCount; i += 1) {
+          final long position = (long) i * MAP_REGION_SIZE;
+          regions[i] = channel.map(MapMode.READ_ONLY, position, Math.min(MAP_REGION_SIZE, size - position));
+        }
+      } catch (IOException cause) {
+        // Fall back to channel reads.
+        cause.printStackTrace();
+        regions = UNMAPPED;
+      }
+      if (!REGIONS.compareAndSet(this, null, regions)) {
+        regions = this.regions;
+      }
+    }
+    return regions;
+  }
+
+  /**
+   * Returns a read-only view of {@code size} bytes of the zone file, starting
+   * at {@code offset}, backed by a mapped region of the zone file; returns
+   * {@code null} if the zone isn't mapped, or if the requested bytes span
+   * multiple mapped regions.
+   */
+  ByteBuffer mappedSlice(long offset, int size) {
+    final ByteBuffer[] regions = mappedRegions();
+    if (regions != null) {
+      final int index = (int) (offset / MAP_REGION_SIZE);
+      if (index < regions.length) {
+        final ByteBuffer region = regions[index];
+        final int position = (int) (offset % MAP_REGION_SIZE);
+        if (position + size <= region.capacity()) {
+          final ByteBuffer buffer = region.duplicate();
+          ((Buffer) buffer).limit(position + size).position(position);
+          return buffer.slice();
+        }
+      }
+    }
+    return null;
   }
 
   @Override
@@ -209,49 +288,60 @@ public class FileZone extends Zone {
     }
   }
 
+  void didLoadPage(Page page, long loadTime) {
+    if (this.store instanceof FileStore) {
+      ((FileStore) this.store).pageCache.didLoadPage(loadTime);
+    }
+  }
+
   @Override
   public Chunk commitAndWriteChunk(Commit commit) {
     final Database database = this.database;
     Chunk chunk = null;
-    try (FileChannel channel = openWriteChannel()) {
-      FileLock fileLock = null;
-      if (!WINDOWS) {
-        fileLock = channel.lock();
-      }
-      try {
-        final long base = Math.max(this.size, Math.max(2 * Germ.BLOCK_SIZE, channel.size()));
-        chunk = database.commitChunk(commit, this.id, base);
-        if (chunk != null) {
-          ByteBuffer buffer = chunk.toByteBuffer();
-          write(channel, buffer, base);
-
-          final Germ germ = chunk.germ();
-          buffer = germ.toByteBuffer();
-          write(channel, buffer, 0L);
-          ((Buffer) buffer).flip();
-          write(channel, buffer, Germ.BLOCK_SIZE);
-          if (commit.isForced()) {
-            channel.force(true);
-          }
-
-          this.size = Math.max(this.size + chunk.size(), channel.size());
+    try {
+      synchronized (this) {
+        final FileChannel channel = writeChannel();
+        FileLock fileLock = null;
+        if (!WINDOWS) {
+          fileLock = channel.lock();
         }
-        return chunk;
-      } finally {
-        if (fileLock != null) {
-          fileLock.release();
+        try {
+          final long base = Math.max(this.size, Math.max(2 * Germ.BLOCK_SIZE, channel.size()));
+          chunk = database.commitChunk(commit, this.id, base);
+          if (chunk != null) {
+            ByteBuffer buffer = chunk.toByteBuffer();
+            write(channel, buffer, base);
+
+            final Germ germ = chunk.germ();
+            buffer = germ.toByteBuffer();
+            write(channel, buffer, 0L);
+            ((Buffer) buffer).flip();
+            write(channel, buffer, Germ.BLOCK_SIZE);
+            if (commit.isForced()) {
+              forceChannel(channel);
+            }
+
+            this.size = Math.max(this.size + chunk.size(), channel.size());
+          }
+          return chunk;
+        } finally {
+          if (fileLock != null && fileLock.isValid()) {
+            fileLock.release();
+          }
         }
       }
     } catch (IOException cause) {
       if (chunk != null) {
         database.uncommit(chunk.germ.version);
       }
+      closeWriteChannel();
       throw new StoreException(cause);
     } catch (Throwable cause) {
       if (Conts.isNonFatal(cause)) {
         if (chunk != null) {
           database.uncommit(chunk.germ.version);
         }
+        closeWriteChannel();
         throw new StoreException(cause);
       } else {
         throw cause;
@@ -259,6 +349,81 @@ public class FileZone extends Zone {
     }
   }
 
+  /**
+   * Returns {@code true} if forced commits to this zone have been deferred
+   * by an {@link FsyncPolicy#INTERVAL INTERVAL} fsync policy, and have not
+   * yet been forced to disk.
+   */
+  public synchronized boolean isDirty() {
+    return this.dirty;
+  }
+
+  /**
+   * Forces deferred commits to this zone to disk.
+   */
+  public synchronized void sync() {
+    final FileChannel channel = this.writeChannel;
+    if (channel != null) {
+      try {
+        syncChannel(channel);
+      } catch (IOException cause) {
+        throw new StoreException(cause);
+      }
+    }
+  }
+
+  synchronized FileChannel writeChannel() throws IOException {
+    FileChannel channel = this.writeChannel;
+    if (channel == null || !channel.isOpen()) {
+      channel = openWriteChannel();
+      this.writeChannel = channel;
+    }
+    return channel;
+  }
+
+  synchronized void closeWriteChannel() {
+    final FileChannel channel = this.writeChannel;
+    if (channel != null) {
+      this.writeChannel = null;
+      try {
+        syncChannel(channel);
+      } catch (IOException swallow) {
+        // best effort
+      }
+      try {
+        channel.close();
+      } catch (IOException swallow) {
+        // ignore
+      }
+    }
+  }
+
+  void forceChannel(FileChannel channel) throws IOException {
+    final StoreSettings settings = settings();
+    final FsyncPolicy fsyncPolicy = settings.fsyncPolicy;
+    if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+      channel.force(true);
+    } else if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+      final long now = System.currentTimeMillis();
+      if (now - this.syncTime >= settings.fsyncInterval) {
+        channel.force(true);
+        this.syncTime = now;
+        this.dirty = false;
+      } else {
+        // Defer the force to the store's sync timer.
+        this.dirty = true;
+      }
+    }
+  }
+
+  void syncChannel(FileChannel channel) throws IOException {
+    if (this.dirty) {
+      channel.force(true);
+      this.syncTime = System.currentTimeMillis();
+      this.dirty = false;
+    }
+  }
+
   void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
     int k;
     do {
@@ -327,9 +492,9 @@ abstract class FileZoneReader implements Runnable {
 
 }
 
-abstract class FileZoneReconReader extends FileZoneReader {
+abstract class FileZoneValueReader extends FileZoneReader {
 
-  protected FileZoneReconReader(FileZone zone, FileChannel channel, long offset, int size) {
+  protected FileZoneValueReader(FileZone zone, FileChannel channel, long offset, int size) {
     super(zone, channel, offset, size);
   }
 
@@ -338,12 +503,10 @@ abstract class FileZoneReconReader extends FileZoneReader {
   @Override
   protected void bind(ByteBuffer buffer) {
     try {
-      final Parser<Value> parser = Utf8.parseDecoded(Recon.structureParser().blockParser(),
-          Binary.inputBuffer(buffer));
-      if (parser.isDone()) {
-        bind(parser.bind());
+      if (BinaryPage.isBinaryPage(buffer)) {
+        bind(BinaryPage.read(buffer));
       } else {
-        trap(parser.trap());
+        bind(Recon.parseUtf8(Binary.inputBuffer(buffer)));
       }
     } catch (Throwable cause) {
       if (Conts.isNonFatal(cause)) {
@@ -357,12 +520,13 @@ abstract class FileZoneReconReader extends FileZoneReader {
 
 }
 
-final class FileZonePageReader extends FileZoneReconReader {
+final class FileZonePageReader extends FileZoneValueReader {
 
   final PageRef pageRef;
   final TreeDelegate treeDelegate;
   final boolean isResident;
   final Cont<Page> cont;
+  final long loadStartTime;
 
   FileZonePageReader(FileZone zone, FileChannel channel, long offset, int size,
                      PageRef pageRef, TreeDelegate treeDelegate,
@@ -372,12 +536,32 @@ final class FileZonePageReader extends FileZoneReconReader {
     this.treeDelegate = treeDelegate;
     this.isResident = isResident;
     this.cont = cont;
+    this.loadStartTime = System.nanoTime();
+  }
+
+  @Override
+  public void run() {
+    final ByteBuffer buffer = this.zone.mappedSlice(this.offset, this.size);
+    if (buffer != null) {
+      // Parse the page directly from the mapped zone file.
+      bind(buffer);
+    } else if (this.channel != null) {
+      doRead(this.channel);
+    } else {
+      // Mapped zone page spans multiple regions; read it through a transient channel.
+      try (FileChannel channel = this.zone.openReadChannel()) {
+        doRead(channel);
+      } catch (IOException cause) {
+        trap(cause);
+      }
+    }
   }
 
   @Override
   protected void bind(Value value) {
     try {
       final Page page = this.pageRef.setPageValue(value, this.isResident);
+      this.zone.didLoadPage(page, System.nanoTime() - this.loadStartTime);
       if (treeDelegate != null) {
         treeDelegate.treeDidLoadPage(page);
       }
@@ -0,0 +1,68 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.db;
+
+import swim.codec.Debug;
+import swim.codec.Output;
+
+/**
+ * Policy governing when committed chunks are forced to durable storage.
+ */
+public enum FsyncPolicy implements Debug {
+
+  /**
+   * Force every forced commit to disk before completing it.
+   */
+  ALWAYS("always"),
+  /**
+   * Force forced commits to disk at most once per {@link
+   * StoreSettings#fsyncInterval() fsync interval}, deferring intervening
+   * flushes to the end of the interval.
+   */
+  INTERVAL("interval"),
+  /**
+   * Never force commits to disk; rely on the operating system to flush
+   * written chunks.
+   */
+  NEVER("never");
+
+  final String tag;
+
+  FsyncPolicy(String tag) {
+    this.tag = tag;
+  }
+
+  public static FsyncPolicy fromTag(String tag) {
+    if ("always".equals(tag)) {
+      return ALWAYS;
+    } else if ("interval".equals(tag)) {
+      return INTERVAL;
+    } else if ("never".equals(tag)) {
+      return NEVER;
+    } else {
+      return null;
+    }
+  }
+
+  public String tag() {
+    return this.tag;
+  }
+
+  @Override
+  public void debug(Output<?> output) {
+    output.write("FsyncPolicy").write('.').write(name());
+  }
+
+}
@@ -94,6 +94,12 @@ public abstract class Page {
     return pageRef().pageSize();
   }
 
+  /**
+   * Returns the size of this page without going back through its page ref,
+   * which would count as a page hit.
+   */
+  abstract int pageWeight();
+
   public int diffSize() {
     return pageRef().diffSize();
   }
@@ -0,0 +1,436 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.db;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Byte-budgeted page cache with a W-TinyLFU eviction policy.  Newly loaded
+ * pages enter a small LRU admission window; pages evicted from the window
+ * compete with the probationary victim of a segmented LRU main region, and
+ * are admitted only if their estimated access frequency is higher.  Cached
+ * pages are strongly referenced, so that eviction policy, rather than the
+ * garbage collector, decides which softened pages get reloaded.  Every cache
+ * in the process also draws on a shared {@code swim.db.page.cache.budget},
+ * so that the total weight of all stores' caches stays bounded; when the
+ * budget is exceeded, a cache sheds pages only down to its fair share of
+ * the budget, so that heavy caches can't starve light ones.
+ */
+public class PageCache {
+
+  static final int WINDOW = 0;
+  static final int PROBATION = 1;
+  static final int PROTECTED = 2;
+  static final AtomicLongFieldUpdater<PageCache> HIT_COUNT =
+      AtomicLongFieldUpdater.newUpdater(PageCache.class, "hitCount");
+  static final AtomicLongFieldUpdater<PageCache> MISS_COUNT =
+      AtomicLongFieldUpdater.newUpdater(PageCache.class, "missCount");
+  static final AtomicLongFieldUpdater<PageCache> LOAD_COUNT =
+      AtomicLongFieldUpdater.newUpdater(PageCache.class, "loadCount");
+  static final AtomicLongFieldUpdater<PageCache> LOAD_TIME =
+      AtomicLongFieldUpdater.newUpdater(PageCache.class, "loadTime");
+  final long maxWeight;
+  final long windowLimit;
+  final long protectedLimit;
+  final PageCacheBudget budget;
+  final ConcurrentHashMap<Page, PageCacheNode> nodes;
+  final ReentrantLock lock;
+  final PageCacheSketch sketch;
+  final PageCacheQueue window;
+  final PageCacheQueue probation;
+  final PageCacheQueue protectedQueue;
+  volatile long weight;
+  volatile long hitCount;
+  volatile long missCount;
+  volatile long evictionCount;
+  volatile long loadCount;
+  volatile long loadTime;
+
+  public PageCache(long maxWeight, int expectedSize) {
+    this(maxWeight, expectedSize, PageCacheBudget.global());
+  }
+
+  PageCache(long maxWeight, int expectedSize, PageCacheBudget budget) {
+    this.maxWeight = Math.max(0L, Math.min(maxWeight, budget.maxWeight));
+    this.budget = budget;
+    this.windowLimit = Math.max(1L, this.maxWeight / 100L);
+    this.protectedLimit = (this.maxWeight - this.windowLimit) * 4L / 5L;
+    this.nodes = new ConcurrentHashMap<Page, PageCacheNode>();
+    this.lock = new ReentrantLock();
+    this.sketch = new PageCacheSketch(Math.max(16, expectedSize));
+    this.window = new PageCacheQueue();
+    this.probation = new PageCacheQueue();
+    this.protectedQueue = new PageCacheQueue();
+  }
+
+  public final long maxWeight() {
+    return this.maxWeight;
+  }
+
+  public final long weight() {
+    return this.weight;
+  }
+
+  public final int size() {
+    return this.nodes.size();
+  }
+
+  public final long hitCount() {
+    return this.hitCount;
+  }
+
+  public final long missCount() {
+    return this.missCount;
+  }
+
+  public final long evictionCount() {
+    return this.evictionCount;
+  }
+
+  public final long loadCount() {
+    return this.loadCount;
+  }
+
+  /**
+   * Returns the cumulative time, in nanoseconds, spent loading pages from
+   * disk, measured from page load request to page value bind.
+   */
+  public final long loadTime() {
+    return this.loadTime;
+  }
+
+  public double hitRatio() {
+    final double hits = (double) this.hitCount;
+    return hits / (hits + (double) this.missCount);
+  }
+
+  public boolean contains(Page page) {
+    return this.nodes.containsKey(page);
+  }
+
+  public Page put(Page page) {
+    if (this.maxWeight == 0L) {
+      return page;
+    }
+    PageCacheNode node = this.nodes.get(page);
+    if (node != null) {
+      HIT_COUNT.incrementAndGet(this);
+      // Reordering on hit is best effort; drop it rather than contend.
+      if (this.lock.tryLock()) {
+        try {
+          if (node.queue >= 0) {
+            didHit(node);
+          }
+        } finally {
+          this.lock.unlock();
+        }
+      }
+      return page;
+    }
+    MISS_COUNT.incrementAndGet(this);
+    final long nodeWeight = Math.max(1L, (long) page.pageWeight());
+    if (nodeWeight > this.maxWeight) {
+      return page;
+    }
+    this.lock.lock();
+    try {
+      node = this.nodes.get(page);
+      if (node != null) {
+        if (node.queue >= 0) {
+          didHit(node);
+        }
+        return page;
+      }
+      this.sketch.increment(page);
+      node = new PageCacheNode(page, nodeWeight);
+      this.nodes.put(page, node);
+      node.queue = WINDOW;
+      this.window.append(node);
+      if (this.weight == 0L) {
+        this.budget.didActivateCache();
+      }
+      this.weight += nodeWeight;
+      this.budget.acquire(nodeWeight);
+      evict();
+    } finally {
+      this.lock.unlock();
+    }
+    return page;
+  }
+
+  public boolean remove(Page page) {
+    this.lock.lock();
+    try {
+      final PageCacheNode node = this.nodes.remove(page);
+      if (node != null && node.queue >= 0) {
+        unlink(node);
+        return true;
+      }
+      return false;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  public void clear() {
+    this.lock.lock();
+    try {
+      this.nodes.clear();
+      this.window.clear();
+      this.probation.clear();
+      this.protectedQueue.clear();
+      if (this.weight != 0L) {
+        this.budget.release(this.weight);
+        this.budget.didDeactivateCache();
+        this.weight = 0L;
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  void didLoadPage(long loadTime) {
+    LOAD_COUNT.incrementAndGet(this);
+    LOAD_TIME.addAndGet(this, loadTime);
+  }
+
+  void didHit(PageCacheNode node) {
+    this.sketch.increment(node.page);
+    if (node.queue == WINDOW) {
+      this.window.moveToBack(node);
+    } else if (node.queue == PROBATION) {
+      this.probation.remove(node);
+      node.queue = PROTECTED;
+      this.protectedQueue.append(node);
+      // Demote the least recently used protected pages back to probation.
+      while (this.protectedQueue.weight > this.protectedLimit) {
+        final PageCacheNode demoted = this.protectedQueue.head;
+        this.protectedQueue.remove(demoted);
+        demoted.queue = PROBATION;
+        this.probation.append(demoted);
+      }
+    } else {
+      this.protectedQueue.moveToBack(node);
+    }
+  }
+
+  void evict() {
+    // Move pages that overflow the admission window into probation, where
+    // each candidate has to beat the probationary victim to stay cached.
+    while (this.window.weight > this.windowLimit) {
+      final PageCacheNode candidate = this.window.head;
+      this.window.remove(candidate);
+      candidate.queue = PROBATION;
+      this.probation.append(candidate);
+      while (isOverweight() && candidate.queue >= 0) {
+        final PageCacheNode victim = this.probation.head;
+        if (victim == candidate) {
+          evict(candidate);
+        } else if (this.sketch.frequency(candidate.page) > this.sketch.frequency(victim.page)) {
+          evict(victim);
+        } else {
+          evict(candidate);
+        }
+      }
+    }
+    while (isOverweight()) {
+      PageCacheNode victim = this.probation.head;
+      if (victim == null) {
+        victim = this.protectedQueue.head;
+      }
+      if (victim == null) {
+        victim = this.window.head;
+      }
+      evict(victim);
+    }
+  }
+
+  boolean isOverweight() {
+    return this.weight > this.maxWeight
+        || this.budget.isExceeded() && this.weight > this.budget.fairShare();
+  }
+
+  void evict(PageCacheNode node) {
+    unlink(node);
+    this.nodes.remove(node.page);
+    this.evictionCount += 1L;
+  }
+
+  void unlink(PageCacheNode node) {
+    if (node.queue == WINDOW) {
+      this.window.remove(node);
+    } else if (node.queue == PROBATION) {
+      this.probation.remove(node);
+    } else {
+      this.protectedQueue.remove(node);
+    }
+    node.queue = -1;
+    this.weight -= node.weight;
+    this.budget.release(node.weight);
+    if (this.weight == 0L) {
+      this.budget.didDeactivateCache();
+    }
+  }
+
+}
+
+final class PageCacheNode {
+
+  final Page page;
+  final long weight;
+  int queue;
+  PageCacheNode prev;
+  PageCacheNode next;
+
+  PageCacheNode(Page page, long weight) {
+    this.page = page;
+    this.weight = weight;
+  }
+
+}
+
+final class PageCacheQueue {
+
+  PageCacheNode head;
+  PageCacheNode foot;
+  long weight;
+
+  void append(PageCacheNode node) {
+    final PageCacheNode foot = this.foot;
+    node.prev = foot;
+    node.next = null;
+    if (foot != null) {
+      foot.next = node;
+    } else {
+      this.head = node;
+    }
+    this.foot = node;
+    this.weight += node.weight;
+  }
+
+  void remove(PageCacheNode node) {
+    final PageCacheNode prev = node.prev;
+    final PageCacheNode next = node.next;
+    if (prev != null) {
+      prev.next = next;
+    } else {
+      this.head = next;
+    }
+    if (next != null) {
+      next.prev = prev;
+    } else {
+      this.foot = prev;
+    }
+    node.prev = null;
+    node.next = null;
+    this.weight -= node.weight;
+  }
+
+  void moveToBack(PageCacheNode node) {
+    if (node != this.foot) {
+      remove(node);
+      append(node);
+    }
+  }
+
+  void clear() {
+    this.head = null;
+    this.foot = null;
+    this.weight = 0L;
+  }
+
+}
+
+/**
+ * Count-min sketch of 4-bit access counters, periodically halved so that
+ * frequency estimates favor recent popularity.
+ */
+final class PageCacheSketch {
+
+  final long[] table;
+  final int mask;
+  final int sampleSize;
+  int sampleCount;
+
+  PageCacheSketch(int expectedSize) {
+    int width = Integer.highestOneBit(Math.min(expectedSize, 1 << 26) - 1) << 1;
+    this.table = new long[Math.max(width / 4, 4)];
+    this.mask = this.table.length - 1;
+    this.sampleSize = 10 * width;
+  }
+
+  static int spread(Page page) {
+    // Hash committed pages by their address in the store, rather than by
+    // identity, so that a reloaded page keeps the access history of the
+    // page instance it replaces.
+    final long base = page.base();
+    int h;
+    if (base != 0L) {
+      h = 31 * page.zone() + (int) (base ^ (base >>> 32));
+    } else {
+      h = System.identityHashCode(page);
+    }
+    h ^= h >>> 17;
+    h *= 0xed5ad4bb;
+    h ^= h >>> 11;
+    h *= 0xac4c1b51;
+    h ^= h >>> 15;
+    return h;
+  }
+
+  int indexOf(int hash, int row) {
+    long h = (hash + (long) row) * 0x9e3779b97f4a7c15L;
+    h += h >>> 32;
+    return (int) h & this.mask;
+  }
+
+  int frequency(Page page) {
+    final int hash = spread(page);
+    int frequency = 15;
+    for (int row = 0; row < 4; row += 1) {
+      final int shift = ((hash >>> (row << 3)) & 15) << 2;
+      final int count = (int) ((this.table[indexOf(hash, row)] >>> shift) & 15L);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  void increment(Page page) {
+    final int hash = spread(page);
+    boolean incremented = false;
+    for (int row = 0; row < 4; row += 1) {
+      final int index = indexOf(hash, row);
+      final int shift = ((hash >>> (row << 3)) & 15) << 2;
+      final long counter = this.table[index];
+      if (((counter >>> shift) & 15L) != 15L) {
+        this.table[index] = counter + (1L << shift);
+        incremented = true;
+      }
+    }
+    if (incremented && (this.sampleCount += 1) == this.sampleSize) {
+      reset();
+    }
+  }
+
+  void reset() {
+    for (int i = 0; i < this.table.length; i += 1) {
+      this.table[i] = (this.table[i] >>> 1) & 0x7777777777777777L;
+    }
+    this.sampleCount = this.sampleCount >>> 1;
+  }
+
+}
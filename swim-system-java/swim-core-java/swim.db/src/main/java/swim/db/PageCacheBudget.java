@@ -0,0 +1,83 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.db;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Total weight budget shared by a set of page caches.  Whenever the combined
+ * weight of all caches that share a budget exceeds its limit, caches that
+ * hold more than an even share of the budget evict their own pages, bounding
+ * the heap retained by any number of stores.
+ */
+final class PageCacheBudget {
+
+  static final AtomicLongFieldUpdater<PageCacheBudget> WEIGHT =
+      AtomicLongFieldUpdater.newUpdater(PageCacheBudget.class, "weight");
+  static final AtomicIntegerFieldUpdater<PageCacheBudget> CACHE_COUNT =
+      AtomicIntegerFieldUpdater.newUpdater(PageCacheBudget.class, "cacheCount");
+  final long maxWeight;
+  volatile long weight;
+  volatile int cacheCount;
+
+  PageCacheBudget(long maxWeight) {
+    this.maxWeight = maxWeight;
+  }
+
+  boolean isExceeded() {
+    return this.weight > this.maxWeight;
+  }
+
+  /**
+   * Returns the weight each cache that currently holds pages may keep when
+   * this budget is exceeded.
+   */
+  long fairShare() {
+    return this.maxWeight / Math.max(1, this.cacheCount);
+  }
+
+  void didActivateCache() {
+    CACHE_COUNT.incrementAndGet(this);
+  }
+
+  void didDeactivateCache() {
+    CACHE_COUNT.decrementAndGet(this);
+  }
+
+  void acquire(long weight) {
+    WEIGHT.addAndGet(this, weight);
+  }
+
+  void release(long weight) {
+    WEIGHT.addAndGet(this, -weight);
+  }
+
+  private static PageCacheBudget global;
+
+  static synchronized PageCacheBudget global() {
+    if (global == null) {
+      long maxWeight;
+      try {
+        maxWeight = Long.parseLong(System.getProperty("swim.db.page.cache.budget"));
+      } catch (NumberFormatException e) {
+        maxWeight = Runtime.getRuntime().maxMemory() / 8L;
+      }
+      global = new PageCacheBudget(maxWeight);
+    }
+    return global;
+  }
+
+}
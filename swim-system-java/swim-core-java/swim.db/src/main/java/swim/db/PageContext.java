@@ -32,6 +32,10 @@ public class PageContext {
     return StoreSettings.standard();
   }
 
+  public PageFormat pageFormat() {
+    return settings().pageFormat;
+  }
+
   public Stage stage() {
     throw new UnsupportedOperationException();
   }
@@ -0,0 +1,58 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.db;
+
+import swim.codec.Debug;
+import swim.codec.Output;
+
+public enum PageFormat implements Debug {
+
+  RECON("recon"),
+  BINARY("binary");
+
+  final String tag;
+
+  PageFormat(String tag) {
+    this.tag = tag;
+  }
+
+  public static PageFormat fromTag(String tag) {
+    if ("recon".equals(tag)) {
+      return RECON;
+    } else if ("binary".equals(tag)) {
+      return BINARY;
+    } else {
+      return null;
+    }
+  }
+
+  public boolean isRecon() {
+    return this == RECON;
+  }
+
+  public boolean isBinary() {
+    return this == BINARY;
+  }
+
+  public String tag() {
+    return this.tag;
+  }
+
+  @Override
+  public void debug(Output<?> output) {
+    output.write("PageFormat").write('.').write(name());
+  }
+
+}
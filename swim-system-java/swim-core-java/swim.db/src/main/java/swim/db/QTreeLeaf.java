@@ -759,6 +759,18 @@ public final class QTreeLeaf extends QTreePage {
 
   @Override
   void memoizeSize(QTreePageRef pageRef) {
+    final int pageSize;
+    if (this.pageRef.context.pageFormat().isBinary()) {
+      pageSize = BinaryPage.sizeOf(toValue());
+    } else {
+      pageSize = reconPageSize();
+    }
+    pageRef.pageSize = pageSize; // Must match bytes written by writePage
+    pageRef.diffSize = pageSize; // Must match bytes written by writeDiff
+    pageRef.treeSize = pageSize;
+  }
+
+  int reconPageSize() {
     int pageSize = 12; // "@qleaf(stem:"
     pageSize += Recon.sizeOf(Num.from(this.pageRef.stem));
     pageSize += 3; // ",v:"
@@ -778,9 +790,7 @@ public final class QTreeLeaf extends QTreePage {
     }
 
     pageSize += 1; // '\n'
-    pageRef.pageSize = pageSize; // Must match bytes written by writePage
-    pageRef.diffSize = pageSize; // Must match bytes written by writeDiff
-    pageRef.treeSize = pageSize;
+    return pageSize;
   }
 
   @Override
@@ -838,9 +848,13 @@ public final class QTreeLeaf extends QTreePage {
 
   @Override
   public void writePage(Output<?> output) {
-    Recon.write(toHeader(), output);
-    writePageContent(output);
-    output.write('\n');
+    if (this.pageRef.context.pageFormat().isBinary()) {
+      BinaryPage.write(toValue(), output);
+    } else {
+      Recon.writeStream(toHeader(), output);
+      writePageContent(output);
+      output.write('\n');
+    }
   }
 
   void writePageContent(Output<?> output) {
@@ -848,10 +862,10 @@ public final class QTreeLeaf extends QTreePage {
     final int n = slots.length;
     if (n > 0) {
       output.write('{');
-      Recon.write(slots[0], output);
+      Recon.writeStream(slots[0], output);
       for (int i = 1; i < n; i += 1) {
         output.write(',');
-        Recon.write(slots[i], output);
+        Recon.writeStream(slots[i], output);
       }
       output.write('}');
     }
@@ -908,7 +922,7 @@ public final class QTreeLeaf extends QTreePage {
   @Override
   public String toString() {
     final Output<String> output = Unicode.stringOutput(pageSize() - 1); // ignore trailing '\n'
-    Recon.write(toHeader(), output);
+    Recon.writeStream(toHeader(), output);
     writePageContent(output);
     return output.bind();
   }
@@ -1309,6 +1309,33 @@ public final class QTreeNode extends QTreePage {
 
   @Override
   void memoizeSize(QTreePageRef pageRef) {
+    final QTreePageRef[] childRefs = this.childRefs;
+    final int childCount = childRefs.length;
+    int diffSize = 0;
+    long treeSize = 0L;
+    for (int i = 0; i < childCount; i += 1) {
+      final QTreePageRef childRef = childRefs[i];
+      if (this.version == childRef.softVersion()) {
+        diffSize += childRef.diffSize();
+      }
+      treeSize += childRef.treeSize();
+    }
+
+    final int pageSize;
+    if (this.pageRef.context.pageFormat().isBinary()) {
+      pageSize = BinaryPage.sizeOf(toValue());
+    } else {
+      pageSize = reconPageSize();
+    }
+    diffSize += pageSize;
+    treeSize += pageSize;
+
+    pageRef.pageSize = pageSize; // Must match bytes written by writePage
+    pageRef.diffSize = diffSize; // Must match bytes written by writeDiff
+    pageRef.treeSize = treeSize;
+  }
+
+  int reconPageSize() {
     int pageSize = 12; // "@qnode(stem:"
     pageSize += Recon.sizeOf(Num.from(this.pageRef.stem));
     pageSize += 3; // ",v:"
@@ -1317,20 +1344,13 @@ public final class QTreeNode extends QTreePage {
 
     final QTreePageRef[] childRefs = this.childRefs;
     final int childCount = childRefs.length;
-    int diffSize = 0;
-    long treeSize = 0L;
     if (childCount > 0) {
       pageSize += 1; // '{'
       for (int i = 0; i < childCount; i += 1) {
         if (i > 0) {
           pageSize += 1; // ','
         }
-        final QTreePageRef childRef = childRefs[i];
-        pageSize += childRef.pageRefSize();
-        if (this.version == childRef.softVersion()) {
-          diffSize += childRef.diffSize();
-        }
-        treeSize += childRef.treeSize();
+        pageSize += childRefs[i].pageRefSize();
       }
       final Slot[] slots = this.slots;
       for (int i = 0, slotCount = slots.length; i < slotCount; i += 1) {
@@ -1340,12 +1360,7 @@ public final class QTreeNode extends QTreePage {
       pageSize += 1; // '}'
       pageSize += 1; // '\n'
     }
-    diffSize += pageSize;
-    treeSize += pageSize;
-
-    pageRef.pageSize = pageSize; // Must match bytes written by writePage
-    pageRef.diffSize = diffSize; // Must match bytes written by writeDiff
-    pageRef.treeSize = treeSize;
+    return pageSize;
   }
 
   @Override
@@ -1451,9 +1466,13 @@ public final class QTreeNode extends QTreePage {
 
   @Override
   public void writePage(Output<?> output) {
-    Recon.write(toHeader(), output);
-    writePageContent(output);
-    output.write('\n');
+    if (this.pageRef.context.pageFormat().isBinary()) {
+      BinaryPage.write(toValue(), output);
+    } else {
+      Recon.writeStream(toHeader(), output);
+      writePageContent(output);
+      output.write('\n');
+    }
   }
 
   void writePageContent(Output<?> output) {
@@ -1470,7 +1489,7 @@ public final class QTreeNode extends QTreePage {
       final Slot[] slots = this.slots;
       for (int i = 0, slotCount = slots.length; i < slotCount; i += 1) {
         output.write(',');
-        Recon.write(slots[i], output);
+        Recon.writeStream(slots[i], output);
       }
       output.write('}');
     }
@@ -1538,7 +1557,7 @@ public final class QTreeNode extends QTreePage {
   @Override
   public String toString() {
     final Output<String> output = Unicode.stringOutput(pageSize() - 1); // ignore trailing '\n'
-    Recon.write(toHeader(), output);
+    Recon.writeStream(toHeader(), output);
     writePageContent(output);
     return output.bind();
   }
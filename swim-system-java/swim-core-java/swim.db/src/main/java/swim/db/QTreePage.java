@@ -190,6 +190,15 @@ public abstract class QTreePage extends Page {
 
   abstract void memoizeSize(QTreePageRef pageRef);
 
+  @Override
+  int pageWeight() {
+    final QTreePageRef pageRef = pageRef();
+    if (pageRef.pageSize < 0) {
+      memoizeSize(pageRef);
+    }
+    return pageRef.pageSize;
+  }
+
   @Override
   public Cursor<Slot> cursor() {
     return cursor(-1L, -1L);
@@ -388,7 +388,7 @@ public final class QTreePageRef extends PageRef {
 
   @Override
   public void writePageRef(Output<?> output) {
-    Recon.write(toValue(), output);
+    Recon.writeStream(toValue(), output);
   }
 
   @Override
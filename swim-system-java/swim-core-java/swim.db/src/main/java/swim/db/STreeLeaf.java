@@ -359,6 +359,18 @@ public final class STreeLeaf extends STreePage {
 
   @Override
   void memoizeSize(STreePageRef pageRef) {
+    final int pageSize;
+    if (this.pageRef.context.pageFormat().isBinary()) {
+      pageSize = BinaryPage.sizeOf(toValue());
+    } else {
+      pageSize = reconPageSize();
+    }
+    pageRef.pageSize = pageSize; // Must match bytes written by writePage
+    pageRef.diffSize = pageSize; // Must match bytes written by writeDiff
+    pageRef.treeSize = pageSize;
+  }
+
+  int reconPageSize() {
     int pageSize = 12; // "@sleaf(stem:"
     pageSize += Recon.sizeOf(Num.from(this.pageRef.stem));
     pageSize += 3; // ",v:"
@@ -378,9 +390,7 @@ public final class STreeLeaf extends STreePage {
     }
 
     pageSize += 1; // '\n'
-    pageRef.pageSize = pageSize; // Must match bytes written by writePage
-    pageRef.diffSize = pageSize; // Must match bytes written by writeDiff
-    pageRef.treeSize = pageSize;
+    return pageSize;
   }
 
   @Override
@@ -434,9 +444,13 @@ public final class STreeLeaf extends STreePage {
 
   @Override
   public void writePage(Output<?> output) {
-    Recon.write(toHeader(), output);
-    writePageContent(output);
-    output.write('\n');
+    if (this.pageRef.context.pageFormat().isBinary()) {
+      BinaryPage.write(toValue(), output);
+    } else {
+      Recon.writeStream(toHeader(), output);
+      writePageContent(output);
+      output.write('\n');
+    }
   }
 
   void writePageContent(Output<?> output) {
@@ -444,10 +458,10 @@ public final class STreeLeaf extends STreePage {
     final int n = slots.length;
     if (n > 0) {
       output.write('{');
-      Recon.write(slots[0], output);
+      Recon.writeStream(slots[0], output);
       for (int i = 1; i < n; i += 1) {
         output.write(',');
-        Recon.write(slots[i], output);
+        Recon.writeStream(slots[i], output);
       }
       output.write('}');
     }
@@ -499,7 +513,7 @@ public final class STreeLeaf extends STreePage {
   @Override
   public String toString() {
     final Output<String> output = Unicode.stringOutput(pageSize() - 1); // ignore trailing '\n'
-    Recon.write(toHeader(), output);
+    Recon.writeStream(toHeader(), output);
     writePageContent(output);
     return output.bind();
   }
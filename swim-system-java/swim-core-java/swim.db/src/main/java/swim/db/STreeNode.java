@@ -681,6 +681,33 @@ public final class STreeNode extends STreePage {
 
   @Override
   void memoizeSize(STreePageRef pageRef) {
+    final STreePageRef[] childRefs = this.childRefs;
+    final int n = childRefs.length;
+    int diffSize = 0;
+    long treeSize = 0L;
+    for (int i = 0; i < n; i += 1) {
+      final STreePageRef childRef = childRefs[i];
+      if (this.version == childRef.softVersion()) {
+        diffSize += childRef.diffSize();
+      }
+      treeSize += childRef.treeSize();
+    }
+
+    final int pageSize;
+    if (this.pageRef.context.pageFormat().isBinary()) {
+      pageSize = BinaryPage.sizeOf(toValue());
+    } else {
+      pageSize = reconPageSize();
+    }
+    diffSize += pageSize;
+    treeSize += pageSize;
+
+    pageRef.pageSize = pageSize; // Must match bytes written by writePage
+    pageRef.diffSize = diffSize; // Must match bytes written by writeDiff
+    pageRef.treeSize = treeSize;
+  }
+
+  int reconPageSize() {
     int pageSize = 12; // "@snode(stem:"
     pageSize += Recon.sizeOf(Num.from(this.pageRef.stem));
     pageSize += 3; // ",v:"
@@ -690,8 +717,6 @@ public final class STreeNode extends STreePage {
     final STreePageRef[] childRefs = this.childRefs;
     final int n = childRefs.length;
     final long[] knotIndexes = this.knotIndexes;
-    int diffSize = 0;
-    long treeSize = 0L;
     if (n > 0) {
       pageSize += 1; // '{'
       for (int i = 0; i < n; i += 1) {
@@ -701,22 +726,12 @@ public final class STreeNode extends STreePage {
           pageSize += Recon.sizeOf(Num.from(index));
           pageSize += 2; // "),"
         }
-        final STreePageRef childRef = childRefs[i];
-        pageSize += childRef.pageRefSize();
-        if (this.version == childRef.softVersion()) {
-          diffSize += childRef.diffSize();
-        }
-        treeSize += childRef.treeSize();
+        pageSize += childRefs[i].pageRefSize();
       }
       pageSize += 1; // '}'
       pageSize += 1; // '\n'
     }
-    diffSize += pageSize;
-    treeSize += pageSize;
-
-    pageRef.pageSize = pageSize; // Must match bytes written by writePage
-    pageRef.diffSize = diffSize; // Must match bytes written by writeDiff
-    pageRef.treeSize = treeSize;
+    return pageSize;
   }
 
   @Override
@@ -819,9 +834,13 @@ public final class STreeNode extends STreePage {
 
   @Override
   public void writePage(Output<?> output) {
-    Recon.write(toHeader(), output);
-    writePageContent(output);
-    output.write('\n');
+    if (this.pageRef.context.pageFormat().isBinary()) {
+      BinaryPage.write(toValue(), output);
+    } else {
+      Recon.writeStream(toHeader(), output);
+      writePageContent(output);
+      output.write('\n');
+    }
   }
 
   void writePageContent(Output<?> output) {
@@ -834,7 +853,7 @@ public final class STreeNode extends STreePage {
         if (i > 0) {
           output.write(',').write('@').write('k').write('n').write('o').write('t')
               .write('(').write('i').write(':');
-          Recon.write(Num.from(knotIndexes[i - 1]), output);
+          Recon.writeStream(Num.from(knotIndexes[i - 1]), output);
           output.write(')').write(',');
         }
         childRefs[i].writePageRef(output);
@@ -900,7 +919,7 @@ public final class STreeNode extends STreePage {
   @Override
   public String toString() {
     final Output<String> output = Unicode.stringOutput(pageSize() - 1); // ignore trailing '\n'
-    Recon.write(toHeader(), output);
+    Recon.writeStream(toHeader(), output);
     writePageContent(output);
     return output.bind();
   }
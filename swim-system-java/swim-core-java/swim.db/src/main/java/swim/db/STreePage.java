@@ -106,6 +106,15 @@ public abstract class STreePage extends Page {
 
   abstract void memoizeSize(STreePageRef pageRef);
 
+  @Override
+  int pageWeight() {
+    final STreePageRef pageRef = pageRef();
+    if (pageRef.pageSize < 0) {
+      memoizeSize(pageRef);
+    }
+    return pageRef.pageSize;
+  }
+
   @Override
   public abstract Cursor<Slot> cursor();
 
@@ -336,7 +336,7 @@ public final class STreePageRef extends PageRef {
 
   @Override
   public void writePageRef(Output<?> output) {
-    Recon.write(toValue(), output);
+    Recon.writeStream(toValue(), output);
   }
 
   @Override
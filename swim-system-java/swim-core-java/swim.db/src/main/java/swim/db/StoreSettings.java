@@ -49,6 +49,12 @@ public class StoreSettings implements Debug {
   protected final int databaseCompactTimeout;
   protected final int pageLoadTimeout;
   protected final int treeLoadTimeout;
+  protected final PageFormat pageFormat;
+  protected final boolean mapSealedZones;
+  protected final int commitWindow;
+  protected final FsyncPolicy fsyncPolicy;
+  protected final int fsyncInterval;
+  protected final long pageCacheLimit;
 
   public StoreSettings(int pageSplitSize, int pageCacheSize, int autoCommitInterval,
                        long autoCommitSize, long minCompactSize, long maxZoneSize,
@@ -57,7 +63,10 @@ public class StoreSettings implements Debug {
                        int zoneOpenTimeout, int zoneCloseTimeout,
                        int databaseOpenTimeout, int databaseCloseTimeout,
                        int databaseCommitTimeout, int databaseCompactTimeout,
-                       int pageLoadTimeout, int treeLoadTimeout) {
+                       int pageLoadTimeout, int treeLoadTimeout,
+                       PageFormat pageFormat, boolean mapSealedZones,
+                       int commitWindow, FsyncPolicy fsyncPolicy, int fsyncInterval,
+                       long pageCacheLimit) {
     this.pageSplitSize = pageSplitSize;
     this.pageCacheSize = pageCacheSize;
     this.autoCommitInterval = autoCommitInterval;
@@ -82,6 +91,12 @@ public class StoreSettings implements Debug {
 
     this.pageLoadTimeout = pageLoadTimeout;
     this.treeLoadTimeout = treeLoadTimeout;
+    this.pageFormat = pageFormat;
+    this.mapSealedZones = mapSealedZones;
+    this.commitWindow = commitWindow;
+    this.fsyncPolicy = fsyncPolicy;
+    this.fsyncInterval = fsyncInterval;
+    this.pageCacheLimit = pageCacheLimit;
   }
 
   public static StoreSettings standard() {
@@ -226,6 +241,39 @@ public class StoreSettings implements Debug {
         treeLoadTimeout = 30 * 1000;
       }
 
+      PageFormat pageFormat = PageFormat.fromTag(System.getProperty("swim.db.page.format"));
+      if (pageFormat == null) {
+        pageFormat = PageFormat.RECON;
+      }
+
+      final boolean mapSealedZones = Boolean.parseBoolean(System.getProperty("swim.db.zone.mmap"));
+
+      int commitWindow;
+      try {
+        commitWindow = Integer.parseInt(System.getProperty("swim.db.commit.window"));
+      } catch (NumberFormatException e) {
+        commitWindow = 0;
+      }
+
+      FsyncPolicy fsyncPolicy = FsyncPolicy.fromTag(System.getProperty("swim.db.fsync.policy"));
+      if (fsyncPolicy == null) {
+        fsyncPolicy = FsyncPolicy.ALWAYS;
+      }
+
+      int fsyncInterval;
+      try {
+        fsyncInterval = Integer.parseInt(System.getProperty("swim.db.fsync.interval"));
+      } catch (NumberFormatException e) {
+        fsyncInterval = 1000;
+      }
+
+      long pageCacheLimit;
+      try {
+        pageCacheLimit = Long.parseLong(System.getProperty("swim.db.page.cache.limit"));
+      } catch (NumberFormatException e) {
+        pageCacheLimit = Runtime.getRuntime().maxMemory() / 8L;
+      }
+
       standard = new StoreSettings(pageSplitSize, pageCacheSize, autoCommitInterval,
           autoCommitSize, minCompactSize, maxZoneSize,
           minZoneFill, minTreeFill, maxRetries,
@@ -233,7 +281,10 @@ public class StoreSettings implements Debug {
           zoneOpenTimeout, zoneCloseTimeout,
           databaseOpenTimeout, databaseCloseTimeout,
           databaseCommitTimeout, databaseCompactTimeout,
-          pageLoadTimeout, treeLoadTimeout);
+          pageLoadTimeout, treeLoadTimeout,
+          pageFormat, mapSealedZones,
+          commitWindow, fsyncPolicy, fsyncInterval,
+          pageCacheLimit);
     }
     return standard;
   }
@@ -258,7 +309,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int pageCacheSize() {
@@ -273,7 +327,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int autoCommitInterval() {
@@ -288,7 +345,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final long autoCommitSize() {
@@ -303,7 +363,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final long minCompactSize() {
@@ -318,7 +381,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final long maxZoneSize() {
@@ -333,7 +399,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final double minZoneFill() {
@@ -348,7 +417,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final double minTreeFill() {
@@ -363,7 +435,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int maxRetries() {
@@ -378,7 +453,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int deleteDelay() {
@@ -393,7 +471,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int storeOpenTimeout() {
@@ -408,7 +489,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int storeCloseTimeout() {
@@ -423,7 +507,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int zoneOpenTimeout() {
@@ -438,7 +525,10 @@ public class StoreSettings implements Debug {
         zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int zoneCloseTimeout() {
@@ -453,7 +543,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int databaseOpenTimeout() {
@@ -468,7 +561,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int databaseCloseTimeout() {
@@ -483,7 +579,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int databaseCommitTimeout() {
@@ -498,7 +597,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int databaseCompactTimeout() {
@@ -513,7 +615,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, databaseCompactTimeout,
-        this.pageLoadTimeout, this.treeLoadTimeout);
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int pageLoadTimeout() {
@@ -528,7 +633,10 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        pageLoadTimeout, this.treeLoadTimeout);
+        pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
   }
 
   public final int treeLoadTimeout() {
@@ -543,7 +651,118 @@ public class StoreSettings implements Debug {
         this.zoneOpenTimeout, this.zoneCloseTimeout,
         this.databaseOpenTimeout, this.databaseCloseTimeout,
         this.databaseCommitTimeout, this.databaseCompactTimeout,
-        this.pageLoadTimeout, treeLoadTimeout);
+        this.pageLoadTimeout, treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
+  }
+
+  public final PageFormat pageFormat() {
+    return this.pageFormat;
+  }
+
+  public StoreSettings pageFormat(PageFormat pageFormat) {
+    return copy(this.pageSplitSize, this.pageCacheSize, this.autoCommitInterval,
+        this.autoCommitSize, this.minCompactSize, this.maxZoneSize,
+        this.minZoneFill, this.minTreeFill, this.maxRetries,
+        this.deleteDelay, this.storeOpenTimeout, this.storeCloseTimeout,
+        this.zoneOpenTimeout, this.zoneCloseTimeout,
+        this.databaseOpenTimeout, this.databaseCloseTimeout,
+        this.databaseCommitTimeout, this.databaseCompactTimeout,
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
+  }
+
+  public final boolean mapSealedZones() {
+    return this.mapSealedZones;
+  }
+
+  public StoreSettings mapSealedZones(boolean mapSealedZones) {
+    return copy(this.pageSplitSize, this.pageCacheSize, this.autoCommitInterval,
+        this.autoCommitSize, this.minCompactSize, this.maxZoneSize,
+        this.minZoneFill, this.minTreeFill, this.maxRetries,
+        this.deleteDelay, this.storeOpenTimeout, this.storeCloseTimeout,
+        this.zoneOpenTimeout, this.zoneCloseTimeout,
+        this.databaseOpenTimeout, this.databaseCloseTimeout,
+        this.databaseCommitTimeout, this.databaseCompactTimeout,
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
+  }
+
+  public final int commitWindow() {
+    return this.commitWindow;
+  }
+
+  public StoreSettings commitWindow(int commitWindow) {
+    return copy(this.pageSplitSize, this.pageCacheSize, this.autoCommitInterval,
+        this.autoCommitSize, this.minCompactSize, this.maxZoneSize,
+        this.minZoneFill, this.minTreeFill, this.maxRetries,
+        this.deleteDelay, this.storeOpenTimeout, this.storeCloseTimeout,
+        this.zoneOpenTimeout, this.zoneCloseTimeout,
+        this.databaseOpenTimeout, this.databaseCloseTimeout,
+        this.databaseCommitTimeout, this.databaseCompactTimeout,
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
+  }
+
+  public final FsyncPolicy fsyncPolicy() {
+    return this.fsyncPolicy;
+  }
+
+  public StoreSettings fsyncPolicy(FsyncPolicy fsyncPolicy) {
+    return copy(this.pageSplitSize, this.pageCacheSize, this.autoCommitInterval,
+        this.autoCommitSize, this.minCompactSize, this.maxZoneSize,
+        this.minZoneFill, this.minTreeFill, this.maxRetries,
+        this.deleteDelay, this.storeOpenTimeout, this.storeCloseTimeout,
+        this.zoneOpenTimeout, this.zoneCloseTimeout,
+        this.databaseOpenTimeout, this.databaseCloseTimeout,
+        this.databaseCommitTimeout, this.databaseCompactTimeout,
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, fsyncPolicy, this.fsyncInterval,
+        this.pageCacheLimit);
+  }
+
+  public final int fsyncInterval() {
+    return this.fsyncInterval;
+  }
+
+  public StoreSettings fsyncInterval(int fsyncInterval) {
+    return copy(this.pageSplitSize, this.pageCacheSize, this.autoCommitInterval,
+        this.autoCommitSize, this.minCompactSize, this.maxZoneSize,
+        this.minZoneFill, this.minTreeFill, this.maxRetries,
+        this.deleteDelay, this.storeOpenTimeout, this.storeCloseTimeout,
+        this.zoneOpenTimeout, this.zoneCloseTimeout,
+        this.databaseOpenTimeout, this.databaseCloseTimeout,
+        this.databaseCommitTimeout, this.databaseCompactTimeout,
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, fsyncInterval,
+        this.pageCacheLimit);
+  }
+
+  public final long pageCacheLimit() {
+    return this.pageCacheLimit;
+  }
+
+  public StoreSettings pageCacheLimit(long pageCacheLimit) {
+    return copy(this.pageSplitSize, this.pageCacheSize, this.autoCommitInterval,
+        this.autoCommitSize, this.minCompactSize, this.maxZoneSize,
+        this.minZoneFill, this.minTreeFill, this.maxRetries,
+        this.deleteDelay, this.storeOpenTimeout, this.storeCloseTimeout,
+        this.zoneOpenTimeout, this.zoneCloseTimeout,
+        this.databaseOpenTimeout, this.databaseCloseTimeout,
+        this.databaseCommitTimeout, this.databaseCompactTimeout,
+        this.pageLoadTimeout, this.treeLoadTimeout,
+        this.pageFormat, this.mapSealedZones,
+        this.commitWindow, this.fsyncPolicy, this.fsyncInterval,
+        pageCacheLimit);
   }
 
   protected StoreSettings copy(int pageSplitSize, int pageCacheSize, int autoCommitInterval,
@@ -553,7 +772,10 @@ public class StoreSettings implements Debug {
                                int zoneOpenTimeout, int zoneCloseTimeout,
                                int databaseOpenTimeout, int databaseCloseTimeout,
                                int databaseCommitTimeout, int databaseCompactTimeout,
-                               int pageLoadTimeout, int treeLoadTimeout) {
+                               int pageLoadTimeout, int treeLoadTimeout,
+                               PageFormat pageFormat, boolean mapSealedZones,
+                               int commitWindow, FsyncPolicy fsyncPolicy, int fsyncInterval,
+                               long pageCacheLimit) {
     return new StoreSettings(pageSplitSize, pageCacheSize, autoCommitInterval,
         autoCommitSize, minCompactSize, maxZoneSize,
         minZoneFill, minTreeFill, maxRetries,
@@ -561,7 +783,10 @@ public class StoreSettings implements Debug {
         zoneOpenTimeout, zoneCloseTimeout,
         databaseOpenTimeout, databaseCloseTimeout,
         databaseCommitTimeout, databaseCompactTimeout,
-        pageLoadTimeout, treeLoadTimeout);
+        pageLoadTimeout, treeLoadTimeout,
+        pageFormat, mapSealedZones,
+        commitWindow, fsyncPolicy, fsyncInterval,
+        pageCacheLimit);
   }
 
   protected boolean canEqual(Object other) {
@@ -593,7 +818,13 @@ public class StoreSettings implements Debug {
           && this.databaseCommitTimeout == that.databaseCommitTimeout
           && this.databaseCompactTimeout == that.databaseCompactTimeout
           && this.pageLoadTimeout == that.pageLoadTimeout
-          && this.treeLoadTimeout == that.treeLoadTimeout;
+          && this.treeLoadTimeout == that.treeLoadTimeout
+          && this.pageFormat == that.pageFormat
+          && this.mapSealedZones == that.mapSealedZones
+          && this.commitWindow == that.commitWindow
+          && this.fsyncPolicy == that.fsyncPolicy
+          && this.fsyncInterval == that.fsyncInterval
+          && this.pageCacheLimit == that.pageCacheLimit;
     }
     return false;
   }
@@ -603,7 +834,7 @@ public class StoreSettings implements Debug {
     if (hashSeed == 0) {
       hashSeed = Murmur3.seed(StoreSettings.class);
     }
-    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(
+    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(
         Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(
             Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(
                 hashSeed, this.pageSplitSize), this.pageCacheSize), this.autoCommitInterval),
@@ -613,7 +844,13 @@ public class StoreSettings implements Debug {
             this.storeOpenTimeout), this.storeCloseTimeout), this.zoneOpenTimeout),
             this.zoneCloseTimeout), this.databaseOpenTimeout), this.databaseCloseTimeout),
         this.databaseCommitTimeout), this.databaseCompactTimeout),
-        this.pageLoadTimeout), this.treeLoadTimeout));
+        this.pageLoadTimeout), this.treeLoadTimeout),
+        this.pageFormat.ordinal()),
+        Murmur3.hash(this.mapSealedZones)),
+        this.commitWindow),
+        this.fsyncPolicy.ordinal()),
+        this.fsyncInterval),
+        Murmur3.hash(this.pageCacheLimit)));
   }
 
   @Override
@@ -638,7 +875,13 @@ public class StoreSettings implements Debug {
         .write('.').write("databaseCommitTimeout").write('(').debug(this.databaseCommitTimeout).write(')')
         .write('.').write("databaseCompactTimeout").write('(').debug(this.databaseCompactTimeout).write(')')
         .write('.').write("pageLoadTimeout").write('(').debug(this.pageLoadTimeout).write(')')
-        .write('.').write("treeLoadTimeout").write('(').debug(this.treeLoadTimeout).write(')');
+        .write('.').write("treeLoadTimeout").write('(').debug(this.treeLoadTimeout).write(')')
+        .write('.').write("pageFormat").write('(').debug(this.pageFormat).write(')')
+        .write('.').write("mapSealedZones").write('(').debug(this.mapSealedZones).write(')')
+        .write('.').write("commitWindow").write('(').debug(this.commitWindow).write(')')
+        .write('.').write("fsyncPolicy").write('(').debug(this.fsyncPolicy).write(')')
+        .write('.').write("fsyncInterval").write('(').debug(this.fsyncInterval).write(')')
+        .write('.').write("pageCacheLimit").write('(').debug(this.pageCacheLimit).write(')');
   }
 
   @Override
@@ -669,7 +912,7 @@ final class StoreSettingsForm extends Form<StoreSettings> {
   public Item mold(StoreSettings settings) {
     if (settings != null) {
       final StoreSettings standard = StoreSettings.standard();
-      final Record record = Record.create(20).attr(tag());
+      final Record record = Record.create(26).attr(tag());
 
       if (settings.pageSplitSize != standard.pageSplitSize) {
         record.slot("pageSplitSize", settings.pageSplitSize);
@@ -736,6 +979,30 @@ final class StoreSettingsForm extends Form<StoreSettings> {
         record.slot("treeLoadTimeout", settings.treeLoadTimeout);
       }
 
+      if (settings.pageFormat != standard.pageFormat) {
+        record.slot("pageFormat", settings.pageFormat.tag());
+      }
+
+      if (settings.mapSealedZones != standard.mapSealedZones) {
+        record.slot("mapSealedZones", settings.mapSealedZones);
+      }
+
+      if (settings.commitWindow != standard.commitWindow) {
+        record.slot("commitWindow", settings.commitWindow);
+      }
+
+      if (settings.fsyncPolicy != standard.fsyncPolicy) {
+        record.slot("fsyncPolicy", settings.fsyncPolicy.tag());
+      }
+
+      if (settings.fsyncInterval != standard.fsyncInterval) {
+        record.slot("fsyncInterval", settings.fsyncInterval);
+      }
+
+      if (settings.pageCacheLimit != standard.pageCacheLimit) {
+        record.slot("pageCacheLimit", settings.pageCacheLimit);
+      }
+
       return record;
     } else {
       return Item.extant();
@@ -767,6 +1034,18 @@ final class StoreSettingsForm extends Form<StoreSettings> {
       final int databaseCompactTimeout = value.get("databaseCompactTimeout").intValue(standard.databaseCompactTimeout);
       final int pageLoadTimeout = value.get("pageLoadTimeout").intValue(standard.pageLoadTimeout);
       final int treeLoadTimeout = value.get("treeLoadTimeout").intValue(standard.treeLoadTimeout);
+      PageFormat pageFormat = PageFormat.fromTag(value.get("pageFormat").stringValue(null));
+      if (pageFormat == null) {
+        pageFormat = standard.pageFormat;
+      }
+      final boolean mapSealedZones = value.get("mapSealedZones").booleanValue(standard.mapSealedZones);
+      final int commitWindow = value.get("commitWindow").intValue(standard.commitWindow);
+      FsyncPolicy fsyncPolicy = FsyncPolicy.fromTag(value.get("fsyncPolicy").stringValue(null));
+      if (fsyncPolicy == null) {
+        fsyncPolicy = standard.fsyncPolicy;
+      }
+      final int fsyncInterval = value.get("fsyncInterval").intValue(standard.fsyncInterval);
+      final long pageCacheLimit = value.get("pageCacheLimit").longValue(standard.pageCacheLimit);
       return new StoreSettings(pageSplitSize, pageCacheSize, autoCommitInterval,
           autoCommitSize, minCompactSize, maxZoneSize,
           minZoneFill, minTreeFill, maxRetries,
@@ -774,7 +1053,10 @@ final class StoreSettingsForm extends Form<StoreSettings> {
           zoneOpenTimeout, zoneCloseTimeout,
           databaseOpenTimeout, databaseCloseTimeout,
           databaseCommitTimeout, databaseCompactTimeout,
-          pageLoadTimeout, treeLoadTimeout);
+          pageLoadTimeout, treeLoadTimeout,
+          pageFormat, mapSealedZones,
+          commitWindow, fsyncPolicy, fsyncInterval,
+          pageCacheLimit);
     }
     return null;
   }
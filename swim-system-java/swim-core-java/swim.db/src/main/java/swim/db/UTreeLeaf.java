@@ -147,6 +147,17 @@ public final class UTreeLeaf extends UTreePage {
 
   @Override
   void memoizeSize(UTreePageRef pageRef) {
+    final int pageSize;
+    if (this.pageRef.context.pageFormat().isBinary()) {
+      pageSize = BinaryPage.sizeOf(toValue());
+    } else {
+      pageSize = reconPageSize();
+    }
+    pageRef.pageSize = pageSize; // Must match bytes written by writePage
+    pageRef.diffSize = pageSize; // Must match bytes written by writeDiff
+  }
+
+  int reconPageSize() {
     int pageSize = 12; // "@uleaf(stem:"
     pageSize += Recon.sizeOf(Num.from(this.pageRef.stem));
     pageSize += 3; // ",v:"
@@ -158,8 +169,7 @@ public final class UTreeLeaf extends UTreePage {
     pageSize += 1; // '}'
 
     pageSize += 1; // '\n'
-    pageRef.pageSize = pageSize; // Must match bytes written by writePage
-    pageRef.diffSize = pageSize; // Must match bytes written by writeDiff
+    return pageSize;
   }
 
   @Override
@@ -199,14 +209,18 @@ public final class UTreeLeaf extends UTreePage {
 
   @Override
   public void writePage(Output<?> output) {
-    Recon.write(toHeader(), output);
-    writePageContent(output);
-    output.write('\n');
+    if (this.pageRef.context.pageFormat().isBinary()) {
+      BinaryPage.write(toValue(), output);
+    } else {
+      Recon.writeStream(toHeader(), output);
+      writePageContent(output);
+      output.write('\n');
+    }
   }
 
   void writePageContent(Output<?> output) {
     output.write('{');
-    Recon.write(this.value, output);
+    Recon.writeStream(this.value, output);
     output.write('}');
   }
 
@@ -242,7 +256,7 @@ public final class UTreeLeaf extends UTreePage {
   @Override
   public String toString() {
     final Output<String> output = Unicode.stringOutput(pageSize() - 1); // ignore trailing '\n'
-    Recon.write(toHeader(), output);
+    Recon.writeStream(toHeader(), output);
     writePageContent(output);
     return output.bind();
   }
@@ -61,6 +61,15 @@ public abstract class UTreePage extends Page {
 
   abstract void memoizeSize(UTreePageRef pageRef);
 
+  @Override
+  int pageWeight() {
+    final UTreePageRef pageRef = pageRef();
+    if (pageRef.pageSize < 0) {
+      memoizeSize(pageRef);
+    }
+    return pageRef.pageSize;
+  }
+
   @Override
   public abstract Cursor<Value> cursor();
 
@@ -288,7 +288,7 @@ public final class UTreePageRef extends PageRef {
 
   @Override
   public void writePageRef(Output<?> output) {
-    Recon.write(toValue(), output);
+    Recon.writeStream(toValue(), output);
   }
 
   @Override
@@ -30,7 +30,9 @@ import swim.structure.Form;
 import swim.structure.Text;
 import swim.structure.Value;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 public class FileStoreSpec {
 
@@ -256,6 +258,224 @@ public class FileStoreSpec {
     }
   }
 
+  @Test
+  public void testBinaryPageFormat() throws InterruptedException {
+    final File storePath = new File(testOutputDir, "binary-pages.swimdb");
+    final Theater stage = new Theater();
+    final StoreContext storeContext = new StoreContext(storeSettings.pageFormat(PageFormat.BINARY)) {
+      @Override
+      public boolean pageShouldSplit(Store store, Database database, Page page) {
+        return page.arity() > 3;
+      }
+
+      @Override
+      public boolean pageShouldMerge(Store store, Database database, Page page) {
+        return page.arity() < 2;
+      }
+
+      @Override
+      public Commit databaseWillCommit(Store store, Database database, Commit commit) {
+        return commit; // Override auto shift behavior.
+      }
+
+      @Override
+      public void databaseDidCommit(Store store, Database database, Chunk chunk) {
+        // Override auto commit and compact behavior.
+      }
+    };
+    try {
+      stage.start();
+      final FileStore binaryStore = new FileStore(storeContext, storePath, stage).open();
+      final Database binaryDatabase = binaryStore.openDatabase();
+      final Map<String, Integer> binaryMap = binaryDatabase.openBTreeMap("test").load()
+          .keyForm(Form.forString())
+          .valueForm(Form.forInteger());
+      for (int i = 0; i < 20; i += 1) {
+        binaryMap.put("k" + i, i);
+      }
+      binaryDatabase.openUTreeValue("value").load().set(Data.fromBase16("cafebabe"));
+      binaryDatabase.commit(Commit.forced());
+      assertEquals(binaryDatabase.germ().pageFormat(), PageFormat.BINARY);
+      binaryStore.close();
+
+      final FileStore reconStore = new FileStore(storePath, stage).open();
+      final Database reconDatabase = reconStore.openDatabase();
+      final Map<String, Integer> reconMap = reconDatabase.openBTreeMap("test").load()
+          .keyForm(Form.forString())
+          .valueForm(Form.forInteger());
+      assertEquals(reconMap.size(), 20);
+      for (int i = 0; i < 20; i += 1) {
+        assertEquals(reconMap.get("k" + i), Integer.valueOf(i));
+      }
+      assertEquals(reconDatabase.openUTreeValue("value").load().get(), Data.fromBase16("cafebabe"));
+      reconStore.close();
+      reconStore.delete();
+    } finally {
+      stage.stop();
+    }
+  }
+
+  @Test
+  public void testMapSealedZones() throws InterruptedException {
+    final File storePath = new File(testOutputDir, "mapped-zones.swimdb");
+    final Theater stage = new Theater();
+    final StoreContext storeContext = new StoreContext(storeSettings.mapSealedZones(true)) {
+      @Override
+      public boolean pageShouldSplit(Store store, Database database, Page page) {
+        return page.arity() > 3;
+      }
+
+      @Override
+      public boolean pageShouldMerge(Store store, Database database, Page page) {
+        return page.arity() < 2;
+      }
+
+      @Override
+      public Commit databaseWillCommit(Store store, Database database, Commit commit) {
+        return commit; // Override auto shift behavior.
+      }
+
+      @Override
+      public void databaseDidCommit(Store store, Database database, Chunk chunk) {
+        // Override auto commit and compact behavior.
+      }
+    };
+    try {
+      stage.start();
+      final FileStore store = new FileStore(storeContext, storePath, stage).open();
+      final Database database = store.openDatabase();
+      final Map<String, Integer> map = database.openBTreeMap("test").load()
+          .keyForm(Form.forString())
+          .valueForm(Form.forInteger());
+      for (int i = 0; i < 20; i += 1) {
+        map.put("k" + i, i);
+      }
+      database.commit(Commit.forced());
+      database.shiftZone();
+      database.openUTreeValue("value").load().set(Data.fromBase16("cafebabe"));
+      database.commit(Commit.forced());
+      store.close();
+
+      final FileStore mappedStore = new FileStore(storeContext, storePath, stage).open();
+      final Database mappedDatabase = mappedStore.openDatabase();
+      assertEquals(mappedStore.zone().id(), 2);
+      final Map<String, Integer> mappedMap = mappedDatabase.openBTreeMap("test").load()
+          .keyForm(Form.forString())
+          .valueForm(Form.forInteger());
+      assertEquals(mappedMap.size(), 20);
+      for (int i = 0; i < 20; i += 1) {
+        assertEquals(mappedMap.get("k" + i), Integer.valueOf(i));
+      }
+      assertTrue(mappedStore.zone(1).isSealed());
+      assertTrue(mappedStore.zone(1).isMapped());
+      assertFalse(mappedStore.zone().isMapped());
+      mappedStore.close();
+      mappedStore.delete();
+    } finally {
+      stage.stop();
+    }
+  }
+
+  @Test
+  public void testGroupCommit() throws InterruptedException {
+    final File storePath = new File(testOutputDir, "group-commit.swimdb");
+    final Theater stage = new Theater();
+    final StoreSettings settings = storeSettings.commitWindow(20)
+        .fsyncPolicy(FsyncPolicy.INTERVAL).fsyncInterval(50);
+    final StoreContext storeContext = new StoreContext(settings) {
+      @Override
+      public void databaseDidCommit(Store store, Database database, Chunk chunk) {
+        // Override auto commit and compact behavior.
+      }
+    };
+    try {
+      stage.start();
+      final FileStore store = new FileStore(storeContext, storePath, stage).open();
+      final Database database = store.openDatabase();
+      final Map<String, Integer> map = database.openBTreeMap("test").load()
+          .keyForm(Form.forString())
+          .valueForm(Form.forInteger());
+      final Thread[] threads = new Thread[8];
+      for (int t = 0; t < threads.length; t += 1) {
+        final int offset = t * 10;
+        threads[t] = new Thread() {
+          @Override
+          public void run() {
+            try {
+              for (int i = offset; i < offset + 10; i += 1) {
+                map.put("k" + i, i);
+                database.commit(Commit.forced());
+              }
+            } catch (InterruptedException cause) {
+              throw new StoreException(cause);
+            }
+          }
+        };
+        threads[t].start();
+      }
+      for (int t = 0; t < threads.length; t += 1) {
+        threads[t].join();
+      }
+      assertTrue(database.version() < threads.length * 10);
+      store.close();
+
+      final FileStore reopenedStore = new FileStore(storeContext, storePath, stage).open();
+      final Database reopenedDatabase = reopenedStore.openDatabase();
+      final Map<String, Integer> reopenedMap = reopenedDatabase.openBTreeMap("test").load()
+          .keyForm(Form.forString())
+          .valueForm(Form.forInteger());
+      assertEquals(reopenedMap.size(), 80);
+      for (int i = 0; i < 80; i += 1) {
+        assertEquals(reopenedMap.get("k" + i), Integer.valueOf(i));
+      }
+      assertFalse(reopenedStore.zone().isDirty());
+      reopenedStore.close();
+      reopenedStore.delete();
+    } finally {
+      stage.stop();
+    }
+  }
+
+  @Test
+  public void testFsyncPolicy() throws InterruptedException {
+    final Theater stage = new Theater();
+    try {
+      stage.start();
+      final FileStore alwaysStore = new FileStore(new StoreContext(storeSettings.fsyncPolicy(FsyncPolicy.ALWAYS)),
+          new File(testOutputDir, "fsync-always.swimdb"), stage).open();
+      final Database alwaysDatabase = alwaysStore.openDatabase();
+      final Map<String, Integer> alwaysMap = alwaysDatabase.openBTreeMap("test").load()
+          .keyForm(Form.forString())
+          .valueForm(Form.forInteger());
+      alwaysMap.put("a", 1);
+      alwaysDatabase.commit(Commit.closed());
+      alwaysMap.put("b", 2);
+      alwaysDatabase.commit(Commit.forced());
+      assertFalse(alwaysStore.zone().isDirty());
+      alwaysStore.close();
+      alwaysStore.delete();
+
+      final FileStore intervalStore = new FileStore(new StoreContext(storeSettings.fsyncPolicy(FsyncPolicy.INTERVAL)
+          .fsyncInterval(60000)), new File(testOutputDir, "fsync-interval.swimdb"), stage).open();
+      final Database intervalDatabase = intervalStore.openDatabase();
+      final Map<String, Integer> intervalMap = intervalDatabase.openBTreeMap("test").load()
+          .keyForm(Form.forString())
+          .valueForm(Form.forInteger());
+      intervalMap.put("a", 1);
+      intervalDatabase.commit(Commit.forced());
+      assertFalse(intervalStore.zone().isDirty());
+      intervalMap.put("b", 2);
+      intervalDatabase.commit(Commit.forced());
+      assertTrue(intervalStore.zone().isDirty());
+      intervalStore.zone().sync();
+      assertFalse(intervalStore.zone().isDirty());
+      intervalStore.close();
+      intervalStore.delete();
+    } finally {
+      stage.stop();
+    }
+  }
+
   @Test
   public void testUTreeValue() throws InterruptedException {
     final File storePath = new File(testOutputDir, "utree-value.swimdb");
@@ -0,0 +1,136 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.db;
+
+import org.testng.annotations.Test;
+import swim.structure.Text;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class PageCacheSpec {
+
+  static Page page(int index) {
+    final StringBuilder value = new StringBuilder();
+    while (value.length() < 100) {
+      value.append(index).append(' ');
+    }
+    return UTreeLeaf.create(new PageContext(), 0, index, Text.from(value.toString()));
+  }
+
+  @Test
+  public void testByteBudget() {
+    final Page[] pages = new Page[1000];
+    for (int i = 0; i < pages.length; i += 1) {
+      pages[i] = page(i);
+    }
+    final long maxWeight = 50L * pages[0].pageSize();
+    final PageCache cache = new PageCache(maxWeight, 64);
+    for (int i = 0; i < pages.length; i += 1) {
+      cache.put(pages[i]);
+      assertTrue(cache.weight() <= maxWeight);
+    }
+    assertTrue(cache.size() > 0);
+    assertEquals(cache.missCount(), (long) pages.length);
+    assertEquals(cache.evictionCount(), (long) (pages.length - cache.size()));
+  }
+
+  @Test
+  public void testScanResistance() {
+    final Page[] hotPages = new Page[20];
+    for (int i = 0; i < hotPages.length; i += 1) {
+      hotPages[i] = page(i);
+    }
+    final PageCache cache = new PageCache(100L * hotPages[0].pageSize(), 128);
+    for (int k = 0; k < 8; k += 1) {
+      for (int i = 0; i < hotPages.length; i += 1) {
+        cache.put(hotPages[i]);
+      }
+    }
+    // A one-shot scan over many cold pages should not flush the hot set.
+    for (int i = 0; i < 10000; i += 1) {
+      cache.put(page(hotPages.length + i));
+    }
+    for (int i = 0; i < hotPages.length; i += 1) {
+      assertTrue(cache.contains(hotPages[i]));
+    }
+    assertTrue(cache.hitCount() > 0L);
+  }
+
+  @Test
+  public void testSharedBudget() {
+    final long pageWeight = page(0).pageSize();
+    final PageCacheBudget budget = new PageCacheBudget(60L * pageWeight);
+    final PageCache cache1 = new PageCache(50L * pageWeight, 64, budget);
+    final PageCache cache2 = new PageCache(50L * pageWeight, 64, budget);
+    for (int i = 0; i < 1000; i += 1) {
+      // Each insert leaves the budget met, or the inserting cache within
+      // its fair share of the budget.
+      cache1.put(page(i));
+      assertTrue(budget.weight <= budget.maxWeight || cache1.weight() <= budget.fairShare());
+      cache2.put(page(i));
+      assertTrue(budget.weight <= budget.maxWeight || cache2.weight() <= budget.fairShare());
+    }
+    assertEquals(budget.weight, cache1.weight() + cache2.weight());
+    cache1.clear();
+    assertEquals(budget.weight, cache2.weight());
+  }
+
+  @Test
+  public void testFairShareOfBudget() {
+    final long pageWeight = page(0).pageSize();
+    final PageCacheBudget budget = new PageCacheBudget(40L * pageWeight);
+    final PageCache heavyCache = new PageCache(100L * pageWeight, 128, budget);
+    final PageCache lightCache = new PageCache(100L * pageWeight, 64, budget);
+    for (int i = 0; i < 100; i += 1) {
+      heavyCache.put(page(i));
+    }
+    assertTrue(heavyCache.weight() <= budget.maxWeight);
+    // The light cache keeps its pages, up to half the budget, while the
+    // heavy cache holds more than its share.
+    for (int i = 0; i < 10; i += 1) {
+      lightCache.put(page(i));
+    }
+    assertEquals(lightCache.size(), 10);
+    assertEquals(budget.fairShare(), budget.maxWeight / 2L);
+    // The heavy cache sheds the excess on its next insert.
+    heavyCache.put(page(100));
+    assertEquals(lightCache.size(), 10);
+    assertTrue(budget.weight <= budget.maxWeight);
+    lightCache.clear();
+    assertEquals(budget.fairShare(), budget.maxWeight);
+  }
+
+  @Test
+  public void testReloadedPageFrequency() {
+    final PageCache cache = new PageCache(100L * page(0).pageSize(), 128);
+    final Page page = UTreeLeaf.create(new PageContext(), 0, 0, 1, 1024L, Text.from("page"));
+    for (int i = 0; i < 8; i += 1) {
+      cache.put(page);
+    }
+    final Page reloadedPage = UTreeLeaf.create(new PageContext(), 0, 0, 1, 1024L, Text.from("page"));
+    assertEquals(cache.sketch.frequency(reloadedPage), cache.sketch.frequency(page));
+    assertTrue(cache.sketch.frequency(reloadedPage) > 1);
+  }
+
+  @Test
+  public void testDisabled() {
+    final PageCache cache = new PageCache(0L, 64);
+    final Page page = page(0);
+    cache.put(page);
+    assertFalse(cache.contains(page));
+  }
+
+}
@@ -25,6 +25,7 @@ import swim.io.ws.WsSettings;
 import swim.structure.Form;
 import swim.structure.Item;
 import swim.structure.Kind;
+import swim.structure.Record;
 import swim.structure.Value;
 import swim.util.Murmur3;
 
@@ -34,14 +35,21 @@ public class WarpSettings implements Debug {
   private static WarpSettings standard;
   private static Form<WarpSettings> form;
   protected final WsSettings wsSettings;
+  protected final boolean binary;
 
-  public WarpSettings(WsSettings wsSettings) {
+  public WarpSettings(WsSettings wsSettings, boolean binary) {
     this.wsSettings = wsSettings;
+    this.binary = binary;
+  }
+
+  public WarpSettings(WsSettings wsSettings) {
+    this(wsSettings, standard().binary);
   }
 
   public static WarpSettings standard() {
     if (standard == null) {
-      standard = new WarpSettings(WsSettings.standard());
+      final boolean binary = Boolean.parseBoolean(System.getProperty("swim.warp.binary"));
+      standard = new WarpSettings(WsSettings.standard(), binary);
     }
     return standard;
   }
@@ -63,7 +71,20 @@ public class WarpSettings implements Debug {
   }
 
   public WarpSettings wsSettings(WsSettings wsSettings) {
-    return new WarpSettings(wsSettings);
+    return new WarpSettings(wsSettings, this.binary);
+  }
+
+  /**
+   * Returns {@code true} if clients should offer the binary WARP
+   * subprotocol when upgrading, so that envelopes travel in compact binary
+   * frames when the server accepts; text WARP is used otherwise.
+   */
+  public final boolean binary() {
+    return this.binary;
+  }
+
+  public WarpSettings binary(boolean binary) {
+    return new WarpSettings(this.wsSettings, binary);
   }
 
   public final HttpSettings httpSettings() {
@@ -108,7 +129,7 @@ public class WarpSettings implements Debug {
       return true;
     } else if (other instanceof WarpSettings) {
       final WarpSettings that = (WarpSettings) other;
-      return this.wsSettings.equals(that.wsSettings);
+      return this.wsSettings.equals(that.wsSettings) && this.binary == that.binary;
     }
     return false;
   }
@@ -118,13 +139,15 @@ public class WarpSettings implements Debug {
     if (hashSeed == 0) {
       hashSeed = Murmur3.seed(WarpSettings.class);
     }
-    return Murmur3.mash(Murmur3.mix(hashSeed, this.wsSettings.hashCode()));
+    return Murmur3.mash(Murmur3.mix(Murmur3.mix(hashSeed,
+        this.wsSettings.hashCode()), Murmur3.hash(this.binary)));
   }
 
   @Override
   public void debug(Output<?> output) {
     output.write("WarpSettings").write('.').write("standard").write('(').write(')')
-        .write('.').write("wsSettings").write('(').debug(this.wsSettings).write(')');
+        .write('.').write("wsSettings").write('(').debug(this.wsSettings).write(')')
+        .write('.').write("binary").write('(').debug(this.binary).write(')');
   }
 
   @Override
@@ -149,7 +172,12 @@ final class WarpSettingsForm extends Form<WarpSettings> {
   @Override
   public Item mold(WarpSettings settings) {
     if (settings != null) {
-      return WsSettings.form().mold(settings.wsSettings);
+      final Item wsSettings = WsSettings.form().mold(settings.wsSettings);
+      if (settings.binary != WarpSettings.standard().binary) {
+        final Record warp = Record.create(2).attr("warp").slot("binary", settings.binary);
+        return Record.of(warp).concat(wsSettings);
+      }
+      return wsSettings;
     } else {
       return Item.extant();
     }
@@ -157,8 +185,15 @@ final class WarpSettingsForm extends Form<WarpSettings> {
 
   @Override
   public WarpSettings cast(Item item) {
+    final Value value = item.toValue();
     final WsSettings wsSettings = WsSettings.form().cast(item);
-    return new WarpSettings(wsSettings);
+    boolean binary = WarpSettings.standard().binary;
+    for (Item member : value) {
+      if (member.getAttr("warp").isDefined()) {
+        binary = member.get("binary").booleanValue(binary);
+      }
+    }
+    return new WarpSettings(wsSettings, binary);
   }
 
 }
@@ -19,19 +19,24 @@ import java.security.Principal;
 import java.security.cert.Certificate;
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import swim.codec.Decoder;
 import swim.concurrent.ConcurrentTrancheQueue;
 import swim.concurrent.PullContext;
 import swim.concurrent.PullRequest;
 import swim.concurrent.PushRequest;
 import swim.http.HttpRequest;
 import swim.http.HttpResponse;
+import swim.http.header.SecWebSocketProtocol;
 import swim.io.FlowControl;
 import swim.io.FlowModifier;
 import swim.io.IpSocket;
 import swim.io.ws.WebSocket;
 import swim.io.ws.WebSocketContext;
+import swim.warp.AddressTable;
+import swim.warp.BinaryEnvelope;
 import swim.warp.Envelope;
 import swim.warp.WarpException;
+import swim.ws.WsBinary;
 import swim.ws.WsClose;
 import swim.ws.WsControl;
 import swim.ws.WsData;
@@ -45,6 +50,7 @@ public class WarpWebSocket implements WebSocket<Envelope, Envelope>, WarpSocketC
   protected final WarpSettings warpSettings;
   final ConcurrentTrancheQueue<PullRequest<Envelope>> supply;
   protected WebSocketContext<Envelope, Envelope> context;
+  volatile AddressTable addresses;
   volatile long status;
 
   public WarpWebSocket(WarpSocket socket, WarpSettings warpSettings) {
@@ -85,7 +91,7 @@ public class WarpWebSocket implements WebSocket<Envelope, Envelope>, WarpSocketC
       } else if (frame instanceof WsControl<?, ?>) {
         this.socket.didRead((WsControl<?, ?>) frame);
       }
-      this.context.read(Envelope.decoder());
+      this.context.read(decoder());
     }
   }
 
@@ -120,13 +126,20 @@ public class WarpWebSocket implements WebSocket<Envelope, Envelope>, WarpSocketC
 
   @Override
   public void didUpgrade(HttpRequest<?> httpRequest, HttpResponse<?> httpResponse) {
+    final long binary;
+    if (isBinary(httpResponse)) {
+      this.addresses = new AddressTable();
+      binary = BINARY;
+    } else {
+      binary = 0L;
+    }
     do {
       final long oldStatus = this.status;
-      final long newStatus = oldStatus | UPGRADED;
-      if (oldStatus != newStatus) {
+      final long newStatus = oldStatus | UPGRADED | binary;
+      if ((oldStatus & UPGRADED) == 0L) {
         if (STATUS.compareAndSet(this, oldStatus, newStatus)) {
           this.socket.didUpgrade(httpRequest, httpResponse);
-          this.context.read(Envelope.decoder());
+          this.context.read(decoder());
           generateDemand();
           break;
         }
@@ -175,7 +188,7 @@ public class WarpWebSocket implements WebSocket<Envelope, Envelope>, WarpSocketC
   public void didDisconnect() {
     do {
       final long oldStatus = this.status;
-      final long newStatus = oldStatus & ~(UPGRADED | CLOSING);
+      final long newStatus = oldStatus & ~(UPGRADED | CLOSING | BINARY);
       if (oldStatus != newStatus) {
         if (STATUS.compareAndSet(this, oldStatus, newStatus)) {
           break;
@@ -309,8 +322,9 @@ public class WarpWebSocket implements WebSocket<Envelope, Envelope>, WarpSocketC
 
   @Override
   public void push(Envelope envelope) {
+    long oldStatus;
     do {
-      final long oldStatus = this.status;
+      oldStatus = this.status;
       final long oldDemand = (oldStatus & DEMAND_MASK) >>> DEMAND_SHIFT;
       final long oldBuffer = (oldStatus & BUFFER_MASK) >>> BUFFER_SHIFT;
       final long newDemand = oldDemand - 1L;
@@ -330,7 +344,11 @@ public class WarpWebSocket implements WebSocket<Envelope, Envelope>, WarpSocketC
         throw new WarpException("overdemand");
       }
     } while (true);
-    this.context.write(WsText.from(envelope, envelope.reconEncoder()));
+    if ((oldStatus & BINARY) != 0L) {
+      this.context.write(WsBinary.from(envelope, this.addresses.binaryEncoder(envelope)));
+    } else {
+      this.context.write(WsText.from(envelope, envelope.reconEncoder()));
+    }
   }
 
   @Override
@@ -350,6 +368,15 @@ public class WarpWebSocket implements WebSocket<Envelope, Envelope>, WarpSocketC
     } while (true);
   }
 
+  Decoder<Envelope> decoder() {
+    final AddressTable addresses = this.addresses;
+    if (addresses != null) {
+      return addresses.decoder();
+    } else {
+      return Envelope.decoder();
+    }
+  }
+
   protected void generateDemand() {
     demand:
     do {
@@ -411,6 +438,17 @@ public class WarpWebSocket implements WebSocket<Envelope, Envelope>, WarpSocketC
     }
   }
 
+  /**
+   * Returns {@code true} if the WebSocket handshake response selected the
+   * {@link BinaryEnvelope#PROTOCOL binary WARP} subprotocol, in which case
+   * envelopes get pushed in binary frames, addressed through a per-connection
+   * {@link AddressTable}; text WARP is used otherwise.
+   */
+  static boolean isBinary(HttpResponse<?> httpResponse) {
+    final SecWebSocketProtocol protocol = httpResponse.getHeader(SecWebSocketProtocol.class);
+    return protocol != null && protocol.protocols().contains(BinaryEnvelope.PROTOCOL);
+  }
+
   @Override
   public void become(IpSocket socket) {
     this.context.become(socket);
@@ -434,6 +472,7 @@ public class WarpWebSocket implements WebSocket<Envelope, Envelope>, WarpSocketC
   static final long BUFFER_MASK;
   static final long UPGRADED;
   static final long CLOSING;
+  static final long BINARY;
 
   static final long TARGET_DEMAND;
   static final int TRANCHES;
@@ -477,6 +516,7 @@ public class WarpWebSocket implements WebSocket<Envelope, Envelope>, WarpSocketC
     BUFFER_MASK = BUFFER_MAX << BUFFER_SHIFT;
     UPGRADED = 1L << 60;
     CLOSING = 1L << 61;
+    BINARY = 1L << 62;
 
     int targetDemand;
     try {
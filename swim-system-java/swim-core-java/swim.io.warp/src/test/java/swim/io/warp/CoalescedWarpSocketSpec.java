@@ -0,0 +1,151 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.io.warp;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.TestException;
+import org.testng.annotations.Test;
+import swim.concurrent.Theater;
+import swim.http.HttpRequest;
+import swim.http.HttpResponse;
+import swim.io.IpServiceRef;
+import swim.io.IpSocket;
+import swim.io.IpSocketModem;
+import swim.io.IpSocketRef;
+import swim.io.http.AbstractHttpService;
+import swim.io.http.HttpClient;
+import swim.io.http.HttpEndpoint;
+import swim.io.http.HttpResponder;
+import swim.io.http.HttpServer;
+import swim.io.http.HttpService;
+import swim.io.ws.WebSocket;
+import swim.io.ws.WebSocketModem;
+import swim.io.ws.WsUpgradeResponder;
+import swim.uri.Uri;
+import swim.warp.CommandMessage;
+import swim.warp.Envelope;
+import swim.ws.WsEngine;
+import swim.ws.WsRequest;
+import swim.ws.WsResponse;
+import static org.testng.Assert.assertTrue;
+
+public class CoalescedWarpSocketSpec extends WarpSocketBehaviors {
+
+  final WarpSettings warpSettings = WarpSettings.standard()
+      .tcpSettings(WarpSettings.standard().tcpSettings().coalesceWrites(true));
+  final Uri wsUri = Uri.parse("ws://127.0.0.1:23557/");
+
+  @Override
+  protected IpServiceRef bind(HttpEndpoint endpoint, HttpService service) {
+    return endpoint.bindHttp("127.0.0.1", 23557, service, this.warpSettings.httpSettings());
+  }
+
+  @Override
+  protected IpSocketRef connect(HttpEndpoint endpoint, final WarpSocket socket) {
+    final WsRequest wsRequest = this.warpSettings.wsSettings().handshakeRequest(this.wsUri);
+    final HttpClient client = new AbstractWarpClient(this.warpSettings) {
+      @Override
+      public void didConnect() {
+        super.didConnect();
+        doRequest(upgrade(socket, wsRequest));
+      }
+    };
+    return endpoint.connectHttp("127.0.0.1", 23557, client, this.warpSettings.httpSettings());
+  }
+
+  @Test
+  public void testCoalesceQueuedWrites() {
+    final int envelopeCount = 32;
+    final Theater stage = new Theater();
+    final HttpEndpoint endpoint = new HttpEndpoint(stage);
+    final AtomicInteger serverFlushes = new AtomicInteger();
+    final CountDownLatch clientRead = new CountDownLatch(envelopeCount);
+    final CountDownLatch serverWrite = new CountDownLatch(envelopeCount);
+    final AbstractWarpSocket clientSocket = new AbstractWarpSocket() {
+      @Override
+      public void didUpgrade(HttpRequest<?> httpRequest, HttpResponse<?> httpResponse) {
+        feed(new CommandMessage("node", "lane"));
+      }
+
+      @Override
+      public void didRead(Envelope envelope) {
+        clientRead.countDown();
+      }
+    };
+    final AbstractWarpSocket serverSocket = new AbstractWarpSocket() {
+      @Override
+      public void didRead(Envelope envelope) {
+        for (int i = 0; i < envelopeCount; i += 1) {
+          feed(new CommandMessage("node", "lane"));
+        }
+      }
+
+      @Override
+      public void didWrite(Envelope envelope) {
+        serverWrite.countDown();
+      }
+    };
+    final AbstractWarpServer server = new AbstractWarpServer() {
+      @Override
+      public HttpResponder<?> doRequest(HttpRequest<?> httpRequest) {
+        final WsResponse wsResponse = WsRequest.from(httpRequest).accept(wsSettings);
+        final WarpWebSocket webSocket = new WarpWebSocket(serverSocket, warpSettings);
+        serverSocket.setWarpSocketContext(webSocket);
+        return new WsUpgradeResponder(webSocket, wsResponse, wsSettings) {
+          @SuppressWarnings("unchecked")
+          @Override
+          public IpSocket createSocket(WsEngine engine) {
+            final WebSocket<Object, Object> socket = (WebSocket<Object, Object>) webSocket();
+            return new IpSocketModem<Object, Object>(new WebSocketModem<Object, Object>(socket,
+                wsSettings, engine.decoder(), engine.encoder())) {
+              @Override
+              public void didWrite() {
+                serverFlushes.incrementAndGet();
+                super.didWrite();
+              }
+            };
+          }
+        };
+      }
+    };
+    final AbstractHttpService service = new AbstractHttpService() {
+      @Override
+      public HttpServer createServer() {
+        return server;
+      }
+    };
+
+    try {
+      stage.start();
+      endpoint.start();
+      bind(endpoint, service);
+      connect(endpoint, clientSocket);
+      serverWrite.await();
+      clientRead.await();
+      assertTrue(serverFlushes.get() < envelopeCount,
+          "expected fewer than " + envelopeCount + " flushes, but flushed " + serverFlushes.get() + " times");
+    } catch (InterruptedException cause) {
+      throw new TestException(cause);
+    } finally {
+      clientSocket.close();
+      serverSocket.close();
+      service.unbind();
+      endpoint.stop();
+      stage.stop();
+    }
+  }
+
+}
@@ -82,4 +82,19 @@ public class WarpSettingsSpec {
     assertEquals(tcpSettings, new TcpSettings(true, true, 7, 11, 13, 17));
   }
 
+  @Test
+  public void decodesBinarySetting() {
+    final WarpSettings settings = WarpSettings.form().cast(
+        Record.of(Record.of(Attr.of("warp"), Slot.of("binary", true))));
+    assertEquals(settings.binary(), true);
+    assertEquals(settings.wsSettings(), WarpSettings.standard().wsSettings());
+  }
+
+  @Test
+  public void moldsBinarySetting() {
+    final WarpSettings settings = WarpSettings.standard().binary(true);
+    final Value value = WarpSettings.form().mold(settings).toValue();
+    assertEquals(WarpSettings.form().cast(value).binary(), true);
+  }
+
 }
@@ -31,6 +31,7 @@ import swim.io.http.HttpServer;
 import swim.io.http.HttpService;
 import swim.structure.Record;
 import swim.structure.Value;
+import swim.warp.BinaryEnvelope;
 import swim.warp.CommandMessage;
 import swim.warp.Envelope;
 import swim.warp.LinkRequest;
@@ -82,7 +83,9 @@ public abstract class WarpSocketBehaviors {
       @Override
       public HttpResponder<?> doRequest(HttpRequest<?> httpRequest) {
         final WsRequest wsRequest = WsRequest.from(httpRequest);
-        final WsResponse wsResponse = wsRequest.accept(wsSettings);
+        final WsResponse wsResponse = wsRequest.protocols().contains(BinaryEnvelope.PROTOCOL)
+                                      ? wsRequest.accept(wsSettings, BinaryEnvelope.PROTOCOL)
+                                      : wsRequest.accept(wsSettings);
         return upgrade(serverSocket, wsResponse);
       }
     };
@@ -169,7 +172,9 @@ public abstract class WarpSocketBehaviors {
       @Override
       public HttpResponder<?> doRequest(HttpRequest<?> httpRequest) {
         final WsRequest wsRequest = WsRequest.from(httpRequest);
-        final WsResponse wsResponse = wsRequest.accept(wsSettings);
+        final WsResponse wsResponse = wsRequest.protocols().contains(BinaryEnvelope.PROTOCOL)
+                                      ? wsRequest.accept(wsSettings, BinaryEnvelope.PROTOCOL)
+                                      : wsRequest.accept(wsSettings);
         return upgrade(serverSocket, wsResponse);
       }
     };
@@ -246,7 +251,9 @@ public abstract class WarpSocketBehaviors {
       @Override
       public HttpResponder<?> doRequest(HttpRequest<?> httpRequest) {
         final WsRequest wsRequest = WsRequest.from(httpRequest);
-        final WsResponse wsResponse = wsRequest.accept(wsSettings);
+        final WsResponse wsResponse = wsRequest.protocols().contains(BinaryEnvelope.PROTOCOL)
+                                      ? wsRequest.accept(wsSettings, BinaryEnvelope.PROTOCOL)
+                                      : wsRequest.accept(wsSettings);
         return upgrade(serverSocket, wsResponse);
       }
     };
@@ -297,7 +304,9 @@ public abstract class WarpSocketBehaviors {
             @Override
             public HttpResponder<?> doRequest(HttpRequest<?> httpRequest) {
               final WsRequest wsRequest = WsRequest.from(httpRequest);
-              final WsResponse wsResponse = wsRequest.accept(wsSettings);
+              final WsResponse wsResponse = wsRequest.protocols().contains(BinaryEnvelope.PROTOCOL)
+                                            ? wsRequest.accept(wsSettings, BinaryEnvelope.PROTOCOL)
+                                            : wsRequest.accept(wsSettings);
               return upgrade(new AbstractWarpSocket() {
                 boolean closed;
 
@@ -25,6 +25,7 @@ import swim.structure.Kind;
 import swim.structure.Record;
 import swim.structure.Value;
 import swim.util.Murmur3;
+import swim.ws.WsCompressor;
 import swim.ws.WsEngineSettings;
 
 /**
@@ -40,12 +41,23 @@ public class WsSettings extends WsEngineSettings {
   public WsSettings(HttpSettings httpSettings, int maxFrameSize, int maxMessageSize,
                     int serverCompressionLevel, int clientCompressionLevel,
                     boolean serverNoContextTakeover, boolean clientNoContextTakeover,
-                    int serverMaxWindowBits, int clientMaxWindowBits) {
+                    int serverMaxWindowBits, int clientMaxWindowBits,
+                    WsCompressor compressor) {
     super(maxFrameSize, maxMessageSize, serverCompressionLevel, clientCompressionLevel,
-        serverNoContextTakeover, clientNoContextTakeover, serverMaxWindowBits, clientMaxWindowBits);
+        serverNoContextTakeover, clientNoContextTakeover, serverMaxWindowBits, clientMaxWindowBits,
+        compressor);
     this.httpSettings = httpSettings;
   }
 
+  public WsSettings(HttpSettings httpSettings, int maxFrameSize, int maxMessageSize,
+                    int serverCompressionLevel, int clientCompressionLevel,
+                    boolean serverNoContextTakeover, boolean clientNoContextTakeover,
+                    int serverMaxWindowBits, int clientMaxWindowBits) {
+    this(httpSettings, maxFrameSize, maxMessageSize, serverCompressionLevel, clientCompressionLevel,
+        serverNoContextTakeover, clientNoContextTakeover, serverMaxWindowBits, clientMaxWindowBits,
+        WsCompressor.deflate());
+  }
+
   public static WsSettings standard() {
     if (standard == null) {
       final WsEngineSettings engineSettings = WsEngineSettings.standard();
@@ -53,7 +65,8 @@ public class WsSettings extends WsEngineSettings {
           engineSettings.maxFrameSize(), engineSettings.maxMessageSize(),
           engineSettings.serverCompressionLevel(), engineSettings.clientCompressionLevel(),
           engineSettings.serverNoContextTakeover(), engineSettings.clientNoContextTakeover(),
-          engineSettings.serverMaxWindowBits(), engineSettings.clientMaxWindowBits());
+          engineSettings.serverMaxWindowBits(), engineSettings.clientMaxWindowBits(),
+          engineSettings.compressor());
     }
     return standard;
   }
@@ -106,7 +119,7 @@ public class WsSettings extends WsEngineSettings {
     return copy(httpSettings, this.maxFrameSize, this.maxMessageSize,
         this.serverCompressionLevel, this.clientCompressionLevel,
         this.serverNoContextTakeover, this.clientNoContextTakeover,
-        this.serverMaxWindowBits, this.clientMaxWindowBits);
+        this.serverMaxWindowBits, this.clientMaxWindowBits, this.compressor);
   }
 
   public final IpSettings ipSettings() {
@@ -137,7 +150,8 @@ public class WsSettings extends WsEngineSettings {
     return copy(engineSettings.maxFrameSize(), engineSettings.maxMessageSize(),
         engineSettings.serverCompressionLevel(), engineSettings.clientCompressionLevel(),
         engineSettings.serverNoContextTakeover(), engineSettings.clientNoContextTakeover(),
-        engineSettings.serverMaxWindowBits(), engineSettings.clientMaxWindowBits());
+        engineSettings.serverMaxWindowBits(), engineSettings.clientMaxWindowBits(),
+        engineSettings.compressor());
   }
 
   @Override
@@ -185,6 +199,11 @@ public class WsSettings extends WsEngineSettings {
     return (WsSettings) super.clientMaxWindowBits(clientMaxWindowBits);
   }
 
+  @Override
+  public WsSettings compressor(WsCompressor compressor) {
+    return (WsSettings) super.compressor(compressor);
+  }
+
   @Override
   public Value toValue() {
     return form().mold(this).toValue();
@@ -193,22 +212,24 @@ public class WsSettings extends WsEngineSettings {
   protected WsSettings copy(HttpSettings httpSettings, int maxFrameSize, int maxMessageSize,
                             int serverCompressionLevel, int clientCompressionLevel,
                             boolean serverNoContextTakeover, boolean clientNoContextTakeover,
-                            int serverMaxWindowBits, int clientMaxWindowBits) {
+                            int serverMaxWindowBits, int clientMaxWindowBits,
+                            WsCompressor compressor) {
     return new WsSettings(httpSettings, maxFrameSize, maxMessageSize,
         serverCompressionLevel, clientCompressionLevel,
         serverNoContextTakeover, clientNoContextTakeover,
-        serverMaxWindowBits, clientMaxWindowBits);
+        serverMaxWindowBits, clientMaxWindowBits, compressor);
   }
 
   @Override
   protected WsSettings copy(int maxFrameSize, int maxMessageSize,
                             int serverCompressionLevel, int clientCompressionLevel,
                             boolean serverNoContextTakeover, boolean clientNoContextTakeover,
-                            int serverMaxWindowBits, int clientMaxWindowBits) {
+                            int serverMaxWindowBits, int clientMaxWindowBits,
+                            WsCompressor compressor) {
     return copy(this.httpSettings, maxFrameSize, maxMessageSize,
         serverCompressionLevel, clientCompressionLevel,
         serverNoContextTakeover, clientNoContextTakeover,
-        serverMaxWindowBits, clientMaxWindowBits);
+        serverMaxWindowBits, clientMaxWindowBits, compressor);
   }
 
   public boolean canEqual(Object other) {
@@ -230,7 +251,8 @@ public class WsSettings extends WsEngineSettings {
           && this.serverNoContextTakeover == that.serverNoContextTakeover
           && this.clientNoContextTakeover == that.clientNoContextTakeover
           && this.serverMaxWindowBits == that.serverMaxWindowBits
-          && this.clientMaxWindowBits == that.clientMaxWindowBits;
+          && this.clientMaxWindowBits == that.clientMaxWindowBits
+          && this.compressor.equals(that.compressor);
     }
     return false;
   }
@@ -240,11 +262,11 @@ public class WsSettings extends WsEngineSettings {
     if (hashSeed == 0) {
       hashSeed = Murmur3.seed(WsSettings.class);
     }
-    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(
+    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(
         Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(hashSeed, this.httpSettings.hashCode()),
             this.maxFrameSize), this.maxMessageSize), this.serverCompressionLevel), this.clientCompressionLevel),
         Murmur3.hash(this.serverNoContextTakeover)), Murmur3.hash(this.clientNoContextTakeover)),
-        this.serverMaxWindowBits), this.clientMaxWindowBits));
+        this.serverMaxWindowBits), this.clientMaxWindowBits), this.compressor.hashCode()));
   }
 
   @Override
@@ -258,7 +280,8 @@ public class WsSettings extends WsEngineSettings {
         .write('.').write("serverNoContextTakeover").write('(').debug(this.serverNoContextTakeover).write(')')
         .write('.').write("clientNoContextTakeover").write('(').debug(this.clientNoContextTakeover).write(')')
         .write('.').write("serverMaxWindowBits").write('(').debug(this.serverMaxWindowBits).write(')')
-        .write('.').write("clientMaxWindowBits").write('(').debug(this.clientMaxWindowBits).write(')');
+        .write('.').write("clientMaxWindowBits").write('(').debug(this.clientMaxWindowBits).write(')')
+        .write('.').write("compressor").write('(').debug(this.compressor).write(')');
   }
 
 }
@@ -279,7 +302,7 @@ final class WsSettingsForm extends Form<WsSettings> {
   public Item mold(WsSettings settings) {
     if (settings != null) {
       final WsSettings standard = WsSettings.standard();
-      final Record ws = Record.create(9).attr("ws");
+      final Record ws = Record.create(10).attr("ws");
       if (settings.maxFrameSize() != standard.maxFrameSize()) {
         ws.slot("maxFrameSize", settings.maxFrameSize());
       }
@@ -304,6 +327,9 @@ final class WsSettingsForm extends Form<WsSettings> {
       if (settings.clientMaxWindowBits() != standard.clientMaxWindowBits()) {
         ws.slot("clientMaxWindowBits", settings.clientMaxWindowBits());
       }
+      if (!settings.compressor().equals(standard.compressor())) {
+        ws.slot("compressor", settings.compressor().name());
+      }
       return Record.of(ws).concat(HttpSettings.form().mold(settings.httpSettings));
     } else {
       return Item.extant();
@@ -323,6 +349,7 @@ final class WsSettingsForm extends Form<WsSettings> {
     boolean clientNoContextTakeover = standard.clientNoContextTakeover();
     int serverMaxWindowBits = standard.serverMaxWindowBits();
     int clientMaxWindowBits = standard.clientMaxWindowBits();
+    WsCompressor compressor = standard.compressor();
     for (Item member : value) {
       if (member.getAttr("ws").isDefined() || member.getAttr("websocket").isDefined()) {
         maxFrameSize = member.get("maxFrameSize").intValue(maxFrameSize);
@@ -333,12 +360,16 @@ final class WsSettingsForm extends Form<WsSettings> {
         clientNoContextTakeover = member.get("clientNoContextTakeover").booleanValue(clientNoContextTakeover);
         serverMaxWindowBits = member.get("serverMaxWindowBits").intValue(serverMaxWindowBits);
         clientMaxWindowBits = member.get("clientMaxWindowBits").intValue(clientMaxWindowBits);
+        final WsCompressor memberCompressor = WsCompressor.forName(member.get("compressor").stringValue(null));
+        if (memberCompressor != null) {
+          compressor = memberCompressor;
+        }
       }
     }
     return new WsSettings(httpSettings, maxFrameSize, maxMessageSize,
         serverCompressionLevel, clientCompressionLevel,
         serverNoContextTakeover, clientNoContextTakeover,
-        serverMaxWindowBits, clientMaxWindowBits);
+        serverMaxWindowBits, clientMaxWindowBits, compressor);
   }
 
 }
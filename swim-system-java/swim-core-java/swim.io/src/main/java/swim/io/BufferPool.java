@@ -0,0 +1,141 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.io;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared pool of I/O buffers, segregated into size classes by capacity.
+ * Transports borrow buffers from a {@code BufferPool} only while they are
+ * actively reading or writing, and return them to the pool once drained, so
+ * that idle connections hold no buffer memory.  Pooled buffers are always
+ * heap buffers, since codecs access their backing arrays directly.
+ */
+public class BufferPool {
+
+  private static volatile BufferPool shared;
+
+  final int classLimit;
+  final ConcurrentHashMap<Integer, BufferPoolClass> classes;
+
+  /**
+   * Returns a new {@code BufferPool} that retains at most {@code classLimit}
+   * free buffers per size class.
+   */
+  public BufferPool(int classLimit) {
+    this.classLimit = classLimit;
+    this.classes = new ConcurrentHashMap<Integer, BufferPoolClass>();
+  }
+
+  /**
+   * Returns the maximum number of free buffers retained per size class.
+   */
+  public final int classLimit() {
+    return this.classLimit;
+  }
+
+  /**
+   * Returns the number of free buffers of the given {@code capacity}
+   * currently held by this pool.
+   */
+  public int freeCount(int capacity) {
+    final BufferPoolClass sizeClass = this.classes.get(capacity);
+    return sizeClass != null ? sizeClass.count.get() : 0;
+  }
+
+  /**
+   * Returns a cleared buffer with exactly the given {@code capacity}, reusing
+   * a previously released buffer of the same size class, if one is available.
+   */
+  public ByteBuffer acquire(int capacity) {
+    final BufferPoolClass sizeClass = this.classes.get(capacity);
+    if (sizeClass != null) {
+      final ByteBuffer buffer = sizeClass.buffers.poll();
+      if (buffer != null) {
+        sizeClass.count.decrementAndGet();
+        ((Buffer) buffer).clear();
+        return buffer;
+      }
+    }
+    return ByteBuffer.allocate(capacity);
+  }
+
+  /**
+   * Returns a {@code buffer} previously obtained from {@link #acquire(int)}
+   * to this pool.  The caller must not access the buffer after releasing it.
+   */
+  public void release(ByteBuffer buffer) {
+    if (!buffer.hasArray() || this.classLimit <= 0) {
+      return;
+    }
+    final Integer capacity = buffer.capacity();
+    BufferPoolClass sizeClass = this.classes.get(capacity);
+    if (sizeClass == null) {
+      sizeClass = new BufferPoolClass();
+      final BufferPoolClass oldClass = this.classes.putIfAbsent(capacity, sizeClass);
+      if (oldClass != null) {
+        sizeClass = oldClass;
+      }
+    }
+    if (sizeClass.count.incrementAndGet() <= this.classLimit) {
+      sizeClass.buffers.add(buffer);
+    } else {
+      // Size class is full; let the garbage collector reclaim the buffer.
+      sizeClass.count.decrementAndGet();
+    }
+  }
+
+  /**
+   * Returns the process-wide {@code BufferPool} used by default by TCP and
+   * TLS sockets.  The {@code swim.io.buffer.pool.limit} system property
+   * bounds the number of free buffers retained per size class.
+   */
+  public static BufferPool shared() {
+    BufferPool pool = shared;
+    if (pool == null) {
+      synchronized (BufferPool.class) {
+        pool = shared;
+        if (pool == null) {
+          int classLimit;
+          try {
+            classLimit = Integer.parseInt(System.getProperty("swim.io.buffer.pool.limit"));
+          } catch (NumberFormatException error) {
+            classLimit = 1024;
+          }
+          pool = new BufferPool(classLimit);
+          shared = pool;
+        }
+      }
+    }
+    return pool;
+  }
+
+}
+
+final class BufferPoolClass {
+
+  final ConcurrentLinkedQueue<ByteBuffer> buffers;
+  final AtomicInteger count;
+
+  BufferPoolClass() {
+    this.buffers = new ConcurrentLinkedQueue<ByteBuffer>();
+    this.count = new AtomicInteger();
+  }
+
+}
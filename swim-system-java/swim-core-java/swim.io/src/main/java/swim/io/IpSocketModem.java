@@ -17,6 +17,7 @@ package swim.io;
 import java.net.InetSocketAddress;
 import java.security.Principal;
 import java.security.cert.Certificate;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import swim.codec.Decoder;
@@ -37,6 +38,7 @@ public class IpSocketModem<I, O> implements IpSocket, IpModemContext<I, O> {
   protected volatile IpSocketContext context;
   volatile Decoder<? extends I> reading;
   volatile Encoder<?, ? extends O> writing;
+  ArrayList<Encoder<?, ? extends O>> written;
 
   public IpSocketModem(IpModem<I, O> modem) {
     this.modem = modem;
@@ -241,14 +243,58 @@ public class IpSocketModem<I, O> implements IpSocket, IpModemContext<I, O> {
       writer = writer.pull(outputBuffer);
       newIndex = outputBuffer.index();
     } while (oldIndex != newIndex && outputBuffer.isCont() && writer.isCont());
+    if (!writer.isCont() && outputBuffer.isCont() && coalesceWrites()) {
+      // Encode subsequent queued writers into the remaining output buffer
+      // space, so that they all get flushed to the network together.
+      do {
+        final Encoder<?, ? extends O> nextWriter = this.writerQueue.poll();
+        if (nextWriter == null) {
+          break;
+        }
+        ArrayList<Encoder<?, ? extends O>> written = this.written;
+        if (written == null) {
+          written = new ArrayList<Encoder<?, ? extends O>>();
+          this.written = written;
+        }
+        written.add(writer);
+        writer = nextWriter;
+        do {
+          oldIndex = outputBuffer.index();
+          outputBuffer = outputBuffer.isPart(true);
+          writer = writer.pull(outputBuffer);
+          newIndex = outputBuffer.index();
+        } while (oldIndex != newIndex && outputBuffer.isCont() && writer.isCont());
+      } while (!writer.isCont() && outputBuffer.isCont());
+    }
     this.writing = writer;
     if (newIndex == 0) {
       didWrite();
     }
   }
 
+  boolean coalesceWrites() {
+    final IpSocketContext context = this.context;
+    return context != null && context.ipSettings().tcpSettings().coalesceWrites();
+  }
+
+  void didWriteCoalesced() {
+    final ArrayList<Encoder<?, ? extends O>> written = this.written;
+    if (written != null && !written.isEmpty()) {
+      for (int i = 0, n = written.size(); i < n; i += 1) {
+        final Encoder<?, ? extends O> writer = written.get(i);
+        if (writer.isDone()) {
+          this.modem.didWrite(writer.bind());
+        } else if (writer.isError()) {
+          this.modem.didFail(writer.trap());
+        }
+      }
+      written.clear();
+    }
+  }
+
   @Override
   public void didWrite() {
+    didWriteCoalesced();
     Encoder<?, ? extends O> writer = this.writing;
     if (writer != null && !writer.isCont()) {
       if (writer.isDone()) {
@@ -362,6 +408,10 @@ public class IpSocketModem<I, O> implements IpSocket, IpModemContext<I, O> {
       }
       reader = this.readerQueue.poll();
     } while (reader != null);
+    final ArrayList<Encoder<?, ? extends O>> written = this.written;
+    if (written != null) {
+      written.clear();
+    }
     Encoder<?, ? extends O> writer = this.writing;
     this.writing = null;
     do {
@@ -0,0 +1,119 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.io;
+
+import swim.codec.Debug;
+import swim.codec.Output;
+import swim.structure.Form;
+import swim.structure.Item;
+import swim.structure.Kind;
+import swim.structure.Text;
+import swim.structure.Value;
+
+/**
+ * Strategy used by a {@link Station} to assign newly bound transports to one
+ * of its selector threads.
+ */
+public enum SelectorPolicy implements Debug {
+
+  /**
+   * Assign transports to selector threads in rotating order.
+   */
+  ROUND_ROBIN,
+
+  /**
+   * Assign transports to the selector thread with the fewest open transports.
+   */
+  LEAST_LOADED;
+
+  private static Form<SelectorPolicy> form = new SelectorPolicyForm();
+
+  /**
+   * Returns the {@code SelectorPolicy} with the given case-insensitive {@code
+   * name}, one of <em>round-robin</em>, or <em>least-loaded</em>.
+   *
+   * @throws IllegalArgumentException if {@code name} is not a valid {@code
+   *                                  SelectorPolicy} token.
+   */
+  public static SelectorPolicy from(String name) {
+    if ("round-robin".equalsIgnoreCase(name)) {
+      return ROUND_ROBIN;
+    } else if ("least-loaded".equalsIgnoreCase(name)) {
+      return LEAST_LOADED;
+    } else {
+      throw new IllegalArgumentException(name);
+    }
+  }
+
+  /**
+   * Returns the structural {@code Form} of {@code SelectorPolicy}.
+   */
+  @Kind
+  public static Form<SelectorPolicy> form() {
+    if (form == null) {
+      form = new SelectorPolicyForm();
+    }
+    return form;
+  }
+
+  @Override
+  public void debug(Output<?> output) {
+    output = output.write("SelectorPolicy").write('.').write(name());
+  }
+
+}
+
+final class SelectorPolicyForm extends Form<SelectorPolicy> {
+
+  @Override
+  public Class<?> type() {
+    return SelectorPolicy.class;
+  }
+
+  @Override
+  public SelectorPolicy unit() {
+    return SelectorPolicy.LEAST_LOADED;
+  }
+
+  @Override
+  public Item mold(SelectorPolicy selectorPolicy) {
+    if (selectorPolicy != null) {
+      switch (selectorPolicy) {
+        case ROUND_ROBIN:
+          return Text.from("round-robin");
+        case LEAST_LOADED:
+          return Text.from("least-loaded");
+        default:
+          return Item.absent();
+      }
+    } else {
+      return Item.extant();
+    }
+  }
+
+  @Override
+  public SelectorPolicy cast(Item item) {
+    final Value value = item.target();
+    final String string = value.stringValue(null);
+    if ("round-robin".equalsIgnoreCase(string)) {
+      return SelectorPolicy.ROUND_ROBIN;
+    } else if ("least-loaded".equalsIgnoreCase(string)) {
+      return SelectorPolicy.LEAST_LOADED;
+    } else {
+      return null;
+    }
+  }
+
+}
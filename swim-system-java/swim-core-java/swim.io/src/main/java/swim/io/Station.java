@@ -55,6 +55,24 @@ public class Station {
    */
   static final AtomicIntegerFieldUpdater<Station> STATUS =
       AtomicIntegerFieldUpdater.newUpdater(Station.class, "status");
+  /**
+   * Atomic {@link #threadIndex} field updater, used to assign transports to
+   * selector threads in round-robin order.
+   */
+  static final AtomicIntegerFieldUpdater<Station> THREAD_INDEX =
+      AtomicIntegerFieldUpdater.newUpdater(Station.class, "threadIndex");
+  /**
+   * Atomic {@link #runningCount} field updater, used to detect when the first
+   * selector thread starts, and when the last selector thread stops.
+   */
+  static final AtomicIntegerFieldUpdater<Station> RUNNING_COUNT =
+      AtomicIntegerFieldUpdater.newUpdater(Station.class, "runningCount");
+  /**
+   * Atomic {@link #stoppingCount} field updater, used to detect when the
+   * first selector thread begins to stop.
+   */
+  static final AtomicIntegerFieldUpdater<Station> STOPPING_COUNT =
+      AtomicIntegerFieldUpdater.newUpdater(Station.class, "stoppingCount");
   /**
    * Stage on which to execute I/O tasks.
    */
@@ -68,9 +86,10 @@ public class Station {
    */
   final CountDownLatch stopLatch;
   /**
-   * Thread that waits on and dispatches I/O readiness events.
+   * Threads that wait on and dispatch I/O readiness events.  Each transport
+   * is bound to exactly one selector thread for its entire lifetime.
    */
-  final StationThread thread;
+  final StationThread[] threads;
   /**
    * Transport configuration parameters.
    */
@@ -79,6 +98,19 @@ public class Station {
    * Atomic bit field with {@link #STARTED} and {@link #STOPPED} flags.
    */
   volatile int status;
+  /**
+   * Monotonically increasing counter used to select the next selector thread
+   * when assigning transports in round-robin order.
+   */
+  volatile int threadIndex;
+  /**
+   * Number of selector threads that have started, and have not yet stopped.
+   */
+  volatile int runningCount;
+  /**
+   * Number of selector threads that have begun to stop.
+   */
+  volatile int stoppingCount;
 
   public Station(Stage stage, TransportSettings transportSettings) {
     // Assign the I/O task execution stage.
@@ -87,14 +119,21 @@ public class Station {
     // Assign the initial transport configuration parameters.
     this.transportSettings = transportSettings != null ? transportSettings : TransportSettings.standard();
 
+    // Run at least one selector thread.
+    final int threadCount = Math.max(1, this.transportSettings.selectorCount);
+
     // Initialize the barrier used to sequence station startup.
-    this.startLatch = new CountDownLatch(1);
+    this.startLatch = new CountDownLatch(threadCount);
 
     // Initialize the barrier used to sequence station shutdown.
-    this.stopLatch = new CountDownLatch(1);
+    this.stopLatch = new CountDownLatch(threadCount);
 
-    // Initialize--but don't start--the station thread.
-    this.thread = new StationThread(this);
+    // Initialize--but don't start--the station threads.
+    final StationThread[] threads = new StationThread[threadCount];
+    for (int i = 0; i < threadCount; i += 1) {
+      threads[i] = new StationThread(this);
+    }
+    this.threads = threads;
   }
 
   public Station(Stage stage) {
@@ -127,7 +166,7 @@ public class Station {
 
   /**
    * Ensures that this {@code Station} is up and running, starting up the
-   * selector thread if it has not yet been started.
+   * selector threads if they have not yet been started.
    *
    * @throws StationException if this {@code Station} has been stopped.
    */
@@ -142,11 +181,13 @@ public class Station {
           if (STATUS.compareAndSet(this, oldStatus, newStatus)) {
             // Initaite selector thread startup.
             willStart();
-            this.thread.start();
+            for (StationThread thread : this.threads) {
+              thread.start();
+            }
             break;
           }
         } else {
-          // Selector thread already started.
+          // Selector threads already started.
           break;
         }
       } else {
@@ -154,11 +195,11 @@ public class Station {
       }
     } while (true);
 
-    // Loop while the selector thread is not yet up and running.
+    // Loop while the selector threads are not yet up and running.
     boolean interrupted = false;
     while (this.startLatch.getCount() != 0) {
       try {
-        // Wait for selector thread startup to complete.
+        // Wait for selector threads startup to complete.
         this.startLatch.await();
       } catch (InterruptedException error) {
         interrupted = true;
@@ -171,7 +212,7 @@ public class Station {
 
   /**
    * Ensures that this {@code Station} has been permanently stopped, shutting
-   * down the selector thread, if it's currently running.  Upon return, this
+   * down the selector threads, if they're currently running.  Upon return, this
    * {@code Station} is guaranteed to be in the <em>stopped</em> state.
    */
   public void stop() {
@@ -183,28 +224,30 @@ public class Station {
         final int newStatus = oldStatus | STOPPED;
         // Try to set the STOPPED flag; linearization point for station shutdown.
         if (STATUS.compareAndSet(this, oldStatus, newStatus)) {
-          // Loop while the selector thread is still running.
-          while (this.thread.isAlive()) {
-            // Interrupt the selector thread so it will wakeup and die.
-            this.thread.interrupt();
-            try {
-              // Wait for the selector thread to exit.
-              this.thread.join(100);
-            } catch (InterruptedException error) {
-              interrupted = true;
+          for (StationThread thread : this.threads) {
+            // Loop while the selector thread is still running.
+            while (thread.isAlive()) {
+              // Interrupt the selector thread so it will wakeup and die.
+              thread.interrupt();
+              try {
+                // Wait for the selector thread to exit.
+                thread.join(100);
+              } catch (InterruptedException error) {
+                interrupted = true;
+              }
             }
           }
         }
       } else {
-        // Selector thread already stopped.
+        // Selector threads already stopped.
         break;
       }
     } while (true);
 
-    // Loop while the selector thread is still running.
+    // Loop while any selector thread is still running.
     while (this.stopLatch.getCount() != 0) {
       try {
-        // Wait for selector thread shutdown to complete.
+        // Wait for selector threads shutdown to complete.
         this.stopLatch.await();
       } catch (InterruptedException e) {
         interrupted = true;
@@ -232,8 +275,12 @@ public class Station {
     // Ensure that the station has started.
     start();
 
+    // Assign the transport to one of the station's selector threads.
+    final StationThread thread = nextThread();
+    thread.bind();
+
     // Create the context that binds the transport to this station.
-    final StationTransport context = new StationTransport(this, transport, flowControl);
+    final StationTransport context = new StationTransport(this, thread, transport, flowControl);
     transport.setTransportContext(context);
 
     // Initialize the transport's flow control.
@@ -243,45 +290,114 @@ public class Station {
     return context;
   }
 
+  /**
+   * Returns the selector thread to which the next bound transport should be
+   * assigned, as determined by the current {@link SelectorPolicy}.
+   */
+  StationThread nextThread() {
+    final StationThread[] threads = this.threads;
+    final int threadCount = threads.length;
+    if (threadCount == 1) {
+      return threads[0];
+    } else if (this.transportSettings.selectorPolicy == SelectorPolicy.ROUND_ROBIN) {
+      // Rotate through the selector threads.
+      final int threadIndex = THREAD_INDEX.getAndIncrement(this) & 0x7fffffff;
+      return threads[threadIndex % threadCount];
+    } else {
+      // Pick the selector thread with the fewest bound transports.
+      StationThread leastLoaded = threads[0];
+      int leastCount = leastLoaded.transportCount;
+      for (int i = 1; i < threadCount; i += 1) {
+        final StationThread thread = threads[i];
+        final int transportCount = thread.transportCount;
+        if (transportCount < leastCount) {
+          leastLoaded = thread;
+          leastCount = transportCount;
+        }
+      }
+      return leastLoaded;
+    }
+  }
+
   /**
    * Informs the selector thread of a possible change to the given transport
    * {@code context}'s flow control state.
    */
   void reselect(StationTransport context) {
-    this.thread.reselect(context);
+    context.thread.reselect(context);
+  }
+
+  /**
+   * Invoked by each selector thread once it's up and running.  Calls {@link
+   * #didStart()} after the last selector thread has started.
+   */
+  void threadDidStart() {
+    this.startLatch.countDown();
+    if (RUNNING_COUNT.incrementAndGet(this) == this.threads.length) {
+      didStart();
+    }
+  }
+
+  /**
+   * Invoked by each selector thread when it observes that the station has
+   * stopped.  Calls {@link #willStop()} for the first such selector thread.
+   */
+  void threadWillStop() {
+    if (STOPPING_COUNT.getAndIncrement(this) == 0) {
+      willStop();
+    }
   }
 
   /**
-   * Lifecycle callback invoked before the selector thread starts.
+   * Invoked by each selector thread after it exits.  Forces the station into
+   * the stopped state, so that the remaining selector threads exit too, and
+   * calls {@link #didStop()} after the last selector thread has stopped.
+   */
+  void threadDidStop() {
+    // Force the station into the stopped state.
+    STATUS.set(this, STOPPED);
+    // Wake up the remaining selector threads so they notice the stop.
+    for (StationThread thread : this.threads) {
+      thread.selector.wakeup();
+    }
+    // Linearization point for station stop.
+    this.stopLatch.countDown();
+    if (RUNNING_COUNT.decrementAndGet(this) == 0) {
+      didStop();
+    }
+  }
+
+  /**
+   * Lifecycle callback invoked before the selector threads start.
    */
   protected void willStart() {
     // stub
   }
 
   /**
-   * Lifecycle callback invoked after the selector thread starts.
+   * Lifecycle callback invoked after all selector threads start.
    */
   protected void didStart() {
     // stub
   }
 
   /**
-   * Lifecycle callback invoked before the selector thread stops.
+   * Lifecycle callback invoked before the selector threads stop.
    */
   protected void willStop() {
     // stub
   }
 
   /**
-   * Lifecycle callback invoked after the selector thread stops.
+   * Lifecycle callback invoked after all selector threads stop.
    */
   protected void didStop() {
     // stub
   }
 
   /**
-   * Lifecycle callback invoked if the selector thread throws a fatal {@code
-   * error}.  The selector thread will stop after invoking {@code didFail}.
+   * Lifecycle callback invoked if a selector thread throws a fatal {@code
+   * error}.  The station will stop after invoking {@code didFail}.
    */
   protected void didFail(Throwable error) {
     error.printStackTrace();
@@ -342,10 +458,21 @@ final class StationTransport implements TransportContext, TransportRef {
    */
   static final AtomicReferenceFieldUpdater<StationTransport, FlowControl> FLOW_CONTROL =
       AtomicReferenceFieldUpdater.newUpdater(StationTransport.class, FlowControl.class, "flowControl");
+  /**
+   * Atomic {@link #released} field updater, used to ensure that a closed
+   * transport is only unbound from its selector thread once.
+   */
+  static final AtomicIntegerFieldUpdater<StationTransport> RELEASED =
+      AtomicIntegerFieldUpdater.newUpdater(StationTransport.class, "released");
   /**
    * {@code Station} to which the {@code transport} is bound.
    */
   final Station station;
+  /**
+   * Selector thread that dispatches I/O readiness events for the {@code
+   * transport}.
+   */
+  final StationThread thread;
   /**
    * {@code Transport} binding on which to invoke I/O callbacks.
    */
@@ -370,15 +497,20 @@ final class StationTransport implements TransportContext, TransportRef {
    * Monotonic timestamp of the most recent transport I/O operation.
    */
   volatile long lastSelectTime;
+  /**
+   * Non-zero once the transport has been unbound from its selector thread.
+   */
+  volatile int released;
 
-  StationTransport(Station station, Transport transport, FlowControl flowControl) {
+  StationTransport(Station station, StationThread thread, Transport transport, FlowControl flowControl) {
     this.station = station;
+    this.thread = thread;
     this.transport = transport;
     this.flowControl = flowControl;
   }
 
   /**
-   * Informs the station's selector thread of a possible change to the
+   * Informs the transport's selector thread of a possible change to the
    * transport's flow control state.
    */
   void reselect() {
@@ -613,6 +745,11 @@ final class StationTransport implements TransportContext, TransportRef {
         break;
       }
     }
+    if (readBuffer.position() == 0) {
+      // The input buffer holds no unread input data; return it to the buffer
+      // pool until the transport is next ready to read.
+      this.transport.releaseReadBuffer();
+    }
     return yield;
   }
 
@@ -741,6 +878,11 @@ final class StationTransport implements TransportContext, TransportRef {
         break;
       }
     } while (true);
+    if (!writeBuffer.hasRemaining()) {
+      // The output buffer holds no unwritten output data; return it to the
+      // buffer pool until the transport is next ready to write.
+      this.transport.releaseWriteBuffer();
+    }
   }
 
   void didTimeout() {
@@ -768,6 +910,10 @@ final class StationTransport implements TransportContext, TransportRef {
     this.transport.didClose();
     // Inform the station that the transport has closed.
     this.station.transportDidClose(this.transport);
+    if (RELEASED.compareAndSet(this, 0, 1)) {
+      // Deduct the transport from its selector thread's load.
+      this.thread.unbind();
+    }
   }
 
   /**
@@ -832,6 +978,12 @@ final class StationThread extends Thread {
    * to uniquely name selector threads.
    */
   static final AtomicInteger THREAD_COUNT = new AtomicInteger(0);
+  /**
+   * Atomic {@link #transportCount} field updater, used to track the load on
+   * this selector thread.
+   */
+  static final AtomicIntegerFieldUpdater<StationThread> TRANSPORT_COUNT =
+      AtomicIntegerFieldUpdater.newUpdater(StationThread.class, "transportCount");
   /**
    * {@code Station} whose I/O transports this {@code StationThread} manages.
    */
@@ -850,6 +1002,10 @@ final class StationThread extends Thread {
    * Monotonic timestamp of most recent timeout check.
    */
   long lastIdleCheck;
+  /**
+   * Number of open transports assigned to this selector thread.
+   */
+  volatile int transportCount;
 
   StationThread(Station station) {
     setName("SwimStation" + THREAD_COUNT.getAndIncrement());
@@ -869,8 +1025,7 @@ final class StationThread extends Thread {
 
     try {
       // Linearization point for station start.
-      station.startLatch.countDown();
-      station.didStart();
+      station.threadDidStart();
 
       // Loop while the station has not been stopped.
       do {
@@ -884,7 +1039,7 @@ final class StationThread extends Thread {
         checkIdle();
       } while ((Station.STATUS.get(station) & Station.STOPPED) == 0);
 
-      station.willStop();
+      station.threadWillStop();
     } catch (Throwable error) {
       if (Conts.isNonFatal(error)) {
         // Report internal station error.
@@ -904,14 +1059,25 @@ final class StationThread extends Thread {
         station.didFail(error);
       }
 
-      // Force the station into the stopped state.
-      Station.STATUS.set(station, Station.STOPPED);
-      // Linearization point for station stop.
-      station.stopLatch.countDown();
-      station.didStop();
+      // Stop the station, and complete this selector thread's shutdown.
+      station.threadDidStop();
     }
   }
 
+  /**
+   * Accounts for a transport newly assigned to this selector thread.
+   */
+  void bind() {
+    TRANSPORT_COUNT.incrementAndGet(this);
+  }
+
+  /**
+   * Accounts for the closure of a transport assigned to this selector thread.
+   */
+  void unbind() {
+    TRANSPORT_COUNT.decrementAndGet(this);
+  }
+
   /**
    * Enqueues the transport {@code context} to have its flow control state
    * synchronized with the I/O selector, and wakes up the selector thread to
@@ -40,15 +40,24 @@ public class TcpSettings implements Debug {
   protected final int sendBufferSize;
   protected final int readBufferSize;
   protected final int writeBufferSize;
+  protected final boolean coalesceWrites;
 
   public TcpSettings(boolean keepAlive, boolean noDelay, int receiveBufferSize,
-                     int sendBufferSize, int readBufferSize, int writeBufferSize) {
+                     int sendBufferSize, int readBufferSize, int writeBufferSize,
+                     boolean coalesceWrites) {
     this.keepAlive = keepAlive;
     this.noDelay = noDelay;
     this.receiveBufferSize = receiveBufferSize;
     this.sendBufferSize = sendBufferSize;
     this.readBufferSize = readBufferSize;
     this.writeBufferSize = writeBufferSize;
+    this.coalesceWrites = coalesceWrites;
+  }
+
+  public TcpSettings(boolean keepAlive, boolean noDelay, int receiveBufferSize,
+                     int sendBufferSize, int readBufferSize, int writeBufferSize) {
+    this(keepAlive, noDelay, receiveBufferSize, sendBufferSize,
+         readBufferSize, writeBufferSize, false);
   }
 
   /**
@@ -88,8 +97,10 @@ public class TcpSettings implements Debug {
         writeBufferSize = 4096;
       }
 
+      final boolean coalesceWrites = Boolean.parseBoolean(System.getProperty("swim.tcp.coalesce.writes"));
+
       standard = new TcpSettings(keepAlive, noDelay, receiveBufferSize,
-          sendBufferSize, readBufferSize, writeBufferSize);
+          sendBufferSize, readBufferSize, writeBufferSize, coalesceWrites);
     }
     return standard;
   }
@@ -120,7 +131,7 @@ public class TcpSettings implements Debug {
    */
   public TcpSettings keepAlive(boolean keepAlive) {
     return copy(keepAlive, this.noDelay, this.receiveBufferSize,
-        this.sendBufferSize, this.readBufferSize, this.writeBufferSize);
+        this.sendBufferSize, this.readBufferSize, this.writeBufferSize, this.coalesceWrites);
   }
 
   /**
@@ -137,7 +148,7 @@ public class TcpSettings implements Debug {
    */
   public TcpSettings noDelay(boolean noDelay) {
     return copy(this.keepAlive, noDelay, this.receiveBufferSize,
-        this.sendBufferSize, this.readBufferSize, this.writeBufferSize);
+        this.sendBufferSize, this.readBufferSize, this.writeBufferSize, this.coalesceWrites);
   }
 
   /**
@@ -154,7 +165,7 @@ public class TcpSettings implements Debug {
    */
   public TcpSettings receiveBufferSize(int receiveBufferSize) {
     return copy(this.keepAlive, this.noDelay, receiveBufferSize,
-        this.sendBufferSize, this.readBufferSize, this.writeBufferSize);
+        this.sendBufferSize, this.readBufferSize, this.writeBufferSize, this.coalesceWrites);
   }
 
   /**
@@ -171,7 +182,7 @@ public class TcpSettings implements Debug {
    */
   public TcpSettings sendBufferSize(int sendBufferSize) {
     return copy(this.keepAlive, this.noDelay, this.receiveBufferSize,
-        sendBufferSize, this.readBufferSize, this.writeBufferSize);
+        sendBufferSize, this.readBufferSize, this.writeBufferSize, this.coalesceWrites);
   }
 
   /**
@@ -188,7 +199,7 @@ public class TcpSettings implements Debug {
    */
   public TcpSettings readBufferSize(int readBufferSize) {
     return copy(this.keepAlive, this.noDelay, this.receiveBufferSize,
-        this.sendBufferSize, readBufferSize, this.writeBufferSize);
+        this.sendBufferSize, readBufferSize, this.writeBufferSize, this.coalesceWrites);
   }
 
   /**
@@ -205,7 +216,35 @@ public class TcpSettings implements Debug {
    */
   public TcpSettings writeBufferSize(int writeBufferSize) {
     return copy(this.keepAlive, this.noDelay, this.receiveBufferSize,
-        this.sendBufferSize, this.readBufferSize, writeBufferSize);
+        this.sendBufferSize, this.readBufferSize, writeBufferSize, this.coalesceWrites);
+  }
+
+  /**
+   * Returns {@code true} if sockets should encode as many queued writers as
+   * fit into the userspace write buffer before flushing it to the network,
+   * coalescing many small messages into a single channel write.
+   */
+  public final boolean coalesceWrites() {
+    return this.coalesceWrites;
+  }
+
+  /**
+   * Returns a copy of these {@code TcpSettings} configured with the given
+   * {@code coalesceWrites} flag for batching queued writes.
+   */
+  public TcpSettings coalesceWrites(boolean coalesceWrites) {
+    return copy(this.keepAlive, this.noDelay, this.receiveBufferSize,
+        this.sendBufferSize, this.readBufferSize, this.writeBufferSize, coalesceWrites);
+  }
+
+  /**
+   * Returns a new {@code TcpSettings} instance with the given options,
+   * preserving the {@code coalesceWrites} flag of these settings.
+   */
+  protected TcpSettings copy(boolean keepAlive, boolean noDelay, int receiveBufferSize,
+                             int sendBufferSize, int readBufferSize, int writeBufferSize) {
+    return copy(keepAlive, noDelay, receiveBufferSize, sendBufferSize,
+        readBufferSize, writeBufferSize, this.coalesceWrites);
   }
 
   /**
@@ -214,9 +253,10 @@ public class TcpSettings implements Debug {
    * instantiated when updating settings.
    */
   protected TcpSettings copy(boolean keepAlive, boolean noDelay, int receiveBufferSize,
-                             int sendBufferSize, int readBufferSize, int writeBufferSize) {
+                             int sendBufferSize, int readBufferSize, int writeBufferSize,
+                             boolean coalesceWrites) {
     return new TcpSettings(keepAlive, noDelay, receiveBufferSize,
-        sendBufferSize, readBufferSize, writeBufferSize);
+        sendBufferSize, readBufferSize, writeBufferSize, coalesceWrites);
   }
 
   /**
@@ -256,7 +296,8 @@ public class TcpSettings implements Debug {
       final TcpSettings that = (TcpSettings) other;
       return that.canEqual(this) && this.keepAlive == that.keepAlive && this.noDelay == that.noDelay
           && this.receiveBufferSize == that.receiveBufferSize && this.sendBufferSize == that.sendBufferSize
-          && this.readBufferSize == that.readBufferSize && this.writeBufferSize == that.writeBufferSize;
+          && this.readBufferSize == that.readBufferSize && this.writeBufferSize == that.writeBufferSize
+          && this.coalesceWrites == that.coalesceWrites;
     }
     return false;
   }
@@ -266,9 +307,9 @@ public class TcpSettings implements Debug {
     if (hashSeed == 0) {
       hashSeed = Murmur3.seed(TcpSettings.class);
     }
-    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(
+    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(
         hashSeed, Murmur3.hash(this.keepAlive)), Murmur3.hash(this.noDelay)), this.receiveBufferSize),
-        this.sendBufferSize), this.readBufferSize), this.writeBufferSize));
+        this.sendBufferSize), this.readBufferSize), this.writeBufferSize), Murmur3.hash(this.coalesceWrites)));
   }
 
   @Override
@@ -279,7 +320,8 @@ public class TcpSettings implements Debug {
         .write('.').write("receiveBufferSize").write('(').debug(this.receiveBufferSize).write(')')
         .write('.').write("sendBufferSize").write('(').debug(this.sendBufferSize).write(')')
         .write('.').write("readBufferSize").write('(').debug(this.readBufferSize).write(')')
-        .write('.').write("writeBufferSize").write('(').debug(this.writeBufferSize).write(')');
+        .write('.').write("writeBufferSize").write('(').debug(this.writeBufferSize).write(')')
+        .write('.').write("coalesceWrites").write('(').debug(this.coalesceWrites).write(')');
   }
 
   @Override
@@ -310,7 +352,7 @@ final class TcpSettingsForm extends Form<TcpSettings> {
   public Item mold(TcpSettings settings) {
     if (settings != null) {
       final TcpSettings standard = TcpSettings.standard();
-      final Record record = Record.create(7).attr(tag());
+      final Record record = Record.create(8).attr(tag());
       if (settings.keepAlive != standard.keepAlive) {
         record.slot("keepAlive", true);
       }
@@ -329,6 +371,9 @@ final class TcpSettingsForm extends Form<TcpSettings> {
       if (settings.writeBufferSize != standard.writeBufferSize) {
         record.slot("writeBufferSize", settings.writeBufferSize);
       }
+      if (settings.coalesceWrites != standard.coalesceWrites) {
+        record.slot("coalesceWrites", settings.coalesceWrites);
+      }
       return record;
     } else {
       return Item.extant();
@@ -346,8 +391,9 @@ final class TcpSettingsForm extends Form<TcpSettings> {
       final int sendBufferSize = value.get("sendBufferSize").intValue(standard.sendBufferSize);
       final int readBufferSize = value.get("readBufferSize").intValue(standard.readBufferSize);
       final int writeBufferSize = value.get("writeBufferSize").intValue(standard.writeBufferSize);
+      final boolean coalesceWrites = value.get("coalesceWrites").booleanValue(standard.coalesceWrites);
       return new TcpSettings(keepAlive, noDelay, receiveBufferSize,
-          sendBufferSize, readBufferSize, writeBufferSize);
+          sendBufferSize, readBufferSize, writeBufferSize, coalesceWrites);
     }
     return null;
   }
@@ -40,10 +40,13 @@ class TcpSocket implements Transport, IpSocketContext {
       AtomicIntegerFieldUpdater.newUpdater(TcpSocket.class, "status");
   final InetSocketAddress localAddress;
   final InetSocketAddress remoteAddress;
-  final ByteBuffer readBuffer;
-  final ByteBuffer writeBuffer;
-  final InputBuffer inputBuffer;
-  final OutputBuffer<?> outputBuffer;
+  final BufferPool bufferPool;
+  final int readBufferSize;
+  final int writeBufferSize;
+  ByteBuffer readBuffer;
+  ByteBuffer writeBuffer;
+  InputBuffer inputBuffer;
+  OutputBuffer<?> outputBuffer;
   final SocketChannel channel;
   final IpSettings ipSettings;
   TransportContext context;
@@ -58,11 +61,9 @@ class TcpSocket implements Transport, IpSocketContext {
     this.ipSettings = ipSettings;
     this.status = isClient ? CLIENT : SERVER;
     final TcpSettings tcpSettings = ipSettings.tcpSettings();
-    this.readBuffer = ByteBuffer.allocate(tcpSettings.readBufferSize());
-    this.writeBuffer = ByteBuffer.allocate(tcpSettings.writeBufferSize());
-    ((Buffer) this.writeBuffer).position(this.writeBuffer.capacity());
-    this.inputBuffer = Binary.inputBuffer(this.readBuffer);
-    this.outputBuffer = Binary.outputBuffer(this.writeBuffer);
+    this.bufferPool = BufferPool.shared();
+    this.readBufferSize = tcpSettings.readBufferSize();
+    this.writeBufferSize = tcpSettings.writeBufferSize();
   }
 
   @Override
@@ -82,12 +83,45 @@ class TcpSocket implements Transport, IpSocketContext {
 
   @Override
   public ByteBuffer readBuffer() {
-    return this.readBuffer;
+    ByteBuffer readBuffer = this.readBuffer;
+    if (readBuffer == null) {
+      readBuffer = this.bufferPool.acquire(this.readBufferSize);
+      this.readBuffer = readBuffer;
+      this.inputBuffer = Binary.inputBuffer(readBuffer);
+    }
+    return readBuffer;
   }
 
   @Override
   public ByteBuffer writeBuffer() {
-    return this.writeBuffer;
+    ByteBuffer writeBuffer = this.writeBuffer;
+    if (writeBuffer == null) {
+      writeBuffer = this.bufferPool.acquire(this.writeBufferSize);
+      ((Buffer) writeBuffer).position(writeBuffer.capacity());
+      this.writeBuffer = writeBuffer;
+      this.outputBuffer = Binary.outputBuffer(writeBuffer);
+    }
+    return writeBuffer;
+  }
+
+  @Override
+  public void releaseReadBuffer() {
+    final ByteBuffer readBuffer = this.readBuffer;
+    if (readBuffer != null && readBuffer.position() == 0) {
+      this.readBuffer = null;
+      this.inputBuffer = null;
+      this.bufferPool.release(readBuffer);
+    }
+  }
+
+  @Override
+  public void releaseWriteBuffer() {
+    final ByteBuffer writeBuffer = this.writeBuffer;
+    if (writeBuffer != null && !writeBuffer.hasRemaining()) {
+      this.writeBuffer = null;
+      this.outputBuffer = null;
+      this.bufferPool.release(writeBuffer);
+    }
   }
 
   @Override
@@ -102,11 +136,13 @@ class TcpSocket implements Transport, IpSocketContext {
 
   @Override
   public InputBuffer inputBuffer() {
+    readBuffer();
     return this.inputBuffer;
   }
 
   @Override
   public OutputBuffer<?> outputBuffer() {
+    writeBuffer();
     return this.outputBuffer;
   }
 
@@ -53,8 +53,11 @@ class TlsSocket implements Transport, IpSocketContext {
       AtomicIntegerFieldUpdater.newUpdater(TlsSocket.class, "status");
   final InetSocketAddress localAddress;
   final InetSocketAddress remoteAddress;
-  final ByteBuffer readBuffer;
-  final ByteBuffer writeBuffer;
+  final BufferPool bufferPool;
+  final int readBufferSize;
+  final int writeBufferSize;
+  ByteBuffer readBuffer;
+  ByteBuffer writeBuffer;
   final ByteBuffer inputBuffer;
   final ByteBuffer outputBuffer;
   final InputBuffer reader;
@@ -84,9 +87,9 @@ class TlsSocket implements Transport, IpSocketContext {
     final TcpSettings tcpSettings = this.ipSettings.tcpSettings();
     final int readBufferSize = Math.max(tcpSettings.readBufferSize(), sslSession.getApplicationBufferSize());
     final int writeBufferSize = Math.max(tcpSettings.writeBufferSize(), sslSession.getPacketBufferSize());
-    this.readBuffer = ByteBuffer.allocate(readBufferSize);
-    this.writeBuffer = ByteBuffer.allocate(writeBufferSize);
-    ((Buffer) this.writeBuffer).position(this.writeBuffer.capacity());
+    this.bufferPool = BufferPool.shared();
+    this.readBufferSize = readBufferSize;
+    this.writeBufferSize = writeBufferSize;
     this.inputBuffer = ByteBuffer.allocate(readBufferSize);
     this.outputBuffer = ByteBuffer.allocate(writeBufferSize);
     ((Buffer) this.outputBuffer).position(this.outputBuffer.capacity());
@@ -111,12 +114,41 @@ class TlsSocket implements Transport, IpSocketContext {
 
   @Override
   public ByteBuffer readBuffer() {
-    return this.readBuffer;
+    ByteBuffer readBuffer = this.readBuffer;
+    if (readBuffer == null) {
+      readBuffer = this.bufferPool.acquire(this.readBufferSize);
+      this.readBuffer = readBuffer;
+    }
+    return readBuffer;
   }
 
   @Override
   public ByteBuffer writeBuffer() {
-    return this.writeBuffer;
+    ByteBuffer writeBuffer = this.writeBuffer;
+    if (writeBuffer == null) {
+      writeBuffer = this.bufferPool.acquire(this.writeBufferSize);
+      ((Buffer) writeBuffer).position(writeBuffer.capacity());
+      this.writeBuffer = writeBuffer;
+    }
+    return writeBuffer;
+  }
+
+  @Override
+  public void releaseReadBuffer() {
+    final ByteBuffer readBuffer = this.readBuffer;
+    if (readBuffer != null && readBuffer.position() == 0) {
+      this.readBuffer = null;
+      this.bufferPool.release(readBuffer);
+    }
+  }
+
+  @Override
+  public void releaseWriteBuffer() {
+    final ByteBuffer writeBuffer = this.writeBuffer;
+    if (writeBuffer != null && !writeBuffer.hasRemaining()) {
+      this.writeBuffer = null;
+      this.bufferPool.release(writeBuffer);
+    }
   }
 
   @Override
@@ -317,7 +349,7 @@ class TlsSocket implements Transport, IpSocketContext {
     do {
       final SSLEngineResult result;
       try {
-        result = this.sslEngine.unwrap(this.readBuffer, this.inputBuffer);
+        result = this.sslEngine.unwrap(readBuffer(), this.inputBuffer);
       } catch (SSLException error) {
         this.socket.didFail(error);
         this.context.close();
@@ -350,7 +382,7 @@ class TlsSocket implements Transport, IpSocketContext {
             switch (handshakeStatus) {
               case NEED_UNWRAP:
                 this.context.flowControl(FlowModifier.ENABLE_READ);
-                if (this.readBuffer.hasRemaining()) {
+                if (readBuffer().hasRemaining()) {
                   continue read;
                 } else {
                   break read;
@@ -421,7 +453,7 @@ class TlsSocket implements Transport, IpSocketContext {
     }
     final SSLEngineResult result;
     try {
-      result = this.sslEngine.wrap(this.outputBuffer, this.writeBuffer);
+      result = this.sslEngine.wrap(this.outputBuffer, writeBuffer());
     } catch (SSLException error) {
       this.socket.didFail(error);
       this.context.close();
@@ -60,6 +60,30 @@ public interface Transport {
    */
   ByteBuffer writeBuffer();
 
+  /**
+   * Returns the {@link #readBuffer()} to the buffer pool from which it was
+   * borrowed, if the buffer holds no unread input data.  Invoked by the
+   * transport context when a <em>read</em> operation completes, so that idle
+   * transports hold no read buffer memory.  Subsequent calls to {@code
+   * readBuffer()} borrow a new buffer from the pool.  Does nothing by
+   * default, for transports that don't borrow pooled buffers.
+   */
+  default void releaseReadBuffer() {
+    // nop
+  }
+
+  /**
+   * Returns the {@link #writeBuffer()} to the buffer pool from which it was
+   * borrowed, if the buffer holds no unwritten output data.  Invoked by the
+   * transport context when a <em>write</em> operation completes, so that
+   * idle transports hold no write buffer memory.  Subsequent calls to {@code
+   * writeBuffer()} borrow a new buffer from the pool.  Does nothing by
+   * default, for transports that don't borrow pooled buffers.
+   */
+  default void releaseWriteBuffer() {
+    // nop
+  }
+
   /**
    * Returns the number of idle milliseconds after which this {@code Transport}
    * should be closed due to inactivity.  Returns {@code -1} if a default idle
@@ -35,11 +35,16 @@ public class TransportSettings implements Debug {
   protected final int backlog;
   protected final long idleInterval;
   protected final long idleTimeout;
+  protected final int selectorCount;
+  protected final SelectorPolicy selectorPolicy;
 
-  public TransportSettings(int backlog, long idleInterval, long idleTimeout) {
+  public TransportSettings(int backlog, long idleInterval, long idleTimeout,
+                           int selectorCount, SelectorPolicy selectorPolicy) {
     this.backlog = backlog;
     this.idleInterval = idleInterval;
     this.idleTimeout = idleTimeout;
+    this.selectorCount = selectorCount;
+    this.selectorPolicy = selectorPolicy;
   }
 
   /**
@@ -68,7 +73,22 @@ public class TransportSettings implements Debug {
         idleTimeout = 90000L; // 90 seconds
       }
 
-      standard = new TransportSettings(backlog, idleInterval, idleTimeout);
+      int selectorCount;
+      try {
+        selectorCount = Integer.parseInt(System.getProperty("swim.transport.selector.count"));
+      } catch (NumberFormatException error) {
+        selectorCount = Runtime.getRuntime().availableProcessors();
+      }
+
+      SelectorPolicy selectorPolicy;
+      try {
+        selectorPolicy = SelectorPolicy.from(System.getProperty("swim.transport.selector.policy"));
+      } catch (IllegalArgumentException error) {
+        selectorPolicy = SelectorPolicy.LEAST_LOADED;
+      }
+
+      standard = new TransportSettings(backlog, idleInterval, idleTimeout,
+                                       selectorCount, selectorPolicy);
     }
     return standard;
   }
@@ -97,7 +117,8 @@ public class TransportSettings implements Debug {
    * connections.
    */
   public TransportSettings backlog(int backlog) {
-    return copy(backlog, this.idleInterval, this.idleTimeout);
+    return copy(backlog, this.idleInterval, this.idleTimeout,
+                this.selectorCount, this.selectorPolicy);
   }
 
   /**
@@ -112,7 +133,8 @@ public class TransportSettings implements Debug {
    * given {@code idleInterval} for transport idle checks.
    */
   public TransportSettings idleInterval(long idleInterval) {
-    return copy(this.backlog, idleInterval, this.idleTimeout);
+    return copy(this.backlog, idleInterval, this.idleTimeout,
+                this.selectorCount, this.selectorPolicy);
   }
 
   /**
@@ -128,7 +150,43 @@ public class TransportSettings implements Debug {
    * given {@code idleTimeout} for transport idle timeouts
    */
   public TransportSettings idleTimeout(long idleTimeout) {
-    return copy(this.backlog, this.idleInterval, idleTimeout);
+    return copy(this.backlog, this.idleInterval, idleTimeout,
+                this.selectorCount, this.selectorPolicy);
+  }
+
+  /**
+   * Returns the number of selector threads across which a {@link Station}
+   * distributes its transports.
+   */
+  public final int selectorCount() {
+    return this.selectorCount;
+  }
+
+  /**
+   * Returns a copy of these {@code TransportSettings} configured with the
+   * given {@code selectorCount} for the number of station selector threads.
+   */
+  public TransportSettings selectorCount(int selectorCount) {
+    return copy(this.backlog, this.idleInterval, this.idleTimeout,
+                selectorCount, this.selectorPolicy);
+  }
+
+  /**
+   * Returns the strategy used to assign transports to station selector
+   * threads.
+   */
+  public final SelectorPolicy selectorPolicy() {
+    return this.selectorPolicy;
+  }
+
+  /**
+   * Returns a copy of these {@code TransportSettings} configured with the
+   * given {@code selectorPolicy} for assigning transports to station selector
+   * threads.
+   */
+  public TransportSettings selectorPolicy(SelectorPolicy selectorPolicy) {
+    return copy(this.backlog, this.idleInterval, this.idleTimeout,
+                this.selectorCount, selectorPolicy);
   }
 
   /**
@@ -136,8 +194,10 @@ public class TransportSettings implements Debug {
    * Subclasses may override this method to ensure the proper class is
    * instantiated when updating settings.
    */
-  protected TransportSettings copy(int backlog, long idleInterval, long idleTimeout) {
-    return new TransportSettings(backlog, idleInterval, idleTimeout);
+  protected TransportSettings copy(int backlog, long idleInterval, long idleTimeout,
+                                   int selectorCount, SelectorPolicy selectorPolicy) {
+    return new TransportSettings(backlog, idleInterval, idleTimeout,
+                                 selectorCount, selectorPolicy);
   }
 
   /**
@@ -164,7 +224,9 @@ public class TransportSettings implements Debug {
       final TransportSettings that = (TransportSettings) other;
       return that.canEqual(this) && this.backlog == that.backlog
           && this.idleInterval == that.idleInterval
-          && this.idleTimeout == that.idleTimeout;
+          && this.idleTimeout == that.idleTimeout
+          && this.selectorCount == that.selectorCount
+          && this.selectorPolicy == that.selectorPolicy;
     }
     return false;
   }
@@ -174,8 +236,9 @@ public class TransportSettings implements Debug {
     if (hashSeed == 0) {
       hashSeed = Murmur3.seed(TransportSettings.class);
     }
-    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(hashSeed, backlog),
-        Murmur3.hash(this.idleInterval)), Murmur3.hash(this.idleTimeout)));
+    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(hashSeed,
+        this.backlog), Murmur3.hash(this.idleInterval)), Murmur3.hash(this.idleTimeout)),
+        this.selectorCount), this.selectorPolicy.ordinal()));
   }
 
   @Override
@@ -183,7 +246,9 @@ public class TransportSettings implements Debug {
     output = output.write("TransportSettings").write('.').write("standard").write('(').write(')')
         .write('.').write("backlog").write('(').debug(this.backlog).write(')')
         .write('.').write("idleInterval").write('(').debug(this.idleInterval).write(')')
-        .write('.').write("idleTimeout").write('(').debug(this.idleTimeout).write(')');
+        .write('.').write("idleTimeout").write('(').debug(this.idleTimeout).write(')')
+        .write('.').write("selectorCount").write('(').debug(this.selectorCount).write(')')
+        .write('.').write("selectorPolicy").write('(').debug(this.selectorPolicy).write(')');
   }
 
   @Override
@@ -214,7 +279,7 @@ final class TransportSettingsForm extends Form<TransportSettings> {
   public Item mold(TransportSettings settings) {
     if (settings != null) {
       final TransportSettings standard = TransportSettings.standard();
-      final Record record = Record.create(4).attr(tag());
+      final Record record = Record.create(6).attr(tag());
       if (settings.backlog != standard.backlog) {
         record.slot("backlog", settings.backlog);
       }
@@ -224,6 +289,12 @@ final class TransportSettingsForm extends Form<TransportSettings> {
       if (settings.idleTimeout != standard.idleTimeout) {
         record.slot("idleTimeout", settings.idleTimeout);
       }
+      if (settings.selectorCount != standard.selectorCount) {
+        record.slot("selectorCount", settings.selectorCount);
+      }
+      if (settings.selectorPolicy != standard.selectorPolicy) {
+        record.slot("selectorPolicy", SelectorPolicy.form().mold(settings.selectorPolicy).toValue());
+      }
       return record;
     } else {
       return Item.extant();
@@ -238,7 +309,13 @@ final class TransportSettingsForm extends Form<TransportSettings> {
       final int backlog = value.get("backlog").intValue(standard.backlog);
       final long idleInterval = value.get("idleInterval").longValue(standard.idleInterval);
       final long idleTimeout = value.get("idleTimeout").longValue(standard.idleTimeout);
-      return new TransportSettings(backlog, idleInterval, idleTimeout);
+      final int selectorCount = value.get("selectorCount").intValue(standard.selectorCount);
+      SelectorPolicy selectorPolicy = SelectorPolicy.form().cast(value.get("selectorPolicy"));
+      if (selectorPolicy == null) {
+        selectorPolicy = standard.selectorPolicy;
+      }
+      return new TransportSettings(backlog, idleInterval, idleTimeout,
+                                   selectorCount, selectorPolicy);
     }
     return null;
   }
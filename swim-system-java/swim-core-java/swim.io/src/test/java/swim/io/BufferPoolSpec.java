@@ -0,0 +1,71 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.io;
+
+import java.nio.ByteBuffer;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class BufferPoolSpec {
+
+  @Test
+  public void reuseReleasedBuffers() {
+    final BufferPool pool = new BufferPool(4);
+    final ByteBuffer buffer = pool.acquire(1024);
+    assertEquals(buffer.capacity(), 1024);
+    assertFalse(buffer.isDirect());
+    buffer.put((byte) 1);
+    pool.release(buffer);
+    assertEquals(pool.freeCount(1024), 1);
+    final ByteBuffer reused = pool.acquire(1024);
+    assertSame(reused, buffer);
+    assertEquals(reused.position(), 0);
+    assertEquals(reused.limit(), 1024);
+    assertEquals(pool.freeCount(1024), 0);
+  }
+
+  @Test
+  public void segregateBuffersBySizeClass() {
+    final BufferPool pool = new BufferPool(4);
+    final ByteBuffer small = pool.acquire(512);
+    pool.release(small);
+    final ByteBuffer large = pool.acquire(1024);
+    assertNotSame(large, small);
+    assertEquals(large.capacity(), 1024);
+    assertEquals(pool.freeCount(512), 1);
+  }
+
+  @Test
+  public void boundFreeBuffersPerSizeClass() {
+    final BufferPool pool = new BufferPool(2);
+    pool.release(pool.acquire(256));
+    pool.release(ByteBuffer.allocate(256));
+    pool.release(ByteBuffer.allocate(256));
+    assertEquals(pool.freeCount(256), 2);
+  }
+
+  @Test
+  public void discardDirectBuffers() {
+    final BufferPool pool = new BufferPool(4);
+    pool.release(ByteBuffer.allocateDirect(256));
+    assertEquals(pool.freeCount(256), 0);
+    pool.release(ByteBuffer.allocate(256).asReadOnlyBuffer());
+    assertEquals(pool.freeCount(256), 0);
+  }
+
+}
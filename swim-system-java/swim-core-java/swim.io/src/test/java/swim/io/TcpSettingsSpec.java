@@ -67,4 +67,12 @@ public class TcpSettingsSpec {
             Slot.of("writeBufferSize", 7)));
   }
 
+  @Test
+  public void encodesCoalescedTcpSettings() {
+    assertEncodes(TcpSettings.standard().coalesceWrites(true),
+        Record.of(Attr.of("tcp"), Slot.of("coalesceWrites", true)));
+    assertDecodes(Record.of(Attr.of("tcp"), Slot.of("coalesceWrites", true)),
+        TcpSettings.standard().coalesceWrites(true));
+  }
+
 }
@@ -14,6 +14,15 @@
 
 package swim.io;
 
+import java.util.concurrent.CountDownLatch;
+import org.testng.TestException;
+import org.testng.annotations.Test;
+import swim.codec.Binary;
+import swim.concurrent.Theater;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
 public class TcpSocketSpec extends IpSocketBehaviors {
 
   final IpSettings ipSettings = IpSettings.standard();
@@ -28,4 +37,80 @@ public class TcpSocketSpec extends IpSocketBehaviors {
     return endpoint.connectTcp("127.0.0.1", 53556, socket, this.ipSettings);
   }
 
+  @Test
+  public void testReleaseBuffersAfterTransfer() {
+    final Theater stage = new Theater();
+    final IpEndpoint endpoint = new IpEndpoint(stage);
+    final CountDownLatch serverWrite = new CountDownLatch(1);
+    final CountDownLatch clientRead = new CountDownLatch(1);
+    final AbstractIpSocket client = new AbstractIpSocket() {
+      @Override
+      public void didConnect() {
+        flowControl(FlowModifier.ENABLE_READ);
+      }
+
+      @Override
+      public void doRead() {
+        while (inputBuffer().isCont()) {
+          assertEquals(inputBuffer().head(), '@');
+          inputBuffer().step();
+          clientRead.countDown();
+        }
+      }
+    };
+    final AbstractIpSocket server = new AbstractIpSocket() {
+      @Override
+      public void didConnect() {
+        flowControl(FlowModifier.ENABLE_READ_WRITE);
+      }
+
+      @Override
+      public void doWrite() {
+        Binary.writeByteArray(new byte[] {'@'}, outputBuffer());
+      }
+
+      @Override
+      public void didWrite() {
+        flowControl(FlowModifier.DISABLE_WRITE);
+        serverWrite.countDown();
+      }
+    };
+    final AbstractIpService service = new AbstractIpService() {
+      @Override
+      public IpSocket createSocket() {
+        return server;
+      }
+    };
+
+    try {
+      stage.start();
+      endpoint.start();
+      bind(endpoint, service);
+      connect(endpoint, client);
+      serverWrite.await();
+      clientRead.await();
+      final TcpSocket clientSocket = (TcpSocket) client.ipSocketContext();
+      final TcpSocket serverSocket = (TcpSocket) server.ipSocketContext();
+      final long deadline = System.currentTimeMillis() + 1000L;
+      while ((clientSocket.readBuffer != null || serverSocket.writeBuffer != null)
+          && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10L);
+      }
+      // Drained buffers go back to the pool until the sockets next transfer.
+      assertNull(clientSocket.readBuffer);
+      assertNull(serverSocket.writeBuffer);
+      final TcpSettings tcpSettings = this.ipSettings.tcpSettings();
+      assertTrue(BufferPool.shared().freeCount(tcpSettings.readBufferSize()) > 0);
+      assertTrue(BufferPool.shared().freeCount(tcpSettings.writeBufferSize()) > 0);
+    } catch (InterruptedException cause) {
+      throw new TestException(cause);
+    } finally {
+      client.close();
+      server.close();
+      service.unbind();
+      endpoint.stop();
+      stage.stop();
+    }
+  }
+
 }
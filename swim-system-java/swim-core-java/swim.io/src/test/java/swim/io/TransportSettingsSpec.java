@@ -0,0 +1,68 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.io;
+
+import org.testng.annotations.Test;
+import swim.structure.Attr;
+import swim.structure.Record;
+import swim.structure.Slot;
+import swim.structure.Value;
+import static org.testng.Assert.assertEquals;
+
+public class TransportSettingsSpec {
+
+  void assertDecodes(Value actualValue, TransportSettings expected) {
+    final TransportSettings actual = TransportSettings.form().cast(actualValue);
+    assertEquals(actual, expected);
+  }
+
+  void assertEncodes(TransportSettings settings, Value expectedValue) {
+    final Value actualValue = (Value) TransportSettings.form().mold(settings);
+    assertEquals(actualValue, expectedValue);
+  }
+
+  @Test
+  public void decodesStandardTransportSettings() {
+    assertDecodes(Record.of(Attr.of("transport")), TransportSettings.standard());
+  }
+
+  @Test
+  public void decodesTransportSettings() {
+    assertDecodes(Record.of(Attr.of("transport"),
+        Slot.of("backlog", 2),
+        Slot.of("idleInterval", 3L),
+        Slot.of("idleTimeout", 5L),
+        Slot.of("selectorCount", 13),
+        Slot.of("selectorPolicy", "round-robin")),
+        new TransportSettings(2, 3L, 5L, 13, SelectorPolicy.ROUND_ROBIN));
+  }
+
+  @Test
+  public void encodesStandardTransportSettings() {
+    assertEncodes(TransportSettings.standard(), Record.of(Attr.of("transport")));
+  }
+
+  @Test
+  public void encodesTransportSettings() {
+    assertEncodes(new TransportSettings(2, 3L, 5L, 13, SelectorPolicy.ROUND_ROBIN),
+        Record.of(Attr.of("transport"),
+            Slot.of("backlog", 2),
+            Slot.of("idleInterval", 3L),
+            Slot.of("idleTimeout", 5L),
+            Slot.of("selectorCount", 13),
+            Slot.of("selectorPolicy", "round-robin")));
+  }
+
+}
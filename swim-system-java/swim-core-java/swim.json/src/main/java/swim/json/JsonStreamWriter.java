@@ -0,0 +1,227 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.json;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import swim.codec.Base10;
+import swim.codec.Base16;
+import swim.codec.Base64;
+import swim.codec.Output;
+import swim.codec.Writer;
+import swim.codec.WriterException;
+import swim.structure.Absent;
+import swim.structure.Attr;
+import swim.structure.Bool;
+import swim.structure.Data;
+import swim.structure.Extant;
+import swim.structure.Field;
+import swim.structure.Item;
+import swim.structure.Num;
+import swim.structure.Record;
+import swim.structure.Slot;
+import swim.structure.Text;
+import swim.structure.Value;
+
+/**
+ * Single-pass JSON writer for structure values.  Emits straight into an
+ * {@code Output} that accepts all of its input, such as a growable or
+ * pre-sized buffer, without allocating a resumable {@code Writer} state
+ * machine for every nested item.  Produces the same text as {@link
+ * JsonStructureWriter}.
+ */
+final class JsonStreamWriter {
+
+  JsonStreamWriter() {
+    // stateless
+  }
+
+  void write(Item item, Output<?> output) {
+    output = writeItem(item, output);
+    if (output.isError()) {
+      throw new WriterException(output.trap());
+    }
+  }
+
+  Output<?> writeItem(Item item, Output<?> output) {
+    if (item instanceof Field) {
+      if (item instanceof Attr) {
+        final Attr that = (Attr) item;
+        return writeField('@' + that.key().stringValue(), that.value(), output);
+      } else if (item instanceof Slot) {
+        final Slot that = (Slot) item;
+        if (that.key() instanceof Text) {
+          return writeField(that.key(), that.value(), output);
+        } else {
+          return writeValue(Record.of(Slot.of("$key", that.key()), Slot.of("$value", that.value())), output);
+        }
+      }
+    } else if (item instanceof Value) {
+      return writeValue((Value) item, output);
+    }
+    throw new WriterException("No JSON serialization for " + item);
+  }
+
+  Output<?> writeField(Item item, Output<?> output, int index) {
+    if (item instanceof Field) {
+      if (item instanceof Attr) {
+        final Attr that = (Attr) item;
+        return writeField('@' + that.key().stringValue(), that.value(), output);
+      } else if (item instanceof Slot) {
+        final Slot that = (Slot) item;
+        if (that.key() instanceof Text) {
+          return writeField(that.key(), that.value(), output);
+        } else {
+          return writeField("$" + index, Record.of(Slot.of("$key", that.key()), Slot.of("$value", that.value())), output);
+        }
+      }
+    } else if (item instanceof Value) {
+      return writeField("$" + index, (Value) item, output);
+    }
+    throw new WriterException("No JSON serialization for " + item);
+  }
+
+  Output<?> writeField(String key, Value value, Output<?> output) {
+    output = writeText(key, output);
+    output = output.write(':');
+    return writeValue(value, output);
+  }
+
+  Output<?> writeField(Value key, Value value, Output<?> output) {
+    output = writeValue(key, output);
+    output = output.write(':');
+    return writeValue(value, output);
+  }
+
+  Output<?> writeValue(Value value, Output<?> output) {
+    if (value instanceof Record) {
+      final Record that = (Record) value;
+      if (that.isArray()) {
+        return writeArray(that.iterator(), output);
+      } else {
+        return writeObject(that.iterator(), output);
+      }
+    } else if (value instanceof Data) {
+      return writeData(((Data) value).asByteBuffer(), output);
+    } else if (value instanceof Text) {
+      return writeText(value.stringValue(), output);
+    } else if (value instanceof Num) {
+      return writeNum((Num) value, output);
+    } else if (value instanceof Bool) {
+      return output.write(value.booleanValue() ? "true" : "false");
+    } else if (value instanceof Extant) {
+      return output.write("null");
+    } else if (value instanceof Absent) {
+      return output.write("undefined");
+    }
+    throw new WriterException("No JSON serialization for " + value);
+  }
+
+  Output<?> writeArray(Iterator<Item> items, Output<?> output) {
+    output = output.write('[');
+    if (items.hasNext()) {
+      output = writeValue(items.next().toValue(), output);
+      while (items.hasNext()) {
+        output = output.write(',');
+        output = writeValue(items.next().toValue(), output);
+      }
+    }
+    return output.write(']');
+  }
+
+  Output<?> writeObject(Iterator<Item> items, Output<?> output) {
+    output = output.write('{');
+    int index = 0;
+    while (items.hasNext()) {
+      if (index != 0) {
+        output = output.write(',');
+      }
+      output = writeField(items.next(), output, index);
+      index += 1;
+    }
+    return output.write('}');
+  }
+
+  static Output<?> writeData(ByteBuffer buffer, Output<?> output) {
+    output = output.write('"');
+    if (buffer != null) {
+      final Writer<?, ?> part = Base64.standard().writeByteBuffer(buffer, output);
+      if (part.isError()) {
+        throw new WriterException(part.trap());
+      } else if (!part.isDone()) {
+        throw new WriterException("truncated");
+      }
+    }
+    return output.write('"');
+  }
+
+  static Output<?> writeText(String string, Output<?> output) {
+    output = output.write('"');
+    for (int i = 0, n = string.length(); i < n; i = string.offsetByCodePoints(i, 1)) {
+      final int c = string.codePointAt(i);
+      if (c == '"' || c == '\\') {
+        output = output.write('\\').write(c);
+      } else if (c == '\b') {
+        output = output.write('\\').write('b');
+      } else if (c == '\f') {
+        output = output.write('\\').write('f');
+      } else if (c == '\n') {
+        output = output.write('\\').write('n');
+      } else if (c == '\r') {
+        output = output.write('\\').write('r');
+      } else if (c == '\t') {
+        output = output.write('\\').write('t');
+      } else if (c < 0x20) {
+        final Base16 base16 = Base16.uppercase();
+        output = output.write('\\').write('u')
+            .write(base16.encodeDigit((c >>> 12) & 0xf))
+            .write(base16.encodeDigit((c >>> 8) & 0xf))
+            .write(base16.encodeDigit((c >>> 4) & 0xf))
+            .write(base16.encodeDigit(c & 0xf));
+      } else {
+        output = output.write(c);
+      }
+    }
+    return output.write('"');
+  }
+
+  static Output<?> writeNum(Num num, Output<?> output) {
+    final Writer<?, ?> part;
+    if (num.isUint32()) {
+      part = Base16.lowercase().writeIntLiteral(num.intValue(), output, 8);
+    } else if (num.isUint64()) {
+      part = Base16.lowercase().writeLongLiteral(num.longValue(), output, 16);
+    } else if (num.isValidInt()) {
+      part = Base10.writeInt(num.intValue(), output);
+    } else if (num.isValidLong()) {
+      part = Base10.writeLong(num.longValue(), output);
+    } else if (num.isValidFloat()) {
+      part = Base10.writeFloat(num.floatValue(), output);
+    } else if (num.isValidDouble()) {
+      part = Base10.writeDouble(num.doubleValue(), output);
+    } else if (num.isValidInteger()) {
+      return output.write(num.integerValue().toString());
+    } else {
+      throw new WriterException("No JSON serialization for " + num);
+    }
+    if (part.isError()) {
+      throw new WriterException(part.trap());
+    } else if (!part.isDone()) {
+      throw new WriterException("truncated");
+    }
+    return output;
+  }
+
+}
@@ -58,7 +58,7 @@ public class JsonStructureParser extends JsonParser<Item, Value> {
   @SuppressWarnings("unchecked")
   @Override
   public Builder<Item, Value> arrayBuilder() {
-    return (Builder<Item, Value>) (Builder<?, ?>) Record.create();
+    return (Builder<Item, Value>) (Builder<?, ?>) Record.packedBuilder();
   }
 
   @SuppressWarnings("unchecked")
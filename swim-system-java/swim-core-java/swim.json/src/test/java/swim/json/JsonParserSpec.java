@@ -15,7 +15,11 @@
 package swim.json;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.testng.annotations.Test;
+import swim.codec.Binary;
+import swim.codec.InputBuffer;
 import swim.codec.ParserException;
 import swim.structure.Attr;
 import swim.structure.Bool;
@@ -25,6 +29,9 @@ import swim.structure.Slot;
 import swim.structure.Text;
 import swim.structure.Value;
 import static org.testng.Assert.ThrowingRunnable;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertThrows;
 
 public class JsonParserSpec {
@@ -32,6 +39,16 @@ public class JsonParserSpec {
   public static void assertParses(String json, Value expected) {
     Assertions.assertParses(Json.structureParser().valueParser(), json, expected);
     Assertions.assertParses(Json.structureParser().valueParser(), " " + json + " ", expected);
+    assertParsesUtf8(json, expected);
+    assertParsesUtf8(" " + json + " ", expected);
+  }
+
+  static void assertParsesUtf8(String json, Value expected) {
+    final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    assertEquals(Json.parseUtf8(bytes), expected);
+    final InputBuffer input = Binary.inputBuffer(ByteBuffer.wrap(bytes));
+    assertEquals(Json.parseUtf8(input), expected);
+    assertEquals(input.index(), bytes.length);
   }
 
   public static void assertParseFails(final String json) {
@@ -41,6 +58,12 @@ public class JsonParserSpec {
         Json.parse(json);
       }
     });
+    assertThrows(ParserException.class, new ThrowingRunnable() {
+      @Override
+      public void run() throws Throwable {
+        Json.parseUtf8(json.getBytes(StandardCharsets.UTF_8));
+      }
+    });
   }
 
   @Test
@@ -435,4 +458,40 @@ public class JsonParserSpec {
     assertParseFails("1 2");
   }
 
+  static Value parseBuffer(String json) {
+    final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    return JsonBufferParser.parse(bytes, 0, bytes.length);
+  }
+
+  @Test
+  public void parseUtf8Documents() {
+    assertNotNull(parseBuffer("{\"@event\":{\"node\":\"/unit/0\"},\"body\":[1,-2.5,true,null]}"));
+    assertNotNull(parseBuffer("{\"é\":\"ü\\n\",\"x\":1e3}"));
+  }
+
+  static void assertParsesNumberType(String json) {
+    final Value expected = Json.parse(json);
+    final Value actual = parseBuffer(json);
+    assertEquals(actual, expected);
+    assertEquals(actual.getClass(), expected.getClass());
+  }
+
+  @Test
+  public void parseUtf8NumberTypes() {
+    assertParsesNumberType("2147483647");
+    assertParsesNumberType("-2147483648");
+    assertParsesNumberType("2147483648");
+    assertParsesNumberType("-2147483649");
+    assertParsesNumberType("-1.5");
+    assertEquals(parseBuffer("-2147483648").getClass(), Num.from(0).getClass());
+    assertEquals(parseBuffer("-2147483649").getClass(), Num.from(0L).getClass());
+  }
+
+  @Test
+  public void parseUtf8DefersToIteratee() {
+    assertNull(parseBuffer("123456789012345678901234567890"));
+    assertParsesUtf8("123456789012345678901234567890",
+                     Num.from(new BigInteger("123456789012345678901234567890")));
+  }
+
 }
@@ -54,6 +54,12 @@ public class JsonWriterSpec {
       assertTrue(writer.isDone());
       assertEquals(actual, expected);
     }
+    final byte[] actual = new byte[expected.length];
+    final OutputBuffer<?> buffer = Binary.outputBuffer(actual);
+    Json.writeStream(item, Utf8.decodedOutput(buffer));
+    assertEquals(buffer.index(), expected.length);
+    assertEquals(actual, expected);
+    assertEquals(Json.toData(item).toByteArray(), expected);
   }
 
   public static void assertWrites(Item item, String expected) {
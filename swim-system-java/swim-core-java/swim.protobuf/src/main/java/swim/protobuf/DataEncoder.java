@@ -0,0 +1,56 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.protobuf;
+
+import java.nio.ByteBuffer;
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+
+final class DataEncoder extends Encoder<Object, Object> {
+
+  final ByteBuffer data;
+  final int index;
+
+  DataEncoder(ByteBuffer data, int index) {
+    this.data = data;
+    this.index = index;
+  }
+
+  static Encoder<Object, Object> encode(OutputBuffer<?> output, ByteBuffer data, int index) {
+    final int limit = data.limit();
+    while (index < limit && output.isCont()) {
+      output = output.write(data.get(index) & 0xff);
+      index += 1;
+    }
+    if (index == limit) {
+      return done();
+    } else if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new DataEncoder(data, index);
+  }
+
+  static Encoder<Object, Object> encode(OutputBuffer<?> output, ByteBuffer data) {
+    return encode(output, data, data.position());
+  }
+
+  @Override
+  public Encoder<Object, Object> pull(OutputBuffer<?> output) {
+    return encode(output, this.data, this.index);
+  }
+
+}
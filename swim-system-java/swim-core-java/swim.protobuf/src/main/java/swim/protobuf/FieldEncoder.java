@@ -0,0 +1,108 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.protobuf;
+
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+
+final class FieldEncoder<I, V> extends Encoder<Object, Object> {
+
+  final ProtobufEncoder<I, V> protobuf;
+  final long key;
+  final WireType wireType;
+  final V value;
+  final SizeTable sizes;
+  final int sizeIndex;
+  final Encoder<?, ?> part;
+  final int step;
+
+  FieldEncoder(ProtobufEncoder<I, V> protobuf, long key, WireType wireType, V value,
+               SizeTable sizes, int sizeIndex, Encoder<?, ?> part, int step) {
+    this.protobuf = protobuf;
+    this.key = key;
+    this.wireType = wireType;
+    this.value = value;
+    this.sizes = sizes;
+    this.sizeIndex = sizeIndex;
+    this.part = part;
+    this.step = step;
+  }
+
+  static <I, V> Encoder<Object, Object> encode(OutputBuffer<?> output, ProtobufEncoder<I, V> protobuf,
+                                               long key, WireType wireType, V value, SizeTable sizes,
+                                               int sizeIndex, Encoder<?, ?> part, int step) {
+    if (step == 1) {
+      if (part == null) {
+        part = VarintEncoder.encode(output, key << 3 | wireType.code);
+      } else {
+        part = part.pull(output);
+      }
+      if (part.isDone()) {
+        part = null;
+        step = wireType.isSized() ? 2 : 3;
+      } else if (part.isError()) {
+        return part.asError();
+      }
+    }
+    if (step == 2) {
+      if (part == null) {
+        part = VarintEncoder.encode(output, sizes.size(sizeIndex));
+      } else {
+        part = part.pull(output);
+      }
+      if (part.isDone()) {
+        part = null;
+        step = 3;
+      } else if (part.isError()) {
+        return part.asError();
+      }
+    }
+    if (step == 3) {
+      if (part == null) {
+        if (wireType.isSized()) {
+          part = protobuf.encodeSized(value, sizes, sizeIndex, output);
+        } else {
+          part = protobuf.encodeScalar(wireType, value, output);
+        }
+      } else {
+        part = part.pull(output);
+      }
+      if (part.isDone()) {
+        return done();
+      } else if (part.isError()) {
+        return part.asError();
+      }
+    }
+    if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new FieldEncoder<I, V>(protobuf, key, wireType, value, sizes, sizeIndex, part, step);
+  }
+
+  static <I, V> Encoder<Object, Object> encode(OutputBuffer<?> output, ProtobufEncoder<I, V> protobuf,
+                                               long key, WireType wireType, V value,
+                                               SizeTable sizes, int sizeIndex) {
+    return encode(output, protobuf, key, wireType, value, sizes, sizeIndex, null, 1);
+  }
+
+  @Override
+  public Encoder<Object, Object> pull(OutputBuffer<?> output) {
+    return encode(output, this.protobuf, this.key, this.wireType, this.value,
+        this.sizes, this.sizeIndex, this.part, this.step);
+  }
+
+}
@@ -0,0 +1,55 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.protobuf;
+
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+
+final class Fixed32Encoder extends Encoder<Object, Object> {
+
+  final int value;
+  final int shift;
+
+  Fixed32Encoder(int value, int shift) {
+    this.value = value;
+    this.shift = shift;
+  }
+
+  static Encoder<Object, Object> encode(OutputBuffer<?> output, int value, int shift) {
+    while (output.isCont()) {
+      output = output.write((value >>> shift) & 0xff);
+      shift += 8;
+      if (shift == 32) {
+        return done();
+      }
+    }
+    if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new Fixed32Encoder(value, shift);
+  }
+
+  static Encoder<Object, Object> encode(OutputBuffer<?> output, int value) {
+    return encode(output, value, 0);
+  }
+
+  @Override
+  public Encoder<Object, Object> pull(OutputBuffer<?> output) {
+    return encode(output, this.value, this.shift);
+  }
+
+}
@@ -0,0 +1,104 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.protobuf;
+
+import java.util.Iterator;
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+
+final class MessageEncoder<I, V> extends Encoder<Object, V> {
+
+  final ProtobufEncoder<I, V> protobuf;
+  final V message;
+  final SizeTable sizes;
+  final Iterator<I> fields;
+  final int sizeIndex;
+  final Encoder<?, ?> part;
+
+  MessageEncoder(ProtobufEncoder<I, V> protobuf, V message, SizeTable sizes,
+                 Iterator<I> fields, int sizeIndex, Encoder<?, ?> part) {
+    this.protobuf = protobuf;
+    this.message = message;
+    this.sizes = sizes;
+    this.fields = fields;
+    this.sizeIndex = sizeIndex;
+    this.part = part;
+  }
+
+  MessageEncoder(ProtobufEncoder<I, V> protobuf, V message) {
+    this(protobuf, message, null, null, 0, null);
+  }
+
+  static <I, V> Encoder<Object, V> encode(OutputBuffer<?> output, ProtobufEncoder<I, V> protobuf,
+                                          V message, SizeTable sizes, Iterator<I> fields,
+                                          int sizeIndex, Encoder<?, ?> part) {
+    if (sizes == null) {
+      // Measure all nested length-delimited values up front.
+      sizes = new SizeTable();
+      try {
+        protobuf.sizeOfFields(message, sizes);
+      } catch (EncoderException cause) {
+        return error(cause);
+      }
+    }
+    if (fields == null) {
+      fields = protobuf.items(message);
+    }
+    do {
+      if (part == null) {
+        if (!fields.hasNext()) {
+          return done(message);
+        }
+        final I field = fields.next();
+        final V value = protobuf.fieldValue(field);
+        final WireType wireType = protobuf.wireType(value);
+        part = FieldEncoder.encode(output, protobuf, protobuf.fieldKey(field), wireType, value, sizes, sizeIndex);
+        if (wireType.isSized()) {
+          sizeIndex = sizes.next(sizeIndex);
+        }
+      } else {
+        part = part.pull(output);
+      }
+      if (part.isDone()) {
+        part = null;
+        continue;
+      } else if (part.isError()) {
+        return part.asError();
+      }
+      break;
+    } while (true);
+    if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new MessageEncoder<I, V>(protobuf, message, sizes, fields, sizeIndex, part);
+  }
+
+  static <I, V> Encoder<Object, V> encode(OutputBuffer<?> output, ProtobufEncoder<I, V> protobuf,
+                                          V message, SizeTable sizes, int sizeIndex) {
+    return encode(output, protobuf, message, sizes, null, sizeIndex, null);
+  }
+
+  static <I, V> Encoder<Object, V> encode(OutputBuffer<?> output, ProtobufEncoder<I, V> protobuf, V message) {
+    return encode(output, protobuf, message, null, null, 0, null);
+  }
+
+  @Override
+  public Encoder<Object, V> pull(OutputBuffer<?> output) {
+    return encode(output, this.protobuf, this.message, this.sizes, this.fields, this.sizeIndex, this.part);
+  }
+
+}
@@ -0,0 +1,79 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.protobuf;
+
+import java.util.Iterator;
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+
+final class PackedEncoder<I, V> extends Encoder<Object, V> {
+
+  final ProtobufEncoder<I, V> protobuf;
+  final WireType wireType;
+  final V value;
+  final Iterator<I> items;
+  final Encoder<?, ?> part;
+
+  PackedEncoder(ProtobufEncoder<I, V> protobuf, WireType wireType, V value,
+                Iterator<I> items, Encoder<?, ?> part) {
+    this.protobuf = protobuf;
+    this.wireType = wireType;
+    this.value = value;
+    this.items = items;
+    this.part = part;
+  }
+
+  static <I, V> Encoder<Object, V> encode(OutputBuffer<?> output, ProtobufEncoder<I, V> protobuf,
+                                          WireType wireType, V value, Iterator<I> items,
+                                          Encoder<?, ?> part) {
+    if (items == null) {
+      items = protobuf.items(value);
+    }
+    do {
+      if (part == null) {
+        if (!items.hasNext()) {
+          return done(value);
+        }
+        part = protobuf.encodeScalar(wireType, protobuf.value(items.next()), output);
+      } else {
+        part = part.pull(output);
+      }
+      if (part.isDone()) {
+        part = null;
+        continue;
+      } else if (part.isError()) {
+        return part.asError();
+      }
+      break;
+    } while (true);
+    if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new PackedEncoder<I, V>(protobuf, wireType, value, items, part);
+  }
+
+  static <I, V> Encoder<Object, V> encode(OutputBuffer<?> output, ProtobufEncoder<I, V> protobuf,
+                                          WireType wireType, V value) {
+    return encode(output, protobuf, wireType, value, null, null);
+  }
+
+  @Override
+  public Encoder<Object, V> pull(OutputBuffer<?> output) {
+    return encode(output, this.protobuf, this.wireType, this.value, this.items, this.part);
+  }
+
+}
@@ -23,11 +23,11 @@ import swim.structure.Value;
 public final class Protobuf {
 
   private static ProtobufDecoder<Item, Value> structureDecoder;
+  private static ProtobufEncoder<Item, Value> structureEncoder;
 
   private Protobuf() {
     // static
   }
-  //private static ProtobufEncoder<Item, Value> structureEncoder;
 
   public static ProtobufDecoder<Item, Value> structureDecoder() {
     if (structureDecoder == null) {
@@ -36,11 +36,11 @@ public final class Protobuf {
     return structureDecoder;
   }
 
-  //public static ProtobufEncoder<Item, Value> structureEncoder() {
-  //  if (structureEncoder == null) {
-  //    structureEncoder = new ProtobufStructureEncoder();
-  //  }
-  //  return structureEncoder;
-  //}
+  public static ProtobufEncoder<Item, Value> structureEncoder() {
+    if (structureEncoder == null) {
+      structureEncoder = new ProtobufStructureEncoder();
+    }
+    return structureEncoder;
+  }
 
 }
@@ -0,0 +1,193 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.protobuf;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import swim.codec.Binary;
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+import swim.codec.Utf8;
+
+public abstract class ProtobufEncoder<I, V> {
+
+  public abstract Iterator<I> items(V value);
+
+  public abstract V value(I item);
+
+  public abstract long fieldKey(I item);
+
+  public abstract V fieldValue(I item);
+
+  public abstract WireType wireType(V value);
+
+  public abstract boolean isMessage(V value);
+
+  public abstract WireType packedType(V value);
+
+  public abstract boolean isText(V value);
+
+  public abstract long varint(V value);
+
+  public abstract int fixed32(V value);
+
+  public abstract long fixed64(V value);
+
+  public abstract String text(V value);
+
+  public abstract ByteBuffer data(V value);
+
+  public int sizeOfMessage(V message) {
+    return sizeOfFields(message, new SizeTable());
+  }
+
+  int sizeOfFields(V message, SizeTable sizes) {
+    int size = 0;
+    final Iterator<I> fields = items(message);
+    while (fields.hasNext()) {
+      final I field = fields.next();
+      final long key = fieldKey(field);
+      if (key <= 0L || key > MAX_FIELD_KEY) {
+        throw new EncoderException("invalid field: " + field);
+      }
+      final V value = fieldValue(field);
+      final WireType wireType = wireType(value);
+      if (wireType == null) {
+        throw new EncoderException("unsupported value: " + value);
+      }
+      size += VarintEncoder.sizeOf(key << 3 | wireType.code);
+      if (wireType.isSized()) {
+        final int payloadSize = sizeOfSized(value, sizes);
+        size += VarintEncoder.sizeOf(payloadSize) + payloadSize;
+      } else {
+        size += sizeOfScalar(wireType, value);
+      }
+    }
+    return size;
+  }
+
+  int sizeOfSized(V value, SizeTable sizes) {
+    final int sizeIndex = sizes.reserve();
+    final int size;
+    if (isMessage(value)) {
+      size = sizeOfFields(value, sizes);
+    } else {
+      final WireType packedType = packedType(value);
+      if (packedType != null) {
+        size = sizeOfPacked(packedType, value);
+      } else if (isText(value)) {
+        size = Utf8.sizeOf(text(value));
+      } else {
+        size = data(value).remaining();
+      }
+    }
+    sizes.define(sizeIndex, size);
+    return size;
+  }
+
+  int sizeOfPacked(WireType wireType, V value) {
+    int size = 0;
+    final Iterator<I> items = items(value);
+    while (items.hasNext()) {
+      size += sizeOfScalar(wireType, value(items.next()));
+    }
+    return size;
+  }
+
+  int sizeOfScalar(WireType wireType, V value) {
+    switch (wireType.code) {
+      case 0:
+        return VarintEncoder.sizeOf(varint(value));
+      case 1:
+        return 8;
+      case 5:
+        return 4;
+      default:
+        throw new EncoderException("unsupported wire type: " + wireType.name());
+    }
+  }
+
+  public byte[] toByteArray(V message) {
+    final SizeTable sizes = new SizeTable();
+    final byte[] bytes = new byte[sizeOfFields(message, sizes)];
+    final Encoder<?, V> encoder = MessageEncoder.encode(Binary.outputBuffer(bytes), this, message, sizes, 0);
+    if (encoder.isError()) {
+      throw new EncoderException(encoder.trap());
+    }
+    return bytes;
+  }
+
+  public Encoder<?, V> encodeMessage(V message, OutputBuffer<?> output) {
+    return MessageEncoder.encode(output, this, message);
+  }
+
+  public Encoder<?, V> messageEncoder(V message) {
+    return new MessageEncoder<I, V>(this, message);
+  }
+
+  Encoder<?, ?> encodeSized(V value, SizeTable sizes, int sizeIndex, OutputBuffer<?> output) {
+    if (isMessage(value)) {
+      return MessageEncoder.encode(output, this, value, sizes, sizeIndex + 1);
+    }
+    final WireType packedType = packedType(value);
+    if (packedType != null) {
+      return PackedEncoder.encode(output, this, packedType, value);
+    } else if (isText(value)) {
+      return encodeText(text(value), output);
+    } else {
+      return encodeData(data(value), output);
+    }
+  }
+
+  public Encoder<?, ?> encodeScalar(WireType wireType, V value, OutputBuffer<?> output) {
+    switch (wireType.code) {
+      case 0:
+        return encodeVarint(varint(value), output);
+      case 1:
+        return encodeFixed64(fixed64(value), output);
+      case 5:
+        return encodeFixed32(fixed32(value), output);
+      default:
+        return Encoder.error(new EncoderException("unsupported wire type: " + wireType.name()));
+    }
+  }
+
+  public Encoder<?, ?> encodeVarint(long value, OutputBuffer<?> output) {
+    return VarintEncoder.encode(output, value);
+  }
+
+  public Encoder<?, ?> encodeSignedVarint(long value, OutputBuffer<?> output) {
+    return VarintEncoder.encodeSigned(output, value);
+  }
+
+  public Encoder<?, ?> encodeFixed64(long value, OutputBuffer<?> output) {
+    return Fixed64Encoder.encode(output, value);
+  }
+
+  public Encoder<?, ?> encodeFixed32(int value, OutputBuffer<?> output) {
+    return Fixed32Encoder.encode(output, value);
+  }
+
+  public Encoder<?, ?> encodeText(String text, OutputBuffer<?> output) {
+    return TextEncoder.encode(output, text);
+  }
+
+  public Encoder<?, ?> encodeData(ByteBuffer data, OutputBuffer<?> output) {
+    return DataEncoder.encode(output, data);
+  }
+
+  static final long MAX_FIELD_KEY = (1L << 29) - 1L;
+
+}
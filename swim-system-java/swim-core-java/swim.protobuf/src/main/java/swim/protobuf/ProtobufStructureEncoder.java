@@ -0,0 +1,147 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.protobuf;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import swim.codec.EncoderException;
+import swim.structure.Bool;
+import swim.structure.Data;
+import swim.structure.Field;
+import swim.structure.Item;
+import swim.structure.Num;
+import swim.structure.Record;
+import swim.structure.Text;
+import swim.structure.Value;
+
+public class ProtobufStructureEncoder extends ProtobufEncoder<Item, Value> {
+
+  @Override
+  public Iterator<Item> items(Value value) {
+    return value.iterator();
+  }
+
+  @Override
+  public Value value(Item item) {
+    return item.toValue();
+  }
+
+  @Override
+  public long fieldKey(Item item) {
+    if (item instanceof Field) {
+      final Value key = item.key();
+      if (key instanceof Num && ((Num) key).isValidLong()) {
+        return key.longValue();
+      }
+    }
+    return -1L;
+  }
+
+  @Override
+  public Value fieldValue(Item item) {
+    return item.toValue();
+  }
+
+  @Override
+  public WireType wireType(Value value) {
+    if (value instanceof Num) {
+      final Number number = value.numberValue();
+      if (number instanceof Double) {
+        return WireType.FIXED64;
+      } else if (number instanceof Float) {
+        return WireType.FIXED32;
+      } else {
+        return WireType.VARINT;
+      }
+    } else if (value instanceof Bool) {
+      return WireType.VARINT;
+    } else if (value instanceof Text || value instanceof Data || value instanceof Record) {
+      return WireType.SIZED;
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public boolean isMessage(Value value) {
+    if (value instanceof Record) {
+      final Record record = (Record) value;
+      for (int i = 0, n = record.size(); i < n; i += 1) {
+        if (fieldKey(record.get(i)) <= 0L) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public WireType packedType(Value value) {
+    if (value instanceof Record) {
+      final Record record = (Record) value;
+      WireType packedType = null;
+      for (int i = 0, n = record.size(); i < n; i += 1) {
+        final Item item = record.get(i);
+        if (!(item instanceof Value)) {
+          return null;
+        }
+        final WireType wireType = wireType((Value) item);
+        if (wireType == null || wireType.isSized() || packedType != null && packedType != wireType) {
+          return null;
+        }
+        packedType = wireType;
+      }
+      return packedType;
+    }
+    return null;
+  }
+
+  @Override
+  public boolean isText(Value value) {
+    return value instanceof Text;
+  }
+
+  @Override
+  public long varint(Value value) {
+    if (value instanceof Bool) {
+      return value.booleanValue() ? 1L : 0L;
+    }
+    return value.longValue();
+  }
+
+  @Override
+  public int fixed32(Value value) {
+    return Float.floatToIntBits(value.floatValue());
+  }
+
+  @Override
+  public long fixed64(Value value) {
+    return Double.doubleToLongBits(value.doubleValue());
+  }
+
+  @Override
+  public String text(Value value) {
+    return value.stringValue();
+  }
+
+  @Override
+  public ByteBuffer data(Value value) {
+    if (value instanceof Data) {
+      return ((Data) value).asByteBuffer();
+    }
+    throw new EncoderException("not data: " + value);
+  }
+
+}
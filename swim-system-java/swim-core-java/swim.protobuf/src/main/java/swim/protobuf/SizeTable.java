@@ -0,0 +1,63 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.protobuf;
+
+/**
+ * Payload sizes of the length-delimited values of a message, recorded in the
+ * order in which they're encoded, so that nested length prefixes can be
+ * written without re-measuring enclosed values.
+ */
+final class SizeTable {
+
+  int[] sizes;
+  int[] spans;
+  int count;
+
+  SizeTable() {
+    this.sizes = EMPTY;
+    this.spans = EMPTY;
+    this.count = 0;
+  }
+
+  int reserve() {
+    final int index = this.count;
+    if (index == this.sizes.length) {
+      final int capacity = Math.max(8, index << 1);
+      final int[] newSizes = new int[capacity];
+      System.arraycopy(this.sizes, 0, newSizes, 0, index);
+      this.sizes = newSizes;
+      final int[] newSpans = new int[capacity];
+      System.arraycopy(this.spans, 0, newSpans, 0, index);
+      this.spans = newSpans;
+    }
+    this.count = index + 1;
+    return index;
+  }
+
+  void define(int index, int size) {
+    this.sizes[index] = size;
+    this.spans[index] = this.count - index - 1;
+  }
+
+  int size(int index) {
+    return this.sizes[index];
+  }
+
+  int next(int index) {
+    return index + 1 + this.spans[index];
+  }
+
+  static final int[] EMPTY = new int[0];
+
+}
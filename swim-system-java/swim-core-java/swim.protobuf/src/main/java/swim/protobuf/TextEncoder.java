@@ -0,0 +1,63 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.protobuf;
+
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+import swim.codec.Utf8;
+import swim.codec.Writer;
+
+final class TextEncoder extends Encoder<Object, Object> {
+
+  final Writer<?, ?> writer;
+
+  TextEncoder(Writer<?, ?> writer) {
+    this.writer = writer;
+  }
+
+  static Encoder<Object, Object> encode(OutputBuffer<?> output, Writer<?, ?> writer) {
+    writer = writer.pull(output);
+    if (writer.isDone()) {
+      return done();
+    } else if (writer.isError()) {
+      return error(writer.trap());
+    } else if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new TextEncoder(writer);
+  }
+
+  static Encoder<Object, Object> encode(OutputBuffer<?> output, String text) {
+    final Writer<?, ?> writer = Utf8.writeString(text, output);
+    if (writer.isDone()) {
+      return done();
+    } else if (writer.isError()) {
+      return error(writer.trap());
+    } else if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new TextEncoder(writer);
+  }
+
+  @Override
+  public Encoder<Object, Object> pull(OutputBuffer<?> output) {
+    return encode(output, this.writer);
+  }
+
+}
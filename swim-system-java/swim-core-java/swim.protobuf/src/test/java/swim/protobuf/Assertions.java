@@ -17,7 +17,9 @@ package swim.protobuf;
 import org.testng.TestException;
 import swim.codec.Binary;
 import swim.codec.Decoder;
+import swim.codec.Encoder;
 import swim.codec.InputBuffer;
+import swim.codec.OutputBuffer;
 import swim.structure.Data;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -53,4 +55,27 @@ public final class Assertions {
     assertDecodes(decodee, Binary.inputBuffer(input.toByteBuffer()), expected);
   }
 
+  public static void assertEncodes(Encoder<?, ?> encodee, Data expected) {
+    for (int i = 0, n = expected.size(); i <= n; i += 1) {
+      final byte[] actual = new byte[n];
+      OutputBuffer<?> output = Binary.outputBuffer(actual);
+      Encoder<?, ?> encoder = encodee;
+      output = output.limit(i).isPart(true);
+      if (encoder.isCont()) {
+        encoder = encoder.pull(output);
+      }
+      output = output.limit(output.capacity()).isPart(false);
+      if (encoder.isCont()) {
+        encoder = encoder.pull(output);
+      }
+      if (encoder.isError()) {
+        throw new TestException(encoder.trap());
+      }
+      assertFalse(encoder.isCont());
+      assertTrue(encoder.isDone());
+      assertFalse(encoder.isError());
+      assertEquals(Data.wrap(actual), expected);
+    }
+  }
+
 }
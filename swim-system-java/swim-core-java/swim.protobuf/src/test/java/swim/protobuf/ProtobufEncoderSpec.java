@@ -0,0 +1,100 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.protobuf;
+
+import org.testng.annotations.Test;
+import swim.codec.Binary;
+import swim.structure.Data;
+import swim.structure.Num;
+import swim.structure.Record;
+import swim.structure.Slot;
+import swim.structure.Value;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ProtobufEncoderSpec {
+
+  public static void assertEncodes(Value value, Data data) {
+    Assertions.assertEncodes(Protobuf.structureEncoder().messageEncoder(value), data);
+    assertEquals(Protobuf.structureEncoder().sizeOfMessage(value), data.size());
+    assertEquals(Data.wrap(Protobuf.structureEncoder().toByteArray(value)), data);
+  }
+
+  public static void assertRoundTrips(Value value, Data data) {
+    assertEncodes(value, data);
+    Assertions.assertDecodes(Protobuf.structureDecoder().payloadDecoder(), data, value);
+  }
+
+  @Test
+  public void encodeVarintFields() {
+    assertRoundTrips(Record.of(Slot.of(Num.from(1), 150)), Data.fromBase16("089601"));
+  }
+
+  @Test
+  public void encodeNegativeVarintFields() {
+    assertEncodes(Record.of(Slot.of(Num.from(1), -1)), Data.fromBase16("08FFFFFFFFFFFFFFFFFF01"));
+  }
+
+  @Test
+  public void encodeFixedFields() {
+    assertEncodes(Record.of(Slot.of(Num.from(1), 1.0f)), Data.fromBase16("0D0000803F"));
+    assertEncodes(Record.of(Slot.of(Num.from(1), 1.0)), Data.fromBase16("09000000000000F03F"));
+  }
+
+  @Test
+  public void encodeTextFields() {
+    assertRoundTrips(Record.of(Slot.of(Num.from(2), "testing")),
+        Data.fromBase16("120774657374696E67"));
+  }
+
+  @Test
+  public void encodeDataFields() {
+    assertEncodes(Record.of(Slot.of(Num.from(2), Data.fromBase16("F0E1D2C3"))),
+        Data.fromBase16("1204F0E1D2C3"));
+  }
+
+  @Test
+  public void encodeMessageFields() {
+    assertRoundTrips(Record.of(Slot.of(Num.from(3), Record.of(Slot.of(Num.from(1), 150)))),
+        Data.fromBase16("1A03089601"));
+  }
+
+  @Test
+  public void encodeDeeplyNestedMessageFields() {
+    assertEncodes(Record.of(Slot.of(Num.from(1), Record.of(Slot.of(Num.from(2), "a"),
+                                                          Slot.of(Num.from(3), Record.of(Slot.of(Num.from(1), 150))))),
+                            Slot.of(Num.from(4), "b")),
+        Data.fromBase16("0A08120161" + "1A03089601" + "220162"));
+  }
+
+  @Test
+  public void encodePackedFields() {
+    assertEncodes(Record.of(Slot.of(Num.from(4), Record.of(3, 270, 86942))),
+        Data.fromBase16("2206038E029EA705"));
+  }
+
+  @Test
+  public void encodeSignedVarints() {
+    final byte[] bytes = new byte[1];
+    assertTrue(Protobuf.structureEncoder().encodeSignedVarint(-1L, Binary.outputBuffer(bytes)).isDone());
+    assertEquals(bytes[0], (byte) 0x01);
+  }
+
+  @Test
+  public void encodeInvalidFields() {
+    assertTrue(Protobuf.structureEncoder().messageEncoder(Record.of(Slot.of("a", 1)))
+        .pull(Binary.outputBuffer(new byte[8])).isError());
+  }
+
+}
@@ -0,0 +1,439 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.recon;
+
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import swim.codec.Binary;
+import swim.codec.DecoderException;
+import swim.codec.Output;
+import swim.codec.ParserException;
+import swim.structure.Attr;
+import swim.structure.Bool;
+import swim.structure.Data;
+import swim.structure.Extant;
+import swim.structure.Field;
+import swim.structure.Item;
+import swim.structure.Num;
+import swim.structure.Record;
+import swim.structure.Slot;
+import swim.structure.Text;
+import swim.structure.Value;
+
+/**
+ * Compact binary encoding of structured values, shared by binary store pages
+ * and binary WARP envelopes.  Each item begins with a tag byte.  Records are
+ * prefixed with their varint item count, text and data with their varint
+ * byte length, and numbers are zig-zag varints or fixed width, so items
+ * decode in a single forward pass without any character parsing.  Items
+ * that have no binary tag, such as expressions, fall back to Recon text.
+ *
+ * <p>Decoding never trusts a length or count beyond the bytes that remain
+ * in the input, and bounds record nesting to {@link #MAX_DEPTH}, so malformed
+ * input fails with a {@link DecoderException} instead of exhausting memory
+ * or stack.
+ */
+public final class BinaryRecon {
+
+  /**
+   * Maximum nesting depth of decoded records and fields.
+   */
+  public static final int MAX_DEPTH = 1024;
+
+  static final int ABSENT = 0x00;
+  static final int EXTANT = 0x01;
+  static final int FALSE = 0x02;
+  static final int TRUE = 0x03;
+  static final int INT32 = 0x04;
+  static final int INT64 = 0x05;
+  static final int FLOAT32 = 0x06;
+  static final int FLOAT64 = 0x07;
+  static final int BIG_INTEGER = 0x08;
+  static final int UINT32 = 0x09;
+  static final int UINT64 = 0x0A;
+  static final int TEXT = 0x0B;
+  static final int DATA = 0x0C;
+  static final int RECORD = 0x0D;
+  static final int ATTR = 0x0E;
+  static final int SLOT = 0x0F;
+  static final int RECON = 0x10;
+
+  static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private BinaryRecon() {
+    // static
+  }
+
+  public static int sizeOf(Item item) {
+    if (item instanceof Field) {
+      if (item instanceof Attr) {
+        final Attr that = (Attr) item;
+        return 1 + sizeOfString(that.key().stringValue()) + sizeOf(that.value());
+      } else if (item instanceof Slot) {
+        final Slot that = (Slot) item;
+        return 1 + sizeOf(that.key()) + sizeOf(that.value());
+      }
+    } else if (item instanceof Record) {
+      final Record that = (Record) item;
+      final int n = that.size();
+      int size = 1 + sizeOfVarint(n);
+      for (int i = 0; i < n; i += 1) {
+        size += sizeOf(that.getItem(i));
+      }
+      return size;
+    } else if (item instanceof Data) {
+      final Data that = (Data) item;
+      final int n = that.size();
+      return 1 + sizeOfVarint(n) + n;
+    } else if (item instanceof Text) {
+      final Text that = (Text) item;
+      return 1 + sizeOfString(that.stringValue());
+    } else if (item instanceof Num) {
+      final Num that = (Num) item;
+      if (that.isUint32()) {
+        return 1 + sizeOfVarint(that.intValue() & 0xFFFFFFFFL);
+      } else if (that.isUint64()) {
+        return 1 + sizeOfVarint(that.longValue());
+      } else if (that.isValidInt()) {
+        return 1 + sizeOfVarint(zigZag(that.intValue()));
+      } else if (that.isValidLong()) {
+        return 1 + sizeOfVarint(zigZag(that.longValue()));
+      } else if (that.isValidFloat()) {
+        return 5;
+      } else if (that.isValidDouble()) {
+        return 9;
+      } else if (that.isValidInteger()) {
+        final int n = that.integerValue().toByteArray().length;
+        return 1 + sizeOfVarint(n) + n;
+      }
+    } else if (item instanceof Bool || item instanceof Extant || !item.isDefined()) {
+      return 1;
+    }
+    return 1 + sizeOfString(Recon.toString(item));
+  }
+
+  public static void write(Item item, Output<?> output) {
+    if (item instanceof Field) {
+      if (item instanceof Attr) {
+        final Attr that = (Attr) item;
+        output.write(ATTR);
+        writeString(that.key().stringValue(), output);
+        write(that.value(), output);
+        return;
+      } else if (item instanceof Slot) {
+        final Slot that = (Slot) item;
+        output.write(SLOT);
+        write(that.key(), output);
+        write(that.value(), output);
+        return;
+      }
+    } else if (item instanceof Record) {
+      final Record that = (Record) item;
+      final int n = that.size();
+      output.write(RECORD);
+      writeVarint(n, output);
+      for (int i = 0; i < n; i += 1) {
+        write(that.getItem(i), output);
+      }
+      return;
+    } else if (item instanceof Data) {
+      final Data that = (Data) item;
+      final int n = that.size();
+      output.write(DATA);
+      writeVarint(n, output);
+      for (int i = 0; i < n; i += 1) {
+        output.write(that.getByte(i) & 0xFF);
+      }
+      return;
+    } else if (item instanceof Text) {
+      final Text that = (Text) item;
+      output.write(TEXT);
+      writeString(that.stringValue(), output);
+      return;
+    } else if (item instanceof Num) {
+      final Num that = (Num) item;
+      if (that.isUint32()) {
+        output.write(UINT32);
+        writeVarint(that.intValue() & 0xFFFFFFFFL, output);
+        return;
+      } else if (that.isUint64()) {
+        output.write(UINT64);
+        writeVarint(that.longValue(), output);
+        return;
+      } else if (that.isValidInt()) {
+        output.write(INT32);
+        writeVarint(zigZag(that.intValue()), output);
+        return;
+      } else if (that.isValidLong()) {
+        output.write(INT64);
+        writeVarint(zigZag(that.longValue()), output);
+        return;
+      } else if (that.isValidFloat()) {
+        output.write(FLOAT32);
+        writeFixed(Float.floatToIntBits(that.floatValue()), 4, output);
+        return;
+      } else if (that.isValidDouble()) {
+        output.write(FLOAT64);
+        writeFixed(Double.doubleToLongBits(that.doubleValue()), 8, output);
+        return;
+      } else if (that.isValidInteger()) {
+        final byte[] bytes = that.integerValue().toByteArray();
+        output.write(BIG_INTEGER);
+        writeVarint(bytes.length, output);
+        for (int i = 0; i < bytes.length; i += 1) {
+          output.write(bytes[i] & 0xFF);
+        }
+        return;
+      }
+    } else if (item instanceof Bool) {
+      output.write(((Bool) item).booleanValue() ? TRUE : FALSE);
+      return;
+    } else if (item instanceof Extant) {
+      output.write(EXTANT);
+      return;
+    } else if (!item.isDefined()) {
+      output.write(ABSENT);
+      return;
+    }
+    output.write(RECON);
+    writeString(Recon.toString(item), output);
+  }
+
+  /**
+   * Decodes a single tagged item from {@code buffer}, throwing a
+   * {@code DecoderException} if the input is truncated or malformed.
+   */
+  public static Item read(ByteBuffer buffer) {
+    try {
+      return readItem(buffer, 0);
+    } catch (BufferUnderflowException cause) {
+      throw new DecoderException("truncated binary item", cause);
+    } catch (ParserException cause) {
+      throw new DecoderException(cause.getMessage(), cause);
+    }
+  }
+
+  static Item readItem(ByteBuffer buffer, int depth) {
+    final int tag = buffer.get() & 0xFF;
+    switch (tag) {
+      case ABSENT:
+        return Value.absent();
+      case EXTANT:
+        return Value.extant();
+      case FALSE:
+        return Bool.from(false);
+      case TRUE:
+        return Bool.from(true);
+      case INT32:
+        return Num.from(unZigZag32((int) readVarint(buffer)));
+      case INT64:
+        return Num.from(unZigZag64(readVarint(buffer)));
+      case FLOAT32:
+        return Num.from(Float.intBitsToFloat((int) readFixed(4, buffer)));
+      case FLOAT64:
+        return Num.from(Double.longBitsToDouble(readFixed(8, buffer)));
+      case BIG_INTEGER:
+        return Num.from(new BigInteger(readBytes(buffer)));
+      case UINT32:
+        return Num.uint32((int) readVarint(buffer));
+      case UINT64:
+        return Num.uint64(readVarint(buffer));
+      case TEXT:
+        return Text.from(readString(buffer));
+      case DATA:
+        return Data.wrap(readBytes(buffer));
+      case RECORD:
+        checkDepth(depth);
+        // Every item takes at least one byte, which bounds the count.
+        final int n = readSize(buffer);
+        final Record record = Record.create(n);
+        for (int i = 0; i < n; i += 1) {
+          record.add(readItem(buffer, depth + 1));
+        }
+        return record;
+      case ATTR:
+        checkDepth(depth);
+        final Text key = Text.from(readString(buffer));
+        return Attr.of(key, readItem(buffer, depth + 1).toValue());
+      case SLOT:
+        checkDepth(depth);
+        final Value slotKey = readItem(buffer, depth + 1).toValue();
+        return Slot.of(slotKey, readItem(buffer, depth + 1).toValue());
+      case RECON:
+        return readRecon(buffer);
+      default:
+        throw new DecoderException("unknown binary item tag: " + tag);
+    }
+  }
+
+  static void checkDepth(int depth) {
+    if (depth >= MAX_DEPTH) {
+      throw new DecoderException("binary item nested deeper than " + MAX_DEPTH);
+    }
+  }
+
+  public static int sizeOfVarint(long value) {
+    int size = 1;
+    while ((value & ~0x7FL) != 0L) {
+      value >>>= 7;
+      size += 1;
+    }
+    return size;
+  }
+
+  public static void writeVarint(long value, Output<?> output) {
+    while ((value & ~0x7FL) != 0L) {
+      output.write(((int) value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    output.write((int) value);
+  }
+
+  public static long readVarint(ByteBuffer buffer) {
+    long value = 0L;
+    int shift = 0;
+    int b;
+    do {
+      if (shift > 63) {
+        throw new DecoderException("malformed varint");
+      }
+      b = buffer.get() & 0xFF;
+      value |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+
+  /**
+   * Reads a varint length or count, and checks that it doesn't exceed the
+   * number of bytes remaining in {@code buffer}.
+   */
+  public static int readSize(ByteBuffer buffer) {
+    final long size = readVarint(buffer);
+    if (size < 0L || size > (long) buffer.remaining()) {
+      throw new DecoderException("binary size " + size + " exceeds " + buffer.remaining() + " remaining bytes");
+    }
+    return (int) size;
+  }
+
+  static long zigZag(int value) {
+    return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+  }
+
+  static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  static int unZigZag32(int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  static long unZigZag64(long value) {
+    return (value >>> 1) ^ -(value & 1L);
+  }
+
+  public static void writeFixed(long bits, int size, Output<?> output) {
+    for (int shift = (size - 1) << 3; shift >= 0; shift -= 8) {
+      output.write((int) (bits >>> shift) & 0xFF);
+    }
+  }
+
+  public static long readFixed(int size, ByteBuffer buffer) {
+    long bits = 0L;
+    for (int i = 0; i < size; i += 1) {
+      bits = (bits << 8) | (long) (buffer.get() & 0xFF);
+    }
+    return bits;
+  }
+
+  public static int sizeOfString(String string) {
+    final int n = utf8Length(string);
+    return sizeOfVarint(n) + n;
+  }
+
+  public static void writeString(String string, Output<?> output) {
+    writeVarint(utf8Length(string), output);
+    for (int i = 0, n = string.length(); i < n; ) {
+      final int c = string.codePointAt(i);
+      i += Character.charCount(c);
+      if (c < 0x80) {
+        output.write(c);
+      } else if (c < 0x800) {
+        output.write(0xC0 | (c >>> 6));
+        output.write(0x80 | (c & 0x3F));
+      } else if (c < 0x10000) {
+        output.write(0xE0 | (c >>> 12));
+        output.write(0x80 | ((c >>> 6) & 0x3F));
+        output.write(0x80 | (c & 0x3F));
+      } else {
+        output.write(0xF0 | (c >>> 18));
+        output.write(0x80 | ((c >>> 12) & 0x3F));
+        output.write(0x80 | ((c >>> 6) & 0x3F));
+        output.write(0x80 | (c & 0x3F));
+      }
+    }
+  }
+
+  public static String readString(ByteBuffer buffer) {
+    final int size = readSize(buffer);
+    if (buffer.hasArray()) {
+      final int position = buffer.position();
+      final String string = new String(buffer.array(), buffer.arrayOffset() + position, size, UTF_8);
+      ((Buffer) buffer).position(position + size);
+      return string;
+    } else {
+      final byte[] bytes = new byte[size];
+      buffer.get(bytes);
+      return new String(bytes, UTF_8);
+    }
+  }
+
+  static Value readRecon(ByteBuffer buffer) {
+    final int size = readSize(buffer);
+    final int limit = buffer.limit();
+    ((Buffer) buffer).limit(buffer.position() + size);
+    final Value value = Recon.parseUtf8(Binary.inputBuffer(buffer));
+    ((Buffer) buffer).limit(limit);
+    return value;
+  }
+
+  static byte[] readBytes(ByteBuffer buffer) {
+    final byte[] bytes = new byte[readSize(buffer)];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  static int utf8Length(String string) {
+    int size = 0;
+    for (int i = 0, n = string.length(); i < n; ) {
+      final int c = string.codePointAt(i);
+      i += Character.charCount(c);
+      if (c < 0x80) {
+        size += 1;
+      } else if (c < 0x800) {
+        size += 2;
+      } else if (c < 0x10000) {
+        size += 3;
+      } else {
+        size += 4;
+      }
+    }
+    return size;
+  }
+
+}
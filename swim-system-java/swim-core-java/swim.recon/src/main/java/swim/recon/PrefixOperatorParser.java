@@ -71,28 +71,40 @@ final class PrefixOperatorParser<I, V> extends Parser<V> {
     }
     if (step == 2) {
       if (rhsParser == null) {
-        rhsParser = recon.parsePrefixOperator(input, builder);
-      }
-      while (rhsParser.isCont() && !input.isEmpty()) {
-        rhsParser = rhsParser.feed(input);
+        if (input.isCont()) {
+          c = input.head();
+          if ("-".equals(operator) && c >= '1' && c <= '9') {
+            // Parse negative integer literals with their sign, so that they
+            // narrow like positive literals do; -2147483648 is an int.
+            return NumberParser.parse(input, recon, -1, 0L, 2, 2);
+          }
+          rhsParser = recon.parsePrefixOperator(input, builder);
+        } else if (input.isDone()) {
+          rhsParser = recon.parsePrefixOperator(input, builder);
+        }
       }
-      if (rhsParser.isDone()) {
-        final V operand = rhsParser.bind();
-        if (!recon.isDistinct(operand)) {
-          return error(Diagnostic.expected("value", input));
-        } else if ("!".equals(operator)) {
-          return done(recon.not(operand));
-        } else if ("~".equals(operator)) {
-          return done(recon.bitwiseNot(operand));
-        } else if ("-".equals(operator)) {
-          return done(recon.negative(operand));
-        } else if ("+".equals(operator)) {
-          return done(recon.positive(operand));
-        } else {
-          return error(Diagnostic.message(operator, input));
+      if (rhsParser != null) {
+        while (rhsParser.isCont() && !input.isEmpty()) {
+          rhsParser = rhsParser.feed(input);
+        }
+        if (rhsParser.isDone()) {
+          final V operand = rhsParser.bind();
+          if (!recon.isDistinct(operand)) {
+            return error(Diagnostic.expected("value", input));
+          } else if ("!".equals(operator)) {
+            return done(recon.not(operand));
+          } else if ("~".equals(operator)) {
+            return done(recon.bitwiseNot(operand));
+          } else if ("-".equals(operator)) {
+            return done(recon.negative(operand));
+          } else if ("+".equals(operator)) {
+            return done(recon.positive(operand));
+          } else {
+            return error(Diagnostic.message(operator, input));
+          }
+        } else if (rhsParser.isError()) {
+          return rhsParser.asError();
         }
-      } else if (rhsParser.isError()) {
-        return rhsParser.asError();
       }
     }
     if (input.isError()) {
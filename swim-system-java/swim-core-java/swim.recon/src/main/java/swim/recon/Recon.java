@@ -14,13 +14,19 @@
 
 package swim.recon;
 
+import swim.codec.Binary;
 import swim.codec.Decoder;
+import swim.codec.Diagnostic;
 import swim.codec.Encoder;
+import swim.codec.Input;
+import swim.codec.InputBuffer;
 import swim.codec.Output;
 import swim.codec.Parser;
+import swim.codec.ParserException;
 import swim.codec.Unicode;
 import swim.codec.Utf8;
 import swim.codec.Writer;
+import swim.codec.WriterException;
 import swim.structure.Data;
 import swim.structure.Form;
 import swim.structure.Item;
@@ -33,6 +39,7 @@ public final class Recon {
 
   private static ReconParser<Item, Value> structureParser;
   private static ReconWriter<Item, Value> structureWriter;
+  private static ReconStreamWriter streamWriter;
 
   private Recon() {
     // static
@@ -103,10 +110,76 @@ public final class Recon {
     return structureWriter;
   }
 
+  static ReconStreamWriter streamWriter() {
+    if (streamWriter == null) {
+      streamWriter = new ReconStreamWriter(structureWriter());
+    }
+    return streamWriter;
+  }
+
   public static Value parse(String recon) {
     return structureParser().parseBlockString(recon);
   }
 
+  /**
+   * Parses the complete UTF-8 encoded Recon block in the {@code length}
+   * bytes of {@code array} starting at {@code offset}.  Common syntax is
+   * parsed in a single non-resumable pass over the array; anything else
+   * defers to the iteratee parser.
+   *
+   * @throws ParserException if the input is not a valid Recon block.
+   */
+  public static Value parseUtf8(byte[] array, int offset, int length) {
+    final Value value = ReconBufferParser.parse(array, offset, length);
+    if (value != null) {
+      return value;
+    }
+    return parseBlockInput(Utf8.decodedInput(Binary.inputBuffer(array, offset, length)));
+  }
+
+  public static Value parseUtf8(byte[] array) {
+    return parseUtf8(array, 0, array.length);
+  }
+
+  /**
+   * Parses the complete UTF-8 encoded Recon block between the index and
+   * the limit of {@code input}, and advances the index to the limit.  Takes
+   * the non-resumable fast path of {@link #parseUtf8(byte[], int, int)}
+   * when {@code input} is backed by an accessible array.
+   *
+   * @throws ParserException if the input is not a valid Recon block.
+   */
+  public static Value parseUtf8(InputBuffer input) {
+    if (input.hasArray()) {
+      final int index = input.index();
+      final int limit = input.limit();
+      final Value value = ReconBufferParser.parse(input.array(), input.arrayOffset() + index, limit - index);
+      if (value != null) {
+        input.index(limit);
+        return value;
+      }
+    }
+    return parseBlockInput(Utf8.decodedInput(input));
+  }
+
+  static Value parseBlockInput(Input input) {
+    while (input.isCont() && isWhitespace(input.head())) {
+      input = input.step();
+    }
+    Parser<Value> parser = structureParser().parseBlock(input);
+    if (parser.isDone()) {
+      while (input.isCont() && isWhitespace(input.head())) {
+        input = input.step();
+      }
+    }
+    if (input.isCont() && !parser.isError()) {
+      parser = Parser.error(Diagnostic.unexpected(input));
+    } else if (input.isError()) {
+      parser = Parser.error(input.trap());
+    }
+    return parser.bind();
+  }
+
   public static Parser<Value> parser() {
     return structureParser().blockParser();
   }
@@ -127,27 +200,48 @@ public final class Recon {
     return structureWriter().writeBlockItem(item, output);
   }
 
+  /**
+   * Writes the Recon encoding of {@code item} to {@code output} in a single
+   * pass, without returning a resumable {@code Writer} continuation.  The
+   * {@code output} must accept all written input, as growable and correctly
+   * pre-sized outputs do.
+   *
+   * @throws WriterException if {@code output} enters the error state, or
+   *         if a nested writer fails to complete.
+   */
+  public static void writeStream(Item item, Output<?> output) {
+    streamWriter().write(item, output);
+  }
+
+  /**
+   * Writes the Recon block encoding of {@code item} to {@code output} in a
+   * single pass; see {@link #writeStream(Item, Output)}.
+   */
+  public static void writeBlockStream(Item item, Output<?> output) {
+    streamWriter().writeBlock(item, output);
+  }
+
   public static String toString(Item item) {
     final Output<String> output = Unicode.stringOutput();
-    write(item, output);
+    writeStream(item, output);
     return output.bind();
   }
 
   public static String toBlockString(Item item) {
     final Output<String> output = Unicode.stringOutput();
-    writeBlock(item, output);
+    writeBlockStream(item, output);
     return output.bind();
   }
 
   public static Data toData(Item item) {
     final Output<Data> output = Utf8.encodedOutput(Data.output());
-    write(item, output);
+    writeStream(item, output);
     return output.bind();
   }
 
   public static Data toBlockData(Item item) {
     final Output<Data> output = Utf8.encodedOutput(Data.output());
-    writeBlock(item, output);
+    writeBlockStream(item, output);
     return output.bind();
   }
 
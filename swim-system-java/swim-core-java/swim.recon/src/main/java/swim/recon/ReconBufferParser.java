@@ -0,0 +1,594 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.recon;
+
+import java.nio.charset.StandardCharsets;
+import swim.codec.Base16;
+import swim.structure.Attr;
+import swim.structure.Bool;
+import swim.structure.Item;
+import swim.structure.Num;
+import swim.structure.Record;
+import swim.structure.Slot;
+import swim.structure.Text;
+import swim.structure.Value;
+import swim.util.Builder;
+
+/**
+ * Non-resumable Recon parser for a complete UTF-8 encoded byte array.
+ * Recursively descends over the array without allocating a {@code Parser}
+ * continuation per syntactic element.  Handles blocks, records, attributes,
+ * strings, numbers, and identifiers; gives up on operators, selectors,
+ * markup, data, and any malformed input, in which case {@link #parse(byte[],
+ * int, int)} returns {@code null} so the caller can defer to the iteratee
+ * parser, which produces the definitive result or diagnostic.
+ */
+final class ReconBufferParser {
+
+  final byte[] array;
+  final int limit;
+  int index;
+
+  ReconBufferParser(byte[] array, int index, int limit) {
+    this.array = array;
+    this.index = index;
+    this.limit = limit;
+  }
+
+  static Value parse(byte[] array, int offset, int length) {
+    final ReconBufferParser parser = new ReconBufferParser(array, offset, offset + length);
+    try {
+      return parser.parseDocument();
+    } catch (Unsupported e) {
+      return null;
+    }
+  }
+
+  Value parseDocument() {
+    skipWhitespace();
+    final Value value = parseBlock();
+    skipWhitespace();
+    if (this.index < this.limit) {
+      throw Unsupported.INSTANCE;
+    }
+    return value;
+  }
+
+  Value parseBlock() {
+    Builder<Item, Value> builder = null;
+    do {
+      skipWhitespace();
+      if (this.index >= this.limit) {
+        break;
+      }
+      int c = this.array[this.index] & 0xff;
+      if (c == '#') {
+        this.index += 1;
+        skipComment();
+        continue;
+      } else if (!isBlockStart(c)) {
+        throw Unsupported.INSTANCE;
+      }
+      if (builder == null) {
+        builder = valueBuilder();
+      }
+      final Value key = parseBlockExpression();
+      if (this.index < this.limit && this.array[this.index] == ':') {
+        this.index += 1;
+        skipSpaces();
+        if (this.index < this.limit) {
+          builder.add(Slot.of(key, parseBlockExpression()));
+        } else {
+          builder.add(Slot.of(key));
+        }
+      } else {
+        builder.add(key);
+      }
+      skipSpaces();
+      if (this.index >= this.limit) {
+        break;
+      }
+      c = this.array[this.index];
+      if (c == ',' || c == ';' || Recon.isNewline(c)) {
+        this.index += 1;
+      } else if (c == '#') {
+        this.index += 1;
+        skipComment();
+      } else {
+        break;
+      }
+    } while (true);
+    return builder != null ? builder.bind() : Value.absent();
+  }
+
+  void parseRecord(Builder<Item, Value> builder) {
+    this.index += 1; // '{'
+    do {
+      skipWhitespace();
+      if (this.index >= this.limit) {
+        throw Unsupported.INSTANCE;
+      }
+      int c = this.array[this.index];
+      if (c == '}') {
+        this.index += 1;
+        return;
+      } else if (c == '#') {
+        this.index += 1;
+        skipComment();
+        continue;
+      }
+      final Value key = parseBlockExpression();
+      if (this.index >= this.limit) {
+        throw Unsupported.INSTANCE;
+      }
+      if (this.array[this.index] == ':') {
+        this.index += 1;
+        skipSpaces();
+        if (this.index >= this.limit) {
+          throw Unsupported.INSTANCE;
+        }
+        builder.add(Slot.of(key, parseBlockExpression()));
+      } else {
+        builder.add(key);
+      }
+      skipSpaces();
+      if (this.index >= this.limit) {
+        throw Unsupported.INSTANCE;
+      }
+      c = this.array[this.index];
+      if (c == ',' || c == ';' || Recon.isNewline(c)) {
+        this.index += 1;
+      } else if (c == '#') {
+        this.index += 1;
+        skipComment();
+      } else if (c == '}') {
+        this.index += 1;
+        return;
+      } else {
+        throw Unsupported.INSTANCE;
+      }
+    } while (true);
+  }
+
+  /**
+   * Parses an attribute expression, and leaves the index at the first
+   * non-space character following it, which must end the expression;
+   * anything else would continue an operator, invocation, or lambda.
+   */
+  Value parseBlockExpression() {
+    final Value value = parseAttrExpression();
+    skipSpaces();
+    if (this.index < this.limit) {
+      final int c = this.array[this.index];
+      if (c != ',' && c != ';' && !Recon.isNewline(c) && c != ':'
+          && c != '}' && c != ')' && c != '#') {
+        throw Unsupported.INSTANCE;
+      }
+    }
+    return value;
+  }
+
+  Value parseAttrExpression() {
+    Builder<Item, Value> builder = null;
+    do {
+      skipSpaces();
+      if (this.index >= this.limit) {
+        break;
+      }
+      final int c = this.array[this.index] & 0xff;
+      if (c == '@') {
+        final Item attr = parseAttr();
+        if (builder == null) {
+          builder = recordBuilder();
+        }
+        builder.add(attr);
+        continue;
+      } else if (c == '{') {
+        if (builder == null) {
+          builder = recordBuilder();
+        }
+        parseRecord(builder);
+      } else if (c == '"' || c == '\'' || c == '-' || c >= '0' && c <= '9'
+          || Recon.isIdentStartChar(c) || c >= 0x80) {
+        final Value value = parseValue();
+        if (builder == null) {
+          builder = valueBuilder();
+        }
+        builder.add(value);
+      } else if (c == '!' || c == '$' || c == '%' || c == '(' || c == '+'
+          || c == '[' || c == '~') {
+        throw Unsupported.INSTANCE;
+      } else {
+        break;
+      }
+      skipSpaces();
+      if (this.index < this.limit && this.array[this.index] == '@') {
+        continue;
+      }
+      break;
+    } while (true);
+    return builder != null ? builder.bind() : Value.extant();
+  }
+
+  Item parseAttr() {
+    this.index += 1; // '@'
+    if (this.index >= this.limit) {
+      throw Unsupported.INSTANCE;
+    }
+    final int c = this.array[this.index];
+    final Text key;
+    if (c == '"' || c == '\'') {
+      key = parseString();
+    } else {
+      key = parseIdent();
+      if ("true".equals(key.stringValue()) || "false".equals(key.stringValue())) {
+        throw Unsupported.INSTANCE;
+      }
+    }
+    if (this.index < this.limit && this.array[this.index] == '(') {
+      this.index += 1;
+      skipWhitespace();
+      if (this.index >= this.limit) {
+        throw Unsupported.INSTANCE;
+      } else if (this.array[this.index] == ')') {
+        this.index += 1;
+        return Attr.of(key);
+      }
+      final Value value = parseBlock();
+      skipWhitespace();
+      if (this.index >= this.limit || this.array[this.index] != ')') {
+        throw Unsupported.INSTANCE;
+      }
+      this.index += 1;
+      return Attr.of(key, value);
+    }
+    return Attr.of(key);
+  }
+
+  Value parseValue() {
+    final int c = this.array[this.index];
+    if (c == '"' || c == '\'') {
+      return parseString();
+    } else if (c >= '0' && c <= '9') {
+      return parseNumber(1);
+    } else if (c == '-') {
+      this.index += 1;
+      if (this.index < this.limit) {
+        final int d = this.array[this.index];
+        if (d >= '0' && d <= '9') {
+          return parseNumber(-1);
+        }
+      }
+      throw Unsupported.INSTANCE;
+    } else {
+      final Text ident = parseIdent();
+      final String string = ident.stringValue();
+      if ("true".equals(string)) {
+        return Bool.from(true);
+      } else if ("false".equals(string)) {
+        return Bool.from(false);
+      }
+      return ident;
+    }
+  }
+
+  Num parseNumber(int sign) {
+    final int start = this.index;
+    int c = this.array[this.index];
+    long value = c - '0';
+    this.index += 1;
+    if (c == '0') {
+      if (this.index < this.limit && this.array[this.index] == 'x') {
+        this.index += 1;
+        final Num hex = parseHexadecimal();
+        return sign < 0 ? hex.negative() : hex;
+      }
+    } else {
+      while (this.index < this.limit) {
+        c = this.array[this.index];
+        if (c >= '0' && c <= '9') {
+          if (value > (Long.MAX_VALUE - 9L) / 10L) {
+            throw Unsupported.INSTANCE; // possible BigInteger
+          }
+          value = 10L * value + (c - '0');
+          this.index += 1;
+        } else {
+          break;
+        }
+      }
+    }
+    if (this.index < this.limit) {
+      c = this.array[this.index];
+      if (c == '.' || c == 'E' || c == 'e') {
+        if (c == '.') {
+          this.index += 1;
+          skipDigits();
+          if (this.index < this.limit) {
+            c = this.array[this.index];
+          } else {
+            c = 0;
+          }
+        }
+        if (c == 'E' || c == 'e') {
+          this.index += 1;
+          if (this.index < this.limit) {
+            c = this.array[this.index];
+            if (c == '+' || c == '-') {
+              this.index += 1;
+            }
+          }
+          skipDigits();
+        }
+        return Num.from(sign * Double.parseDouble(new String(this.array, start, this.index - start,
+                                                             StandardCharsets.US_ASCII)));
+      }
+    }
+    // Apply the sign before narrowing, so that -2147483648 parses as an int.
+    value = sign * value;
+    if ((int) value == value) {
+      return Num.from((int) value);
+    } else {
+      return Num.from(value);
+    }
+  }
+
+  Num parseHexadecimal() {
+    long value = 0L;
+    int size = 0;
+    while (this.index < this.limit) {
+      final int c = this.array[this.index];
+      if (Base16.isDigit(c)) {
+        value = (value << 4) | Base16.decodeDigit(c);
+        size += 1;
+        this.index += 1;
+      } else {
+        break;
+      }
+    }
+    if (size == 0 || size > 16) {
+      throw Unsupported.INSTANCE;
+    } else if (size <= 8) {
+      return Num.uint32((int) value);
+    } else {
+      return Num.uint64(value);
+    }
+  }
+
+  /**
+   * Skips one or more decimal digits.
+   */
+  void skipDigits() {
+    final int start = this.index;
+    while (this.index < this.limit) {
+      final int c = this.array[this.index];
+      if (c >= '0' && c <= '9') {
+        this.index += 1;
+      } else {
+        break;
+      }
+    }
+    if (this.index == start) {
+      throw Unsupported.INSTANCE;
+    }
+  }
+
+  Text parseString() {
+    final int quote = this.array[this.index];
+    this.index += 1;
+    final int start = this.index;
+    while (this.index < this.limit) {
+      final int c = this.array[this.index] & 0xff;
+      if (c == quote) {
+        final String string = new String(this.array, start, this.index - start, StandardCharsets.UTF_8);
+        this.index += 1;
+        return Text.from(string);
+      } else if (c == '\\') {
+        return parseEscapedString(quote, start);
+      } else if (c >= 0x80) {
+        decodeCodePoint();
+      } else if (c >= 0x20) {
+        this.index += 1;
+      } else {
+        throw Unsupported.INSTANCE;
+      }
+    }
+    throw Unsupported.INSTANCE;
+  }
+
+  Text parseEscapedString(int quote, int start) {
+    final StringBuilder builder = new StringBuilder(this.index - start + 16);
+    builder.append(new String(this.array, start, this.index - start, StandardCharsets.UTF_8));
+    while (this.index < this.limit) {
+      int c = this.array[this.index] & 0xff;
+      if (c == quote) {
+        this.index += 1;
+        return Text.from(builder.toString());
+      } else if (c == '\\') {
+        this.index += 1;
+        if (this.index >= this.limit) {
+          throw Unsupported.INSTANCE;
+        }
+        c = this.array[this.index];
+        this.index += 1;
+        if (c == '"' || c == '$' || c == '\'' || c == '/' || c == '@' || c == '['
+            || c == '\\' || c == ']' || c == '{' || c == '}') {
+          builder.append((char) c);
+        } else if (c == 'b') {
+          builder.append('\b');
+        } else if (c == 'f') {
+          builder.append('\f');
+        } else if (c == 'n') {
+          builder.append('\n');
+        } else if (c == 'r') {
+          builder.append('\r');
+        } else if (c == 't') {
+          builder.append('\t');
+        } else if (c == 'u') {
+          if (this.index + 4 > this.limit) {
+            throw Unsupported.INSTANCE;
+          }
+          int code = 0;
+          for (int i = 0; i < 4; i += 1) {
+            c = this.array[this.index];
+            if (!Base16.isDigit(c)) {
+              throw Unsupported.INSTANCE;
+            }
+            code = (code << 4) | Base16.decodeDigit(c);
+            this.index += 1;
+          }
+          builder.appendCodePoint(code);
+        } else {
+          throw Unsupported.INSTANCE;
+        }
+      } else if (c >= 0x80) {
+        builder.appendCodePoint(decodeCodePoint());
+      } else if (c >= 0x20) {
+        builder.append((char) c);
+        this.index += 1;
+      } else {
+        throw Unsupported.INSTANCE;
+      }
+    }
+    throw Unsupported.INSTANCE;
+  }
+
+  Text parseIdent() {
+    final int start = this.index;
+    int c = this.array[this.index] & 0xff;
+    if (c < 0x80) {
+      if (!Recon.isIdentStartChar(c)) {
+        throw Unsupported.INSTANCE;
+      }
+      this.index += 1;
+    } else if (!Recon.isIdentStartChar(decodeCodePoint())) {
+      throw Unsupported.INSTANCE;
+    }
+    boolean ascii = c < 0x80;
+    while (this.index < this.limit) {
+      c = this.array[this.index] & 0xff;
+      if (c < 0x80) {
+        if (Recon.isIdentChar(c)) {
+          this.index += 1;
+        } else {
+          break;
+        }
+      } else {
+        final int index = this.index;
+        if (Recon.isIdentChar(decodeCodePoint())) {
+          ascii = false;
+        } else {
+          this.index = index;
+          break;
+        }
+      }
+    }
+    return Text.from(new String(this.array, start, this.index - start,
+                                ascii ? StandardCharsets.US_ASCII : StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes the well-formed, shortest form UTF-8 sequence at the current
+   * index, and advances past it.
+   */
+  int decodeCodePoint() {
+    final int b0 = this.array[this.index] & 0xff;
+    final int size;
+    int c;
+    if (b0 >= 0xc2 && b0 <= 0xdf) {
+      size = 2;
+      c = b0 & 0x1f;
+    } else if (b0 >= 0xe0 && b0 <= 0xef) {
+      size = 3;
+      c = b0 & 0x0f;
+    } else if (b0 >= 0xf0 && b0 <= 0xf4) {
+      size = 4;
+      c = b0 & 0x07;
+    } else {
+      throw Unsupported.INSTANCE;
+    }
+    if (this.index + size > this.limit) {
+      throw Unsupported.INSTANCE;
+    }
+    for (int i = 1; i < size; i += 1) {
+      final int b = this.array[this.index + i] & 0xff;
+      if ((b & 0xc0) != 0x80) {
+        throw Unsupported.INSTANCE;
+      }
+      c = (c << 6) | (b & 0x3f);
+    }
+    if (size == 3 && (c < 0x800 || c >= 0xd800 && c <= 0xdfff)
+        || size == 4 && (c < 0x10000 || c > 0x10ffff)) {
+      throw Unsupported.INSTANCE;
+    }
+    this.index += size;
+    return c;
+  }
+
+  void skipSpaces() {
+    while (this.index < this.limit && Recon.isSpace(this.array[this.index])) {
+      this.index += 1;
+    }
+  }
+
+  void skipWhitespace() {
+    while (this.index < this.limit && Recon.isWhitespace(this.array[this.index])) {
+      this.index += 1;
+    }
+  }
+
+  void skipComment() {
+    while (this.index < this.limit) {
+      final int c = this.array[this.index] & 0xff;
+      if (Recon.isNewline(c)) {
+        break;
+      } else if (c >= 0x80) {
+        decodeCodePoint();
+      } else {
+        this.index += 1;
+      }
+    }
+  }
+
+  static boolean isBlockStart(int c) {
+    return c == '!' || c == '"' || c == '$' || c == '%' || c == '\'' || c == '('
+        || c == '+' || c == '-' || c >= '0' && c <= '9' || c == '@' || c == '['
+        || c == '{' || c == '~' || Recon.isIdentStartChar(c) || c >= 0x80;
+  }
+
+  static Builder<Item, Value> valueBuilder() {
+    return Value.builder();
+  }
+
+  @SuppressWarnings("unchecked")
+  static Builder<Item, Value> recordBuilder() {
+    return (Builder<Item, Value>) (Builder<?, ?>) Record.packedBuilder();
+  }
+
+  /**
+   * Thrown to abandon the fast path; carries no stack trace.
+   */
+  static final class Unsupported extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    static final Unsupported INSTANCE = new Unsupported();
+
+    private Unsupported() {
+      super(null, null, false, false);
+    }
+
+  }
+
+}
@@ -0,0 +1,364 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.recon;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import swim.codec.Base10;
+import swim.codec.Base16;
+import swim.codec.Base64;
+import swim.codec.Output;
+import swim.codec.Writer;
+import swim.codec.WriterException;
+import swim.structure.Absent;
+import swim.structure.Attr;
+import swim.structure.Bool;
+import swim.structure.Data;
+import swim.structure.Expression;
+import swim.structure.Extant;
+import swim.structure.Field;
+import swim.structure.Func;
+import swim.structure.Item;
+import swim.structure.Num;
+import swim.structure.Operator;
+import swim.structure.Record;
+import swim.structure.Selector;
+import swim.structure.Slot;
+import swim.structure.Text;
+import swim.structure.Value;
+
+/**
+ * Single-pass Recon writer for structure values.  Emits straight into an
+ * {@code Output} that accepts all of its input, such as a growable or
+ * pre-sized buffer, without allocating a resumable {@code Writer} state
+ * machine for every nested item.  Produces the same text as {@link
+ * ReconStructureWriter}, to which it defers selectors, operators, and
+ * functions.
+ */
+final class ReconStreamWriter {
+
+  final ReconWriter<Item, Value> recon;
+
+  ReconStreamWriter(ReconWriter<Item, Value> recon) {
+    this.recon = recon;
+  }
+
+  void write(Item item, Output<?> output) {
+    output = writeItem(item, output);
+    if (output.isError()) {
+      throw new WriterException(output.trap());
+    }
+  }
+
+  void writeBlock(Item item, Output<?> output) {
+    output = writeBlockItem(item, output);
+    if (output.isError()) {
+      throw new WriterException(output.trap());
+    }
+  }
+
+  Output<?> writeItem(Item item, Output<?> output) {
+    if (item instanceof Field) {
+      if (item instanceof Attr) {
+        final Attr that = (Attr) item;
+        return writeAttr(that.key(), that.value(), output);
+      } else if (item instanceof Slot) {
+        final Slot that = (Slot) item;
+        return writeSlot(that.key(), that.value(), output);
+      }
+    } else if (item instanceof Value) {
+      return writeValue((Value) item, output);
+    }
+    throw new WriterException("No Recon serialization for " + item);
+  }
+
+  Output<?> writeBlockItem(Item item, Output<?> output) {
+    if (item instanceof Field) {
+      return writeItem(item, output);
+    } else if (item instanceof Value) {
+      return writeBlockValue((Value) item, output);
+    }
+    throw new WriterException("No Recon serialization for " + item);
+  }
+
+  Output<?> writeValue(Value value, Output<?> output) {
+    if (value instanceof Record) {
+      return writeRecord((Record) value, output);
+    } else if (value instanceof Text) {
+      return writeText(value.stringValue(), output);
+    } else if (value instanceof Num) {
+      return writeNum((Num) value, output);
+    } else if (value instanceof Bool) {
+      return output.write(value.booleanValue() ? "true" : "false");
+    } else if (value instanceof Data) {
+      final ByteBuffer buffer = ((Data) value).asByteBuffer();
+      output = output.write('%');
+      if (buffer != null) {
+        output = drain(Base64.standard().writeByteBuffer(buffer, output), output);
+      }
+      return output;
+    } else if (value instanceof Selector || value instanceof Operator || value instanceof Func) {
+      return drain(this.recon.writeValue(value, output), output);
+    } else if (value instanceof Extant || value instanceof Absent) {
+      return output;
+    }
+    throw new WriterException("No Recon serialization for " + value);
+  }
+
+  Output<?> writeBlockValue(Value value, Output<?> output) {
+    if (value instanceof Record) {
+      final Record record = (Record) value;
+      if (!record.isEmpty()) {
+        return writeBlock(record.iterator(), output, this.recon.isBlockSafe(record.iterator()), false);
+      } else {
+        return output.write("{}");
+      }
+    }
+    return writeValue(value, output);
+  }
+
+  Output<?> writeRecord(Record record, Output<?> output) {
+    if (!record.isEmpty()) {
+      return writeBlock(record.iterator(), output, false, false);
+    } else {
+      return output.write("{}");
+    }
+  }
+
+  Output<?> writeAttr(Value key, Value value, Output<?> output) {
+    output = output.write('@');
+    output = writeValue(key, output);
+    if (!(value instanceof Extant)) {
+      output = output.write('(');
+      output = writeBlockValue(value, output);
+      output = output.write(')');
+    }
+    return output;
+  }
+
+  Output<?> writeSlot(Value key, Value value, Output<?> output) {
+    output = writeValue(key, output);
+    output = output.write(':');
+    if (!(value instanceof Extant)) {
+      output = writeValue(value, output);
+    }
+    return output;
+  }
+
+  Output<?> writeBlock(Iterator<Item> items, Output<?> output, boolean inBlock, boolean inMarkup) {
+    boolean inBraces = false;
+    boolean inBrackets = false;
+    boolean first = true;
+    boolean markupSafe = true;
+    Item next = null;
+    while (next != null || items.hasNext()) {
+      final Item item;
+      if (next == null) {
+        item = items.next();
+      } else {
+        item = next;
+        next = null;
+      }
+      if (items.hasNext()) {
+        next = items.next();
+      }
+      if (item instanceof Expression) {
+        markupSafe = false;
+      }
+      if (inBrackets && item instanceof Attr) {
+        if (inBraces) {
+          output = output.write('}');
+          inBraces = false;
+        }
+        output = output.write(']');
+        inBrackets = false;
+      }
+      if (item instanceof Attr) {
+        if (inBraces) {
+          output = output.write('}');
+          inBraces = false;
+        } else if (inBrackets) {
+          output = output.write(']');
+          inBrackets = false;
+        }
+        output = writeItem(item, output);
+        first = false;
+      } else if (inBrackets && item instanceof Text) {
+        if (inBraces) {
+          output = output.write('}');
+          inBraces = false;
+        }
+        output = writeMarkupText(item.stringValue(), output);
+      } else if (inBraces) {
+        if (!first) {
+          output = output.write(',');
+        } else {
+          first = false;
+        }
+        output = writeBlockField(item, output);
+      } else if (inBrackets) {
+        if (item instanceof Record && this.recon.isMarkupSafe(item.iterator())) {
+          output = writeBlock(item.iterator(), output, false, true);
+          if (next instanceof Text) {
+            output = writeMarkupText(next.stringValue(), output);
+            next = null;
+          } else if (next != null && !(next instanceof Attr)) {
+            output = output.write('{');
+            inBraces = true;
+            first = true;
+          } else {
+            output = output.write(']');
+            inBrackets = false;
+          }
+        } else {
+          output = output.write('{');
+          output = writeItem(item, output);
+          inBraces = true;
+          first = false;
+        }
+      } else if (markupSafe && item instanceof Text && next != null && !(next instanceof Field)
+          && !(next instanceof Text) && !(next instanceof Bool)) {
+        output = output.write('[');
+        output = writeMarkupText(item.stringValue(), output);
+        inBrackets = true;
+      } else if (inBlock) {
+        if (!first) {
+          output = output.write(',');
+        } else {
+          first = false;
+        }
+        output = writeBlockField(item, output);
+      } else if (inMarkup && item instanceof Text && next == null) {
+        output = output.write('[');
+        output = writeMarkupText(item.stringValue(), output);
+        output = output.write(']');
+      } else if (!inMarkup && item instanceof Value && !(item instanceof Record)
+          && (!first && next == null || next instanceof Attr)) {
+        if (!first && (item instanceof Text && this.recon.isIdent(item.stringValue())
+            || item instanceof Num || item instanceof Bool)) {
+          output = output.write(' ');
+        }
+        output = writeItem(item, output);
+      } else {
+        output = output.write('{');
+        output = writeItem(item, output);
+        inBraces = true;
+        first = false;
+      }
+    }
+    if (inBraces) {
+      output = output.write('}');
+    }
+    if (inBrackets) {
+      output = output.write(']');
+    }
+    return output;
+  }
+
+  Output<?> writeBlockField(Item item, Output<?> output) {
+    if (item instanceof Field) {
+      return writeSlot(item.key(), item.toValue(), output);
+    } else {
+      return writeItem(item, output);
+    }
+  }
+
+  Output<?> writeText(String string, Output<?> output) {
+    if (this.recon.isIdent(string)) {
+      return output.write(string);
+    }
+    output = output.write('"');
+    for (int i = 0, n = string.length(); i < n; i = string.offsetByCodePoints(i, 1)) {
+      final int c = string.codePointAt(i);
+      if (c == '"' || c == '\\') {
+        output = output.write('\\').write(c);
+      } else if (c < 0x20) {
+        output = writeEscape(c, output);
+      } else {
+        output = output.write(c);
+      }
+    }
+    return output.write('"');
+  }
+
+  Output<?> writeMarkupText(String text, Output<?> output) {
+    for (int i = 0, n = text.length(); i < n; i = text.offsetByCodePoints(i, 1)) {
+      final int c = text.codePointAt(i);
+      if (c == '$' || c == '@' || c == '[' || c == '\\' || c == ']' || c == '{' || c == '}') {
+        output = output.write('\\').write(c);
+      } else if (c < 0x20) {
+        output = writeEscape(c, output);
+      } else {
+        output = output.write(c);
+      }
+    }
+    return output;
+  }
+
+  static Output<?> writeEscape(int c, Output<?> output) {
+    output = output.write('\\');
+    if (c == '\b') {
+      return output.write('b');
+    } else if (c == '\f') {
+      return output.write('f');
+    } else if (c == '\n') {
+      return output.write('n');
+    } else if (c == '\r') {
+      return output.write('r');
+    } else if (c == '\t') {
+      return output.write('t');
+    } else {
+      final Base16 base16 = Base16.uppercase();
+      return output.write('u')
+          .write(base16.encodeDigit((c >>> 12) & 0xf))
+          .write(base16.encodeDigit((c >>> 8) & 0xf))
+          .write(base16.encodeDigit((c >>> 4) & 0xf))
+          .write(base16.encodeDigit(c & 0xf));
+    }
+  }
+
+  static Output<?> writeNum(Num num, Output<?> output) {
+    final Writer<?, ?> part;
+    if (num.isUint32()) {
+      part = Base16.lowercase().writeIntLiteral(num.intValue(), output, 8);
+    } else if (num.isUint64()) {
+      part = Base16.lowercase().writeLongLiteral(num.longValue(), output, 16);
+    } else if (num.isValidInt()) {
+      part = Base10.writeInt(num.intValue(), output);
+    } else if (num.isValidLong()) {
+      part = Base10.writeLong(num.longValue(), output);
+    } else if (num.isValidFloat()) {
+      part = Base10.writeFloat(num.floatValue(), output);
+    } else if (num.isValidDouble()) {
+      part = Base10.writeDouble(num.doubleValue(), output);
+    } else if (num.isValidInteger()) {
+      return output.write(num.integerValue().toString());
+    } else {
+      throw new WriterException("No Recon serialization for " + num);
+    }
+    return drain(part, output);
+  }
+
+  static Output<?> drain(Writer<?, ?> part, Output<?> output) {
+    if (part.isDone()) {
+      return output;
+    } else if (part.isError()) {
+      throw new WriterException(part.trap());
+    } else {
+      throw new WriterException("truncated");
+    }
+  }
+
+}
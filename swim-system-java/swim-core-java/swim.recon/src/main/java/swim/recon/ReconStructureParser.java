@@ -94,7 +94,7 @@ public class ReconStructureParser extends ReconParser<Item, Value> {
   @SuppressWarnings("unchecked")
   @Override
   public Builder<Item, Value> recordBuilder() {
-    return (Builder<Item, Value>) (Builder<?, ?>) Record.create();
+    return (Builder<Item, Value>) (Builder<?, ?>) Record.packedBuilder();
   }
 
   @SuppressWarnings("unchecked")
@@ -0,0 +1,114 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.recon;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import org.testng.annotations.Test;
+import swim.codec.Binary;
+import swim.codec.DecoderException;
+import swim.structure.Attr;
+import swim.structure.Data;
+import swim.structure.Item;
+import swim.structure.Num;
+import swim.structure.Record;
+import swim.structure.Selector;
+import swim.structure.Slot;
+import swim.structure.Value;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+public class BinaryReconSpec {
+
+  static byte[] toBytes(Item item) {
+    final byte[] bytes = new byte[BinaryRecon.sizeOf(item)];
+    BinaryRecon.write(item, Binary.outputBuffer(bytes));
+    return bytes;
+  }
+
+  static void assertRoundTrips(Item item) {
+    final ByteBuffer buffer = ByteBuffer.wrap(toBytes(item));
+    assertEquals(BinaryRecon.read(buffer), item);
+    assertEquals(buffer.remaining(), 0);
+  }
+
+  static void assertMalformed(int... bytes) {
+    final byte[] array = new byte[bytes.length];
+    for (int i = 0; i < bytes.length; i += 1) {
+      array[i] = (byte) bytes[i];
+    }
+    try {
+      BinaryRecon.read(ByteBuffer.wrap(array));
+      fail();
+    } catch (DecoderException expected) {
+      // expected
+    }
+  }
+
+  @Test
+  public void roundTripValues() {
+    assertRoundTrips(Value.absent());
+    assertRoundTrips(Value.extant());
+    assertRoundTrips(Value.fromObject(true));
+    assertRoundTrips(Num.from(-1));
+    assertRoundTrips(Num.from(1L << 40));
+    assertRoundTrips(Num.from(2.5f));
+    assertRoundTrips(Num.from(0.1));
+    assertRoundTrips(Num.from(BigInteger.ONE.shiftLeft(100)));
+    assertRoundTrips(Num.uint32(-1));
+    assertRoundTrips(Num.uint64(-1L));
+    assertRoundTrips(Value.fromObject("héllo 😀"));
+    assertRoundTrips(Data.wrap(new byte[] {1, 2, 3}));
+    assertRoundTrips(Record.of(Attr.of("test", Record.of(Slot.of("x", 1), Slot.of("y", 2.5))), Record.of(-1, "nested")));
+    assertRoundTrips(Selector.identity().get("x"));
+  }
+
+  @Test
+  public void rejectLengthsThatExceedTheInput() {
+    assertMalformed(0x0B, 0x05, 'a', 'b');
+    assertMalformed(0x0C, 0xFF, 0xFF, 0xFF, 0xFF, 0x07);
+    assertMalformed(0x08, 0x7F, 0x01);
+    assertMalformed(0x10, 0x09, '1');
+    assertMalformed(0x0E, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x01);
+  }
+
+  @Test
+  public void rejectCountsThatExceedTheInput() {
+    assertMalformed(0x0D, 0xFF, 0xFF, 0xFF, 0xFF, 0x07);
+    assertMalformed(0x0D, 0x03, 0x01, 0x01);
+  }
+
+  @Test
+  public void rejectTruncatedAndUnknownItems() {
+    assertMalformed();
+    assertMalformed(0x05, 0x80);
+    assertMalformed(0x07, 0x00, 0x00);
+    assertMalformed(0x04, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x01);
+    assertMalformed(0x7F);
+  }
+
+  @Test
+  public void rejectExcessiveNesting() {
+    final int depth = BinaryRecon.MAX_DEPTH + 1;
+    final int[] bytes = new int[2 * depth + 1];
+    for (int i = 0; i < depth; i += 1) {
+      bytes[2 * i] = 0x0D;
+      bytes[2 * i + 1] = 0x01;
+    }
+    bytes[2 * depth] = 0x00;
+    assertMalformed(bytes);
+  }
+
+}
@@ -15,7 +15,11 @@
 package swim.recon;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.testng.annotations.Test;
+import swim.codec.Binary;
+import swim.codec.InputBuffer;
 import swim.codec.ParserException;
 import swim.structure.Attr;
 import swim.structure.Bool;
@@ -26,6 +30,9 @@ import swim.structure.Slot;
 import swim.structure.Text;
 import swim.structure.Value;
 import static org.testng.Assert.ThrowingRunnable;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertThrows;
 
 public class ReconParserSpec {
@@ -33,6 +40,16 @@ public class ReconParserSpec {
   public static void assertParses(String recon, Value expected) {
     Assertions.assertParses(Recon.structureParser().blockParser(), recon, expected);
     Assertions.assertParses(Recon.structureParser().blockParser(), " " + recon + " ", expected);
+    assertParsesUtf8(recon, expected);
+    assertParsesUtf8(" " + recon + " ", expected);
+  }
+
+  static void assertParsesUtf8(String recon, Value expected) {
+    final byte[] bytes = recon.getBytes(StandardCharsets.UTF_8);
+    assertEquals(Recon.parseUtf8(bytes), expected);
+    final InputBuffer input = Binary.inputBuffer(ByteBuffer.wrap(bytes));
+    assertEquals(Recon.parseUtf8(input), expected);
+    assertEquals(input.index(), bytes.length);
   }
 
   public static void assertParseFails(final String recon) {
@@ -42,6 +59,12 @@ public class ReconParserSpec {
         Recon.parse(recon);
       }
     });
+    assertThrows(ParserException.class, new ThrowingRunnable() {
+      @Override
+      public void run() throws Throwable {
+        Recon.parseUtf8(recon.getBytes(StandardCharsets.UTF_8));
+      }
+    });
   }
 
   @Test
@@ -924,4 +947,48 @@ public class ReconParserSpec {
     assertParseFails("1 2");
   }
 
+  static Value parseBuffer(String recon) {
+    final byte[] bytes = recon.getBytes(StandardCharsets.UTF_8);
+    return ReconBufferParser.parse(bytes, 0, bytes.length);
+  }
+
+  @Test
+  public void parseUtf8Envelopes() {
+    assertNotNull(parseBuffer("@event(node:\"/unit/0\",lane:\"lane\")\"hello\""));
+    assertNotNull(parseBuffer("@command(node:\"/a\",lane:b){x:1,y:-2.5,z:0xff}"));
+    assertNotNull(parseBuffer("@link(node:\"/é\",lane:\"ü\\n\",prio:0.5,rate:1e3)"));
+  }
+
+  static void assertParsesNumberType(String recon) {
+    final Value expected = Recon.parse(recon);
+    final Value actual = parseBuffer(recon);
+    assertEquals(actual, expected);
+    assertEquals(actual.getClass(), expected.getClass());
+  }
+
+  @Test
+  public void parseUtf8NumberTypes() {
+    assertParsesNumberType("2147483647");
+    assertParsesNumberType("-2147483648");
+    assertParsesNumberType("2147483648");
+    assertParsesNumberType("-2147483649");
+    assertParsesNumberType("-1.5");
+    assertParsesNumberType("-0x10");
+    assertEquals(parseBuffer("-2147483648").getClass(), Num.from(0).getClass());
+    assertEquals(parseBuffer("-2147483649").getClass(), Num.from(0L).getClass());
+  }
+
+  @Test
+  public void parseUtf8DefersToIteratee() {
+    assertNull(parseBuffer("1 + 2"));
+    assertNull(parseBuffer("$a.b"));
+    assertNull(parseBuffer("[markup]"));
+    assertNull(parseBuffer("%AAAA"));
+    assertNull(parseBuffer("a(b)"));
+    assertNull(parseBuffer("x => x"));
+    assertParsesUtf8("1 + 2", Recon.parse("1 + 2"));
+    assertParsesUtf8("%AAAA", Recon.parse("%AAAA"));
+    assertParsesUtf8("{a:[b]}", Recon.parse("{a:[b]}"));
+  }
+
 }
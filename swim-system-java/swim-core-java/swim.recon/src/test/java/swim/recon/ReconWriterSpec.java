@@ -58,6 +58,7 @@ public class ReconWriterSpec {
       assertTrue(writer.isDone());
       assertEquals(actual, expected);
     }
+    assertStreams(item, expected, false);
   }
 
   public static void assertWrites(Item item, String expected) {
@@ -84,6 +85,21 @@ public class ReconWriterSpec {
       assertTrue(writer.isDone());
       assertEquals(actual, expected);
     }
+    assertStreams(item, expected, true);
+  }
+
+  static void assertStreams(Item item, byte[] expected, boolean block) {
+    final byte[] actual = new byte[expected.length];
+    final OutputBuffer<?> buffer = Binary.outputBuffer(actual);
+    if (block) {
+      Recon.writeBlockStream(item, Utf8.decodedOutput(buffer));
+      assertEquals(Recon.toBlockData(item).toByteArray(), expected);
+    } else {
+      Recon.writeStream(item, Utf8.decodedOutput(buffer));
+      assertEquals(Recon.toData(item).toByteArray(), expected);
+    }
+    assertEquals(buffer.index(), expected.length);
+    assertEquals(actual, expected);
   }
 
   public static void assertWritesBlock(Item item, String expected) {
@@ -63,6 +63,15 @@ public abstract class Record extends Value implements List<Item>, Builder<Item,
     return RecordMap.of(objects);
   }
 
+  /**
+   * Returns a new {@code Builder} that packs homogeneous numeric members into
+   * a primitive array, and falls back to a general purpose {@code Record} as
+   * soon as it encounters a member that can't be packed.
+   */
+  public static Builder<Item, Record> packedBuilder() {
+    return new RecordBuilder();
+  }
+
   static int expand(int n) {
     n = Math.max(8, n) - 1;
     n |= n >> 1;
@@ -0,0 +1,527 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.structure;
+
+/**
+ * {@code Record} whose members are packed into a primitive array.  Members
+ * that can't be packed inflate the record into a {@link RecordMap}, to which
+ * all subsequent operations are delegated.
+ */
+abstract class RecordArray extends Record {
+
+  int itemCount;
+  RecordMap items;
+
+  RecordArray(int itemCount, int flags) {
+    this.itemCount = itemCount;
+    this.flags = flags;
+  }
+
+  abstract int capacity();
+
+  abstract void reallocate(int capacity);
+
+  abstract void move(int fromIndex, int toIndex, int count);
+
+  abstract boolean packs(Item item);
+
+  abstract Item unpack(int index);
+
+  abstract void pack(int index, Item item);
+
+  abstract void release();
+
+  abstract RecordArray share(int flags);
+
+  @Override
+  public boolean isEmpty() {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.isEmpty();
+    } else {
+      return this.itemCount == 0;
+    }
+  }
+
+  @Override
+  public int size() {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.size();
+    } else {
+      return this.itemCount;
+    }
+  }
+
+  @Override
+  public int fieldCount() {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.fieldCount();
+    } else {
+      return 0;
+    }
+  }
+
+  @Override
+  public int valueCount() {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.valueCount();
+    } else {
+      return this.itemCount;
+    }
+  }
+
+  @Override
+  public boolean isConstant() {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.isConstant();
+    } else {
+      return true;
+    }
+  }
+
+  @Override
+  public String tag() {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.tag();
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public boolean containsKey(Value key) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.containsKey(key);
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public boolean containsKey(String key) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.containsKey(key);
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public Value get(Value key) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.get(key);
+    } else {
+      return Value.absent();
+    }
+  }
+
+  @Override
+  public Value get(String key) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.get(key);
+    } else {
+      return Value.absent();
+    }
+  }
+
+  @Override
+  public Field getField(Value key) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.getField(key);
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public Field getField(String key) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.getField(key);
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public Item get(int index) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.get(index);
+    } else if (index < 0 || index >= this.itemCount) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+    return unpack(index);
+  }
+
+  @Override
+  public Item getItem(int index) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.getItem(index);
+    } else if (index >= 0 && index < this.itemCount) {
+      return unpack(index);
+    } else {
+      return Item.absent();
+    }
+  }
+
+  @Override
+  public Value put(Value key, Value newValue) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.put(key, newValue);
+    }
+    add(new Slot(key, newValue));
+    return Value.absent();
+  }
+
+  @Override
+  public Value put(String key, Value newValue) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.put(key, newValue);
+    }
+    add(new Slot(Text.from(key), newValue));
+    return Value.absent();
+  }
+
+  @Override
+  public Value putAttr(Text key, Value newValue) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.putAttr(key, newValue);
+    }
+    return super.putAttr(key, newValue);
+  }
+
+  @Override
+  public Value putAttr(String key, Value newValue) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.putAttr(key, newValue);
+    }
+    return super.putAttr(key, newValue);
+  }
+
+  @Override
+  public Value putSlot(Value key, Value newValue) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.putSlot(key, newValue);
+    }
+    return super.putSlot(key, newValue);
+  }
+
+  @Override
+  public Value putSlot(String key, Value newValue) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.putSlot(key, newValue);
+    }
+    return super.putSlot(key, newValue);
+  }
+
+  @Override
+  public Item setItem(int index, Item newItem) {
+    if ((this.flags & IMMUTABLE) != 0) {
+      throw new UnsupportedOperationException("immutable");
+    } else if (this.items != null) {
+      return this.items.setItem(index, newItem);
+    } else if (index < 0 || index >= this.itemCount) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    } else if (!packs(newItem)) {
+      return inflate().setItem(index, newItem);
+    }
+    if ((this.flags & ALIASED) != 0) {
+      reallocate(expand(this.itemCount));
+      this.flags &= ~ALIASED;
+    }
+    final Item oldItem = unpack(index);
+    pack(index, newItem);
+    return oldItem;
+  }
+
+  @Override
+  public boolean add(Item newItem) {
+    if ((this.flags & IMMUTABLE) != 0) {
+      throw new UnsupportedOperationException("immutable");
+    } else if (this.items != null) {
+      return this.items.add(newItem);
+    } else if (!packs(newItem)) {
+      return inflate().add(newItem);
+    }
+    final int n = this.itemCount;
+    ensureCapacity(n + 1);
+    pack(n, newItem);
+    this.itemCount = n + 1;
+    return true;
+  }
+
+  @Override
+  public void add(int index, Item newItem) {
+    if ((this.flags & IMMUTABLE) != 0) {
+      throw new UnsupportedOperationException("immutable");
+    } else if (this.items != null) {
+      this.items.add(index, newItem);
+      return;
+    } else if (index < 0 || index > this.itemCount) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    } else if (!packs(newItem)) {
+      inflate().add(index, newItem);
+      return;
+    }
+    final int n = this.itemCount;
+    ensureCapacity(n + 1);
+    move(index, index + 1, n - index);
+    pack(index, newItem);
+    this.itemCount = n + 1;
+  }
+
+  @Override
+  public Item remove(int index) {
+    if ((this.flags & IMMUTABLE) != 0) {
+      throw new UnsupportedOperationException("immutable");
+    } else if (this.items != null) {
+      return this.items.remove(index);
+    } else if (index < 0 || index >= this.itemCount) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+    final int n = this.itemCount;
+    if ((this.flags & ALIASED) != 0) {
+      reallocate(expand(n));
+      this.flags &= ~ALIASED;
+    }
+    final Item oldItem = unpack(index);
+    move(index + 1, index, n - index - 1);
+    this.itemCount = n - 1;
+    return oldItem;
+  }
+
+  @Override
+  public boolean removeKey(Value key) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.removeKey(key);
+    }
+    return super.removeKey(key);
+  }
+
+  @Override
+  public boolean removeKey(String key) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.removeKey(key);
+    }
+    return super.removeKey(key);
+  }
+
+  @Override
+  public Record updated(Value key, Value value) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      final Record record = items.updated(key, value);
+      return record != items ? record : this;
+    }
+    return super.updated(key, value);
+  }
+
+  @Override
+  public Record updated(String key, Value value) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      final Record record = items.updated(key, value);
+      return record != items ? record : this;
+    }
+    return super.updated(key, value);
+  }
+
+  @Override
+  public Record updatedAttr(Text key, Value value) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      final Record record = items.updatedAttr(key, value);
+      return record != items ? record : this;
+    }
+    return super.updatedAttr(key, value);
+  }
+
+  @Override
+  public Record updatedAttr(String key, Value value) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      final Record record = items.updatedAttr(key, value);
+      return record != items ? record : this;
+    }
+    return super.updatedAttr(key, value);
+  }
+
+  @Override
+  public Record updatedSlot(Value key, Value value) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      final Record record = items.updatedSlot(key, value);
+      return record != items ? record : this;
+    }
+    return super.updatedSlot(key, value);
+  }
+
+  @Override
+  public Record updatedSlot(String key, Value value) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      final Record record = items.updatedSlot(key, value);
+      return record != items ? record : this;
+    }
+    return super.updatedSlot(key, value);
+  }
+
+  @Override
+  public Record subList(int fromIndex, int toIndex) {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.subList(fromIndex, toIndex);
+    }
+    return super.subList(fromIndex, toIndex);
+  }
+
+  @Override
+  public Item head() {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.head();
+    }
+    return super.head();
+  }
+
+  @Override
+  public Record tail() {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.tail();
+    }
+    return super.tail();
+  }
+
+  @Override
+  public Value body() {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.body();
+    }
+    return super.body();
+  }
+
+  @Override
+  public void clear() {
+    if ((this.flags & IMMUTABLE) != 0) {
+      throw new UnsupportedOperationException("immutable");
+    }
+    this.items = null;
+    this.itemCount = 0;
+    release();
+    this.flags = 0;
+  }
+
+  @Override
+  public boolean isAliased() {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.isAliased();
+    } else {
+      return (this.flags & ALIASED) != 0;
+    }
+  }
+
+  @Override
+  public boolean isMutable() {
+    return (this.flags & IMMUTABLE) == 0;
+  }
+
+  @Override
+  public void alias() {
+    final RecordMap items = this.items;
+    if (items != null) {
+      items.alias();
+    } else {
+      this.flags |= ALIASED;
+    }
+  }
+
+  @Override
+  public Record branch() {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items.branch();
+    }
+    this.flags |= ALIASED;
+    return share(ALIASED);
+  }
+
+  @Override
+  public Record commit() {
+    if ((this.flags & IMMUTABLE) == 0) {
+      this.flags |= IMMUTABLE;
+      final RecordMap items = this.items;
+      if (items != null) {
+        items.commit();
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns the {@code RecordMap} this record has inflated into, or this
+   * record itself if all of its members are still packed.
+   */
+  Record unwrap() {
+    final RecordMap items = this.items;
+    if (items != null) {
+      return items;
+    } else {
+      return this;
+    }
+  }
+
+  void ensureCapacity(int size) {
+    if ((this.flags & ALIASED) != 0 || size > capacity()) {
+      reallocate(expand(size));
+      this.flags &= ~ALIASED;
+    }
+  }
+
+  RecordMap inflate() {
+    final int n = this.itemCount;
+    final RecordMap items = RecordMap.create(expand(n + 1));
+    for (int i = 0; i < n; i += 1) {
+      items.add(unpack(i));
+    }
+    this.items = items;
+    this.itemCount = 0;
+    release();
+    return items;
+  }
+
+}
@@ -0,0 +1,60 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.structure;
+
+import java.util.Collection;
+import swim.util.Builder;
+
+final class RecordBuilder implements Builder<Item, Record> {
+
+  Record record = null;
+
+  @Override
+  public boolean add(Item item) {
+    Record record = this.record;
+    if (record == null) {
+      if (RecordLongArray.isPackable(item)) {
+        record = RecordLongArray.create();
+      } else if (RecordDoubleArray.isPackable(item)) {
+        record = RecordDoubleArray.create();
+      } else {
+        record = Record.create();
+      }
+      this.record = record;
+    }
+    return record.add(item);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends Item> items) {
+    for (Item item : items) {
+      add(item);
+    }
+    return true;
+  }
+
+  @Override
+  public Record bind() {
+    final Record record = this.record;
+    if (record instanceof RecordArray) {
+      return ((RecordArray) record).unwrap();
+    } else if (record != null) {
+      return record;
+    } else {
+      return Record.create();
+    }
+  }
+
+}
@@ -0,0 +1,98 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.structure;
+
+/**
+ * {@code Record} of floating point {@link Num} values packed into a
+ * {@code double[]}.  {@code NumF32} and {@code NumF64} members are
+ * distinguished by whether their value is exactly representable as a
+ * {@code float}, matching the numbers that the Recon and JSON parsers produce.
+ */
+final class RecordDoubleArray extends RecordArray {
+
+  double[] array;
+
+  RecordDoubleArray(double[] array, int itemCount, int flags) {
+    super(itemCount, flags);
+    this.array = array;
+  }
+
+  public static RecordDoubleArray create() {
+    return new RecordDoubleArray(null, 0, 0);
+  }
+
+  static boolean isPackable(Item item) {
+    if (item instanceof NumF32) {
+      return !Float.isNaN(((NumF32) item).value);
+    } else if (item instanceof NumF64) {
+      final double value = ((NumF64) item).value;
+      return (float) value != value && !Double.isNaN(value);
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  int capacity() {
+    final double[] array = this.array;
+    return array != null ? array.length : 0;
+  }
+
+  @Override
+  void reallocate(int capacity) {
+    final double[] oldArray = this.array;
+    final double[] newArray = new double[capacity];
+    if (oldArray != null) {
+      System.arraycopy(oldArray, 0, newArray, 0, this.itemCount);
+    }
+    this.array = newArray;
+  }
+
+  @Override
+  void move(int fromIndex, int toIndex, int count) {
+    System.arraycopy(this.array, fromIndex, this.array, toIndex, count);
+  }
+
+  @Override
+  boolean packs(Item item) {
+    return isPackable(item);
+  }
+
+  @Override
+  Item unpack(int index) {
+    final double value = this.array[index];
+    if ((float) value == value) {
+      return Num.from((float) value);
+    } else {
+      return Num.from(value);
+    }
+  }
+
+  @Override
+  void pack(int index, Item item) {
+    this.array[index] = ((Num) item).doubleValue();
+  }
+
+  @Override
+  void release() {
+    this.array = null;
+  }
+
+  @Override
+  RecordDoubleArray share(int flags) {
+    return new RecordDoubleArray(this.array, this.itemCount, flags);
+  }
+
+}
@@ -0,0 +1,98 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.structure;
+
+/**
+ * {@code Record} of signed integral {@link Num} values packed into a
+ * {@code long[]}.  {@code NumI32} and {@code NumI64} members are distinguished
+ * by whether their value fits in an {@code int}, matching the numbers that
+ * the Recon and JSON parsers produce.
+ */
+final class RecordLongArray extends RecordArray {
+
+  long[] array;
+
+  RecordLongArray(long[] array, int itemCount, int flags) {
+    super(itemCount, flags);
+    this.array = array;
+  }
+
+  public static RecordLongArray create() {
+    return new RecordLongArray(null, 0, 0);
+  }
+
+  static boolean isPackable(Item item) {
+    if (item instanceof NumI32) {
+      return !((NumI32) item).isUint32();
+    } else if (item instanceof NumI64) {
+      final NumI64 num = (NumI64) item;
+      return !num.isUint64() && (int) num.value != num.value;
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  int capacity() {
+    final long[] array = this.array;
+    return array != null ? array.length : 0;
+  }
+
+  @Override
+  void reallocate(int capacity) {
+    final long[] oldArray = this.array;
+    final long[] newArray = new long[capacity];
+    if (oldArray != null) {
+      System.arraycopy(oldArray, 0, newArray, 0, this.itemCount);
+    }
+    this.array = newArray;
+  }
+
+  @Override
+  void move(int fromIndex, int toIndex, int count) {
+    System.arraycopy(this.array, fromIndex, this.array, toIndex, count);
+  }
+
+  @Override
+  boolean packs(Item item) {
+    return isPackable(item);
+  }
+
+  @Override
+  Item unpack(int index) {
+    final long value = this.array[index];
+    if ((int) value == value) {
+      return Num.from((int) value);
+    } else {
+      return Num.from(value);
+    }
+  }
+
+  @Override
+  void pack(int index, Item item) {
+    this.array[index] = ((Num) item).longValue();
+  }
+
+  @Override
+  void release() {
+    this.array = null;
+  }
+
+  @Override
+  RecordLongArray share(int flags) {
+    return new RecordLongArray(this.array, this.itemCount, flags);
+  }
+
+}
@@ -0,0 +1,145 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.structure;
+
+import org.testng.annotations.Test;
+import swim.util.Builder;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class RecordArraySpec {
+
+  static Record build(Object... objects) {
+    final Builder<Item, Record> builder = Record.packedBuilder();
+    for (int i = 0; i < objects.length; i += 1) {
+      builder.add(Item.fromObject(objects[i]));
+    }
+    return builder.bind();
+  }
+
+  @Test
+  public void packIntegralValues() {
+    final Record xs = build(1, -2, 3000000000L);
+    assertTrue(xs instanceof RecordLongArray);
+    assertEquals(xs.size(), 3);
+    assertEquals(xs.fieldCount(), 0);
+    assertEquals(xs.valueCount(), 3);
+    assertTrue(xs.getItem(0) instanceof NumI32);
+    assertTrue(xs.getItem(2) instanceof NumI64);
+    assertEquals(xs.getItem(2), Num.from(3000000000L));
+    assertEquals(xs, Record.of(1, -2, 3000000000L));
+    assertEquals(xs.hashCode(), Record.of(1, -2, 3000000000L).hashCode());
+  }
+
+  @Test
+  public void packFloatingPointValues() {
+    final Record xs = build(0.5f, 0.1, Float.POSITIVE_INFINITY);
+    assertTrue(xs instanceof RecordDoubleArray);
+    assertTrue(xs.getItem(0) instanceof NumF32);
+    assertTrue(xs.getItem(1) instanceof NumF64);
+    assertEquals(xs.getItem(1), Num.from(0.1));
+    assertEquals(xs, Record.of(0.5f, 0.1, Float.POSITIVE_INFINITY));
+  }
+
+  @Test
+  public void buildHeterogeneousRecords() {
+    assertTrue(build("a", 1) instanceof RecordMap);
+    assertTrue(build(1, "a") instanceof RecordMap);
+    assertTrue(build(1, 2.5) instanceof RecordMap);
+    assertTrue(build(Num.uint32(1)) instanceof RecordMap);
+    assertTrue(build(Double.NaN) instanceof RecordMap);
+    assertEquals(build(1, "a"), Record.of(1, "a"));
+    assertEquals(build(), Record.empty());
+  }
+
+  @Test
+  public void mutatePackedValues() {
+    final Record xs = build(1, 2, 4);
+    xs.add(2, Num.from(3));
+    xs.add(5);
+    xs.setItem(0, 0);
+    assertEquals(xs.remove(4), Num.from(5));
+    assertTrue(xs instanceof RecordLongArray);
+    assertEquals(xs, Record.of(0, 2, 3, 4));
+  }
+
+  @Test
+  public void inflateOnUnpackableMembers() {
+    final Record xs = build(1.5, 2.5);
+    xs.put("k", "v");
+    assertEquals(xs.size(), 3);
+    assertEquals(xs.fieldCount(), 1);
+    assertEquals(xs.get("k"), Text.from("v"));
+    assertEquals(xs, Record.of(1.5, 2.5).slot("k", "v"));
+    xs.setItem(0, "a");
+    assertEquals(xs, Record.of("a", 2.5).slot("k", "v"));
+  }
+
+  @Test
+  public void delegateToInflatedMembers() {
+    final Record xs = build(1, 2);
+    xs.putAttr("a", Num.from(0));
+    xs.putSlot("k", Text.from("v"));
+    assertEquals(xs, Record.of(1, 2).attr("a", 0).slot("k", "v"));
+    assertEquals(xs.putSlot("k", Text.from("w")), Text.from("v"));
+    assertEquals(xs.putAttr("a", Num.from(1)), Num.from(0));
+    assertTrue(xs.updated("k", Text.from("x")) == xs);
+    assertTrue(xs.updatedAttr("a", Num.from(2)) == xs);
+    assertTrue(xs.updatedSlot("j", Text.from("y")) == xs);
+    assertEquals(xs, Record.of(1, 2).attr("a", 2).slot("k", "x").slot("j", "y"));
+    assertEquals(xs.head(), Num.from(1));
+    assertEquals(xs.tail(), Record.of(2).attr("a", 2).slot("k", "x").slot("j", "y"));
+    assertEquals(xs.body(), Record.of(2).attr("a", 2).slot("k", "x").slot("j", "y"));
+    assertEquals(xs.subList(1, 3), Record.of(2).attr("a", 2));
+    assertTrue(xs.removeKey("k"));
+    assertFalse(xs.removeKey("k"));
+    assertEquals(xs, Record.of(1, 2).attr("a", 2).slot("j", "y"));
+
+    xs.commit();
+    final Record ys = xs.updatedSlot("j", Text.from("z"));
+    assertEquals(ys, Record.of(1, 2).attr("a", 2).slot("j", "z"));
+    assertEquals(xs, Record.of(1, 2).attr("a", 2).slot("j", "y"));
+  }
+
+  @Test
+  public void branchPackedValues() {
+    final Record xs = build(1, 2, 3);
+    final Record ys = xs.branch();
+    assertTrue(xs.isAliased());
+    assertTrue(ys.isAliased());
+    ys.setItem(0, 0);
+    ys.add(4);
+    assertFalse(ys.isAliased());
+    assertEquals(xs, Record.of(1, 2, 3));
+    assertEquals(ys, Record.of(0, 2, 3, 4));
+  }
+
+  @Test
+  public void commitPackedValues() {
+    final Record xs = build(1, 2, 3).commit();
+    assertFalse(xs.isMutable());
+    try {
+      xs.add(4);
+      fail();
+    } catch (UnsupportedOperationException expected) {
+      // expected
+    }
+    assertEquals(xs.updated("k", Text.from("v")), Record.of(1, 2, 3).slot("k", "v"));
+    assertEquals(xs, Record.of(1, 2, 3));
+  }
+
+}
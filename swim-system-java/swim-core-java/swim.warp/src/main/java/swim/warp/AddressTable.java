@@ -0,0 +1,138 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.warp;
+
+import java.util.HashMap;
+import swim.codec.Decoder;
+import swim.codec.Encoder;
+import swim.uri.Uri;
+
+/**
+ * Connection-scoped mapping between node and lane URI pairs and short
+ * address ids, used to compress the addressing of binary WARP envelopes.
+ * An outbound id is assigned the first time a link, sync, or linked envelope
+ * for a new pair is encoded; that envelope carries both the id and the full
+ * URIs, and every later envelope for the pair carries only the id.  Inbound
+ * ids are learned from the peer's defining envelopes, and resolve to the
+ * already parsed {@code Uri} instances.
+ *
+ * <p>Each direction of a connection numbers its own addresses, so encoders
+ * must be pulled, and decoders fed, in wire order.  An {@code AddressTable}
+ * is not otherwise thread safe.
+ */
+public final class AddressTable {
+
+  final HashMap<Uri, HashMap<Uri, Integer>> outbound;
+  int outboundCount;
+  Uri[] inboundNodeUris;
+  Uri[] inboundLaneUris;
+  int inboundCount;
+
+  public AddressTable() {
+    this.outbound = new HashMap<Uri, HashMap<Uri, Integer>>();
+    this.outboundCount = 0;
+    this.inboundNodeUris = new Uri[INITIAL_CAPACITY];
+    this.inboundLaneUris = new Uri[INITIAL_CAPACITY];
+    this.inboundCount = 0;
+  }
+
+  public int outboundSize() {
+    return this.outboundCount;
+  }
+
+  public int inboundSize() {
+    return this.inboundCount;
+  }
+
+  /**
+   * Returns an {@code Encoder} that writes {@code envelope} as a binary
+   * envelope, addressed through this table when it is written.
+   */
+  public Encoder<?, Envelope> binaryEncoder(Envelope envelope) {
+    return new BinaryEnvelopeEncoder(this, envelope);
+  }
+
+  /**
+   * Returns a {@code Decoder} for text or binary envelopes that resolves
+   * binary envelope addresses through this table.
+   */
+  public Decoder<Envelope> decoder() {
+    return new EnvelopeDecoder(this, null);
+  }
+
+  int outboundId(Uri nodeUri, Uri laneUri) {
+    final HashMap<Uri, Integer> lanes = this.outbound.get(nodeUri);
+    if (lanes != null) {
+      final Integer addressId = lanes.get(laneUri);
+      if (addressId != null) {
+        return addressId.intValue();
+      }
+    }
+    return -1;
+  }
+
+  int defineOutbound(Uri nodeUri, Uri laneUri) {
+    final int addressId = this.outboundCount;
+    if (addressId < MAX_ADDRESSES) {
+      HashMap<Uri, Integer> lanes = this.outbound.get(nodeUri);
+      if (lanes == null) {
+        lanes = new HashMap<Uri, Integer>();
+        this.outbound.put(nodeUri, lanes);
+      }
+      lanes.put(laneUri, addressId);
+      this.outboundCount = addressId + 1;
+      return addressId;
+    } else {
+      return -1;
+    }
+  }
+
+  void defineInbound(int addressId, Uri nodeUri, Uri laneUri) {
+    final int inboundCount = this.inboundCount;
+    if (addressId != inboundCount || addressId >= MAX_ADDRESSES) {
+      throw new WarpException("out of order address definition: " + addressId);
+    }
+    if (addressId == this.inboundNodeUris.length) {
+      final int newCapacity = addressId << 1;
+      final Uri[] newNodeUris = new Uri[newCapacity];
+      System.arraycopy(this.inboundNodeUris, 0, newNodeUris, 0, addressId);
+      this.inboundNodeUris = newNodeUris;
+      final Uri[] newLaneUris = new Uri[newCapacity];
+      System.arraycopy(this.inboundLaneUris, 0, newLaneUris, 0, addressId);
+      this.inboundLaneUris = newLaneUris;
+    }
+    this.inboundNodeUris[addressId] = nodeUri;
+    this.inboundLaneUris[addressId] = laneUri;
+    this.inboundCount = inboundCount + 1;
+  }
+
+  Uri inboundNodeUri(int addressId) {
+    if (addressId >= this.inboundCount) {
+      throw new WarpException("undefined address: " + addressId);
+    }
+    return this.inboundNodeUris[addressId];
+  }
+
+  Uri inboundLaneUri(int addressId) {
+    if (addressId >= this.inboundCount) {
+      throw new WarpException("undefined address: " + addressId);
+    }
+    return this.inboundLaneUris[addressId];
+  }
+
+  static final int INITIAL_CAPACITY = 16;
+
+  static final int MAX_ADDRESSES = 1 << 16;
+
+}
@@ -0,0 +1,316 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.warp;
+
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import swim.codec.Binary;
+import swim.codec.DecoderException;
+import swim.codec.Output;
+import swim.recon.BinaryRecon;
+import swim.structure.Value;
+import swim.uri.Uri;
+
+/**
+ * Compact binary encoding of WARP envelopes, carried in WebSocket binary
+ * frames on connections that negotiate the {@link #PROTOCOL} subprotocol.
+ * A binary envelope begins with a {@code 0xFF} magic byte, which can never
+ * start a UTF-8 encoded Recon envelope, followed by a version byte, an
+ * envelope type byte, and a sequence of tagged fields.  URIs are prefixed
+ * with their varint byte length, and bodies are encoded as described by
+ * {@link BinaryRecon}, so envelopes decode in a single forward pass without
+ * any character parsing.  Connections that share an {@link AddressTable}
+ * replace repeated node and lane URIs with short address ids.
+ */
+public final class BinaryEnvelope {
+
+  /**
+   * WebSocket subprotocol that selects binary WARP envelopes.
+   */
+  public static final String PROTOCOL = "warp0-binary";
+
+  static final int MAGIC = 0xFF;
+  static final int VERSION = 0x01;
+
+  static final int EVENT = 0x01;
+  static final int COMMAND = 0x02;
+  static final int LINK = 0x03;
+  static final int LINKED = 0x04;
+  static final int SYNC = 0x05;
+  static final int SYNCED = 0x06;
+  static final int UNLINK = 0x07;
+  static final int UNLINKED = 0x08;
+  static final int AUTH = 0x09;
+  static final int AUTHED = 0x0A;
+  static final int DEAUTH = 0x0B;
+  static final int DEAUTHED = 0x0C;
+
+  static final int NODE_FIELD = 0x01;
+  static final int LANE_FIELD = 0x02;
+  static final int PRIO_FIELD = 0x03;
+  static final int RATE_FIELD = 0x04;
+  static final int BODY_FIELD = 0x05;
+  static final int ADDRESS_FIELD = 0x06;
+
+  private BinaryEnvelope() {
+    // static
+  }
+
+  public static boolean isBinaryEnvelope(ByteBuffer buffer) {
+    return buffer.remaining() > 0 && (buffer.get(buffer.position()) & 0xFF) == MAGIC;
+  }
+
+  public static int sizeOf(Envelope envelope) {
+    return sizeOf(envelope, -1, false);
+  }
+
+  static int sizeOf(Envelope envelope, int addressId, boolean define) {
+    int size = 3;
+    if (envelope instanceof LaneAddressed) {
+      if (addressId >= 0) {
+        size += 1 + BinaryRecon.sizeOfVarint(addressId);
+      }
+      if (addressId < 0 || define) {
+        size += 1 + BinaryRecon.sizeOfString(envelope.nodeUri().toString());
+        size += 1 + BinaryRecon.sizeOfString(envelope.laneUri().toString());
+      }
+      if (envelope instanceof LinkAddressed) {
+        final LinkAddressed that = (LinkAddressed) envelope;
+        if (that.prio != 0f) {
+          size += 5;
+        }
+        if (that.rate != 0f) {
+          size += 5;
+        }
+      }
+    }
+    final Value body = envelope.body();
+    if (body.isDefined()) {
+      size += 1 + BinaryRecon.sizeOf(body);
+    }
+    return size;
+  }
+
+  static byte[] readdress(byte[] bytes, int addressId) {
+    // Replace the node and lane fields of a fully addressed envelope.
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes, 3, bytes.length - 3);
+    while (buffer.hasRemaining()) {
+      final int field = buffer.get(buffer.position()) & 0xFF;
+      if (field == NODE_FIELD || field == LANE_FIELD) {
+        buffer.get();
+        final int size = BinaryRecon.readSize(buffer);
+        ((Buffer) buffer).position(buffer.position() + size);
+      } else {
+        break;
+      }
+    }
+    final int tailOffset = buffer.position();
+    final int tailSize = bytes.length - tailOffset;
+    final int headerSize = 4 + BinaryRecon.sizeOfVarint(addressId);
+    final byte[] newBytes = new byte[headerSize + tailSize];
+    final Output<?> output = Binary.outputBuffer(newBytes);
+    output.write(bytes[0] & 0xFF);
+    output.write(bytes[1] & 0xFF);
+    output.write(bytes[2] & 0xFF);
+    output.write(ADDRESS_FIELD);
+    BinaryRecon.writeVarint(addressId, output);
+    System.arraycopy(bytes, tailOffset, newBytes, headerSize, tailSize);
+    return newBytes;
+  }
+
+  public static void write(Envelope envelope, Output<?> output) {
+    write(envelope, -1, false, output);
+  }
+
+  static void write(Envelope envelope, int addressId, boolean define, Output<?> output) {
+    output.write(MAGIC);
+    output.write(VERSION);
+    output.write(typeCode(envelope.tag()));
+    if (envelope instanceof LaneAddressed) {
+      if (addressId >= 0) {
+        output.write(ADDRESS_FIELD);
+        BinaryRecon.writeVarint(addressId, output);
+      }
+      if (addressId < 0 || define) {
+        output.write(NODE_FIELD);
+        BinaryRecon.writeString(envelope.nodeUri().toString(), output);
+        output.write(LANE_FIELD);
+        BinaryRecon.writeString(envelope.laneUri().toString(), output);
+      }
+      if (envelope instanceof LinkAddressed) {
+        final LinkAddressed that = (LinkAddressed) envelope;
+        if (that.prio != 0f) {
+          output.write(PRIO_FIELD);
+          BinaryRecon.writeFixed(Float.floatToIntBits(that.prio), 4, output);
+        }
+        if (that.rate != 0f) {
+          output.write(RATE_FIELD);
+          BinaryRecon.writeFixed(Float.floatToIntBits(that.rate), 4, output);
+        }
+      }
+    }
+    final Value body = envelope.body();
+    if (body.isDefined()) {
+      output.write(BODY_FIELD);
+      BinaryRecon.write(body, output);
+    }
+  }
+
+  public static byte[] toBytes(Envelope envelope) {
+    return toBytes(envelope, -1, false);
+  }
+
+  static byte[] toBytes(Envelope envelope, int addressId, boolean define) {
+    final byte[] bytes = new byte[sizeOf(envelope, addressId, define)];
+    final Output<?> output = Binary.outputBuffer(bytes);
+    write(envelope, addressId, define, output);
+    return bytes;
+  }
+
+  public static Envelope read(ByteBuffer buffer) {
+    return read(buffer, null);
+  }
+
+  static Envelope read(ByteBuffer buffer, AddressTable addresses) {
+    try {
+      return readEnvelope(buffer, addresses);
+    } catch (BufferUnderflowException cause) {
+      throw new WarpException("truncated binary envelope", cause);
+    } catch (DecoderException cause) {
+      throw new WarpException("malformed binary envelope", cause);
+    }
+  }
+
+  static Envelope readEnvelope(ByteBuffer buffer, AddressTable addresses) {
+    if ((buffer.get() & 0xFF) != MAGIC) {
+      throw new WarpException("not a binary envelope");
+    }
+    final int version = buffer.get() & 0xFF;
+    if (version != VERSION) {
+      throw new WarpException("unsupported binary envelope version: " + version);
+    }
+    final int type = buffer.get() & 0xFF;
+    int addressId = -1;
+    Uri nodeUri = null;
+    Uri laneUri = null;
+    float prio = 0f;
+    float rate = 0f;
+    Value body = Value.absent();
+    while (buffer.hasRemaining()) {
+      final int field = buffer.get() & 0xFF;
+      switch (field) {
+        case NODE_FIELD:
+          nodeUri = Uri.parse(BinaryRecon.readString(buffer));
+          break;
+        case LANE_FIELD:
+          laneUri = Uri.parse(BinaryRecon.readString(buffer));
+          break;
+        case PRIO_FIELD:
+          prio = Float.intBitsToFloat((int) BinaryRecon.readFixed(4, buffer));
+          break;
+        case RATE_FIELD:
+          rate = Float.intBitsToFloat((int) BinaryRecon.readFixed(4, buffer));
+          break;
+        case BODY_FIELD:
+          body = BinaryRecon.read(buffer).toValue();
+          break;
+        case ADDRESS_FIELD:
+          final long id = BinaryRecon.readVarint(buffer);
+          if (id >= (long) AddressTable.MAX_ADDRESSES) {
+            throw new WarpException("binary envelope address out of range: " + id);
+          }
+          addressId = (int) id;
+          break;
+        default:
+          throw new WarpException("unknown binary envelope field: " + field);
+      }
+    }
+    if (addressId >= 0) {
+      if (addresses == null) {
+        throw new WarpException("unexpected binary envelope address: " + addressId);
+      } else if (nodeUri != null && laneUri != null) {
+        addresses.defineInbound(addressId, nodeUri, laneUri);
+      } else {
+        nodeUri = addresses.inboundNodeUri(addressId);
+        laneUri = addresses.inboundLaneUri(addressId);
+      }
+    }
+    if (nodeUri == null) {
+      nodeUri = Uri.empty();
+    }
+    if (laneUri == null) {
+      laneUri = Uri.empty();
+    }
+    switch (type) {
+      case EVENT:
+        return new EventMessage(nodeUri, laneUri, body);
+      case COMMAND:
+        return new CommandMessage(nodeUri, laneUri, body);
+      case LINK:
+        return new LinkRequest(nodeUri, laneUri, prio, rate, body);
+      case LINKED:
+        return new LinkedResponse(nodeUri, laneUri, prio, rate, body);
+      case SYNC:
+        return new SyncRequest(nodeUri, laneUri, prio, rate, body);
+      case SYNCED:
+        return new SyncedResponse(nodeUri, laneUri, body);
+      case UNLINK:
+        return new UnlinkRequest(nodeUri, laneUri, body);
+      case UNLINKED:
+        return new UnlinkedResponse(nodeUri, laneUri, body);
+      case AUTH:
+        return new AuthRequest(body);
+      case AUTHED:
+        return new AuthedResponse(body);
+      case DEAUTH:
+        return new DeauthRequest(body);
+      case DEAUTHED:
+        return new DeauthedResponse(body);
+      default:
+        throw new WarpException("unknown binary envelope type: " + type);
+    }
+  }
+
+  static int typeCode(String tag) {
+    if ("event".equals(tag)) {
+      return EVENT;
+    } else if ("command".equals(tag)) {
+      return COMMAND;
+    } else if ("link".equals(tag)) {
+      return LINK;
+    } else if ("linked".equals(tag)) {
+      return LINKED;
+    } else if ("sync".equals(tag)) {
+      return SYNC;
+    } else if ("synced".equals(tag)) {
+      return SYNCED;
+    } else if ("unlink".equals(tag)) {
+      return UNLINK;
+    } else if ("unlinked".equals(tag)) {
+      return UNLINKED;
+    } else if ("auth".equals(tag)) {
+      return AUTH;
+    } else if ("authed".equals(tag)) {
+      return AUTHED;
+    } else if ("deauth".equals(tag)) {
+      return DEAUTH;
+    } else if ("deauthed".equals(tag)) {
+      return DEAUTHED;
+    }
+    throw new WarpException("unknown envelope tag: " + tag);
+  }
+
+}
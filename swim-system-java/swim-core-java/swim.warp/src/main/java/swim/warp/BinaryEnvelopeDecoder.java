@@ -0,0 +1,70 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.warp;
+
+import java.nio.ByteBuffer;
+import swim.codec.Binary;
+import swim.codec.Decoder;
+import swim.codec.InputBuffer;
+
+final class BinaryEnvelopeDecoder extends Decoder<Envelope> {
+
+  final AddressTable addresses;
+  final Decoder<byte[]> output;
+
+  BinaryEnvelopeDecoder(AddressTable addresses, Decoder<byte[]> output) {
+    this.addresses = addresses;
+    this.output = output;
+  }
+
+  static Decoder<Envelope> decode(InputBuffer input, AddressTable addresses, Decoder<byte[]> output) {
+    if (output == null) {
+      if (!input.isPart() && input.hasArray()) {
+        // Complete envelope in a single array; decode it in place.
+        try {
+          final int index = input.index();
+          final int limit = input.limit();
+          final ByteBuffer buffer = ByteBuffer.wrap(input.array(), input.arrayOffset() + index, limit - index);
+          final Envelope envelope = BinaryEnvelope.read(buffer, addresses);
+          input.index(limit);
+          return done(envelope);
+        } catch (RuntimeException cause) {
+          return error(cause);
+        }
+      }
+      output = Binary.parseOutput(Binary.byteArrayOutput(), input);
+    } else {
+      output = output.feed(input);
+    }
+    if (output.isDone()) {
+      try {
+        return done(BinaryEnvelope.read(ByteBuffer.wrap(output.bind()), addresses));
+      } catch (RuntimeException cause) {
+        return error(cause);
+      }
+    } else if (output.isError()) {
+      return error(output.trap());
+    } else if (input.isError()) {
+      return error(input.trap());
+    }
+    return new BinaryEnvelopeDecoder(addresses, output);
+  }
+
+  @Override
+  public Decoder<Envelope> feed(InputBuffer input) {
+    return decode(input, this.addresses, this.output);
+  }
+
+}
@@ -0,0 +1,60 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.warp;
+
+import swim.codec.Binary;
+import swim.codec.Encoder;
+import swim.codec.OutputBuffer;
+import swim.uri.Uri;
+
+final class BinaryEnvelopeEncoder extends Encoder<Object, Envelope> {
+
+  final AddressTable addresses;
+  final Envelope envelope;
+
+  BinaryEnvelopeEncoder(AddressTable addresses, Envelope envelope) {
+    this.addresses = addresses;
+    this.envelope = envelope;
+  }
+
+  @Override
+  public Encoder<Object, Envelope> pull(OutputBuffer<?> output) {
+    // Address lazily, so that ids are assigned in wire order.
+    return Binary.byteArrayWriter(this.envelope, encode(this.addresses, this.envelope)).pull(output);
+  }
+
+  static byte[] encode(AddressTable addresses, Envelope envelope) {
+    if (envelope instanceof LaneAddressed) {
+      final Uri nodeUri = envelope.nodeUri();
+      final Uri laneUri = envelope.laneUri();
+      int addressId = addresses.outboundId(nodeUri, laneUri);
+      if (addressId >= 0) {
+        if (envelope instanceof EventMessage && ((EventMessage) envelope).cache != null) {
+          return BinaryEnvelope.readdress(((EventMessage) envelope).binaryBytes(), addressId);
+        }
+        return BinaryEnvelope.toBytes(envelope, addressId, false);
+      } else if (envelope instanceof LinkAddressed) {
+        addressId = addresses.defineOutbound(nodeUri, laneUri);
+        if (addressId >= 0) {
+          return BinaryEnvelope.toBytes(envelope, addressId, true);
+        }
+      }
+      if (envelope instanceof EventMessage && ((EventMessage) envelope).cache != null) {
+        return ((EventMessage) envelope).binaryBytes();
+      }
+    }
+    return BinaryEnvelope.toBytes(envelope);
+  }
+
+}
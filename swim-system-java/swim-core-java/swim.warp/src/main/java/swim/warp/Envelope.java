@@ -14,6 +14,7 @@
 
 package swim.warp;
 
+import swim.codec.Binary;
 import swim.codec.Debug;
 import swim.codec.Decoder;
 import swim.codec.Encoder;
@@ -118,6 +119,15 @@ public abstract class Envelope implements Debug {
     return new EnvelopeEncoder(this);
   }
 
+  /**
+   * Returns an {@code Encoder} that writes this envelope in the compact
+   * {@link BinaryEnvelope} encoding, for transmission in a WebSocket binary
+   * frame.  {@link AddressTable#decoder()} accepts both encodings.
+   */
+  public Encoder<?, Envelope> binaryEncoder() {
+    return Binary.byteArrayWriter(this, BinaryEnvelope.toBytes(this));
+  }
+
   public Writer<?, ?> reconWriter() {
     return Recon.write(toValue(), Output.full());
   }
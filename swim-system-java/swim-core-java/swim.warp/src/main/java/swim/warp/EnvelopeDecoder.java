@@ -23,17 +23,33 @@ import swim.structure.Value;
 
 final class EnvelopeDecoder extends Decoder<Envelope> {
 
+  final AddressTable addresses;
   final Decoder<Value> output;
 
-  EnvelopeDecoder(Decoder<Value> output) {
+  EnvelopeDecoder(AddressTable addresses, Decoder<Value> output) {
+    this.addresses = addresses;
     this.output = output;
   }
 
   EnvelopeDecoder() {
-    this(null);
+    this(null, null);
   }
 
-  static Decoder<Envelope> decode(InputBuffer input, Decoder<Value> output) {
+  static Decoder<Envelope> decode(InputBuffer input, AddressTable addresses, Decoder<Value> output) {
+    if (addresses != null && output == null && input.isCont() && input.head() == BinaryEnvelope.MAGIC) {
+      // Only connections that negotiated binary WARP have an address table.
+      return BinaryEnvelopeDecoder.decode(input, addresses, null);
+    } else if (output == null && input.isEmpty()) {
+      // Defer choosing an encoding until the first byte arrives.
+      return new EnvelopeDecoder(addresses, null);
+    } else if (output == null && !input.isPart() && input.hasArray()) {
+      // Complete envelope in a single array; parse it without an iteratee.
+      try {
+        return envelope(Recon.parseUtf8(input));
+      } catch (RuntimeException cause) {
+        return error(cause);
+      }
+    }
     if (output == null) {
       output = Utf8.parseDecoded(Recon.structureParser().blockParser(), input);
     } else {
@@ -41,13 +57,7 @@ final class EnvelopeDecoder extends Decoder<Envelope> {
     }
     if (output.isDone()) {
       try {
-        final Value value = output.bind();
-        final Envelope envelope = Envelope.fromValue(value);
-        if (envelope != null) {
-          return done(envelope);
-        } else {
-          return error(new DecoderException(Recon.toString(value)));
-        }
+        return envelope(output.bind());
       } catch (RuntimeException cause) {
         return error(cause);
       }
@@ -56,12 +66,21 @@ final class EnvelopeDecoder extends Decoder<Envelope> {
     } else if (input.isError()) {
       return error(input.trap());
     }
-    return new EnvelopeDecoder(output);
+    return new EnvelopeDecoder(addresses, output);
+  }
+
+  static Decoder<Envelope> envelope(Value value) {
+    final Envelope envelope = Envelope.fromValue(value);
+    if (envelope != null) {
+      return done(envelope);
+    } else {
+      return error(new DecoderException(Recon.toString(value)));
+    }
   }
 
   @Override
   public Decoder<Envelope> feed(InputBuffer input) {
-    return decode(input, this.output);
+    return decode(input, this.addresses, this.output);
   }
 
 }
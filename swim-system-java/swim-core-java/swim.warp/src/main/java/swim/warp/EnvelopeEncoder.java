@@ -14,9 +14,10 @@
 
 package swim.warp;
 
+import swim.codec.Binary;
 import swim.codec.Encoder;
 import swim.codec.OutputBuffer;
-import swim.codec.Utf8;
+import swim.recon.Recon;
 
 final class EnvelopeEncoder extends Encoder<Envelope, Envelope> {
 
@@ -38,7 +39,7 @@ final class EnvelopeEncoder extends Encoder<Envelope, Envelope> {
 
   static Encoder<Envelope, Envelope> encode(OutputBuffer<?> output, Envelope envelope, Encoder<?, ?> input) {
     if (input == null) {
-      input = Utf8.writeEncoded(envelope.reconWriter(), output);
+      input = Binary.writeByteBuffer(Recon.toData(envelope.toValue()).asByteBuffer(), output);
     } else {
       input = input.pull(output);
     }
@@ -0,0 +1,53 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.warp;
+
+import swim.structure.Value;
+import swim.uri.Uri;
+import swim.util.HashGenCacheMap;
+
+/**
+ * Shares {@link EventMessage} instances, and their memoized Recon encodings,
+ * across all links that publish the same event, so that each distinct
+ * event gets serialized only once, regardless of how many sockets it fans
+ * out to.  Messages are shared per body instance, rather than per equal
+ * body, since bodies that compare equal, such as {@code 1} and {@code 1.0},
+ * can still serialize differently.
+ */
+public final class EventCache {
+
+  final HashGenCacheMap<EventCacheKey, EventMessage> messages;
+
+  public EventCache(int size) {
+    this.messages = new HashGenCacheMap<EventCacheKey, EventMessage>(size);
+  }
+
+  /**
+   * Returns the shared {@code EventMessage} addressed to the given {@code
+   * nodeUri} and {@code laneUri}, with the given {@code body} instance.  Messages
+   * re-addressed by {@link EventMessage#nodeUri(Uri)} stay shared through
+   * this cache.
+   */
+  public EventMessage eventMessage(Uri nodeUri, Uri laneUri, Value body) {
+    final EventCacheKey cacheKey = new EventCacheKey(nodeUri, laneUri, body);
+    final EventMessage message = new EventMessage(cacheKey, this);
+    return this.messages.put(cacheKey, message);
+  }
+
+  public void clear() {
+    this.messages.clear();
+  }
+
+}
@@ -0,0 +1,58 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.warp;
+
+import swim.structure.Value;
+import swim.uri.Uri;
+import swim.util.Murmur3;
+
+/**
+ * Identifies a shared {@link EventMessage} by its addresses and body instance.
+ */
+final class EventCacheKey {
+
+  private static int hashSeed;
+  final Uri nodeUri;
+  final Uri laneUri;
+  final Value body;
+
+  EventCacheKey(Uri nodeUri, Uri laneUri, Value body) {
+    this.nodeUri = nodeUri;
+    this.laneUri = laneUri;
+    this.body = body;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    } else if (other instanceof EventCacheKey) {
+      final EventCacheKey that = (EventCacheKey) other;
+      return this.body == that.body && this.nodeUri.equals(that.nodeUri)
+          && this.laneUri.equals(that.laneUri);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    if (hashSeed == 0) {
+      hashSeed = Murmur3.seed(EventCacheKey.class);
+    }
+    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(hashSeed,
+        this.nodeUri.hashCode()), this.laneUri.hashCode()), System.identityHashCode(this.body)));
+  }
+
+}
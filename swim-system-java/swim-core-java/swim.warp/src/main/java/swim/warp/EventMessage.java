@@ -14,6 +14,11 @@
 
 package swim.warp;
 
+import swim.codec.Binary;
+import swim.codec.Encoder;
+import swim.codec.Output;
+import swim.codec.Utf8;
+import swim.recon.Recon;
 import swim.structure.Form;
 import swim.structure.Kind;
 import swim.structure.Value;
@@ -24,8 +29,21 @@ public final class EventMessage extends LaneAddressed {
   @Kind
   public static final Form<EventMessage> FORM = new EventMessageForm();
 
+  final EventCache cache;
+  final EventCacheKey cacheKey;
+  volatile byte[] reconBytes;
+  volatile byte[] binaryBytes;
+
+  EventMessage(EventCacheKey cacheKey, EventCache cache) {
+    super(cacheKey.nodeUri, cacheKey.laneUri, cacheKey.body);
+    this.cache = cache;
+    this.cacheKey = cacheKey;
+  }
+
   public EventMessage(Uri nodeUri, Uri laneUri, Value body) {
     super(nodeUri, laneUri, body);
+    this.cache = null;
+    this.cacheKey = null;
   }
 
   public EventMessage(Uri nodeUri, Uri laneUri) {
@@ -52,7 +70,12 @@ public final class EventMessage extends LaneAddressed {
 
   @Override
   public EventMessage nodeUri(Uri nodeUri) {
-    return new EventMessage(nodeUri, this.laneUri, this.body);
+    final EventCache cache = this.cache;
+    if (cache != null) {
+      return cache.eventMessage(nodeUri, this.laneUri, this.body);
+    } else {
+      return new EventMessage(nodeUri, this.laneUri, this.body);
+    }
   }
 
   @Override
@@ -65,6 +88,54 @@ public final class EventMessage extends LaneAddressed {
     return new EventMessage(this.nodeUri, this.laneUri, body);
   }
 
+  @Override
+  public Encoder<?, Envelope> reconEncoder() {
+    if (this.cache != null) {
+      return Binary.byteArrayWriter((Envelope) this, reconBytes());
+    } else {
+      return super.reconEncoder();
+    }
+  }
+
+  @Override
+  public Encoder<?, Envelope> binaryEncoder() {
+    if (this.cache != null) {
+      return Binary.byteArrayWriter((Envelope) this, binaryBytes());
+    } else {
+      return super.binaryEncoder();
+    }
+  }
+
+  byte[] binaryBytes() {
+    byte[] binaryBytes = this.binaryBytes;
+    if (binaryBytes == null) {
+      synchronized (this) {
+        binaryBytes = this.binaryBytes;
+        if (binaryBytes == null) {
+          binaryBytes = BinaryEnvelope.toBytes(this);
+          this.binaryBytes = binaryBytes;
+        }
+      }
+    }
+    return binaryBytes;
+  }
+
+  byte[] reconBytes() {
+    byte[] reconBytes = this.reconBytes;
+    if (reconBytes == null) {
+      synchronized (this) {
+        reconBytes = this.reconBytes;
+        if (reconBytes == null) {
+          final Output<byte[]> output = Utf8.encodedOutput(Binary.byteArrayOutput());
+          Recon.writeStream(toValue(), output);
+          reconBytes = output.bind();
+          this.reconBytes = reconBytes;
+        }
+      }
+    }
+    return reconBytes;
+  }
+
 }
 
 final class EventMessageForm extends LaneAddressedForm<EventMessage> {
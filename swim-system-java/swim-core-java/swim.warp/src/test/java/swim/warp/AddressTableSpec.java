@@ -0,0 +1,111 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package swim.warp;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.testng.annotations.Test;
+import swim.codec.Binary;
+import swim.codec.Decoder;
+import swim.codec.Encoder;
+import swim.codec.OutputBuffer;
+import swim.structure.Attr;
+import swim.structure.Record;
+import swim.structure.Slot;
+import swim.uri.Uri;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class AddressTableSpec {
+
+  static byte[] encode(AddressTable addresses, Envelope envelope) {
+    final byte[] bytes = new byte[4096];
+    final OutputBuffer<ByteBuffer> output = Binary.outputBuffer(bytes);
+    final Encoder<?, Envelope> encoder = addresses.binaryEncoder(envelope).pull(output);
+    assertTrue(encoder.isDone());
+    return Arrays.copyOf(bytes, output.index());
+  }
+
+  static Envelope decode(AddressTable addresses, byte[] bytes) {
+    final Decoder<Envelope> decoder = addresses.decoder().feed(Binary.inputBuffer(bytes));
+    assertTrue(decoder.isDone());
+    return decoder.bind();
+  }
+
+  static Envelope transfer(AddressTable sender, AddressTable receiver, Envelope envelope) {
+    final Envelope received = decode(receiver, encode(sender, envelope));
+    assertEquals(received, envelope);
+    return received;
+  }
+
+  @Test
+  public void defineAddressesOnLink() {
+    final AddressTable sender = new AddressTable();
+    final AddressTable receiver = new AddressTable();
+    final LinkRequest link = new LinkRequest("node/uri", "lane_uri", 0.5f, 0f, Record.of(Attr.of("test")));
+    final byte[] linkBytes = encode(sender, link);
+    assertEquals(linkBytes.length, BinaryEnvelope.sizeOf(link) + 2);
+    assertEquals(decode(receiver, linkBytes), link);
+    assertEquals(sender.outboundSize(), 1);
+    assertEquals(receiver.inboundSize(), 1);
+
+    final EventMessage event = new EventMessage("node/uri", "lane_uri", Record.of(Slot.of("x", 1)));
+    final byte[] eventBytes = encode(sender, event);
+    assertTrue(eventBytes.length < BinaryEnvelope.sizeOf(event));
+    final Envelope received = decode(receiver, eventBytes);
+    assertEquals(received, event);
+    assertSame(received.nodeUri(), receiver.inboundNodeUri(0));
+    assertSame(received.laneUri(), receiver.inboundLaneUri(0));
+
+    transfer(sender, receiver, new CommandMessage("node/uri", "lane_uri", Record.of(Slot.of("y", 2))));
+    transfer(sender, receiver, new UnlinkRequest("node/uri", "lane_uri"));
+    assertEquals(sender.outboundSize(), 1);
+  }
+
+  @Test
+  public void sendFullAddressesBeforeLink() {
+    final AddressTable sender = new AddressTable();
+    final AddressTable receiver = new AddressTable();
+    final EventMessage event = new EventMessage("node/uri", "lane_uri");
+    assertEquals(encode(sender, event).length, BinaryEnvelope.sizeOf(event));
+    transfer(sender, receiver, event);
+    transfer(sender, receiver, new AuthRequest(Record.of(Slot.of("id", "token"))));
+    assertEquals(sender.outboundSize(), 0);
+    assertEquals(receiver.inboundSize(), 0);
+  }
+
+  @Test
+  public void readdressCachedEvents() {
+    final AddressTable sender = new AddressTable();
+    final AddressTable receiver = new AddressTable();
+    final EventCache cache = new EventCache(4);
+    transfer(sender, receiver, new LinkedResponse("a", "b"));
+    transfer(sender, receiver, new LinkedResponse("node/uri", "lane_uri"));
+    final EventMessage event = cache.eventMessage(Uri.parse("node/uri"), Uri.parse("lane_uri"),
+        Record.of(Attr.of("test"), Slot.of("text", "hello")));
+    assertEquals(encode(sender, event), BinaryEnvelope.toBytes(event, 1, false));
+    transfer(sender, receiver, event);
+  }
+
+  @Test
+  public void rejectUndefinedAddresses() {
+    final AddressTable sender = new AddressTable();
+    encode(sender, new SyncRequest("node/uri", "lane_uri"));
+    final byte[] eventBytes = encode(sender, new EventMessage("node/uri", "lane_uri"));
+    assertTrue(new AddressTable().decoder().feed(Binary.inputBuffer(eventBytes)).isError());
+    assertTrue(Envelope.decoder().feed(Binary.inputBuffer(eventBytes)).isError());
+  }
+
+}
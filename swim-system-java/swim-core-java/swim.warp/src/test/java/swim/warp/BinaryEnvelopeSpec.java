@@ -0,0 +1,127 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.warp;
+
+import java.nio.ByteBuffer;
+import org.testng.annotations.Test;
+import swim.codec.Binary;
+import swim.codec.Decoder;
+import swim.codec.InputBuffer;
+import swim.structure.Attr;
+import swim.structure.Data;
+import swim.structure.Num;
+import swim.structure.Record;
+import swim.structure.Slot;
+import swim.structure.Value;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class BinaryEnvelopeSpec {
+
+  static final Value BODY = Record.of(Attr.of("test", Record.of(Slot.of("x", 1), Slot.of("y", 2.5))),
+      Slot.of("text", "hello"), Slot.of("long", Num.from(1L << 40)), Slot.of("flag", true),
+      Slot.of("data", Data.wrap(new byte[] {1, 2, 3})), Record.of(-1, "nested"));
+
+  static void assertRoundTrips(Envelope envelope) {
+    final byte[] bytes = BinaryEnvelope.toBytes(envelope);
+    assertEquals(bytes.length, BinaryEnvelope.sizeOf(envelope));
+    assertTrue(BinaryEnvelope.isBinaryEnvelope(ByteBuffer.wrap(bytes)));
+    assertEquals(BinaryEnvelope.read(ByteBuffer.wrap(bytes)), envelope);
+    assertEquals(new AddressTable().decoder().feed(Binary.inputBuffer(bytes)).bind(), envelope);
+    for (int split = 0; split <= bytes.length; split += 1) {
+      final InputBuffer input = Binary.inputBuffer(bytes, 0, split).isPart(true);
+      Decoder<Envelope> decoder = new AddressTable().decoder().feed(input);
+      assertFalse(decoder.isDone());
+      decoder = decoder.feed(Binary.inputBuffer(bytes, split, bytes.length - split).isPart(false));
+      assertEquals(decoder.bind(), envelope);
+    }
+  }
+
+  @Test
+  public void roundTripLaneAddressedEnvelopes() {
+    assertRoundTrips(new EventMessage("node/uri", "lane_uri"));
+    assertRoundTrips(new EventMessage("node/uri", "lane_uri", BODY));
+    assertRoundTrips(new CommandMessage("node/uri", "lane_uri", BODY));
+    assertRoundTrips(new LinkedResponse("node/uri", "lane_uri"));
+    assertRoundTrips(new SyncedResponse("node/uri", "lane_uri", BODY));
+    assertRoundTrips(new UnlinkRequest("node/uri", "lane_uri"));
+    assertRoundTrips(new UnlinkedResponse("node/uri", "lane_uri", Record.of(Attr.of("nodeNotFound"))));
+  }
+
+  @Test
+  public void roundTripLinkAddressedEnvelopes() {
+    assertRoundTrips(new LinkRequest("node/uri", "lane_uri"));
+    assertRoundTrips(new LinkRequest("node/uri", "lane_uri", 0.5f, 10f, BODY));
+    assertRoundTrips(new SyncRequest("node/uri", "lane_uri", 1f, 0f));
+    assertRoundTrips(new LinkedResponse("node/uri", "lane_uri", 0f, 2f, BODY));
+  }
+
+  @Test
+  public void roundTripHostAddressedEnvelopes() {
+    assertRoundTrips(new AuthRequest());
+    assertRoundTrips(new AuthRequest(BODY));
+    assertRoundTrips(new AuthedResponse(Record.of(Slot.of("id", "token"))));
+    assertRoundTrips(new DeauthRequest());
+    assertRoundTrips(new DeauthedResponse(BODY));
+  }
+
+  @Test
+  public void decodeTextEnvelopes() {
+    final EventMessage envelope = new EventMessage("node/uri", "lane_uri", BODY);
+    assertFalse(BinaryEnvelope.isBinaryEnvelope(ByteBuffer.wrap(envelope.toRecon().getBytes())));
+    assertEquals(Envelope.decoder().feed(Binary.inputBuffer(envelope.toRecon().getBytes())).bind(), envelope);
+    assertEquals(new AddressTable().decoder().feed(Binary.inputBuffer(envelope.toRecon().getBytes())).bind(), envelope);
+  }
+
+  @Test
+  public void rejectBinaryEnvelopesWithoutBinaryProtocol() {
+    final byte[] bytes = BinaryEnvelope.toBytes(new EventMessage("node/uri", "lane_uri", BODY));
+    assertTrue(Envelope.decoder().feed(Binary.inputBuffer(bytes)).isError());
+  }
+
+  static void assertMalformed(int... bytes) {
+    final byte[] array = new byte[bytes.length];
+    for (int i = 0; i < bytes.length; i += 1) {
+      array[i] = (byte) bytes[i];
+    }
+    try {
+      BinaryEnvelope.read(ByteBuffer.wrap(array));
+      fail();
+    } catch (WarpException expected) {
+      // expected
+    }
+    final Decoder<Envelope> decoder = new AddressTable().decoder().feed(Binary.inputBuffer(array));
+    assertTrue(decoder.isError());
+    assertTrue(decoder.trap() instanceof WarpException);
+  }
+
+  @Test
+  public void rejectOversizedLengthsAndCounts() {
+    assertMalformed(0xFF, 0x01, 0x01, 0x05, 0x0D, 0xFF, 0xFF, 0xFF, 0xFF, 0x07);
+    assertMalformed(0xFF, 0x01, 0x01, 0x05, 0x0C, 0xFF, 0xFF, 0xFF, 0xFF, 0x07);
+    assertMalformed(0xFF, 0x01, 0x01, 0x01, 0xFF, 0xFF, 0xFF, 0xFF, 0x07);
+    assertMalformed(0xFF, 0x01, 0x01, 0x06, 0xFF, 0xFF, 0xFF, 0xFF, 0x07);
+  }
+
+  @Test
+  public void rejectTruncatedEnvelopes() {
+    assertMalformed(0xFF, 0x01);
+    assertMalformed(0xFF, 0x01, 0x01, 0x03, 0x00);
+    assertMalformed(0xFF, 0x01, 0x01, 0x05);
+  }
+
+}
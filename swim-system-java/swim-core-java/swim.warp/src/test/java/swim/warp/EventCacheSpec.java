@@ -0,0 +1,103 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.warp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.testng.annotations.Test;
+import swim.codec.Binary;
+import swim.codec.Encoder;
+import swim.codec.OutputBuffer;
+import swim.structure.Attr;
+import swim.structure.Num;
+import swim.structure.Record;
+import swim.structure.Value;
+import swim.uri.Uri;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class EventCacheSpec {
+
+  static String encode(Envelope envelope) {
+    final byte[] bytes = new byte[256];
+    final OutputBuffer<ByteBuffer> output = Binary.outputBuffer(bytes);
+    final Encoder<?, Envelope> encoder = envelope.reconEncoder().pull(output);
+    assertTrue(encoder.isDone());
+    return new String(bytes, 0, output.index(), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void shareIdenticalEvents() {
+    final EventCache cache = new EventCache(8);
+    final Value body = Record.of(Attr.of("test"), 1);
+    final EventMessage message = cache.eventMessage(Uri.parse("node/uri"), Uri.parse("lane_uri"), body);
+    assertSame(cache.eventMessage(Uri.parse("node/uri"), Uri.parse("lane_uri"), body), message);
+    assertNotSame(cache.eventMessage(Uri.parse("node/uri"), Uri.parse("lane_uri"), Record.of(Attr.of("test"), 1)), message);
+    assertNotSame(cache.eventMessage(Uri.parse("node/uri"), Uri.parse("lane_uri"), Record.of(Attr.of("test"), 2)), message);
+    assertEquals(message, new EventMessage("node/uri", "lane_uri", body));
+  }
+
+  @Test
+  public void distinguishEqualNumBodies() {
+    final EventCache cache = new EventCache(8);
+    final Num intBody = Num.from(1);
+    final Num doubleBody = Num.from(1.0);
+    final Num uint32Body = Num.uint32(1);
+    final EventMessage intMessage = cache.eventMessage(Uri.parse("node/uri"), Uri.parse("lane_uri"), intBody);
+    final EventMessage doubleMessage = cache.eventMessage(Uri.parse("node/uri"), Uri.parse("lane_uri"), doubleBody);
+    final EventMessage uint32Message = cache.eventMessage(Uri.parse("node/uri"), Uri.parse("lane_uri"), uint32Body);
+    assertNotSame(doubleMessage, intMessage);
+    assertNotSame(uint32Message, intMessage);
+    assertSame(intMessage.body(), intBody);
+    assertSame(doubleMessage.body(), doubleBody);
+    assertSame(uint32Message.body(), uint32Body);
+    assertEquals(encode(intMessage), "@event(node:\"node/uri\",lane:lane_uri) 1");
+    assertEquals(encode(uint32Message), "@event(node:\"node/uri\",lane:lane_uri) 0x00000001");
+  }
+
+  @Test
+  public void distinguishEqualRecordBodies() {
+    final EventCache cache = new EventCache(8);
+    final Value intBody = Record.of(Attr.of("test"), Num.from(1));
+    final Value uint32Body = Record.of(Attr.of("test"), Num.uint32(1));
+    final EventMessage intMessage = cache.eventMessage(Uri.parse("node/uri"), Uri.parse("lane_uri"), intBody);
+    final EventMessage uint32Message = cache.eventMessage(Uri.parse("node/uri"), Uri.parse("lane_uri"), uint32Body);
+    assertNotSame(uint32Message, intMessage);
+    assertEquals(encode(intMessage), "@event(node:\"node/uri\",lane:lane_uri)@test 1");
+    assertEquals(encode(uint32Message), "@event(node:\"node/uri\",lane:lane_uri)@test 0x00000001");
+  }
+
+  @Test
+  public void shareReaddressedEvents() {
+    final EventCache cache = new EventCache(8);
+    final Value body = Record.of(Attr.of("test"));
+    final EventMessage message = cache.eventMessage(Uri.parse("warp://localhost/node/uri"), Uri.parse("lane_uri"), body);
+    final EventMessage remoteMessage = message.nodeUri(Uri.parse("node/uri"));
+    assertSame(message.nodeUri(Uri.parse("node/uri")), remoteMessage);
+    assertEquals(remoteMessage, new EventMessage("node/uri", "lane_uri", body));
+  }
+
+  @Test
+  public void encodeSharedEventsOnce() {
+    final EventCache cache = new EventCache(8);
+    final EventMessage message = cache.eventMessage(Uri.parse("node/uri"), Uri.parse("lane_uri"), Record.of(Attr.of("test")));
+    assertEquals(encode(message), "@event(node:\"node/uri\",lane:lane_uri)@test");
+    assertEquals(encode(message), "@event(node:\"node/uri\",lane:lane_uri)@test");
+    assertSame(message.reconBytes(), message.reconBytes());
+  }
+
+}
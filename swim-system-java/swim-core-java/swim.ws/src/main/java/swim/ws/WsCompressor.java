@@ -0,0 +1,149 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.ws;
+
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import swim.codec.Debug;
+import swim.codec.Format;
+import swim.codec.Output;
+import swim.deflate.Deflate;
+import swim.deflate.Inflate;
+
+/**
+ * Compression engine that instantiates the permessage-deflate codecs of a
+ * negotiated WebSocket connection.
+ */
+public abstract class WsCompressor implements Debug {
+
+  private static WsCompressor deflate;
+  private static WsCompressor zlib;
+
+  /**
+   * Returns the name of this compression engine, used to select the engine
+   * by {@link #forName(String) name}.
+   */
+  public abstract String name();
+
+  public abstract WsDecoder decoder(int maxWindowBits);
+
+  public abstract WsEncoder encoderMasked(int compressionLevel, boolean noContextTakeover, int maxWindowBits);
+
+  public abstract WsEncoder encoderUnmasked(int compressionLevel, boolean noContextTakeover, int maxWindowBits);
+
+  @Override
+  public void debug(Output<?> output) {
+    output = output.write("WsCompressor").write('.').write(name()).write('(').write(')');
+  }
+
+  @Override
+  public String toString() {
+    return Format.debug(this);
+  }
+
+  /**
+   * Returns the compression engine backed by the pure Java {@code
+   * swim.deflate} implementation, which supports all window sizes.
+   */
+  public static WsCompressor deflate() {
+    if (deflate == null) {
+      deflate = new WsDeflateCompressor();
+    }
+    return deflate;
+  }
+
+  /**
+   * Returns the compression engine backed by the native {@code
+   * java.util.zip} implementation.  Encoders fall back to the {@link
+   * #deflate()} engine when the negotiated window is smaller than the
+   * maximum, which {@code java.util.zip.Deflater} does not support.
+   */
+  public static WsCompressor zlib() {
+    if (zlib == null) {
+      zlib = new WsZlibCompressor();
+    }
+    return zlib;
+  }
+
+  public static WsCompressor forName(String name) {
+    if ("deflate".equals(name)) {
+      return deflate();
+    } else if ("zlib".equals(name)) {
+      return zlib();
+    } else {
+      return null;
+    }
+  }
+
+}
+
+final class WsDeflateCompressor extends WsCompressor {
+
+  @Override
+  public String name() {
+    return "deflate";
+  }
+
+  @Override
+  public WsDecoder decoder(int maxWindowBits) {
+    return Ws.deflateDecoder(new Inflate<Object>(Inflate.Z_NO_WRAP, maxWindowBits));
+  }
+
+  @Override
+  public WsEncoder encoderMasked(int compressionLevel, boolean noContextTakeover, int maxWindowBits) {
+    return Ws.deflateEncoderMasked(new Deflate<Object>(Deflate.Z_NO_WRAP, compressionLevel, maxWindowBits),
+        noContextTakeover ? Deflate.Z_FULL_FLUSH : Deflate.Z_SYNC_FLUSH);
+  }
+
+  @Override
+  public WsEncoder encoderUnmasked(int compressionLevel, boolean noContextTakeover, int maxWindowBits) {
+    return Ws.deflateEncoderUnmasked(new Deflate<Object>(Deflate.Z_NO_WRAP, compressionLevel, maxWindowBits),
+        noContextTakeover ? Deflate.Z_FULL_FLUSH : Deflate.Z_SYNC_FLUSH);
+  }
+
+}
+
+final class WsZlibCompressor extends WsCompressor {
+
+  @Override
+  public String name() {
+    return "zlib";
+  }
+
+  @Override
+  public WsDecoder decoder(int maxWindowBits) {
+    // Inflater accepts streams deflated with any window size.
+    return Ws.zlibDecoder(new Inflater(true));
+  }
+
+  @Override
+  public WsEncoder encoderMasked(int compressionLevel, boolean noContextTakeover, int maxWindowBits) {
+    if (maxWindowBits < 15) {
+      return WsCompressor.deflate().encoderMasked(compressionLevel, noContextTakeover, maxWindowBits);
+    }
+    return Ws.zlibEncoderMasked(new Deflater(compressionLevel, true),
+        noContextTakeover ? Deflater.FULL_FLUSH : Deflater.SYNC_FLUSH);
+  }
+
+  @Override
+  public WsEncoder encoderUnmasked(int compressionLevel, boolean noContextTakeover, int maxWindowBits) {
+    if (maxWindowBits < 15) {
+      return WsCompressor.deflate().encoderUnmasked(compressionLevel, noContextTakeover, maxWindowBits);
+    }
+    return Ws.zlibEncoderUnmasked(new Deflater(compressionLevel, true),
+        noContextTakeover ? Deflater.FULL_FLUSH : Deflater.SYNC_FLUSH);
+  }
+
+}
@@ -14,20 +14,20 @@
 
 package swim.ws;
 
-import swim.deflate.Deflate;
-import swim.deflate.Inflate;
 import swim.http.WebSocketExtension;
 import swim.http.WebSocketParam;
 
 final class WsDeflateClientEngine extends WsEngine {
 
+  protected final WsCompressor compressor;
   protected final int clientCompressionLevel;
   protected final boolean clientNoContextTakeover;
   protected final int serverMaxWindowBits;
   protected final int clientMaxWindowBits;
 
-  WsDeflateClientEngine(int clientCompressionLevel, boolean clientNoContextTakeover,
-                        int serverMaxWindowBits, int clientMaxWindowBits) {
+  WsDeflateClientEngine(WsCompressor compressor, int clientCompressionLevel,
+                        boolean clientNoContextTakeover, int serverMaxWindowBits, int clientMaxWindowBits) {
+    this.compressor = compressor;
     this.clientCompressionLevel = clientCompressionLevel;
     this.clientNoContextTakeover = clientNoContextTakeover;
     this.serverMaxWindowBits = serverMaxWindowBits;
@@ -59,25 +59,19 @@ final class WsDeflateClientEngine extends WsEngine {
         throw new WsException("invalid permessage-deflate; " + param.toHttp());
       }
     }
-    return new WsDeflateClientEngine(settings.clientCompressionLevel, clientNoContextTakeover,
-        serverMaxWindowBits, clientMaxWindowBits);
+    return new WsDeflateClientEngine(settings.compressor, settings.clientCompressionLevel,
+        clientNoContextTakeover, serverMaxWindowBits, clientMaxWindowBits);
   }
 
   @Override
   public WsDecoder decoder() {
-    return Ws.deflateDecoder(new Inflate<Object>(Inflate.Z_NO_WRAP, this.serverMaxWindowBits));
+    return this.compressor.decoder(this.serverMaxWindowBits);
   }
 
   @Override
   public WsEncoder encoder() {
-    final int flush;
-    if (this.clientNoContextTakeover) {
-      flush = Deflate.Z_FULL_FLUSH;
-    } else {
-      flush = Deflate.Z_SYNC_FLUSH;
-    }
-    return Ws.deflateEncoderMasked(new Deflate<Object>(Deflate.Z_NO_WRAP, this.clientCompressionLevel,
-        this.clientMaxWindowBits), flush);
+    return this.compressor.encoderMasked(this.clientCompressionLevel,
+        this.clientNoContextTakeover, this.clientMaxWindowBits);
   }
 
   @Override
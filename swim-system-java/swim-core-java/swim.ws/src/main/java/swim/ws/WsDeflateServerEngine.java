@@ -14,20 +14,20 @@
 
 package swim.ws;
 
-import swim.deflate.Deflate;
-import swim.deflate.Inflate;
 import swim.http.WebSocketExtension;
 import swim.http.WebSocketParam;
 
 final class WsDeflateServerEngine extends WsEngine {
 
+  protected final WsCompressor compressor;
   protected final int serverCompressionLevel;
   protected final boolean serverNoContextTakeover;
   protected final int serverMaxWindowBits;
   protected final int clientMaxWindowBits;
 
-  WsDeflateServerEngine(int serverCompressionLevel, boolean serverNoContextTakeover,
-                        int serverMaxWindowBits, int clientMaxWindowBits) {
+  WsDeflateServerEngine(WsCompressor compressor, int serverCompressionLevel,
+                        boolean serverNoContextTakeover, int serverMaxWindowBits, int clientMaxWindowBits) {
+    this.compressor = compressor;
     this.serverCompressionLevel = serverCompressionLevel;
     this.serverNoContextTakeover = serverNoContextTakeover;
     this.serverMaxWindowBits = serverMaxWindowBits;
@@ -59,25 +59,19 @@ final class WsDeflateServerEngine extends WsEngine {
         throw new WsException("invalid permessage-deflate; " + param.toHttp());
       }
     }
-    return new WsDeflateServerEngine(settings.serverCompressionLevel, serverNoContextTakeover,
-        serverMaxWindowBits, clientMaxWindowBits);
+    return new WsDeflateServerEngine(settings.compressor, settings.serverCompressionLevel,
+        serverNoContextTakeover, serverMaxWindowBits, clientMaxWindowBits);
   }
 
   @Override
   public WsDecoder decoder() {
-    return Ws.deflateDecoder(new Inflate<Object>(Inflate.Z_NO_WRAP, this.clientMaxWindowBits));
+    return this.compressor.decoder(this.clientMaxWindowBits);
   }
 
   @Override
   public WsEncoder encoder() {
-    final int flush;
-    if (serverNoContextTakeover) {
-      flush = Deflate.Z_FULL_FLUSH;
-    } else {
-      flush = Deflate.Z_SYNC_FLUSH;
-    }
-    return Ws.deflateEncoderUnmasked(new Deflate<Object>(Deflate.Z_NO_WRAP, this.serverCompressionLevel,
-        this.serverMaxWindowBits), flush);
+    return this.compressor.encoderUnmasked(this.serverCompressionLevel,
+        this.serverNoContextTakeover, this.serverMaxWindowBits);
   }
 
   @Override
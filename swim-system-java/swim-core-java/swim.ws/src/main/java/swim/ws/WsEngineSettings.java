@@ -42,11 +42,13 @@ public class WsEngineSettings implements Debug {
   protected final boolean clientNoContextTakeover;
   protected final int serverMaxWindowBits;
   protected final int clientMaxWindowBits;
+  protected final WsCompressor compressor;
 
   public WsEngineSettings(int maxFrameSize, int maxMessageSize,
                           int serverCompressionLevel, int clientCompressionLevel,
                           boolean serverNoContextTakeover, boolean clientNoContextTakeover,
-                          int serverMaxWindowBits, int clientMaxWindowBits) {
+                          int serverMaxWindowBits, int clientMaxWindowBits,
+                          WsCompressor compressor) {
     this.maxFrameSize = maxFrameSize;
     this.maxMessageSize = maxMessageSize;
     this.serverCompressionLevel = serverCompressionLevel;
@@ -55,6 +57,16 @@ public class WsEngineSettings implements Debug {
     this.clientNoContextTakeover = clientNoContextTakeover;
     this.serverMaxWindowBits = serverMaxWindowBits;
     this.clientMaxWindowBits = clientMaxWindowBits;
+    this.compressor = compressor;
+  }
+
+  public WsEngineSettings(int maxFrameSize, int maxMessageSize,
+                          int serverCompressionLevel, int clientCompressionLevel,
+                          boolean serverNoContextTakeover, boolean clientNoContextTakeover,
+                          int serverMaxWindowBits, int clientMaxWindowBits) {
+    this(maxFrameSize, maxMessageSize, serverCompressionLevel, clientCompressionLevel,
+        serverNoContextTakeover, clientNoContextTakeover, serverMaxWindowBits, clientMaxWindowBits,
+        WsCompressor.deflate());
   }
 
   public static WsEngineSettings standard() {
@@ -105,10 +117,15 @@ public class WsEngineSettings implements Debug {
         clientMaxWindowBits = 15;
       }
 
+      WsCompressor compressor = WsCompressor.forName(System.getProperty("swim.ws.compressor"));
+      if (compressor == null) {
+        compressor = WsCompressor.deflate();
+      }
+
       standard = new WsEngineSettings(maxFrameSize, maxMessageSize,
           serverCompressionLevel, clientCompressionLevel,
           serverNoContextTakeover, clientNoContextTakeover,
-          serverMaxWindowBits, clientMaxWindowBits);
+          serverMaxWindowBits, clientMaxWindowBits, compressor);
     }
     return standard;
   }
@@ -145,7 +162,7 @@ public class WsEngineSettings implements Debug {
     return copy(maxFrameSize, this.maxMessageSize,
         this.serverCompressionLevel, this.clientCompressionLevel,
         this.serverNoContextTakeover, this.clientNoContextTakeover,
-        this.serverMaxWindowBits, this.clientMaxWindowBits);
+        this.serverMaxWindowBits, this.clientMaxWindowBits, this.compressor);
   }
 
   public final int maxMessageSize() {
@@ -156,7 +173,7 @@ public class WsEngineSettings implements Debug {
     return copy(this.maxFrameSize, maxMessageSize,
         this.serverCompressionLevel, this.clientCompressionLevel,
         this.serverNoContextTakeover, this.clientNoContextTakeover,
-        this.serverMaxWindowBits, this.clientMaxWindowBits);
+        this.serverMaxWindowBits, this.clientMaxWindowBits, this.compressor);
   }
 
   public final int serverCompressionLevel() {
@@ -167,7 +184,7 @@ public class WsEngineSettings implements Debug {
     return copy(this.maxFrameSize, this.maxMessageSize,
         serverCompressionLevel, this.clientCompressionLevel,
         this.serverNoContextTakeover, this.clientNoContextTakeover,
-        this.serverMaxWindowBits, this.clientMaxWindowBits);
+        this.serverMaxWindowBits, this.clientMaxWindowBits, this.compressor);
   }
 
   public final int clientCompressionLevel() {
@@ -178,14 +195,14 @@ public class WsEngineSettings implements Debug {
     return copy(this.maxFrameSize, this.maxMessageSize,
         this.serverCompressionLevel, clientCompressionLevel,
         this.serverNoContextTakeover, this.clientNoContextTakeover,
-        this.serverMaxWindowBits, this.clientMaxWindowBits);
+        this.serverMaxWindowBits, this.clientMaxWindowBits, this.compressor);
   }
 
   public WsEngineSettings compressionLevel(int serverCompressionLevel, int clientCompressionLevel) {
     return copy(this.maxFrameSize, this.maxMessageSize,
         serverCompressionLevel, clientCompressionLevel,
         this.serverNoContextTakeover, this.clientNoContextTakeover,
-        this.serverMaxWindowBits, this.clientMaxWindowBits);
+        this.serverMaxWindowBits, this.clientMaxWindowBits, this.compressor);
   }
 
   public final boolean serverNoContextTakeover() {
@@ -196,7 +213,7 @@ public class WsEngineSettings implements Debug {
     return copy(this.maxFrameSize, this.maxMessageSize,
         this.serverCompressionLevel, this.clientCompressionLevel,
         serverNoContextTakeover, this.clientNoContextTakeover,
-        this.serverMaxWindowBits, this.clientMaxWindowBits);
+        this.serverMaxWindowBits, this.clientMaxWindowBits, this.compressor);
   }
 
   public final boolean clientNoContextTakeover() {
@@ -207,7 +224,7 @@ public class WsEngineSettings implements Debug {
     return copy(this.maxFrameSize, this.maxMessageSize,
         this.serverCompressionLevel, this.clientCompressionLevel,
         this.serverNoContextTakeover, clientNoContextTakeover,
-        this.serverMaxWindowBits, this.clientMaxWindowBits);
+        this.serverMaxWindowBits, this.clientMaxWindowBits, this.compressor);
   }
 
   public final int serverMaxWindowBits() {
@@ -218,7 +235,7 @@ public class WsEngineSettings implements Debug {
     return copy(this.maxFrameSize, this.maxMessageSize,
         this.serverCompressionLevel, this.clientCompressionLevel,
         this.serverNoContextTakeover, this.clientNoContextTakeover,
-        serverMaxWindowBits, this.clientMaxWindowBits);
+        serverMaxWindowBits, this.clientMaxWindowBits, this.compressor);
   }
 
   public final int clientMaxWindowBits() {
@@ -229,7 +246,18 @@ public class WsEngineSettings implements Debug {
     return copy(this.maxFrameSize, this.maxMessageSize,
         this.serverCompressionLevel, this.clientCompressionLevel,
         this.serverNoContextTakeover, this.clientNoContextTakeover,
-        this.serverMaxWindowBits, clientMaxWindowBits);
+        this.serverMaxWindowBits, clientMaxWindowBits, this.compressor);
+  }
+
+  public final WsCompressor compressor() {
+    return this.compressor;
+  }
+
+  public WsEngineSettings compressor(WsCompressor compressor) {
+    return copy(this.maxFrameSize, this.maxMessageSize,
+        this.serverCompressionLevel, this.clientCompressionLevel,
+        this.serverNoContextTakeover, this.clientNoContextTakeover,
+        this.serverMaxWindowBits, this.clientMaxWindowBits, compressor);
   }
 
   public FingerTrieSeq<WebSocketExtension> extensions() {
@@ -324,11 +352,12 @@ public class WsEngineSettings implements Debug {
   protected WsEngineSettings copy(int maxFrameSize, int maxMessageSize,
                                   int serverCompressionLevel, int clientCompressionLevel,
                                   boolean serverNoContextTakeover, boolean clientNoContextTakeover,
-                                  int serverMaxWindowBits, int clientMaxWindowBits) {
+                                  int serverMaxWindowBits, int clientMaxWindowBits,
+                                  WsCompressor compressor) {
     return new WsEngineSettings(maxFrameSize, maxMessageSize,
         serverCompressionLevel, clientCompressionLevel,
         serverNoContextTakeover, clientNoContextTakeover,
-        serverMaxWindowBits, clientMaxWindowBits);
+        serverMaxWindowBits, clientMaxWindowBits, compressor);
   }
 
   public boolean canEqual(Object other) {
@@ -349,7 +378,8 @@ public class WsEngineSettings implements Debug {
           && this.serverNoContextTakeover == that.serverNoContextTakeover
           && this.clientNoContextTakeover == that.clientNoContextTakeover
           && this.serverMaxWindowBits == that.serverMaxWindowBits
-          && this.clientMaxWindowBits == that.clientMaxWindowBits;
+          && this.clientMaxWindowBits == that.clientMaxWindowBits
+          && this.compressor.equals(that.compressor);
     }
     return false;
   }
@@ -359,11 +389,11 @@ public class WsEngineSettings implements Debug {
     if (hashSeed == 0) {
       hashSeed = Murmur3.seed(WsEngineSettings.class);
     }
-    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(
+    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(
         Murmur3.mix(Murmur3.mix(Murmur3.mix(hashSeed, this.maxFrameSize), this.maxMessageSize),
             this.serverCompressionLevel), this.clientCompressionLevel),
         Murmur3.hash(this.serverNoContextTakeover)), Murmur3.hash(this.clientNoContextTakeover)),
-        this.serverMaxWindowBits), this.clientMaxWindowBits));
+        this.serverMaxWindowBits), this.clientMaxWindowBits), this.compressor.hashCode()));
   }
 
   @Override
@@ -376,7 +406,8 @@ public class WsEngineSettings implements Debug {
         .write('.').write("serverNoContextTakeover").write('(').debug(this.serverNoContextTakeover).write(')')
         .write('.').write("clientNoContextTakeover").write('(').debug(this.clientNoContextTakeover).write(')')
         .write('.').write("serverMaxWindowBits").write('(').debug(this.serverMaxWindowBits).write(')')
-        .write('.').write("clientMaxWindowBits").write('(').debug(this.clientMaxWindowBits).write(')');
+        .write('.').write("clientMaxWindowBits").write('(').debug(this.clientMaxWindowBits).write(')')
+        .write('.').write("compressor").write('(').debug(this.compressor).write(')');
   }
 
   @Override
@@ -402,7 +433,7 @@ final class WsEngineSettingsForm extends Form<WsEngineSettings> {
   public Item mold(WsEngineSettings settings) {
     if (settings != null) {
       final WsEngineSettings standard = WsEngineSettings.standard();
-      final Record record = Record.create(8);
+      final Record record = Record.create(9);
       if (settings.maxFrameSize != standard.maxFrameSize) {
         record.slot("maxFrameSize", settings.maxFrameSize);
       }
@@ -427,6 +458,9 @@ final class WsEngineSettingsForm extends Form<WsEngineSettings> {
       if (settings.clientMaxWindowBits != standard.clientMaxWindowBits) {
         record.slot("clientMaxWindowBits", settings.clientMaxWindowBits);
       }
+      if (!settings.compressor.equals(standard.compressor)) {
+        record.slot("compressor", settings.compressor.name());
+      }
       return record;
     } else {
       return Item.extant();
@@ -445,10 +479,14 @@ final class WsEngineSettingsForm extends Form<WsEngineSettings> {
     final boolean clientNoContextTakeover = value.get("clientNoContextTakeover").booleanValue(standard.clientNoContextTakeover);
     final int serverMaxWindowBits = value.get("serverMaxWindowBits").intValue(standard.serverMaxWindowBits);
     final int clientMaxWindowBits = value.get("clientMaxWindowBits").intValue(standard.clientMaxWindowBits);
+    WsCompressor compressor = WsCompressor.forName(value.get("compressor").stringValue(null));
+    if (compressor == null) {
+      compressor = standard.compressor;
+    }
     return new WsEngineSettings(maxFrameSize, maxMessageSize,
         serverCompressionLevel, clientCompressionLevel,
         serverNoContextTakeover, clientNoContextTakeover,
-        serverMaxWindowBits, clientMaxWindowBits);
+        serverMaxWindowBits, clientMaxWindowBits, compressor);
   }
 
 }
@@ -0,0 +1,191 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.ws;
+
+import java.util.zip.Deflater;
+import swim.codec.Binary;
+import swim.codec.Encoder;
+import swim.codec.EncoderException;
+import swim.codec.OutputBuffer;
+
+final class WsFrameZlibDeflater<O> extends Encoder<Object, WsFrame<O>> {
+
+  final WsZlibEncoder ws;
+  final WsFrame<O> frame;
+  final Encoder<?, ?> content;
+  final byte[] tail;
+  final int tailSize;
+  final long offset;
+
+  WsFrameZlibDeflater(WsZlibEncoder ws, WsFrame<O> frame, Encoder<?, ?> content,
+                      byte[] tail, int tailSize, long offset) {
+    this.ws = ws;
+    this.frame = frame;
+    this.content = content;
+    this.tail = tail;
+    this.tailSize = tailSize;
+    this.offset = offset;
+  }
+
+  WsFrameZlibDeflater(WsZlibEncoder ws, WsFrame<O> frame) {
+    this(ws, frame, null, null, 0, 0L);
+  }
+
+  static <O> Encoder<Object, WsFrame<O>> encode(OutputBuffer<?> output, WsZlibEncoder ws,
+                                                WsFrame<O> frame, Encoder<?, ?> content,
+                                                byte[] tail, int tailSize, long offset) {
+    final boolean isMasked = ws.isMasked();
+    final int outputSize = output.remaining();
+    final int maskSize = isMasked ? 4 : 0;
+    final int maxHeaderSize = (outputSize <= 127 ? 2 : outputSize <= 65539 ? 4 : 10) + maskSize;
+
+    // reserve room for the held back tail, plus enough space to flush
+    // without emitting repeated flush markers
+    if (outputSize > maxHeaderSize + 4 + 6) {
+      if (content == null) {
+        content = frame.contentEncoder(ws);
+      }
+      if (tail == null) {
+        tail = new byte[4];
+      }
+      final Deflater deflater = ws.deflater;
+      final byte[] array = output.array();
+      final int outputBase = output.index();
+      final int payloadBase = output.arrayOffset() + outputBase + maxHeaderSize;
+      final int payloadLimit = output.arrayOffset() + outputBase + outputSize;
+
+      // prepend the deflated bytes held back from the previous fragment
+      System.arraycopy(tail, 0, array, payloadBase, tailSize);
+      int payloadIndex = payloadBase + tailSize;
+
+      // deflate payload
+      boolean flushed = false;
+      while (payloadIndex < payloadLimit) {
+        if (deflater.needsInput() && content.isCont()) {
+          final OutputBuffer<?> buffer = Binary.outputBuffer(ws.buffer).isPart(true);
+          content = content.pull(buffer);
+          deflater.setInput(ws.buffer, 0, buffer.index());
+        }
+        if (!deflater.needsInput()) {
+          payloadIndex += deflater.deflate(array, payloadIndex, payloadLimit - payloadIndex, Deflater.NO_FLUSH);
+        } else if (content.isDone() && payloadLimit - payloadIndex > 6) {
+          payloadIndex += deflater.deflate(array, payloadIndex, payloadLimit - payloadIndex, ws.flush);
+          if (payloadIndex < payloadLimit) {
+            flushed = true;
+            break;
+          }
+        } else {
+          break;
+        }
+      }
+
+      // strip the trailing empty block from the final fragment, and hold back
+      // the last four bytes of all other fragments, in case they contain part
+      // of the trailing empty block
+      final boolean eof = flushed;
+      int payloadSize = payloadIndex - payloadBase;
+      if (eof) {
+        payloadSize = Math.max(0, payloadSize - 4);
+        tailSize = 0;
+      } else {
+        tailSize = Math.min(4, payloadSize);
+        payloadSize -= tailSize;
+        System.arraycopy(array, payloadBase + payloadSize, tail, 0, tailSize);
+      }
+      if (!eof && content.isError()) {
+        return content.asError();
+      } else if (!eof && payloadSize == 0) {
+        // not enough deflated output to make progress; defer the fragment
+        return new WsFrameZlibDeflater<O>(ws, frame, content, tail, tailSize, offset);
+      }
+      final int headerSize = (payloadSize <= 125 ? 2 : payloadSize <= 65535 ? 4 : 10) + maskSize;
+
+      // encode header
+      final WsOpcode opcode = frame.opcode();
+      final int finRsvOp;
+      if (eof) {
+        if (offset == 0L) {
+          finRsvOp = 0xc0 | opcode.code;
+        } else {
+          finRsvOp = 0x80;
+        }
+      } else if (offset == 0L) {
+        finRsvOp = 0x40 | opcode.code;
+      } else {
+        finRsvOp = 0x00;
+      }
+      output = output.index(outputBase);
+      output = output.write(finRsvOp);
+      if (payloadSize < 126) {
+        output = output.write(isMasked ? 0x80 | payloadSize : payloadSize);
+      } else if (payloadSize < 1 << 16) {
+        output = output.write(isMasked ? 254 : 126)
+            .write(payloadSize >>> 8)
+            .write(payloadSize);
+      } else {
+        output = output.write(isMasked ? 255 : 127)
+            .write(0)
+            .write(0)
+            .write(0)
+            .write(0)
+            .write(payloadSize >>> 24)
+            .write(payloadSize >>> 16)
+            .write(payloadSize >>> 8)
+            .write(payloadSize);
+      }
+
+      final int headerBase = output.arrayOffset() + outputBase + headerSize;
+      if (isMasked) {
+        // generate and encode masking key
+        final byte[] maskingKey = new byte[4];
+        ws.maskingKey(maskingKey);
+        output = output.write(maskingKey[0] & 0xff)
+            .write(maskingKey[1] & 0xff)
+            .write(maskingKey[2] & 0xff)
+            .write(maskingKey[3] & 0xff);
+
+        // mask payload, shifting if header smaller than anticipated
+        for (int i = 0; i < payloadSize; i += 1) {
+          array[headerBase + i] = (byte) (array[payloadBase + i] ^ maskingKey[i & 0x3]);
+        }
+      } else if (headerSize < maxHeaderSize) {
+        // shift payload if header smaller than anticipated
+        System.arraycopy(array, payloadBase, array, headerBase, payloadSize);
+      }
+      offset += payloadSize;
+      output = output.index(outputBase + headerSize + payloadSize);
+
+      if (eof) {
+        return done(frame);
+      }
+    }
+    if (output.isDone()) {
+      return error(new EncoderException("truncated"));
+    } else if (output.isError()) {
+      return error(output.trap());
+    }
+    return new WsFrameZlibDeflater<O>(ws, frame, content, tail, tailSize, offset);
+  }
+
+  static <O> Encoder<Object, WsFrame<O>> encode(OutputBuffer<?> output, WsZlibEncoder ws, WsFrame<O> frame) {
+    return encode(output, ws, frame, null, null, 0, 0L);
+  }
+
+  @Override
+  public Encoder<Object, WsFrame<O>> pull(OutputBuffer<?> output) {
+    return encode(output, this.ws, this.frame, this.content, this.tail, this.tailSize, this.offset);
+  }
+
+}
@@ -0,0 +1,76 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.ws;
+
+import java.util.zip.Inflater;
+import swim.codec.Decoder;
+import swim.codec.InputBuffer;
+
+public class WsZlibDecoder extends WsDecoder {
+
+  protected final Inflater inflater;
+  protected boolean decompressing;
+  final byte[] buffer;
+
+  public WsZlibDecoder(Inflater inflater, boolean decompressing) {
+    this.inflater = inflater;
+    this.decompressing = decompressing;
+    this.buffer = new byte[4096];
+  }
+
+  public WsZlibDecoder(Inflater inflater) {
+    this(inflater, false);
+  }
+
+  public final Inflater inflater() {
+    return this.inflater;
+  }
+
+  public final boolean decompressing() {
+    return this.decompressing;
+  }
+
+  @Override
+  public <T> Decoder<WsFrame<T>> decodeContinuationFrame(int finRsvOp, Decoder<T> content, InputBuffer input) {
+    if (decompressing) { // compressed
+      return WsFrameZlibInflater.decode(input, this, content);
+    } else { // uncompressed
+      return WsFrameDecoder.decode(input, this, content);
+    }
+  }
+
+  @Override
+  public <T> Decoder<WsFrame<T>> decodeTextFrame(int finRsvOp, Decoder<T> content, InputBuffer input) {
+    if ((finRsvOp & 0x40) != 0) { // compressed
+      this.decompressing = (finRsvOp & 0x80) == 0;
+      return WsFrameZlibInflater.decode(input, this, content);
+    } else { // uncompressed
+      this.decompressing = false;
+      return WsFrameDecoder.decode(input, this, content);
+    }
+  }
+
+  @Override
+  public <T> Decoder<WsFrame<T>> decodeBinaryFrame(int finRsvOp, Decoder<T> content, InputBuffer input) {
+    if ((finRsvOp & 0x40) != 0) { // compressed
+      this.decompressing = (finRsvOp & 0x80) == 0;
+      return WsFrameZlibInflater.decode(input, this, content);
+    } else { // uncompressed
+      this.decompressing = false;
+      return WsFrameDecoder.decode(input, this, content);
+    }
+  }
+
+}
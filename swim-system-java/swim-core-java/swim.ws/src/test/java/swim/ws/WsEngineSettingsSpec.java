@@ -52,4 +52,10 @@ public class WsEngineSettingsSpec {
             .clientMaxWindowBits(13));
   }
 
+  @Test
+  public void decodeZlibEngineSettings() {
+    assertDecodes(Record.of(Slot.of("compressor", "zlib")),
+        WsEngineSettings.standard().compressor(WsCompressor.zlib()));
+  }
+
 }
@@ -73,6 +73,15 @@ public class WsFrameEncoderSpec {
     assertEncodes(WsText.from("Hello"), Data.fromBase16("010348656c80026c6f"), 5, 4);
   }
 
+  @Test
+  public void encodeConsecutiveUnmaskedTextFrames() {
+    final byte[] actual = new byte[14];
+    final OutputBuffer<?> output = Binary.outputBuffer(actual);
+    assertTrue(Ws.standardEncoderUnmasked().frameEncoder(WsText.from("Hello")).pull(output).isDone());
+    assertTrue(Ws.standardEncoderUnmasked().frameEncoder(WsText.from("World")).pull(output).isDone());
+    assertEquals(Data.wrap(actual), Data.fromBase16("810548656c6c6f8105576f726c64"));
+  }
+
   @Test
   public void encodeMaskedTextFrame() {
     final byte[] maskingKey = {(byte) 0x37, (byte) 0xfa, (byte) 0x21, (byte) 0x3d};
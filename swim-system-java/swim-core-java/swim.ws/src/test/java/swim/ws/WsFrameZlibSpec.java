@@ -0,0 +1,138 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.ws;
+
+import org.testng.TestException;
+import org.testng.annotations.Test;
+import swim.codec.Binary;
+import swim.codec.Decoder;
+import swim.codec.Encoder;
+import swim.codec.InputBuffer;
+import swim.codec.OutputBuffer;
+import swim.codec.Utf8;
+import swim.structure.Data;
+import static org.testng.Assert.assertEquals;
+
+public class WsFrameZlibSpec {
+
+  static Data encode(WsEncoder ws, WsFrame<?> frame, int bufferSize) {
+    final byte[] encoded = new byte[1024 * 1024];
+    int index = 0;
+    Encoder<?, ?> frameEncoder = ws.frameEncoder(frame);
+    while (frameEncoder.isCont()) {
+      final OutputBuffer<?> output = Binary.outputBuffer(encoded, index, bufferSize).isPart(true);
+      frameEncoder = frameEncoder.pull(output);
+      index = output.index();
+    }
+    if (frameEncoder.isError()) {
+      throw new TestException(frameEncoder.trap());
+    }
+    return Data.wrap(encoded, 0, index);
+  }
+
+  @SuppressWarnings("unchecked")
+  static WsFrame<String> decode(WsDecoder ws, Data encoded) {
+    final InputBuffer input = encoded.toInputBuffer();
+    Decoder<WsFrame<String>> frameDecoder = ws.frameDecoder(Utf8.stringParser());
+    do {
+      frameDecoder = frameDecoder.feed(input);
+      if (frameDecoder.isDone()) {
+        final WsFrame<String> frame = frameDecoder.bind();
+        if (frame instanceof WsFragment<?>) {
+          frameDecoder = ws.frameDecoder(((WsFragment<String>) frame).contentDecoder());
+        } else {
+          return frame;
+        }
+      } else if (frameDecoder.isError()) {
+        throw new TestException(frameDecoder.trap());
+      }
+    } while (input.isCont());
+    throw new TestException("incomplete");
+  }
+
+  static String message(int length) {
+    final StringBuilder message = new StringBuilder();
+    for (int i = 0; message.length() < length; i += 1) {
+      message.append("lane").append(i % 97).append(' ').append(i * 31 % 1009).append(';');
+    }
+    return message.toString();
+  }
+
+  static void assertTranscodes(WsEncoder encoder, WsDecoder decoder, String message, int bufferSize) {
+    final Data encoded = encode(encoder, WsText.from(message), bufferSize);
+    assertEquals(decode(decoder, encoded), WsValue.from(message));
+  }
+
+  @Test
+  public void inflateUnmaskedSharedWindow() {
+    final WsZlibDecoder ws = Ws.zlibDecoder();
+    assertEquals(decode(ws, Data.fromBase16("c107f248cdc9c90700")), WsValue.from("Hello"));
+    assertEquals(decode(ws, Data.fromBase16("c105f200110000")), WsValue.from("Hello"));
+    assertEquals(decode(ws, Data.fromBase16("c10402130000")), WsValue.from("Hello"));
+    assertEquals(decode(ws, Data.fromBase16("c10402130000")), WsValue.from("Hello"));
+  }
+
+  @Test
+  public void inflateMaskedTextFrame() {
+    assertEquals(decode(Ws.zlibDecoder(), Data.fromBase16("c18737fa213dc5b2ecf4fefd21")), WsValue.from("Hello"));
+  }
+
+  @Test
+  public void inflateUnmaskedTextFragments() {
+    assertEquals(decode(Ws.zlibDecoder(), Data.fromBase16("4103f248cd8004c9c90700")), WsValue.from("Hello"));
+  }
+
+  @Test
+  public void transcodeSmallMessages() {
+    final WsZlibEncoder encoder = Ws.zlibEncoderUnmasked();
+    final WsZlibDecoder decoder = Ws.zlibDecoder();
+    for (int i = 0; i < 4; i += 1) {
+      assertTranscodes(encoder, decoder, "Hello", 256);
+    }
+    assertTranscodes(encoder, decoder, "", 256);
+  }
+
+  @Test
+  public void transcodeFragmentedMessages() {
+    final WsZlibEncoder encoder = Ws.zlibEncoderMasked();
+    final WsZlibDecoder decoder = Ws.zlibDecoder();
+    assertTranscodes(encoder, decoder, message(100000), 64);
+    assertTranscodes(encoder, decoder, message(100000), 4096);
+    assertTranscodes(encoder, decoder, message(10), 17);
+  }
+
+  @Test
+  public void interoperateWithDeflateCodec() {
+    final String message = message(50000);
+    assertTranscodes(Ws.zlibEncoderUnmasked(), Ws.deflateDecoder(), message, 100);
+    assertTranscodes(Ws.deflateEncoderUnmasked(), Ws.zlibDecoder(), message, 100);
+  }
+
+  @Test
+  public void transcodeWithoutContextTakeover() {
+    final WsEncoder encoder = WsCompressor.zlib().encoderUnmasked(-1, true, 15);
+    final WsDecoder decoder = WsCompressor.zlib().decoder(15);
+    assertTranscodes(encoder, decoder, message(2000), 128);
+    assertTranscodes(encoder, Ws.zlibDecoder(), message(2000), 128);
+  }
+
+  @Test
+  public void fallBackToDeflateCodecForSmallWindows() {
+    final WsEncoder encoder = WsCompressor.zlib().encoderUnmasked(-1, false, 10);
+    assertEquals(encoder.getClass(), WsDeflateEncoderUnmasked.class);
+    assertTranscodes(encoder, WsCompressor.zlib().decoder(10), message(5000), 256);
+  }
+
+}
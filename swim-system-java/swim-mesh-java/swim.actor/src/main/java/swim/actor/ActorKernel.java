@@ -36,6 +36,7 @@ import swim.runtime.MeshDef;
 import swim.runtime.NodeDef;
 import swim.runtime.PartDef;
 import swim.runtime.PartPredicate;
+import swim.runtime.PassivationDef;
 import swim.runtime.PolicyDef;
 import swim.store.StoreDef;
 import swim.structure.Item;
@@ -511,12 +512,19 @@ public class ActorKernel extends KernelProxy {
         PolicyDef policyDef = null;
         StageDef stageDef = null;
         StoreDef storeDef = null;
+        PassivationDef passivationDef = null;
         for (int i = 0, n = value.length(); i < n; i += 1) {
           final Item item = value.getItem(i);
           if (item.keyEquals("uri") || item.keyEquals("pattern")) {
             nodePattern = item.toValue().cast(UriPattern.form(), nodePattern);
             continue;
           }
+          if (item.keyEquals("passivation")) {
+            final Value passivation = item.toValue();
+            passivationDef = PassivationDef.from(passivation.get("idleTimeout").longValue(0L),
+                passivation.get("maxResident").intValue(0));
+            continue;
+          }
           final AgentDef agentDef = kernel.defineAgent(item);
           if (agentDef != null) {
             agentDefs = agentDefs.appended(agentDef);
@@ -550,7 +558,7 @@ public class ActorKernel extends KernelProxy {
         }
         if (nodePattern != null) {
           return new ActorNodeDef(nodePattern, agentDefs, laneDefs,
-              logDef, policyDef, stageDef, storeDef);
+              logDef, policyDef, stageDef, storeDef, passivationDef);
         }
       }
     }
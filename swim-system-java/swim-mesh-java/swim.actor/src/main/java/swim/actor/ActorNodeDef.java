@@ -24,6 +24,7 @@ import swim.concurrent.StageDef;
 import swim.runtime.LaneDef;
 import swim.runtime.LogDef;
 import swim.runtime.NodeDef;
+import swim.runtime.PassivationDef;
 import swim.runtime.PolicyDef;
 import swim.store.StoreDef;
 import swim.structure.Value;
@@ -42,10 +43,11 @@ public class ActorNodeDef implements NodeDef, Debug {
   final PolicyDef policyDef;
   final StageDef stageDef;
   final StoreDef storeDef;
+  final PassivationDef passivationDef;
 
   public ActorNodeDef(UriPattern nodePattern, FingerTrieSeq<AgentDef> agentDefs,
                       UriMapper<LaneDef> laneDefs, LogDef logDef, PolicyDef policyDef,
-                      StageDef stageDef, StoreDef storeDef) {
+                      StageDef stageDef, StoreDef storeDef, PassivationDef passivationDef) {
     this.nodePattern = nodePattern;
     this.agentDefs = agentDefs;
     this.laneDefs = laneDefs;
@@ -53,11 +55,18 @@ public class ActorNodeDef implements NodeDef, Debug {
     this.policyDef = policyDef;
     this.stageDef = stageDef;
     this.storeDef = storeDef;
+    this.passivationDef = passivationDef;
+  }
+
+  public ActorNodeDef(UriPattern nodePattern, FingerTrieSeq<AgentDef> agentDefs,
+                      UriMapper<LaneDef> laneDefs, LogDef logDef, PolicyDef policyDef,
+                      StageDef stageDef, StoreDef storeDef) {
+    this(nodePattern, agentDefs, laneDefs, logDef, policyDef, stageDef, storeDef, null);
   }
 
   public static ActorNodeDef fromNodeUri(Uri nodeUri) {
     return new ActorNodeDef(UriPattern.from(nodeUri), FingerTrieSeq.empty(),
-        UriMapper.empty(), null, null, null, null);
+        UriMapper.empty(), null, null, null, null, null);
   }
 
   public static ActorNodeDef fromNodeUri(String nodeUri) {
@@ -66,7 +75,7 @@ public class ActorNodeDef implements NodeDef, Debug {
 
   public static ActorNodeDef fromNodePattern(UriPattern nodePattern) {
     return new ActorNodeDef(nodePattern, FingerTrieSeq.empty(),
-        UriMapper.empty(), null, null, null, null);
+        UriMapper.empty(), null, null, null, null, null);
   }
 
   public static ActorNodeDef fromNodePattern(String nodePattern) {
@@ -85,7 +94,7 @@ public class ActorNodeDef implements NodeDef, Debug {
 
   public ActorNodeDef nodePattern(UriPattern nodePattern) {
     return copy(nodePattern, this.agentDefs, this.laneDefs,
-        this.logDef, this.policyDef, this.stageDef, this.storeDef);
+        this.logDef, this.policyDef, this.stageDef, this.storeDef, this.passivationDef);
   }
 
   @Override
@@ -105,7 +114,7 @@ public class ActorNodeDef implements NodeDef, Debug {
 
   public ActorNodeDef agentDef(AgentDef agentDef) {
     return copy(this.nodePattern, this.agentDefs.appended(agentDef), this.laneDefs,
-        this.logDef, this.policyDef, this.stageDef, this.storeDef);
+        this.logDef, this.policyDef, this.stageDef, this.storeDef, this.passivationDef);
   }
 
   @Override
@@ -120,7 +129,7 @@ public class ActorNodeDef implements NodeDef, Debug {
 
   public ActorNodeDef laneDef(LaneDef laneDef) {
     return copy(this.nodePattern, this.agentDefs, this.laneDefs.updated(laneDef.lanePattern(), laneDef),
-        this.logDef, this.policyDef, this.stageDef, this.storeDef);
+        this.logDef, this.policyDef, this.stageDef, this.storeDef, this.passivationDef);
   }
 
   @Override
@@ -130,7 +139,7 @@ public class ActorNodeDef implements NodeDef, Debug {
 
   public ActorNodeDef logDef(LogDef logDef) {
     return copy(this.nodePattern, this.agentDefs, this.laneDefs,
-        logDef, this.policyDef, this.stageDef, this.storeDef);
+        logDef, this.policyDef, this.stageDef, this.storeDef, this.passivationDef);
   }
 
   @Override
@@ -140,7 +149,7 @@ public class ActorNodeDef implements NodeDef, Debug {
 
   public ActorNodeDef policyDef(PolicyDef policyDef) {
     return copy(this.nodePattern, this.agentDefs, this.laneDefs,
-        this.logDef, policyDef, this.stageDef, this.storeDef);
+        this.logDef, policyDef, this.stageDef, this.storeDef, this.passivationDef);
   }
 
   @Override
@@ -150,7 +159,7 @@ public class ActorNodeDef implements NodeDef, Debug {
 
   public ActorNodeDef stageDef(StageDef stageDef) {
     return copy(this.nodePattern, this.agentDefs, this.laneDefs,
-        this.logDef, this.policyDef, stageDef, this.storeDef);
+        this.logDef, this.policyDef, stageDef, this.storeDef, this.passivationDef);
   }
 
   @Override
@@ -160,14 +169,24 @@ public class ActorNodeDef implements NodeDef, Debug {
 
   public ActorNodeDef storeDef(StoreDef storeDef) {
     return copy(this.nodePattern, this.agentDefs, this.laneDefs,
-        this.logDef, this.policyDef, this.stageDef, storeDef);
+        this.logDef, this.policyDef, this.stageDef, storeDef, this.passivationDef);
+  }
+
+  @Override
+  public final PassivationDef passivationDef() {
+    return this.passivationDef;
+  }
+
+  public ActorNodeDef passivationDef(PassivationDef passivationDef) {
+    return copy(this.nodePattern, this.agentDefs, this.laneDefs,
+        this.logDef, this.policyDef, this.stageDef, this.storeDef, passivationDef);
   }
 
   protected ActorNodeDef copy(UriPattern nodePattern, FingerTrieSeq<AgentDef> agentDefs,
                               UriMapper<LaneDef> laneDefs, LogDef logDef, PolicyDef policyDef,
-                              StageDef stageDef, StoreDef storeDef) {
+                              StageDef stageDef, StoreDef storeDef, PassivationDef passivationDef) {
     return new ActorNodeDef(nodePattern, agentDefs, laneDefs,
-        logDef, policyDef, stageDef, storeDef);
+        logDef, policyDef, stageDef, storeDef, passivationDef);
   }
 
   @Override
@@ -182,7 +201,8 @@ public class ActorNodeDef implements NodeDef, Debug {
           && (this.logDef == null ? that.logDef == null : this.logDef.equals(that.logDef))
           && (this.policyDef == null ? that.policyDef == null : this.policyDef.equals(that.policyDef))
           && (this.stageDef == null ? that.stageDef == null : this.stageDef.equals(that.stageDef))
-          && (this.storeDef == null ? that.storeDef == null : this.storeDef.equals(that.storeDef));
+          && (this.storeDef == null ? that.storeDef == null : this.storeDef.equals(that.storeDef))
+          && (this.passivationDef == null ? that.passivationDef == null : this.passivationDef.equals(that.passivationDef));
     }
     return false;
   }
@@ -192,10 +212,10 @@ public class ActorNodeDef implements NodeDef, Debug {
     if (hashSeed == 0) {
       hashSeed = Murmur3.seed(ActorNodeDef.class);
     }
-    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(
+    return Murmur3.mash(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(Murmur3.mix(
         Murmur3.mix(hashSeed, this.nodePattern.hashCode()), this.agentDefs.hashCode()),
         this.laneDefs.hashCode()), Murmur3.hash(this.logDef)), Murmur3.hash(this.policyDef)),
-        Murmur3.hash(this.stageDef)), Murmur3.hash(this.storeDef)));
+        Murmur3.hash(this.stageDef)), Murmur3.hash(this.storeDef)), Murmur3.hash(this.passivationDef)));
   }
 
   @Override
@@ -224,6 +244,9 @@ public class ActorNodeDef implements NodeDef, Debug {
     if (this.storeDef != null) {
       output = output.write('.').write("storeDef").write('(').debug(this.storeDef).write(')');
     }
+    if (this.passivationDef != null) {
+      output = output.write('.').write("passivationDef").write('(').debug(this.passivationDef).write(')');
+    }
   }
 
   @Override
@@ -63,6 +63,7 @@ import swim.runtime.NodeDef;
 import swim.runtime.PartAddress;
 import swim.runtime.PartBinding;
 import swim.runtime.PartDef;
+import swim.runtime.PassivationDef;
 import swim.runtime.PolicyDef;
 import swim.runtime.Push;
 import swim.runtime.TierContext;
@@ -87,6 +88,9 @@ public class ActorSpace extends AbstractTierBinding implements EdgeContext, Plan
   static final AtomicReferenceFieldUpdater<ActorSpace, UriMapper<AgentFactory<?>>> AGENT_FACTORIES =
       AtomicReferenceFieldUpdater.newUpdater(ActorSpace.class, (Class<UriMapper<AgentFactory<?>>>) (Class<?>) UriMapper.class, "agentFactories");
   @SuppressWarnings("unchecked")
+  static final AtomicReferenceFieldUpdater<ActorSpace, HashTrieMap<String, PassivationDef>> PASSIVATION_DEFS =
+      AtomicReferenceFieldUpdater.newUpdater(ActorSpace.class, (Class<HashTrieMap<String, PassivationDef>>) (Class<?>) HashTrieMap.class, "passivationDefs");
+  @SuppressWarnings("unchecked")
   static final AtomicReferenceFieldUpdater<ActorSpace, HashTrieMap<String, Authenticator>> AUTHENTICATORS =
       AtomicReferenceFieldUpdater.newUpdater(ActorSpace.class, (Class<HashTrieMap<String, Authenticator>>) (Class<?>) HashTrieMap.class, "authenticators");
   final EdgeAddress edgeAddress;
@@ -100,6 +104,7 @@ public class ActorSpace extends AbstractTierBinding implements EdgeContext, Plan
   volatile HashTrieMap<String, Plane> planes;
   volatile HashTrieMap<String, AgentRoute<?>> agentRoutes;
   volatile UriMapper<AgentFactory<?>> agentFactories;
+  volatile HashTrieMap<String, PassivationDef> passivationDefs;
   volatile HashTrieMap<String, Authenticator> authenticators;
 
   public ActorSpace(EdgeAddress edgeAddress, ActorSpaceDef spaceDef, KernelContext kernel) {
@@ -115,6 +120,7 @@ public class ActorSpace extends AbstractTierBinding implements EdgeContext, Plan
     this.planes = HashTrieMap.empty();
     this.agentRoutes = HashTrieMap.empty();
     this.agentFactories = UriMapper.empty();
+    this.passivationDefs = HashTrieMap.empty();
     this.authenticators = HashTrieMap.empty();
   }
 
@@ -298,6 +304,20 @@ public class ActorSpace extends AbstractTierBinding implements EdgeContext, Plan
       newAgentRoutes = oldAgentRoutes.updated(routeName, agentRoute);
     } while (oldAgentRoutes != newAgentRoutes && !AGENT_ROUTES.compareAndSet(this, oldAgentRoutes, newAgentRoutes));
 
+    // Every agent of the route shares one PassivationDef instance, which the
+    // host uses to identify the agents whose residency the route limits.
+    final PassivationDef passivationDef = PassivationDef.from(agentRoute.idleTimeout(), agentRoute.maxResident());
+    HashTrieMap<String, PassivationDef> oldPassivationDefs;
+    HashTrieMap<String, PassivationDef> newPassivationDefs;
+    do {
+      oldPassivationDefs = this.passivationDefs;
+      if (passivationDef.isDefined()) {
+        newPassivationDefs = oldPassivationDefs.updated(routeName, passivationDef);
+      } else {
+        newPassivationDefs = oldPassivationDefs.removed(routeName);
+      }
+    } while (oldPassivationDefs != newPassivationDefs && !PASSIVATION_DEFS.compareAndSet(this, oldPassivationDefs, newPassivationDefs));
+
     UriMapper<AgentFactory<?>> oldAgentFactories;
     UriMapper<AgentFactory<?>> newAgentFactories;
     do {
@@ -320,6 +340,13 @@ public class ActorSpace extends AbstractTierBinding implements EdgeContext, Plan
       newAgentRoutes = oldAgentRoutes.removed(routeName);
     } while (oldAgentRoutes != newAgentRoutes && !AGENT_ROUTES.compareAndSet(this, oldAgentRoutes, newAgentRoutes));
 
+    HashTrieMap<String, PassivationDef> oldPassivationDefs;
+    HashTrieMap<String, PassivationDef> newPassivationDefs;
+    do {
+      oldPassivationDefs = this.passivationDefs;
+      newPassivationDefs = oldPassivationDefs.removed(routeName);
+    } while (oldPassivationDefs != newPassivationDefs && !PASSIVATION_DEFS.compareAndSet(this, oldPassivationDefs, newPassivationDefs));
+
     final AgentRoute<?> agentRoute = oldAgentRoutes.get(routeName);
     if (agentRoute != null) {
       UriMapper<AgentFactory<?>> oldAgentFactories;
@@ -748,7 +775,15 @@ public class ActorSpace extends AbstractTierBinding implements EdgeContext, Plan
       final AgentFactory<?> agentFactory = this.agentFactories.get(nodeUri);
       if (agentFactory != null) {
         final Value props = agentFactory.props(nodeUri);
-        node = new AgentModel(props);
+        final AgentModel agentModel = new AgentModel(props);
+        if (agentFactory instanceof AgentRoute<?>) {
+          final AgentRoute<?> agentRoute = (AgentRoute<?>) agentFactory;
+          final PassivationDef passivationDef = this.passivationDefs.get(agentRoute.routeName());
+          if (passivationDef != null) {
+            agentModel.setPassivationDef(passivationDef);
+          }
+        }
+        node = agentModel;
       }
     }
     if (node == null) {
@@ -758,7 +793,9 @@ public class ActorSpace extends AbstractTierBinding implements EdgeContext, Plan
       final NodeDef nodeDef = this.spaceDef.getNodeDef(nodeUri);
       if (nodeDef != null) {
         final Value props = nodeDef.props(nodeUri);
-        node = new AgentModel(props);
+        final AgentModel agentModel = new AgentModel(props);
+        agentModel.setPassivationDef(nodeDef.passivationDef());
+        node = agentModel;
       }
     }
     return node;
@@ -45,4 +45,24 @@ public interface AgentRoute<A extends Agent> extends AgentFactory<A> {
    */
   UriPattern pattern();
 
+  /**
+   * The number of milliseconds after which an instance of {@code A} that has
+   * no open uplinks, and has not been addressed, may be passivated; or
+   * {@code 0} if instances should never be passivated for idleness.  A
+   * passivated agent is transparently reactivated when next addressed.
+   */
+  default long idleTimeout() {
+    return 0L;
+  }
+
+  /**
+   * The maximum number of instances of {@code A} that should remain resident
+   * in a host before the least recently addressed idle instances are
+   * passivated; or {@code 0} if the number of resident instances is
+   * unbounded.
+   */
+  default int maxResident() {
+    return 0;
+  }
+
 }
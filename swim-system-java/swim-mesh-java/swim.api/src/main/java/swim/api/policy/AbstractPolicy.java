@@ -32,6 +32,16 @@ import swim.warp.SyncRequest;
 
 public class AbstractPolicy implements Policy, PlanePolicy, AgentRoutePolicy, AgentPolicy, LanePolicy, UplinkPolicy, DownlinkPolicy {
 
+  protected PolicyCache policyCache;
+
+  public PolicyCache policyCache() {
+    return this.policyCache;
+  }
+
+  public void setPolicyCache(PolicyCache policyCache) {
+    this.policyCache = policyCache;
+  }
+
   @Override
   public AgentRoutePolicy agentRoutePolicy(AgentRoute<?> agentRoute) {
     return this;
@@ -64,22 +74,22 @@ public class AbstractPolicy implements Policy, PlanePolicy, AgentRoutePolicy, Ag
 
   @Override
   public PolicyDirective<LinkRequest> canLink(LinkRequest request, Identity identity) {
-    return authorize(request, identity);
+    return cachedAuthorize(request, identity);
   }
 
   @Override
   public PolicyDirective<SyncRequest> canSync(SyncRequest request, Identity identity) {
-    return authorize(request, identity);
+    return cachedAuthorize(request, identity);
   }
 
   @Override
   public PolicyDirective<EventMessage> canUplink(EventMessage message, Identity identity) {
-    return authorize(message, identity);
+    return cachedAuthorize(message, identity);
   }
 
   @Override
   public PolicyDirective<CommandMessage> canDownlink(CommandMessage message, Identity identity) {
-    return authorize(message, identity);
+    return cachedAuthorize(message, identity);
   }
 
   @Override
@@ -92,6 +102,19 @@ public class AbstractPolicy implements Policy, PlanePolicy, AgentRoutePolicy, Ag
     return allow();
   }
 
+  protected <T> PolicyDirective<T> cachedAuthorize(Envelope envelope, Identity identity) {
+    final PolicyCache policyCache = this.policyCache;
+    if (policyCache != null) {
+      PolicyDirective<T> directive = policyCache.get(envelope, identity);
+      if (directive == null) {
+        directive = policyCache.put(envelope, identity, this.<T>authorize(envelope, identity));
+      }
+      return directive;
+    } else {
+      return authorize(envelope, identity);
+    }
+  }
+
   protected <T> PolicyDirective<T> authorize(Envelope envelope, Identity identity) {
     return allow();
   }
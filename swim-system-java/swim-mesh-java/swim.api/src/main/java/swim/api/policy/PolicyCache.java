@@ -0,0 +1,242 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.api.policy;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import swim.api.auth.Identity;
+import swim.uri.Uri;
+import swim.warp.Envelope;
+
+/**
+ * Cache of {@link PolicyDirective} verdicts keyed by the identity, node URI,
+ * lane URI, and operation of the {@link Envelope} being authorized.  Cached
+ * verdicts expire after a fixed time-to-live, unless they were declared
+ * {@link PolicyDirective#isStable() stable}, in which case they remain cached
+ * until explicitly invalidated.  Directives that rewrite the authorized
+ * envelope are never cached.
+ * <p>
+ * Identities are compared by reference, so the verdicts of an identity
+ * should be {@link #invalidate(Identity) invalidated} once the identity is no
+ * longer in use, such as when its session disconnects or re-authenticates.
+ */
+public class PolicyCache {
+
+  static final int PURGE_MASK = 0x3ff;
+  static final AtomicIntegerFieldUpdater<PolicyCache> PUT_COUNT =
+      AtomicIntegerFieldUpdater.newUpdater(PolicyCache.class, "putCount");
+  final ConcurrentHashMap<PolicyCacheIdentity, ConcurrentHashMap<PolicyCacheKey, PolicyCacheEntry>> identities;
+  final long ttl;
+  volatile int putCount;
+
+  /**
+   * Constructs a {@code PolicyCache} whose entries expire {@code ttl}
+   * milliseconds after they're cached.
+   */
+  public PolicyCache(long ttl) {
+    this.identities = new ConcurrentHashMap<PolicyCacheIdentity, ConcurrentHashMap<PolicyCacheKey, PolicyCacheEntry>>();
+    this.ttl = ttl;
+  }
+
+  /**
+   * Returns the number of milliseconds after which cached verdicts expire.
+   */
+  public final long ttl() {
+    return this.ttl;
+  }
+
+  /**
+   * Returns the number of verdicts currently cached, including any that have
+   * expired but have not yet been purged.
+   */
+  public int size() {
+    int size = 0;
+    final Iterator<ConcurrentHashMap<PolicyCacheKey, PolicyCacheEntry>> entriesIterator = this.identities.values().iterator();
+    while (entriesIterator.hasNext()) {
+      size += entriesIterator.next().size();
+    }
+    return size;
+  }
+
+  /**
+   * Returns the cached verdict for the operation of {@code envelope} by
+   * {@code identity}, or {@code null} if no unexpired verdict is cached.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> PolicyDirective<T> get(Envelope envelope, Identity identity) {
+    final ConcurrentHashMap<PolicyCacheKey, PolicyCacheEntry> entries = this.identities.get(new PolicyCacheIdentity(identity));
+    if (entries != null) {
+      final PolicyCacheKey key = new PolicyCacheKey(envelope);
+      final PolicyCacheEntry entry = entries.get(key);
+      if (entry != null) {
+        if (entry.expiryTime == 0L || System.currentTimeMillis() < entry.expiryTime) {
+          return (PolicyDirective<T>) entry.directive;
+        } else {
+          entries.remove(key, entry);
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Caches {@code directive} as the verdict for the operation of {@code
+   * envelope} by {@code identity}, and returns {@code directive}.
+   */
+  public <T> PolicyDirective<T> put(Envelope envelope, Identity identity, PolicyDirective<T> directive) {
+    if (!directive.isDefined()) {
+      final PolicyCacheIdentity cacheIdentity = new PolicyCacheIdentity(identity);
+      ConcurrentHashMap<PolicyCacheKey, PolicyCacheEntry> entries = this.identities.get(cacheIdentity);
+      if (entries == null) {
+        entries = new ConcurrentHashMap<PolicyCacheKey, PolicyCacheEntry>();
+        final ConcurrentHashMap<PolicyCacheKey, PolicyCacheEntry> oldEntries = this.identities.putIfAbsent(cacheIdentity, entries);
+        if (oldEntries != null) {
+          entries = oldEntries;
+        }
+      }
+      final long expiryTime = directive.isStable() ? 0L : System.currentTimeMillis() + this.ttl;
+      entries.put(new PolicyCacheKey(envelope), new PolicyCacheEntry(directive, expiryTime));
+      if ((PUT_COUNT.incrementAndGet(this) & PURGE_MASK) == 0) {
+        purge();
+      }
+    }
+    return directive;
+  }
+
+  /**
+   * Removes the cached verdict for the operation of {@code envelope} by
+   * {@code identity}.
+   */
+  public void invalidate(Envelope envelope, Identity identity) {
+    final ConcurrentHashMap<PolicyCacheKey, PolicyCacheEntry> entries = this.identities.get(new PolicyCacheIdentity(identity));
+    if (entries != null) {
+      entries.remove(new PolicyCacheKey(envelope));
+    }
+  }
+
+  /**
+   * Removes all cached verdicts for operations by {@code identity}, including
+   * stable verdicts.
+   */
+  public void invalidate(Identity identity) {
+    this.identities.remove(new PolicyCacheIdentity(identity));
+  }
+
+  /**
+   * Removes all cached verdicts for operations on any lane of the node with
+   * the given {@code nodeUri}.
+   */
+  public void invalidate(Uri nodeUri) {
+    final Iterator<ConcurrentHashMap<PolicyCacheKey, PolicyCacheEntry>> entriesIterator = this.identities.values().iterator();
+    while (entriesIterator.hasNext()) {
+      final Iterator<PolicyCacheKey> keys = entriesIterator.next().keySet().iterator();
+      while (keys.hasNext()) {
+        if (nodeUri.equals(keys.next().nodeUri)) {
+          keys.remove();
+        }
+      }
+    }
+  }
+
+  /**
+   * Removes all cached verdicts.
+   */
+  public void invalidate() {
+    this.identities.clear();
+  }
+
+  /**
+   * Removes all expired verdicts.
+   */
+  public void purge() {
+    final long now = System.currentTimeMillis();
+    final Iterator<ConcurrentHashMap<PolicyCacheKey, PolicyCacheEntry>> entriesIterator = this.identities.values().iterator();
+    while (entriesIterator.hasNext()) {
+      final Iterator<PolicyCacheEntry> entries = entriesIterator.next().values().iterator();
+      while (entries.hasNext()) {
+        final long expiryTime = entries.next().expiryTime;
+        if (expiryTime != 0L && now >= expiryTime) {
+          entries.remove();
+        }
+      }
+    }
+  }
+
+}
+
+final class PolicyCacheIdentity {
+
+  final Identity identity;
+
+  PolicyCacheIdentity(Identity identity) {
+    this.identity = identity;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof PolicyCacheIdentity && this.identity == ((PolicyCacheIdentity) other).identity;
+  }
+
+  @Override
+  public int hashCode() {
+    return System.identityHashCode(this.identity);
+  }
+
+}
+
+final class PolicyCacheKey {
+
+  final Uri nodeUri;
+  final Uri laneUri;
+  final String tag;
+
+  PolicyCacheKey(Envelope envelope) {
+    this.nodeUri = envelope.nodeUri();
+    this.laneUri = envelope.laneUri();
+    this.tag = envelope.tag();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    } else if (other instanceof PolicyCacheKey) {
+      final PolicyCacheKey that = (PolicyCacheKey) other;
+      return this.nodeUri.equals(that.nodeUri) && this.laneUri.equals(that.laneUri)
+          && this.tag.equals(that.tag);
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * this.nodeUri.hashCode() + this.laneUri.hashCode()) + this.tag.hashCode();
+  }
+
+}
+
+final class PolicyCacheEntry {
+
+  final PolicyDirective<?> directive;
+  final long expiryTime;
+
+  PolicyCacheEntry(PolicyDirective<?> directive, long expiryTime) {
+    this.directive = directive;
+    this.expiryTime = expiryTime;
+  }
+
+}
@@ -107,6 +107,14 @@ public abstract class PolicyDirective<T> implements Debug {
     return null;
   }
 
+  public boolean isStable() {
+    return false;
+  }
+
+  public PolicyDirective<T> stable() {
+    return new Stable<T>(this);
+  }
+
   static final class Allow<T> extends PolicyDirective<T> {
 
     private static int hashSeed;
@@ -298,4 +306,90 @@ public abstract class PolicyDirective<T> implements Debug {
 
   }
 
+  static final class Stable<T> extends PolicyDirective<T> {
+
+    private static int hashSeed;
+    final PolicyDirective<T> directive;
+
+    Stable(PolicyDirective<T> directive) {
+      this.directive = directive;
+    }
+
+    @Override
+    public boolean isAllowed() {
+      return directive.isAllowed();
+    }
+
+    @Override
+    public boolean isDenied() {
+      return directive.isDenied();
+    }
+
+    @Override
+    public boolean isForbidden() {
+      return directive.isForbidden();
+    }
+
+    @Override
+    public boolean isDefined() {
+      return directive.isDefined();
+    }
+
+    @Override
+    public T get() {
+      return directive.get();
+    }
+
+    @Override
+    public Policy policy() {
+      return directive.policy();
+    }
+
+    @Override
+    public Object reason() {
+      return directive.reason();
+    }
+
+    @Override
+    public boolean isStable() {
+      return true;
+    }
+
+    @Override
+    public PolicyDirective<T> stable() {
+      return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other instanceof Stable<?>) {
+        final Stable<?> that = (Stable<?>) other;
+        return directive.equals(that.directive);
+      } else {
+        return false;
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      if (hashSeed == 0) {
+        hashSeed = Murmur3.seed(Stable.class);
+      }
+      return Murmur3.mash(Murmur3.mix(hashSeed, directive.hashCode()));
+    }
+
+    @Override
+    public void debug(Output<?> output) {
+      output = output.debug(directive).write('.').write("stable").write('(').write(')');
+    }
+
+    @Override
+    public String toString() {
+      return Format.debug(this);
+    }
+
+  }
+
 }
@@ -0,0 +1,101 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.bench;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import swim.collections.BTreeMap;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BTreeMapBenchmark {
+
+  @Param({"16", "1024", "65536"})
+  int size;
+
+  Integer[] keys;
+  BTreeMap<Integer, Integer, Object> map;
+
+  @Setup
+  public void setup() {
+    // Insert keys in a fixed pseudo-random order to exercise node splits.
+    final Random random = new Random(this.size);
+    this.keys = new Integer[this.size];
+    for (int i = 0; i < this.size; i += 1) {
+      this.keys[i] = i;
+    }
+    for (int i = this.size - 1; i > 0; i -= 1) {
+      final int j = random.nextInt(i + 1);
+      final Integer key = this.keys[i];
+      this.keys[i] = this.keys[j];
+      this.keys[j] = key;
+    }
+    BTreeMap<Integer, Integer, Object> map = BTreeMap.empty();
+    for (int i = 0; i < this.size; i += 1) {
+      map = map.updated(this.keys[i], i);
+    }
+    this.map = map;
+  }
+
+  @Benchmark
+  public BTreeMap<Integer, Integer, Object> updated() {
+    final Integer[] keys = this.keys;
+    BTreeMap<Integer, Integer, Object> map = BTreeMap.empty();
+    for (int i = 0; i < keys.length; i += 1) {
+      map = map.updated(keys[i], i);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public BTreeMap<Integer, Integer, Object> removed() {
+    final Integer[] keys = this.keys;
+    BTreeMap<Integer, Integer, Object> map = this.map;
+    for (int i = 0; i < keys.length; i += 1) {
+      map = map.removed(keys[i]);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public void get(Blackhole blackhole) {
+    final Integer[] keys = this.keys;
+    final BTreeMap<Integer, Integer, Object> map = this.map;
+    for (int i = 0; i < keys.length; i += 1) {
+      blackhole.consume(map.get(keys[i]));
+    }
+  }
+
+  @Benchmark
+  public void iterate(Blackhole blackhole) {
+    final Iterator<Map.Entry<Integer, Integer>> entries = this.map.iterator();
+    while (entries.hasNext()) {
+      blackhole.consume(entries.next());
+    }
+  }
+
+}
@@ -0,0 +1,44 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.bench;
+
+import swim.structure.Record;
+import swim.structure.Value;
+
+final class BenchValues {
+
+  private BenchValues() {
+    // static
+  }
+
+  static Value item(int i) {
+    return Record.create(6)
+        .attr("item")
+        .slot("id", i)
+        .slot("name", "item-" + i)
+        .slot("score", (double) i * 1.5)
+        .slot("active", (i & 1) == 0)
+        .slot("tags", Record.of("alpha", "beta", "gamma"));
+  }
+
+  static Value items(int itemCount) {
+    final Record record = Record.create(itemCount);
+    for (int i = 0; i < itemCount; i += 1) {
+      record.add(item(i));
+    }
+    return record;
+  }
+
+}
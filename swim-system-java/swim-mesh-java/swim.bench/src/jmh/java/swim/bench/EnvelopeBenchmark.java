@@ -0,0 +1,70 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import swim.codec.Binary;
+import swim.codec.Decoder;
+import swim.codec.Encoder;
+import swim.codec.OutputBuffer;
+import swim.warp.Envelope;
+import swim.warp.EventMessage;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EnvelopeBenchmark {
+
+  @Param({"1", "100"})
+  int itemCount;
+
+  Envelope envelope;
+  byte[] encoded;
+  byte[] buffer;
+
+  @Setup
+  public void setup() {
+    this.envelope = new EventMessage("/unit/0", "items", BenchValues.items(this.itemCount));
+    this.encoded = this.envelope.toRecon().getBytes(StandardCharsets.UTF_8);
+    this.buffer = new byte[this.encoded.length];
+  }
+
+  @Benchmark
+  public OutputBuffer<?> encode() {
+    final OutputBuffer<?> output = Binary.outputBuffer(this.buffer);
+    Encoder<?, ?> encoder = this.envelope.reconEncoder();
+    encoder = encoder.pull(output);
+    if (!encoder.isDone()) {
+      throw new AssertionError(encoder);
+    }
+    return output;
+  }
+
+  @Benchmark
+  public Envelope decode() {
+    final Decoder<Envelope> decoder = Envelope.decoder().feed(Binary.inputBuffer(this.encoded));
+    return decoder.bind();
+  }
+
+}
@@ -0,0 +1,83 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.bench;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import swim.collections.FingerTrieSeq;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FingerTrieSeqBenchmark {
+
+  @Param({"16", "1024", "65536"})
+  int size;
+
+  FingerTrieSeq<Integer> seq;
+
+  @Setup
+  public void setup() {
+    FingerTrieSeq<Integer> seq = FingerTrieSeq.empty();
+    for (int i = 0; i < this.size; i += 1) {
+      seq = seq.appended(i);
+    }
+    this.seq = seq;
+  }
+
+  @Benchmark
+  public FingerTrieSeq<Integer> appended() {
+    FingerTrieSeq<Integer> seq = FingerTrieSeq.empty();
+    for (int i = 0, n = this.size; i < n; i += 1) {
+      seq = seq.appended(i);
+    }
+    return seq;
+  }
+
+  @Benchmark
+  public FingerTrieSeq<Integer> prepended() {
+    FingerTrieSeq<Integer> seq = FingerTrieSeq.empty();
+    for (int i = 0, n = this.size; i < n; i += 1) {
+      seq = seq.prepended(i);
+    }
+    return seq;
+  }
+
+  @Benchmark
+  public void get(Blackhole blackhole) {
+    final FingerTrieSeq<Integer> seq = this.seq;
+    for (int i = 0, n = seq.size(); i < n; i += 1) {
+      blackhole.consume(seq.get(i));
+    }
+  }
+
+  @Benchmark
+  public void iterate(Blackhole blackhole) {
+    final Iterator<Integer> elems = this.seq.iterator();
+    while (elems.hasNext()) {
+      blackhole.consume(elems.next());
+    }
+  }
+
+}
@@ -0,0 +1,91 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.bench;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import swim.collections.HashTrieMap;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HashTrieMapBenchmark {
+
+  @Param({"16", "1024", "65536"})
+  int size;
+
+  String[] keys;
+  HashTrieMap<String, Integer> map;
+
+  @Setup
+  public void setup() {
+    this.keys = new String[this.size];
+    HashTrieMap<String, Integer> map = HashTrieMap.empty();
+    for (int i = 0; i < this.size; i += 1) {
+      final String key = "key-" + i;
+      this.keys[i] = key;
+      map = map.updated(key, i);
+    }
+    this.map = map;
+  }
+
+  @Benchmark
+  public HashTrieMap<String, Integer> updated() {
+    final String[] keys = this.keys;
+    HashTrieMap<String, Integer> map = HashTrieMap.empty();
+    for (int i = 0; i < keys.length; i += 1) {
+      map = map.updated(keys[i], i);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public HashTrieMap<String, Integer> removed() {
+    final String[] keys = this.keys;
+    HashTrieMap<String, Integer> map = this.map;
+    for (int i = 0; i < keys.length; i += 1) {
+      map = map.removed(keys[i]);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public void get(Blackhole blackhole) {
+    final String[] keys = this.keys;
+    final HashTrieMap<String, Integer> map = this.map;
+    for (int i = 0; i < keys.length; i += 1) {
+      blackhole.consume(map.get(keys[i]));
+    }
+  }
+
+  @Benchmark
+  public void iterate(Blackhole blackhole) {
+    final Iterator<Map.Entry<String, Integer>> entries = this.map.iterator();
+    while (entries.hasNext()) {
+      blackhole.consume(entries.next());
+    }
+  }
+
+}
@@ -0,0 +1,62 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import swim.json.Json;
+import swim.structure.Data;
+import swim.structure.Value;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonBenchmark {
+
+  @Param({"1", "100", "10000"})
+  int itemCount;
+
+  Value value;
+  String json;
+
+  @Setup
+  public void setup() {
+    this.value = BenchValues.items(this.itemCount);
+    this.json = Json.toString(this.value);
+  }
+
+  @Benchmark
+  public Value parse() {
+    return Json.parse(this.json);
+  }
+
+  @Benchmark
+  public String writeString() {
+    return Json.toString(this.value);
+  }
+
+  @Benchmark
+  public Data writeData() {
+    return Json.toData(this.value);
+  }
+
+}
@@ -0,0 +1,133 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.bench;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import swim.actor.ActorSpaceDef;
+import swim.api.SwimLane;
+import swim.api.SwimRoute;
+import swim.api.agent.AbstractAgent;
+import swim.api.agent.AgentRoute;
+import swim.api.downlink.MapDownlink;
+import swim.api.lane.CommandLane;
+import swim.api.lane.MapLane;
+import swim.api.plane.AbstractPlane;
+import swim.kernel.Kernel;
+import swim.server.ServerLoader;
+import swim.structure.Num;
+
+/**
+ * Measures the latency of a {@code MapLane} put, issued by an in-process
+ * command, until every linked uplink has delivered the resulting event to
+ * its downlink.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapLaneFanOutBenchmark {
+
+  @Param({"1", "16", "256"})
+  int uplinkCount;
+
+  Kernel kernel;
+  FanOutPlane plane;
+  AtomicLong eventCount;
+  MapDownlink<Integer, Integer>[] downlinks;
+  int key;
+
+  @SuppressWarnings("unchecked")
+  @Setup
+  public void setup() throws InterruptedException {
+    this.kernel = ServerLoader.loadServerStack();
+    this.plane = this.kernel.openSpace(ActorSpaceDef.fromName("bench"))
+        .openPlane("bench", FanOutPlane.class);
+    this.kernel.start();
+
+    final AtomicLong eventCount = new AtomicLong();
+    this.eventCount = eventCount;
+    final CountDownLatch didSync = new CountDownLatch(this.uplinkCount);
+    this.downlinks = (MapDownlink<Integer, Integer>[]) new MapDownlink<?, ?>[this.uplinkCount];
+    for (int i = 0; i < this.uplinkCount; i += 1) {
+      this.downlinks[i] = this.plane.downlinkMap()
+          .keyClass(Integer.class)
+          .valueClass(Integer.class)
+          .nodeUri("/fan-out")
+          .laneUri("map")
+          .didUpdate((key, newValue, oldValue) -> eventCount.incrementAndGet())
+          .didSync(didSync::countDown)
+          .open();
+    }
+    didSync.await();
+  }
+
+  @TearDown
+  public void tearDown() {
+    for (int i = 0; i < this.downlinks.length; i += 1) {
+      this.downlinks[i].close();
+    }
+    this.kernel.stop();
+  }
+
+  @Benchmark
+  public long put() {
+    final long expected = this.eventCount.get() + (long) this.uplinkCount;
+    // Cycle through a bounded key space so the lane stays a constant size.
+    final int key = this.key;
+    this.key = (key + 1) & 0xff;
+    this.plane.command("/fan-out", "put", Num.from(key));
+    long count;
+    do {
+      count = this.eventCount.get();
+      if (count >= expected) {
+        break;
+      }
+      Thread.yield();
+    } while (true);
+    return count;
+  }
+
+  public static class FanOutAgent extends AbstractAgent {
+
+    @SwimLane("map")
+    MapLane<Integer, Integer> map = this.<Integer, Integer>mapLane()
+        .keyClass(Integer.class)
+        .valueClass(Integer.class);
+
+    @SwimLane("put")
+    CommandLane<Integer> put = this.<Integer>commandLane()
+        .valueClass(Integer.class)
+        .onCommand(key -> this.map.put(key, this.map.getOrDefault(key, 0) + 1));
+
+  }
+
+  public static class FanOutPlane extends AbstractPlane {
+
+    @SwimRoute("/fan-out")
+    AgentRoute<FanOutAgent> fanOutRoute;
+
+  }
+
+}
@@ -0,0 +1,97 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import swim.codec.Binary;
+import swim.codec.Decoder;
+import swim.codec.Encoder;
+import swim.codec.OutputBuffer;
+import swim.codec.Utf8;
+import swim.recon.Recon;
+import swim.ws.Ws;
+import swim.ws.WsDecoder;
+import swim.ws.WsEncoder;
+import swim.ws.WsFrame;
+import swim.ws.WsText;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WsFrameBenchmark {
+
+  @Param({"1", "100"})
+  int itemCount;
+
+  @Param({"false", "true"})
+  boolean deflate;
+
+  WsText<String> frame;
+  byte[] encoded;
+  byte[] buffer;
+
+  @Setup
+  public void setup() {
+    final String text = Recon.toString(BenchValues.items(this.itemCount));
+    this.frame = WsText.from(text);
+    this.encoded = encode(newEncoder(), this.frame, new byte[text.getBytes(StandardCharsets.UTF_8).length + 64]);
+    this.buffer = new byte[this.encoded.length + 64];
+  }
+
+  WsEncoder newEncoder() {
+    return this.deflate ? Ws.deflateEncoderUnmasked() : Ws.standardEncoderUnmasked();
+  }
+
+  WsDecoder newDecoder() {
+    return this.deflate ? Ws.deflateDecoder() : Ws.standardDecoder();
+  }
+
+  static byte[] encode(WsEncoder encoder, WsFrame<?> frame, byte[] buffer) {
+    final OutputBuffer<?> output = Binary.outputBuffer(buffer);
+    Encoder<?, ?> frameEncoder = encoder.frameEncoder(frame);
+    frameEncoder = frameEncoder.pull(output);
+    if (!frameEncoder.isDone()) {
+      throw new AssertionError(frameEncoder);
+    }
+    final byte[] encoded = new byte[output.index()];
+    System.arraycopy(buffer, 0, encoded, 0, encoded.length);
+    return encoded;
+  }
+
+  // Each invocation codes its frame with a fresh codec, so that the sliding
+  // window of a deflate context doesn't carry history between frames.
+  @Benchmark
+  public Encoder<?, ?> encode() {
+    final OutputBuffer<?> output = Binary.outputBuffer(this.buffer);
+    return newEncoder().frameEncoder(this.frame).pull(output);
+  }
+
+  @Benchmark
+  public WsFrame<String> decode() {
+    final Decoder<WsFrame<String>> frameDecoder = newDecoder().frameDecoder(Utf8.stringParser())
+        .feed(Binary.inputBuffer(this.encoded));
+    return frameDecoder.bind();
+  }
+
+}
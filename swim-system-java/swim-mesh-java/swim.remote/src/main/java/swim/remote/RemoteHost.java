@@ -23,7 +23,9 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import swim.api.Downlink;
 import swim.api.auth.Identity;
+import swim.api.policy.AbstractPolicy;
 import swim.api.policy.Policy;
+import swim.api.policy.PolicyCache;
 import swim.api.policy.PolicyDirective;
 import swim.collections.FingerTrieSeq;
 import swim.collections.HashTrieMap;
@@ -98,6 +100,7 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
   volatile HashTrieMap<Uri, HashTrieMap<Uri, RemoteWarpDownlink>> downlinks;
   volatile HashTrieMap<Uri, HashTrieMap<Uri, HashTrieSet<RemoteWarpUplink>>> uplinks;
   volatile int messageBacklog;
+  volatile int writeBacklog;
   RemoteHostMessageCont messageCont;
   final HashGenCacheMap<Uri, Uri> resolveCache;
 
@@ -157,6 +160,65 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
     this.warpSocketContext = warpSocketContext;
   }
 
+  public int connectionCount() {
+    return 1;
+  }
+
+  public int connectionIndex(Uri remoteNodeUri) {
+    final int connectionCount = connectionCount();
+    if (connectionCount > 1) {
+      return (remoteNodeUri.hashCode() & 0x7fffffff) % connectionCount;
+    } else {
+      return 0;
+    }
+  }
+
+  public WarpSocketContext warpSocketContext(int index) {
+    if (index == 0) {
+      return this.warpSocketContext;
+    } else {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+  }
+
+  public boolean isConnected(int index) {
+    if (index == 0) {
+      return isConnected();
+    } else {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+  }
+
+  public int connectionBacklog(int index) {
+    if (index == 0) {
+      return this.writeBacklog;
+    } else {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+  }
+
+  protected void feed(int index, PullRequest<Envelope> pull) {
+    if (index == 0) {
+      final WarpSocketContext warpSocketContext = this.warpSocketContext;
+      if (warpSocketContext != null) {
+        WRITE_BACKLOG.incrementAndGet(this);
+        warpSocketContext.feed(pull);
+      }
+    } else {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+  }
+
+  protected void feed(int index, Envelope envelope, float prio) {
+    feed(index, new RemoteHostPull<Envelope>(this, index, prio, envelope, null));
+  }
+
+  protected void didPull(int index) {
+    if (index == 0) {
+      decrementBacklog(WRITE_BACKLOG, this);
+    }
+  }
+
   @Override
   public long idleTimeout() {
     return -1; // default timeout
@@ -372,8 +434,8 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
     return new RemoteWarpUplink(this, link, remoteNodeUri);
   }
 
-  <E extends Envelope> PullRequest<E> createPull(float prio, E envelope, Cont<E> cont) {
-    return new RemoteHostPull<E>(this, prio, envelope, cont);
+  <E extends Envelope> PullRequest<E> createPull(int index, float prio, E envelope, Cont<E> cont) {
+    return new RemoteHostPull<E>(this, index, prio, envelope, cont);
   }
 
   protected Uri resolve(Uri relativeUri) {
@@ -441,7 +503,7 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
       newUplinks = oldUplinks.updated(remoteNodeUri, nodeUplinks);
     } while (!UPLINKS.compareAndSet(this, oldUplinks, newUplinks));
 
-    if (isConnected()) {
+    if (isConnected(uplink.connectionIndex)) {
       uplink.didConnect();
     }
   }
@@ -492,8 +554,9 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
       final Envelope envelope = (Envelope) message;
       final Uri remoteNodeUri = resolve(envelope.nodeUri());
       final Envelope remoteEnvelope = envelope.nodeUri(remoteNodeUri);
-      final PullRequest<Envelope> pull = createPull(push.prio(), remoteEnvelope, (Cont<Envelope>) push.cont());
-      this.warpSocketContext.feed(pull);
+      final int index = connectionIndex(remoteNodeUri);
+      final PullRequest<Envelope> pull = createPull(index, push.prio(), remoteEnvelope, (Cont<Envelope>) push.cont());
+      feed(index, pull);
     } else {
       push.trap(new HostException("unsupported message: " + message));
     }
@@ -512,7 +575,7 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
         UriPort.from(remoteAddress.getPort()));
     this.remoteUri = Uri.from(UriScheme.from("warp"), remoteAuthority, UriPath.slash());
     REMOTE_IDENTITY.set(this, new Unauthenticated(this.requestUri, this.remoteUri, Value.absent()));
-    connectUplinks();
+    connectUplinks(0);
     this.hostContext.didConnect();
   }
 
@@ -614,13 +677,22 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
   }
 
   protected void onCommandMessage(CommandMessage message) {
+    Uri nodeUri = resolve(message.nodeUri());
+    Uri laneUri = message.laneUri();
+    RemoteWarpDownlink laneDownlink = getDownlink(nodeUri, laneUri);
     final Policy policy = policy();
-    if (policy != null) {
+    if (policy != null && (laneDownlink == null || !laneDownlink.isCommandStable())) {
       final PolicyDirective<CommandMessage> directive = policy.canDownlink(message, this.remoteIdentity);
       if (directive.isAllowed()) {
         final CommandMessage newMessage = directive.get();
         if (newMessage != null) {
           message = newMessage;
+          nodeUri = resolve(message.nodeUri());
+          laneUri = message.laneUri();
+          laneDownlink = getDownlink(nodeUri, laneUri);
+        } else if (laneDownlink != null && directive.isStable()) {
+          // Only an unmodified verdict holds for later commands on the link.
+          laneDownlink.stabilize(RemoteWarpDownlink.COMMAND_STABLE);
         }
       } else if (directive.isDenied()) {
         return;
@@ -630,17 +702,10 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
       }
     }
 
-    final Uri nodeUri = resolve(message.nodeUri());
-    final Uri laneUri = message.laneUri();
     final CommandMessage resolvedMessage = message.nodeUri(nodeUri);
-
-    final HashTrieMap<Uri, RemoteWarpDownlink> nodeDownlinks = this.downlinks.get(nodeUri);
-    if (nodeDownlinks != null) {
-      final RemoteWarpDownlink laneDownlink = nodeDownlinks.get(laneUri);
-      if (laneDownlink != null) {
-        laneDownlink.queueUp(resolvedMessage);
-        return;
-      }
+    if (laneDownlink != null) {
+      laneDownlink.queueUp(resolvedMessage);
+      return;
     }
 
     willPushMessage(resolvedMessage);
@@ -694,6 +759,53 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
     } while (true);
   }
 
+  RemoteWarpDownlink getDownlink(Uri nodeUri, Uri laneUri) {
+    final HashTrieMap<Uri, RemoteWarpDownlink> nodeDownlinks = this.downlinks.get(nodeUri);
+    if (nodeDownlinks != null) {
+      return nodeDownlinks.get(laneUri);
+    } else {
+      return null;
+    }
+  }
+
+  boolean isLinkStable(LinkAddressed envelope) {
+    final RemoteWarpDownlink downlink = getDownlink(resolve(envelope.nodeUri()), envelope.laneUri());
+    return downlink != null && downlink.isLinkStable();
+  }
+
+  void stabilizeLink(LinkAddressed envelope) {
+    // Skip link and sync policy re-evaluation for the remaining lifetime of
+    // the link; commands are still authorized by their own verdicts.
+    final RemoteWarpDownlink downlink = getDownlink(resolve(envelope.nodeUri()), envelope.laneUri());
+    if (downlink != null) {
+      downlink.stabilize(RemoteWarpDownlink.LINK_STABLE);
+    }
+  }
+
+  void destabilizeDownlinks() {
+    final Iterator<HashTrieMap<Uri, RemoteWarpDownlink>> nodeDownlinksIterator = this.downlinks.valueIterator();
+    while (nodeDownlinksIterator.hasNext()) {
+      final Iterator<RemoteWarpDownlink> laneDownlinks = nodeDownlinksIterator.next().valueIterator();
+      while (laneDownlinks.hasNext()) {
+        laneDownlinks.next().destabilize();
+      }
+    }
+  }
+
+  void invalidatePolicyCache(Identity identity) {
+    // Anonymous verdicts are shared by all unauthenticated sessions.
+    if (identity == null) {
+      return;
+    }
+    final Policy policy = policy();
+    if (policy instanceof AbstractPolicy) {
+      final PolicyCache policyCache = ((AbstractPolicy) policy).policyCache();
+      if (policyCache != null) {
+        policyCache.invalidate(identity);
+      }
+    }
+  }
+
   protected void routeDownlink(LinkAddressed envelope) {
     final Uri remoteNodeUri = envelope.nodeUri();
     final Uri nodeUri = resolve(remoteNodeUri);
@@ -757,6 +869,7 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
   }
 
   protected void onLinkRequest(LinkRequest request) {
+    boolean stable = false;
     final Policy policy = policy();
     if (policy != null) {
       final PolicyDirective<LinkRequest> directive = policy.canLink(request, this.remoteIdentity);
@@ -764,10 +877,12 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
         final LinkRequest newRequest = directive.get();
         if (newRequest != null) {
           request = newRequest;
+        } else {
+          stable = directive.isStable();
         }
       } else if (directive.isDenied()) {
         final UnlinkedResponse response = new UnlinkedResponse(request.nodeUri(), request.laneUri());
-        this.warpSocketContext.feed(response, 1.0f);
+        feed(0, response, 1.0f);
         return;
       } else {
         forbid();
@@ -775,6 +890,9 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
       }
     }
     routeDownlink(request);
+    if (stable) {
+      stabilizeLink(request);
+    }
   }
 
   protected void onLinkedResponse(LinkedResponse response) {
@@ -782,17 +900,20 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
   }
 
   protected void onSyncRequest(SyncRequest request) {
+    boolean stable = false;
     final Policy policy = policy();
-    if (policy != null) {
+    if (policy != null && !isLinkStable(request)) {
       final PolicyDirective<SyncRequest> directive = policy.canSync(request, this.remoteIdentity);
       if (directive.isAllowed()) {
         final SyncRequest newRequest = directive.get();
         if (newRequest != null) {
           request = newRequest;
+        } else {
+          stable = directive.isStable();
         }
       } else if (directive.isDenied()) {
         final UnlinkedResponse response = new UnlinkedResponse(request.nodeUri(), request.laneUri());
-        this.warpSocketContext.feed(response, 1.0f);
+        feed(0, response, 1.0f);
         return;
       } else {
         forbid();
@@ -800,6 +921,9 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
       }
     }
     routeDownlink(request);
+    if (stable) {
+      stabilizeLink(request);
+    }
   }
 
   protected void onSyncedResponse(SyncedResponse response) {
@@ -887,12 +1011,14 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
     final RemoteCredentials credentials = new RemoteCredentials(this.requestUri, this.remoteUri, request.body());
     final PolicyDirective<Identity> directive = this.hostContext.authenticate(credentials);
     if (directive != null && directive.isAllowed()) {
-      REMOTE_IDENTITY.set(this, directive.get());
+      final Identity oldIdentity = REMOTE_IDENTITY.getAndSet(this, directive.get());
+      destabilizeDownlinks();
+      invalidatePolicyCache(oldIdentity);
       final AuthedResponse response = new AuthedResponse();
-      this.warpSocketContext.feed(response, 1.0f);
+      feed(0, response, 1.0f);
     } else {
       final DeauthedResponse response = new DeauthedResponse();
-      this.warpSocketContext.feed(response, 1.0f);
+      feed(0, response, 1.0f);
     }
     if (directive != null && directive.isForbidden()) {
       final WarpSocketContext warpSocketContext = this.warpSocketContext;
@@ -909,9 +1035,11 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
   }
 
   protected void onDeauthRequest(DeauthRequest request) {
-    REMOTE_IDENTITY.set(this, null);
+    final Identity oldIdentity = REMOTE_IDENTITY.getAndSet(this, null);
+    destabilizeDownlinks();
+    invalidatePolicyCache(oldIdentity);
     final DeauthedResponse response = new DeauthedResponse();
-    this.warpSocketContext.feed(response, 1.0f);
+    feed(0, response, 1.0f);
   }
 
   protected void onDeauthedResponse(DeauthedResponse response) {
@@ -959,7 +1087,9 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
       this.messageCont = null;
     }
     MESSAGE_BACKLOG.set(this, 0);
-    disconnectUplinks();
+    WRITE_BACKLOG.set(this, 0);
+    invalidatePolicyCache(this.remoteIdentity);
+    disconnectUplinks(0);
     this.hostContext.didDisconnect();
     reconnect();
   }
@@ -1098,6 +1228,10 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
   }
 
   protected void connectUplinks() {
+    connectUplinks(0);
+  }
+
+  protected void connectUplinks(int index) {
     final Iterator<HashTrieMap<Uri, HashTrieSet<RemoteWarpUplink>>> nodeUplinksIterator = this.uplinks.valueIterator();
     while (nodeUplinksIterator.hasNext()) {
       final HashTrieMap<Uri, HashTrieSet<RemoteWarpUplink>> nodeUplinks = nodeUplinksIterator.next();
@@ -1107,13 +1241,19 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
         final Iterator<RemoteWarpUplink> uplinksIterator = laneUplinks.iterator();
         while (uplinksIterator.hasNext()) {
           final RemoteWarpUplink uplink = uplinksIterator.next();
-          uplink.didConnect();
+          if (uplink.connectionIndex == index) {
+            uplink.didConnect();
+          }
         }
       }
     }
   }
 
   protected void disconnectUplinks() {
+    disconnectUplinks(0);
+  }
+
+  protected void disconnectUplinks(int index) {
     final Iterator<HashTrieMap<Uri, HashTrieSet<RemoteWarpUplink>>> nodeUplinksIterator = this.uplinks.valueIterator();
     while (nodeUplinksIterator.hasNext()) {
       final HashTrieMap<Uri, HashTrieSet<RemoteWarpUplink>> nodeUplinks = nodeUplinksIterator.next();
@@ -1123,7 +1263,9 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
         final Iterator<RemoteWarpUplink> uplinksIterator = laneUplinks.iterator();
         while (uplinksIterator.hasNext()) {
           final RemoteWarpUplink uplink = uplinksIterator.next();
-          uplink.didDisconnect();
+          if (uplink.connectionIndex == index) {
+            uplink.didDisconnect();
+          }
         }
       }
     }
@@ -1176,6 +1318,9 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
   static final AtomicIntegerFieldUpdater<RemoteHost> MESSAGE_BACKLOG =
       AtomicIntegerFieldUpdater.newUpdater(RemoteHost.class, "messageBacklog");
 
+  static final AtomicIntegerFieldUpdater<RemoteHost> WRITE_BACKLOG =
+      AtomicIntegerFieldUpdater.newUpdater(RemoteHost.class, "writeBacklog");
+
   @SuppressWarnings("unchecked")
   static final AtomicReferenceFieldUpdater<RemoteHost, HashTrieMap<Uri, HashTrieMap<Uri, RemoteWarpDownlink>>> DOWNLINKS =
       AtomicReferenceFieldUpdater.newUpdater(RemoteHost.class, (Class<HashTrieMap<Uri, HashTrieMap<Uri, RemoteWarpDownlink>>>) (Class<?>) HashTrieMap.class, "downlinks");
@@ -1202,6 +1347,13 @@ public class RemoteHost extends AbstractTierBinding implements HostBinding, Warp
     URI_RESOLUTION_CACHE_SIZE = uriResolutionCacheSize;
   }
 
+  static <T> void decrementBacklog(AtomicIntegerFieldUpdater<T> updater, T object) {
+    int oldBacklog;
+    do {
+      oldBacklog = updater.get(object);
+    } while (oldBacklog > 0 && !updater.compareAndSet(object, oldBacklog, oldBacklog - 1));
+  }
+
 }
 
 final class RemoteHostMessageCont implements Cont<Envelope> {
@@ -1233,12 +1385,14 @@ final class RemoteHostMessageCont implements Cont<Envelope> {
 final class RemoteHostPull<E extends Envelope> implements PullRequest<E> {
 
   final RemoteHost host;
+  final int index;
   final float prio;
   final E envelope;
   final Cont<E> cont;
 
-  RemoteHostPull(RemoteHost host, float prio, E envelope, Cont<E> cont) {
+  RemoteHostPull(RemoteHost host, int index, float prio, E envelope, Cont<E> cont) {
     this.host = host;
+    this.index = index;
     this.prio = prio;
     this.envelope = envelope;
     this.cont = cont;
@@ -1251,6 +1405,7 @@ final class RemoteHostPull<E extends Envelope> implements PullRequest<E> {
 
   @Override
   public void pull(PullContext<? super E> context) {
+    this.host.didPull(this.index);
     context.push(this.envelope);
     if (this.cont != null) {
       try {
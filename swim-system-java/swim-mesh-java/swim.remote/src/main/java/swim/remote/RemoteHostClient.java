@@ -17,6 +17,7 @@ package swim.remote;
 import java.net.InetSocketAddress;
 import swim.collections.FingerTrieSeq;
 import swim.concurrent.Conts;
+import swim.concurrent.PullRequest;
 import swim.concurrent.TimerFunction;
 import swim.concurrent.TimerRef;
 import swim.http.HttpRequest;
@@ -25,10 +26,8 @@ import swim.io.IpInterface;
 import swim.io.IpSocketModem;
 import swim.io.IpSocketRef;
 import swim.io.http.HttpClient;
-import swim.io.http.HttpClientContext;
 import swim.io.http.HttpClientModem;
 import swim.io.http.HttpSettings;
-import swim.io.warp.AbstractWarpClient;
 import swim.io.warp.WarpSettings;
 import swim.io.warp.WarpSocketContext;
 import swim.io.warp.WarpWebSocket;
@@ -37,22 +36,49 @@ import swim.uri.Uri;
 import swim.uri.UriAuthority;
 import swim.uri.UriPath;
 import swim.uri.UriScheme;
+import swim.warp.BinaryEnvelope;
+import swim.warp.Envelope;
 import swim.ws.WsRequest;
 
 public class RemoteHostClient extends RemoteHost {
 
   static final double MAX_RECONNECT_TIMEOUT = 15000.0;
   static final FingerTrieSeq<String> PROTOCOL_LIST = FingerTrieSeq.of("warp0", "swim-0.0");
+  static final FingerTrieSeq<String> BINARY_PROTOCOL_LIST = PROTOCOL_LIST.prepended(BinaryEnvelope.PROTOCOL);
+  static final int CONNECTION_POOL_SIZE;
+
+  static {
+    int connectionPoolSize;
+    try {
+      connectionPoolSize = Math.max(1, Integer.parseInt(System.getProperty("swim.remote.connection.pool.size")));
+    } catch (NumberFormatException e) {
+      connectionPoolSize = 1;
+    }
+    CONNECTION_POOL_SIZE = connectionPoolSize;
+  }
+
   final IpInterface endpoint;
   final WarpSettings warpSettings;
+  final RemoteHostConnection[] connections;
   HttpClient client;
   TimerRef reconnectTimer;
   double reconnectTimeout;
 
-  public RemoteHostClient(Uri baseUri, IpInterface endpoint, WarpSettings warpSettings) {
+  public RemoteHostClient(Uri baseUri, IpInterface endpoint, WarpSettings warpSettings, int connectionCount) {
     super(Uri.empty(), baseUri);
+    if (connectionCount < 1) {
+      throw new IllegalArgumentException("connectionCount: " + connectionCount);
+    }
     this.endpoint = endpoint;
     this.warpSettings = warpSettings;
+    this.connections = new RemoteHostConnection[connectionCount - 1];
+    for (int i = 0; i < this.connections.length; i += 1) {
+      this.connections[i] = new RemoteHostConnection(this, i + 1);
+    }
+  }
+
+  public RemoteHostClient(Uri baseUri, IpInterface endpoint, WarpSettings warpSettings) {
+    this(baseUri, endpoint, warpSettings, CONNECTION_POOL_SIZE);
   }
 
   public RemoteHostClient(Uri baseUri, IpInterface endpoint) {
@@ -64,28 +90,69 @@ public class RemoteHostClient extends RemoteHost {
     super.setHostContext(hostContext);
   }
 
-  public void connect() {
-    try {
-      final String scheme = this.baseUri.schemeName();
-      final boolean isSecure = "warps".equals(scheme) || "swims".equals(scheme);
+  @Override
+  public int connectionCount() {
+    return 1 + this.connections.length;
+  }
+
+  @Override
+  public WarpSocketContext warpSocketContext(int index) {
+    if (index == 0) {
+      return this.warpSocketContext;
+    } else {
+      return this.connections[index - 1].warpSocketContext;
+    }
+  }
 
-      final UriAuthority remoteAuthority = this.baseUri.authority();
-      final String remoteAddress = remoteAuthority.host().address();
-      final int remotePort = remoteAuthority.port().number();
-      final int requestPort = remotePort > 0 ? remotePort : isSecure ? 443 : 80;
+  @Override
+  public boolean isConnected(int index) {
+    if (index == 0) {
+      return isConnected();
+    } else {
+      return this.connections[index - 1].isConnected();
+    }
+  }
+
+  @Override
+  public int connectionBacklog(int index) {
+    if (index == 0) {
+      return this.writeBacklog;
+    } else {
+      return this.connections[index - 1].writeBacklog;
+    }
+  }
+
+  @Override
+  protected void feed(int index, PullRequest<Envelope> pull) {
+    if (index == 0) {
+      super.feed(index, pull);
+    } else {
+      this.connections[index - 1].feed(pull);
+    }
+  }
+
+  @Override
+  protected void didPull(int index) {
+    if (index == 0) {
+      super.didPull(index);
+    } else {
+      this.connections[index - 1].didPull();
+    }
+  }
 
+  WsRequest wsRequest() {
+    final Uri requestUri = Uri.from(UriScheme.from("http"), this.baseUri.authority(), UriPath.slash(), this.baseUri.query());
+    return WsRequest.from(requestUri, this.warpSettings.binary() ? BINARY_PROTOCOL_LIST : PROTOCOL_LIST);
+  }
+
+  public void connect() {
+    try {
       if (this.client == null) {
-        final Uri requestUri = Uri.from(UriScheme.from("http"), remoteAuthority, UriPath.slash(), this.baseUri.query());
-        final WsRequest wsRequest = WsRequest.from(requestUri, PROTOCOL_LIST);
         final WarpWebSocket webSocket = new WarpWebSocket(this, this.warpSettings);
-        this.client = new RemoteHostClientBinding(this, webSocket, wsRequest, this.warpSettings);
+        this.client = new RemoteHostClientBinding(this, webSocket, wsRequest(), this.warpSettings);
         setWarpSocketContext(webSocket); // eagerly set
       }
-      if (isSecure) {
-        connectHttps(new InetSocketAddress(remoteAddress, requestPort), this.client, this.warpSettings.httpSettings());
-      } else {
-        connectHttp(new InetSocketAddress(remoteAddress, requestPort), this.client, this.warpSettings.httpSettings());
-      }
+      connect(this.client);
     } catch (Throwable error) {
       if (Conts.isNonFatal(error)) {
         error.printStackTrace();
@@ -96,6 +163,22 @@ public class RemoteHostClient extends RemoteHost {
     }
   }
 
+  IpSocketRef connect(HttpClient client) {
+    final String scheme = this.baseUri.schemeName();
+    final boolean isSecure = "warps".equals(scheme) || "swims".equals(scheme);
+
+    final UriAuthority remoteAuthority = this.baseUri.authority();
+    final String remoteAddress = remoteAuthority.host().address();
+    final int remotePort = remoteAuthority.port().number();
+    final int requestPort = remotePort > 0 ? remotePort : isSecure ? 443 : 80;
+
+    if (isSecure) {
+      return connectHttps(new InetSocketAddress(remoteAddress, requestPort), client, this.warpSettings.httpSettings());
+    } else {
+      return connectHttp(new InetSocketAddress(remoteAddress, requestPort), client, this.warpSettings.httpSettings());
+    }
+  }
+
   protected IpSocketRef connectHttp(InetSocketAddress remoteAddress, HttpClient client, HttpSettings httpSettings) {
     final HttpClientModem modem = new HttpClientModem(client, httpSettings);
     final IpSocketModem<HttpResponse<?>, HttpRequest<?>> socket = new IpSocketModem<HttpResponse<?>, HttpRequest<?>>(modem);
@@ -139,9 +222,23 @@ public class RemoteHostClient extends RemoteHost {
   @Override
   protected void willOpen() {
     connect();
+    for (int i = 0; i < this.connections.length; i += 1) {
+      this.connections[i].connect();
+    }
     super.willOpen();
   }
 
+  @Override
+  protected void willClose() {
+    try {
+      super.willClose();
+    } finally {
+      for (int i = 0; i < this.connections.length; i += 1) {
+        this.connections[i].close();
+      }
+    }
+  }
+
   @Override
   public void didFail(Throwable error) {
     final WarpSocketContext warpSocketContext = this.warpSocketContext;
@@ -154,41 +251,6 @@ public class RemoteHostClient extends RemoteHost {
 
 }
 
-final class RemoteHostClientBinding extends AbstractWarpClient {
-
-  final RemoteHostClient client;
-  final WarpWebSocket webSocket;
-  final WsRequest wsRequest;
-  final WarpSettings warpSettings;
-
-  RemoteHostClientBinding(RemoteHostClient client, WarpWebSocket webSocket,
-                          WsRequest wsRequest, WarpSettings warpSettings) {
-    super(warpSettings);
-    this.client = client;
-    this.webSocket = webSocket;
-    this.wsRequest = wsRequest;
-    this.warpSettings = warpSettings;
-  }
-
-  @Override
-  public void setHttpClientContext(HttpClientContext context) {
-    super.setHttpClientContext(context);
-  }
-
-  @Override
-  public void didConnect() {
-    super.didConnect();
-    doRequest(upgrade(this.webSocket, this.wsRequest));
-  }
-
-  @Override
-  public void didDisconnect() {
-    webSocket.close();
-    this.client.didDisconnect();
-  }
-
-}
-
 final class RemoteHostClientReconnectTimer implements TimerFunction {
 
   final RemoteHostClient client;
@@ -0,0 +1,57 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.remote;
+
+import swim.io.http.HttpClientContext;
+import swim.io.warp.AbstractWarpClient;
+import swim.io.warp.WarpSettings;
+import swim.io.warp.WarpSocket;
+import swim.io.warp.WarpWebSocket;
+import swim.ws.WsRequest;
+
+final class RemoteHostClientBinding extends AbstractWarpClient {
+
+  final WarpSocket client;
+  final WarpWebSocket webSocket;
+  final WsRequest wsRequest;
+  final WarpSettings warpSettings;
+
+  RemoteHostClientBinding(WarpSocket client, WarpWebSocket webSocket,
+                          WsRequest wsRequest, WarpSettings warpSettings) {
+    super(warpSettings);
+    this.client = client;
+    this.webSocket = webSocket;
+    this.wsRequest = wsRequest;
+    this.warpSettings = warpSettings;
+  }
+
+  @Override
+  public void setHttpClientContext(HttpClientContext context) {
+    super.setHttpClientContext(context);
+  }
+
+  @Override
+  public void didConnect() {
+    super.didConnect();
+    doRequest(upgrade(this.webSocket, this.wsRequest));
+  }
+
+  @Override
+  public void didDisconnect() {
+    webSocket.close();
+    this.client.didDisconnect();
+  }
+
+}
@@ -0,0 +1,251 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.remote;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import swim.concurrent.Conts;
+import swim.concurrent.PullRequest;
+import swim.concurrent.TimerFunction;
+import swim.concurrent.TimerRef;
+import swim.http.HttpRequest;
+import swim.http.HttpResponse;
+import swim.io.IpSocket;
+import swim.io.http.HttpClient;
+import swim.io.warp.WarpSocket;
+import swim.io.warp.WarpSocketContext;
+import swim.io.warp.WarpWebSocket;
+import swim.warp.Envelope;
+import swim.ws.WsClose;
+import swim.ws.WsControl;
+import swim.ws.WsPing;
+import swim.ws.WsPong;
+
+final class RemoteHostConnection implements WarpSocket {
+
+  final RemoteHostClient host;
+  final int index;
+  WarpSocketContext warpSocketContext;
+  HttpClient client;
+  TimerRef reconnectTimer;
+  double reconnectTimeout;
+  volatile int writeBacklog;
+
+  RemoteHostConnection(RemoteHostClient host, int index) {
+    this.host = host;
+    this.index = index;
+  }
+
+  @Override
+  public WarpSocketContext warpSocketContext() {
+    return this.warpSocketContext;
+  }
+
+  @Override
+  public void setWarpSocketContext(WarpSocketContext warpSocketContext) {
+    this.warpSocketContext = warpSocketContext;
+  }
+
+  public boolean isConnected() {
+    final WarpSocketContext warpSocketContext = this.warpSocketContext;
+    return warpSocketContext != null && warpSocketContext.isConnected();
+  }
+
+  void feed(PullRequest<Envelope> pull) {
+    final WarpSocketContext warpSocketContext = this.warpSocketContext;
+    if (warpSocketContext != null) {
+      WRITE_BACKLOG.incrementAndGet(this);
+      warpSocketContext.feed(pull);
+    }
+  }
+
+  void didPull() {
+    RemoteHost.decrementBacklog(WRITE_BACKLOG, this);
+  }
+
+  void connect() {
+    try {
+      if (this.client == null) {
+        final WarpWebSocket webSocket = new WarpWebSocket(this, this.host.warpSettings);
+        this.client = new RemoteHostClientBinding(this, webSocket, this.host.wsRequest(), this.host.warpSettings);
+        setWarpSocketContext(webSocket); // eagerly set
+      }
+      this.host.connect(this.client);
+    } catch (Throwable error) {
+      if (Conts.isNonFatal(error)) {
+        error.printStackTrace();
+        reconnect();
+      } else {
+        throw error;
+      }
+    }
+  }
+
+  void reconnect() {
+    if (this.host.isClosed() || this.reconnectTimer != null && this.reconnectTimer.isScheduled()) {
+      return;
+    }
+    if (this.reconnectTimeout == 0.0) {
+      final double jitter = 1000.0 * Math.random();
+      this.reconnectTimeout = 500.0 + jitter;
+    } else {
+      this.reconnectTimeout = Math.min(1.8 * this.reconnectTimeout, RemoteHostClient.MAX_RECONNECT_TIMEOUT);
+    }
+    this.reconnectTimer = this.host.hostContext.schedule().setTimer((long) this.reconnectTimeout,
+        new RemoteHostConnectionReconnectTimer(this));
+  }
+
+  void close() {
+    final TimerRef reconnectTimer = this.reconnectTimer;
+    if (reconnectTimer != null) {
+      reconnectTimer.cancel();
+      this.reconnectTimer = null;
+    }
+    final WarpSocketContext warpSocketContext = this.warpSocketContext;
+    if (warpSocketContext != null) {
+      warpSocketContext.close();
+    }
+  }
+
+  @Override
+  public long idleTimeout() {
+    return this.host.idleTimeout();
+  }
+
+  @Override
+  public void doRead() {
+    // nop
+  }
+
+  @Override
+  public void didRead(Envelope envelope) {
+    this.host.didRead(envelope);
+  }
+
+  @Override
+  public void didRead(WsControl<?, ?> frame) {
+    final WarpSocketContext warpSocketContext = this.warpSocketContext;
+    if (warpSocketContext != null) {
+      if (frame instanceof WsClose<?, ?>) {
+        warpSocketContext.write(WsClose.from(1000));
+      } else if (frame instanceof WsPing<?, ?>) {
+        warpSocketContext.write(WsPong.from(frame.payload()));
+      }
+    }
+  }
+
+  @Override
+  public void doWrite() {
+    // nop
+  }
+
+  @Override
+  public void didWrite(Envelope envelope) {
+    // nop
+  }
+
+  @Override
+  public void didWrite(WsControl<?, ?> frame) {
+    // nop
+  }
+
+  @Override
+  public void didUpgrade(HttpRequest<?> httpRequest, HttpResponse<?> httpResponse) {
+    // nop
+  }
+
+  @Override
+  public void willConnect() {
+    // nop
+  }
+
+  @Override
+  public void didConnect() {
+    if (this.reconnectTimer != null) {
+      this.reconnectTimer.cancel();
+      this.reconnectTimer = null;
+    }
+    this.reconnectTimeout = 0.0;
+    this.host.connectUplinks(this.index);
+  }
+
+  @Override
+  public void willSecure() {
+    // nop
+  }
+
+  @Override
+  public void didSecure() {
+    // nop
+  }
+
+  @Override
+  public void willBecome(IpSocket socket) {
+    // nop
+  }
+
+  @Override
+  public void didBecome(IpSocket socket) {
+    // nop
+  }
+
+  @Override
+  public void didTimeout() {
+    // nop
+  }
+
+  @Override
+  public void didDisconnect() {
+    WRITE_BACKLOG.set(this, 0);
+    this.host.disconnectUplinks(this.index);
+    reconnect();
+  }
+
+  @Override
+  public void didFail(Throwable error) {
+    final WarpSocketContext warpSocketContext = this.warpSocketContext;
+    if (warpSocketContext != null) {
+      this.warpSocketContext = null;
+      warpSocketContext.close();
+    }
+    reconnect();
+  }
+
+  static final AtomicIntegerFieldUpdater<RemoteHostConnection> WRITE_BACKLOG =
+      AtomicIntegerFieldUpdater.newUpdater(RemoteHostConnection.class, "writeBacklog");
+
+}
+
+final class RemoteHostConnectionReconnectTimer implements TimerFunction {
+
+  final RemoteHostConnection connection;
+
+  RemoteHostConnectionReconnectTimer(RemoteHostConnection connection) {
+    this.connection = connection;
+  }
+
+  @Override
+  public void runTimer() {
+    try {
+      this.connection.connect();
+    } catch (Throwable error) {
+      if (Conts.isNonFatal(error)) {
+        this.connection.reconnect(); // schedule reconnect
+      } else {
+        throw error;
+      }
+    }
+  }
+
+}
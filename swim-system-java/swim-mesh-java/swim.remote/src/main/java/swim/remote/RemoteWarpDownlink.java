@@ -24,7 +24,6 @@ import swim.api.LinkException;
 import swim.api.auth.Identity;
 import swim.concurrent.PullContext;
 import swim.concurrent.PullRequest;
-import swim.io.warp.WarpSocketContext;
 import swim.runtime.CellContext;
 import swim.runtime.LinkAddress;
 import swim.runtime.LinkBinding;
@@ -45,6 +44,8 @@ class RemoteWarpDownlink implements WarpBinding, PullRequest<Envelope> {
   static final int PULLING_DOWN = 1 << 1;
   static final int FEEDING_UP = 1 << 2;
   static final int SYNC = 1 << 3;
+  static final int LINK_STABLE = 1 << 4;
+  static final int COMMAND_STABLE = 1 << 5;
   static final AtomicIntegerFieldUpdater<RemoteWarpDownlink> STATUS =
       AtomicIntegerFieldUpdater.newUpdater(RemoteWarpDownlink.class, "status");
   final RemoteHost host;
@@ -241,15 +242,13 @@ class RemoteWarpDownlink implements WarpBinding, PullRequest<Envelope> {
       }
     } while (oldStatus != newStatus && !STATUS.compareAndSet(this, oldStatus, newStatus));
     if ((oldStatus & PULLING_DOWN) == 0) {
-      final WarpSocketContext warpSocketContext = this.host.warpSocketContext;
-      if (warpSocketContext != null) {
-        warpSocketContext.feed(this);
-      }
+      this.host.feed(0, this);
     }
   }
 
   @Override
   public void pull(PullContext<? super Envelope> pullContext) {
+    this.host.didPull(0);
     this.pullContext = pullContext;
     this.linkContext.pullDown();
   }
@@ -294,6 +293,32 @@ class RemoteWarpDownlink implements WarpBinding, PullRequest<Envelope> {
     }
   }
 
+  public boolean isLinkStable() {
+    return (this.status & LINK_STABLE) != 0;
+  }
+
+  public boolean isCommandStable() {
+    return (this.status & COMMAND_STABLE) != 0;
+  }
+
+  public void stabilize(int stableFlags) {
+    int oldStatus;
+    int newStatus;
+    do {
+      oldStatus = this.status;
+      newStatus = oldStatus | stableFlags;
+    } while (oldStatus != newStatus && !STATUS.compareAndSet(this, oldStatus, newStatus));
+  }
+
+  public void destabilize() {
+    int oldStatus;
+    int newStatus;
+    do {
+      oldStatus = this.status;
+      newStatus = oldStatus & ~(LINK_STABLE | COMMAND_STABLE);
+    } while (oldStatus != newStatus && !STATUS.compareAndSet(this, oldStatus, newStatus));
+  }
+
   public void queueUp(Envelope envelope) {
     this.upQueue.add(envelope);
     int oldStatus;
@@ -41,6 +41,7 @@ class RemoteWarpUplink implements WarpContext, PullRequest<Envelope> {
   final RemoteHost host;
   final WarpBinding link;
   final Uri remoteNodeUri;
+  final int connectionIndex;
   final Value linkKey;
   final ConcurrentLinkedQueue<Push<Envelope>> downQueue;
   PullContext<? super Envelope> pullContext;
@@ -50,6 +51,7 @@ class RemoteWarpUplink implements WarpContext, PullRequest<Envelope> {
     this.host = host;
     this.link = link;
     this.remoteNodeUri = remoteNodeUri;
+    this.connectionIndex = host.connectionIndex(remoteNodeUri);
     this.linkKey = linkKey.commit();
     this.downQueue = new ConcurrentLinkedQueue<Push<Envelope>>();
   }
@@ -100,7 +102,7 @@ class RemoteWarpUplink implements WarpContext, PullRequest<Envelope> {
 
   @Override
   public boolean isConnectedUp() {
-    return this.host.isConnected();
+    return this.host.isConnected(this.connectionIndex);
   }
 
   @Override
@@ -220,12 +222,13 @@ class RemoteWarpUplink implements WarpContext, PullRequest<Envelope> {
       }
     } while (oldStatus != newStatus && !STATUS.compareAndSet(this, oldStatus, newStatus));
     if ((oldStatus & PULLING_UP) == 0) {
-      this.host.warpSocketContext.feed(this);
+      this.host.feed(this.connectionIndex, this);
     }
   }
 
   @Override
   public void pull(PullContext<? super Envelope> pullContext) {
+    this.host.didPull(this.connectionIndex);
     this.pullContext = pullContext;
     this.link.pullUp();
   }
@@ -14,6 +14,8 @@
 
 package swim.remote;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.testng.annotations.Test;
@@ -25,6 +27,7 @@ import swim.io.http.HttpEndpoint;
 import swim.io.http.HttpResponder;
 import swim.io.http.HttpServer;
 import swim.io.warp.AbstractWarpServer;
+import swim.io.warp.WarpSettings;
 import swim.runtime.Push;
 import swim.uri.Uri;
 import swim.warp.CommandMessage;
@@ -33,6 +36,7 @@ import swim.ws.WsRequest;
 import swim.ws.WsResponse;
 import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertTrue;
 
 public class RemoteHostSpec {
 
@@ -343,4 +347,92 @@ public class RemoteHostSpec {
     }
   }
 
+  @Test
+  public void testRemoteHostConnectionPool() throws InterruptedException {
+    final Theater stage = new Theater();
+    final HttpEndpoint endpoint = new HttpEndpoint(stage);
+    final int connectionCount = 3;
+    final int commandCount = 16;
+    final Set<Integer> clientConnections = ConcurrentHashMap.newKeySet();
+    final CountDownLatch clientDidConnect = new CountDownLatch(connectionCount);
+    final CountDownLatch serverDidConnect = new CountDownLatch(connectionCount);
+    final CountDownLatch serverPull = new CountDownLatch(commandCount);
+    final Uri hostUri = Uri.parse("warp://127.0.0.1:53557/");
+
+    final RemoteHostClient clientHost = new RemoteHostClient(hostUri, endpoint, WarpSettings.standard(), connectionCount) {
+      @Override
+      protected void connectUplinks(int index) {
+        super.connectUplinks(index);
+        if (clientConnections.add(index)) {
+          clientDidConnect.countDown();
+        }
+      }
+
+      @Override
+      protected void reconnect() {
+        // prevent reconnect
+      }
+    };
+    final AbstractWarpServer server = new AbstractWarpServer() {
+      @Override
+      public HttpResponder<?> doRequest(HttpRequest<?> httpRequest) {
+        final RemoteHost serverHost = new RemoteHost(hostUri) {
+          @Override
+          public void didConnect() {
+            super.didConnect();
+            serverDidConnect.countDown();
+          }
+        };
+        serverHost.setHostContext(new TestHostContext(hostUri, endpoint.stage()) {
+          @Override
+          public void pushDown(Push<?> push) {
+            serverPull.countDown();
+          }
+        });
+        final WsRequest wsRequest = WsRequest.from(httpRequest);
+        final WsResponse wsResponse = wsRequest.accept(wsSettings);
+        return upgrade(serverHost, wsResponse);
+      }
+    };
+    final AbstractHttpService service = new AbstractHttpService() {
+      @Override
+      public HttpServer createServer() {
+        return server;
+      }
+    };
+
+    try {
+      stage.start();
+      endpoint.start();
+      endpoint.bindHttp("127.0.0.1", 53557, service);
+      clientHost.setHostContext(new TestHostContext(hostUri, endpoint.stage()));
+      clientHost.open();
+
+      serverDidConnect.await(10, TimeUnit.SECONDS);
+      clientDidConnect.await(10, TimeUnit.SECONDS);
+      assertEquals(serverDidConnect.getCount(), 0);
+      assertEquals(clientDidConnect.getCount(), 0);
+      assertEquals(clientHost.connectionCount(), connectionCount);
+
+      for (int i = 0; i < commandCount; i += 1) {
+        final CommandMessage command = new CommandMessage("warp://127.0.0.1:53557/" + i, "x");
+        final int index = clientHost.connectionIndex(command.nodeUri());
+        assertTrue(index >= 0 && index < connectionCount);
+        assertTrue(clientHost.isConnected(index));
+        clientHost.pushUp(new Push<Envelope>(Uri.empty(), Uri.empty(), command.nodeUri(),
+            command.laneUri(), 0.0f, null, command, null));
+      }
+
+      serverPull.await(10, TimeUnit.SECONDS);
+      assertEquals(serverPull.getCount(), 0);
+      for (int i = 0; i < connectionCount; i += 1) {
+        assertEquals(clientHost.connectionBacklog(i), 0);
+      }
+    } finally {
+      clientHost.close();
+      endpoint.stop();
+      stage.stop();
+    }
+  }
+
 }
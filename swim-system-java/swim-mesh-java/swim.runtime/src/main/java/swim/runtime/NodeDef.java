@@ -48,4 +48,6 @@ public interface NodeDef extends CellDef {
 
   LaneDef getLaneDef(Uri laneUri);
 
+  PassivationDef passivationDef();
+
 }
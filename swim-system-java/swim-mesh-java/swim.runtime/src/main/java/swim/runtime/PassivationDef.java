@@ -0,0 +1,88 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.runtime;
+
+import swim.codec.Debug;
+import swim.codec.Format;
+import swim.codec.Output;
+import swim.util.Murmur3;
+
+public final class PassivationDef implements Debug {
+
+  private static int hashSeed;
+  final long idleTimeout;
+  final int maxResident;
+
+  public PassivationDef(long idleTimeout, int maxResident) {
+    this.idleTimeout = idleTimeout;
+    this.maxResident = maxResident;
+  }
+
+  public static PassivationDef from(long idleTimeout, int maxResident) {
+    return new PassivationDef(idleTimeout, maxResident);
+  }
+
+  public long idleTimeout() {
+    return this.idleTimeout;
+  }
+
+  public PassivationDef idleTimeout(long idleTimeout) {
+    return new PassivationDef(idleTimeout, this.maxResident);
+  }
+
+  public int maxResident() {
+    return this.maxResident;
+  }
+
+  public PassivationDef maxResident(int maxResident) {
+    return new PassivationDef(this.idleTimeout, maxResident);
+  }
+
+  public boolean isDefined() {
+    return this.idleTimeout > 0L || this.maxResident > 0;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    } else if (other instanceof PassivationDef) {
+      final PassivationDef that = (PassivationDef) other;
+      return this.idleTimeout == that.idleTimeout && this.maxResident == that.maxResident;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    if (hashSeed == 0) {
+      hashSeed = Murmur3.seed(PassivationDef.class);
+    }
+    return Murmur3.mash(Murmur3.mix(Murmur3.mix(hashSeed,
+        Murmur3.hash(this.idleTimeout)), this.maxResident));
+  }
+
+  @Override
+  public void debug(Output<?> output) {
+    output = output.write("PassivationDef").write('.').write("from").write('(')
+        .debug(this.idleTimeout).write(", ").debug(this.maxResident).write(')');
+  }
+
+  @Override
+  public String toString() {
+    return Format.debug(this);
+  }
+
+}
@@ -36,6 +36,7 @@ import swim.runtime.Metric;
 import swim.runtime.NodeBinding;
 import swim.runtime.NodeContext;
 import swim.runtime.NodeException;
+import swim.runtime.PassivationDef;
 import swim.runtime.Push;
 import swim.runtime.profile.NodeProfile;
 import swim.runtime.profile.WarpDownlinkProfile;
@@ -116,6 +117,7 @@ public class AgentModel extends AgentNode {
       AtomicLongFieldUpdater.newUpdater(AgentModel.class, "lastReportTime");
   protected final Value props;
   volatile Object views; // AgentView | AgentView[]
+  PassivationDef passivationDef;
   volatile int agentOpenDelta;
   volatile int agentOpenCount;
   volatile int agentCloseDelta;
@@ -170,6 +172,14 @@ public class AgentModel extends AgentNode {
     return this.props;
   }
 
+  public PassivationDef passivationDef() {
+    return this.passivationDef;
+  }
+
+  public void setPassivationDef(PassivationDef passivationDef) {
+    this.passivationDef = passivationDef;
+  }
+
   @Override
   public void openMetaNode(NodeBinding node, NodeBinding metaNode) {
     if (metaNode instanceof AgentNode) {
@@ -779,7 +789,8 @@ public class AgentModel extends AgentNode {
     final long uplinkCommandCount = UPLINK_COMMAND_COUNT.addAndGet(this, (long) uplinkCommandDelta);
 
     final long agentCount = agentOpenCount - agentCloseCount;
-    final AgentPulse agentPulse = new AgentPulse(agentCount, agentExecRate, agentExecTime, timerEventRate, timerEventCount);
+    final AgentPulse agentPulse = new AgentPulse(agentCount, agentExecRate, agentExecTime, timerEventRate, timerEventCount,
+                                                 mailboxSize(), collectRunLength());
     final long downlinkCount = downlinkOpenCount - downlinkCloseCount;
     final WarpDownlinkPulse downlinkPulse = new WarpDownlinkPulse(downlinkCount, downlinkEventRate, downlinkEventCount,
         downlinkCommandRate, downlinkCommandCount);
@@ -16,7 +16,10 @@ package swim.runtime.agent;
 
 import java.util.Iterator;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 import swim.api.Downlink;
 import swim.api.Lane;
 import swim.api.agent.Agent;
@@ -39,6 +42,7 @@ import swim.api.policy.Policy;
 import swim.api.ws.WsLane;
 import swim.collections.FingerTrieSeq;
 import swim.collections.HashTrieMap;
+import swim.collections.HashTrieSet;
 import swim.concurrent.Call;
 import swim.concurrent.Cont;
 import swim.concurrent.Conts;
@@ -91,14 +95,39 @@ public class AgentNode extends AbstractTierBinding implements NodeBinding, CellC
   @SuppressWarnings("unchecked")
   static final AtomicReferenceFieldUpdater<AgentNode, HashTrieMap<Uri, LaneBinding>> LANES =
       AtomicReferenceFieldUpdater.newUpdater(AgentNode.class, (Class<HashTrieMap<Uri, LaneBinding>>) (Class<?>) HashTrieMap.class, "lanes");
+  @SuppressWarnings("unchecked")
+  static final AtomicReferenceFieldUpdater<AgentNode, HashTrieSet<AgentTimer>> TIMERS =
+      AtomicReferenceFieldUpdater.newUpdater(AgentNode.class, (Class<HashTrieSet<AgentTimer>>) (Class<?>) HashTrieSet.class, "timers");
+  @SuppressWarnings("unchecked")
+  static final AtomicReferenceFieldUpdater<AgentNode, HashTrieSet<LinkBinding>> DOWNLINKS =
+      AtomicReferenceFieldUpdater.newUpdater(AgentNode.class, (Class<HashTrieSet<LinkBinding>>) (Class<?>) HashTrieSet.class, "downlinks");
+  static final AtomicIntegerFieldUpdater<AgentNode> MAILBOX_SIZE =
+      AtomicIntegerFieldUpdater.newUpdater(AgentNode.class, "mailboxSize");
+  static final AtomicIntegerFieldUpdater<AgentNode> RUN_LENGTH =
+      AtomicIntegerFieldUpdater.newUpdater(AgentNode.class, "runLength");
+  @SuppressWarnings("unchecked")
+  static final AtomicReferenceFieldUpdater<AgentNode, ConcurrentLinkedQueue<Thread>> MAILBOX_WAITERS =
+      AtomicReferenceFieldUpdater.newUpdater(AgentNode.class, (Class<ConcurrentLinkedQueue<Thread>>) (Class<?>) ConcurrentLinkedQueue.class, "mailboxWaiters");
+  /**
+   * The agent whose mailbox the current thread is draining, if any.
+   */
+  static final ThreadLocal<AgentNode> EXECUTING = new ThreadLocal<AgentNode>();
   final ConcurrentLinkedQueue<Runnable> mailbox;
   final long createdTime;
   protected NodeContext nodeContext;
   protected TaskContext taskContext;
   volatile HashTrieMap<Uri, LaneBinding> lanes;
+  volatile HashTrieSet<AgentTimer> timers;
+  volatile HashTrieSet<LinkBinding> downlinks;
+  volatile int mailboxSize;
+  volatile int runLength;
+  volatile Thread runThread;
+  volatile ConcurrentLinkedQueue<Thread> mailboxWaiters;
 
   public AgentNode() {
     this.lanes = HashTrieMap.empty();
+    this.timers = HashTrieSet.empty();
+    this.downlinks = HashTrieSet.empty();
     this.mailbox = new ConcurrentLinkedQueue<Runnable>();
     this.createdTime = System.currentTimeMillis();
   }
@@ -476,6 +505,7 @@ public class AgentNode extends AbstractTierBinding implements NodeBinding, CellC
   public LinkBinding bindDownlink(Downlink downlink) {
     final LinkBinding link = this.nodeContext.bindDownlink(downlink);
     link.setCellContext(this);
+    didOpenDownlink(link);
     return link;
   }
 
@@ -483,11 +513,34 @@ public class AgentNode extends AbstractTierBinding implements NodeBinding, CellC
   public void openDownlink(LinkBinding link) {
     this.nodeContext.openDownlink(link);
     link.setCellContext(this);
+    didOpenDownlink(link);
+  }
+
+  void didOpenDownlink(LinkBinding link) {
+    HashTrieSet<LinkBinding> oldDownlinks;
+    HashTrieSet<LinkBinding> newDownlinks;
+    do {
+      oldDownlinks = this.downlinks;
+      newDownlinks = oldDownlinks.added(link);
+    } while (oldDownlinks != newDownlinks && !DOWNLINKS.compareAndSet(this, oldDownlinks, newDownlinks));
   }
 
   @Override
   public void closeDownlink(LinkBinding link) {
-    // nop
+    HashTrieSet<LinkBinding> oldDownlinks;
+    HashTrieSet<LinkBinding> newDownlinks;
+    do {
+      oldDownlinks = this.downlinks;
+      newDownlinks = oldDownlinks.removed(link);
+    } while (oldDownlinks != newDownlinks && !DOWNLINKS.compareAndSet(this, oldDownlinks, newDownlinks));
+  }
+
+  /**
+   * Returns {@code true} if this agent has opened downlinks that haven't
+   * yet closed.
+   */
+  public boolean hasOpenDownlinks() {
+    return !this.downlinks.isEmpty();
   }
 
   @Override
@@ -597,7 +650,7 @@ public class AgentNode extends AbstractTierBinding implements NodeBinding, CellC
 
   @Override
   public void didClose() {
-    // nop
+    signalMailbox();
   }
 
   @Override
@@ -637,7 +690,7 @@ public class AgentNode extends AbstractTierBinding implements NodeBinding, CellC
   public TimerRef timer(TimerFunction timer) {
     final Schedule schedule = this.nodeContext.schedule();
     final AgentTimer agentTimer = new AgentTimer(this, timer);
-    schedule.timer(timer);
+    schedule.timer(agentTimer);
     return agentTimer;
   }
 
@@ -649,6 +702,37 @@ public class AgentNode extends AbstractTierBinding implements NodeBinding, CellC
     return agentTimer;
   }
 
+  void didScheduleTimer(AgentTimer timer) {
+    HashTrieSet<AgentTimer> oldTimers;
+    HashTrieSet<AgentTimer> newTimers;
+    do {
+      oldTimers = this.timers;
+      newTimers = oldTimers.added(timer);
+    } while (oldTimers != newTimers && !TIMERS.compareAndSet(this, oldTimers, newTimers));
+  }
+
+  void didUnscheduleTimer(AgentTimer timer) {
+    HashTrieSet<AgentTimer> oldTimers;
+    HashTrieSet<AgentTimer> newTimers;
+    do {
+      oldTimers = this.timers;
+      newTimers = oldTimers.removed(timer);
+    } while (oldTimers != newTimers && !TIMERS.compareAndSet(this, oldTimers, newTimers));
+  }
+
+  /**
+   * Returns {@code true} if any timer of this agent is scheduled to fire.
+   */
+  public boolean hasScheduledTimers() {
+    final Iterator<AgentTimer> timers = this.timers.iterator();
+    while (timers.hasNext()) {
+      if (timers.next().isScheduled()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   @Override
   public TaskRef task(TaskFunction task) {
     return this.nodeContext.stage().task(task);
@@ -661,10 +745,125 @@ public class AgentNode extends AbstractTierBinding implements NodeBinding, CellC
 
   @Override
   public void execute(Runnable command) {
+    final int mailboxCapacity = mailboxCapacity();
+    if (mailboxCapacity > 0 && this.mailboxSize >= mailboxCapacity
+        && Thread.currentThread() != this.runThread) {
+      if (mailboxDropsOverflow()) {
+        mailboxDidOverflow(command);
+        return;
+      } else if (!isExecutingOnStage()) {
+        // Agents running on this agent's stage always enqueue, so that agents
+        // with full mailboxes can't deadlock sending to each other; all other
+        // threads wait for the mailbox to drain.
+        awaitMailbox(mailboxCapacity);
+      }
+    }
+    MAILBOX_SIZE.incrementAndGet(this);
     this.mailbox.add(command);
     this.taskContext.cue();
   }
 
+  boolean isExecutingOnStage() {
+    final AgentNode executing = EXECUTING.get();
+    return executing != null && executing.taskContext.stage() == this.taskContext.stage();
+  }
+
+  ConcurrentLinkedQueue<Thread> mailboxWaiters() {
+    do {
+      final ConcurrentLinkedQueue<Thread> oldMailboxWaiters = this.mailboxWaiters;
+      if (oldMailboxWaiters != null) {
+        return oldMailboxWaiters;
+      }
+      final ConcurrentLinkedQueue<Thread> newMailboxWaiters = new ConcurrentLinkedQueue<Thread>();
+      if (MAILBOX_WAITERS.compareAndSet(this, null, newMailboxWaiters)) {
+        return newMailboxWaiters;
+      }
+    } while (true);
+  }
+
+  void signalMailbox() {
+    final ConcurrentLinkedQueue<Thread> mailboxWaiters = this.mailboxWaiters;
+    if (mailboxWaiters != null) {
+      final Iterator<Thread> waiters = mailboxWaiters.iterator();
+      while (waiters.hasNext()) {
+        LockSupport.unpark(waiters.next());
+      }
+    }
+  }
+
+  void awaitMailbox(int mailboxCapacity) {
+    final AgentNodeMailboxBlocker blocker = new AgentNodeMailboxBlocker(this, mailboxCapacity);
+    boolean interrupted = false;
+    while (!blocker.isReleasable()) {
+      try {
+        ForkJoinPool.managedBlock(blocker);
+      } catch (InterruptedException error) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Returns the number of commands currently queued in this agent's mailbox.
+   */
+  public int mailboxSize() {
+    return this.mailboxSize;
+  }
+
+  /**
+   * Returns the maximum number of queued commands this agent's mailbox
+   * accepts before applying backpressure, or dropping commands; zero means
+   * unbounded.
+   */
+  protected int mailboxCapacity() {
+    return MAILBOX_CAPACITY;
+  }
+
+  /**
+   * Returns {@code true} if commands executed on a full mailbox should be
+   * dropped, rather than blocking the executing thread until the mailbox
+   * drains.  Agents running on the same stage are never blocked; their
+   * commands are enqueued past capacity instead.
+   */
+  protected boolean mailboxDropsOverflow() {
+    return MAILBOX_DROPS_OVERFLOW;
+  }
+
+  /**
+   * Invoked when a {@code command} is dropped because the mailbox is full.
+   */
+  protected void mailboxDidOverflow(Runnable command) {
+    // hook
+  }
+
+  /**
+   * Returns the maximum number of commands to execute per task run, before
+   * yielding the thread to other agents; zero means unbounded.
+   */
+  protected int runCommandBudget() {
+    return RUN_COMMAND_BUDGET;
+  }
+
+  /**
+   * Returns the maximum number of nanoseconds to spend executing commands per
+   * task run, before yielding the thread to other agents; zero means
+   * unbounded.
+   */
+  protected long runTimeBudget() {
+    return RUN_TIME_BUDGET;
+  }
+
+  /**
+   * Returns the greatest number of commands executed in a single task run
+   * since the last call to {@code collectRunLength}, and resets the measure.
+   */
+  protected int collectRunLength() {
+    return RUN_LENGTH.getAndSet(this, 0);
+  }
+
   @Override
   public boolean taskWillBlock() {
     return false;
@@ -672,22 +871,54 @@ public class AgentNode extends AbstractTierBinding implements NodeBinding, CellC
 
   @Override
   public void runTask() {
-    do {
-      final Runnable command = this.mailbox.poll();
-      if (command != null) {
-        try {
-          command.run();
-        } catch (Throwable error) {
-          if (Conts.isNonFatal(error)) {
-            didFail(error);
-          } else {
-            throw error;
+    final int mailboxCapacity = mailboxCapacity();
+    final int commandBudget = runCommandBudget();
+    final long timeBudget = runTimeBudget();
+    final long startTime = timeBudget > 0L ? System.nanoTime() : 0L;
+    int runLength = 0;
+    final AgentNode oldExecuting = EXECUTING.get();
+    EXECUTING.set(this);
+    this.runThread = Thread.currentThread();
+    try {
+      do {
+        if (commandBudget > 0 && runLength >= commandBudget
+            || timeBudget > 0L && runLength > 0 && System.nanoTime() - startTime >= timeBudget) {
+          // Budget exhausted; yield to other agents, and resume later.
+          if (!this.mailbox.isEmpty()) {
+            this.taskContext.cue();
           }
+          break;
         }
-      } else {
-        break;
-      }
-    } while (true);
+        final Runnable command = this.mailbox.poll();
+        if (command != null) {
+          final int mailboxSize = MAILBOX_SIZE.decrementAndGet(this);
+          if (mailboxSize < mailboxCapacity && this.mailboxWaiters != null) {
+            signalMailbox();
+          }
+          runLength += 1;
+          try {
+            command.run();
+          } catch (Throwable error) {
+            if (Conts.isNonFatal(error)) {
+              didFail(error);
+            } else {
+              throw error;
+            }
+          }
+        } else {
+          break;
+        }
+      } while (true);
+    } finally {
+      this.runThread = null;
+      EXECUTING.set(oldExecuting);
+      do {
+        final int oldRunLength = this.runLength;
+        if (runLength <= oldRunLength || RUN_LENGTH.compareAndSet(this, oldRunLength, runLength)) {
+          break;
+        }
+      } while (true);
+    }
   }
 
   @Override
@@ -700,4 +931,73 @@ public class AgentNode extends AbstractTierBinding implements NodeBinding, CellC
     // nop
   }
 
+  static final int MAILBOX_CAPACITY;
+  static final boolean MAILBOX_DROPS_OVERFLOW;
+  static final int RUN_COMMAND_BUDGET;
+  static final long RUN_TIME_BUDGET;
+
+  static {
+    int mailboxCapacity;
+    try {
+      mailboxCapacity = Integer.parseInt(System.getProperty("swim.agent.mailbox.capacity"));
+    } catch (NumberFormatException e) {
+      mailboxCapacity = 0;
+    }
+    MAILBOX_CAPACITY = mailboxCapacity;
+
+    MAILBOX_DROPS_OVERFLOW = "drop".equalsIgnoreCase(System.getProperty("swim.agent.mailbox.overflow"));
+
+    int runCommandBudget;
+    try {
+      runCommandBudget = Integer.parseInt(System.getProperty("swim.agent.run.command.budget"));
+    } catch (NumberFormatException e) {
+      runCommandBudget = 256;
+    }
+    RUN_COMMAND_BUDGET = runCommandBudget;
+
+    long runTimeBudget;
+    try {
+      runTimeBudget = Long.parseLong(System.getProperty("swim.agent.run.time.budget"));
+    } catch (NumberFormatException e) {
+      runTimeBudget = 0L;
+    }
+    RUN_TIME_BUDGET = runTimeBudget;
+  }
+
+}
+
+final class AgentNodeMailboxBlocker implements ForkJoinPool.ManagedBlocker {
+
+  final AgentNode node;
+  final int mailboxCapacity;
+
+  AgentNodeMailboxBlocker(AgentNode node, int mailboxCapacity) {
+    this.node = node;
+    this.mailboxCapacity = mailboxCapacity;
+  }
+
+  @Override
+  public boolean block() throws InterruptedException {
+    final Thread thread = Thread.currentThread();
+    final ConcurrentLinkedQueue<Thread> mailboxWaiters = this.node.mailboxWaiters();
+    mailboxWaiters.add(thread);
+    try {
+      // Re-check after enqueueing, so that a concurrent drain can't be missed.
+      while (!isReleasable()) {
+        LockSupport.park(this);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+    } finally {
+      mailboxWaiters.remove(thread);
+    }
+    return true;
+  }
+
+  @Override
+  public boolean isReleasable() {
+    return this.node.mailboxSize < this.mailboxCapacity || this.node.isClosed();
+  }
+
 }
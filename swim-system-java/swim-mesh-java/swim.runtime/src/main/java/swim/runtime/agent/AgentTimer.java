@@ -52,6 +52,7 @@ public class AgentTimer implements Timer, TimerContext, TimerRef, Runnable {
 
   @Override
   public void timerWillSchedule(long millis) {
+    this.node.didScheduleTimer(this);
     if (this.timer instanceof Timer) {
       ((Timer) this.timer).timerWillSchedule(millis);
     }
@@ -59,6 +60,7 @@ public class AgentTimer implements Timer, TimerContext, TimerRef, Runnable {
 
   @Override
   public void timerDidCancel() {
+    this.node.didUnscheduleTimer(this);
     if (this.timer instanceof Timer) {
       ((Timer) this.timer).timerDidCancel();
     }
@@ -71,7 +73,8 @@ public class AgentTimer implements Timer, TimerContext, TimerRef, Runnable {
 
   @Override
   public boolean isScheduled() {
-    return this.timerContext.isScheduled();
+    final TimerContext timerContext = this.timerContext;
+    return timerContext != null && timerContext.isScheduled();
   }
 
   @Override
@@ -96,6 +99,9 @@ public class AgentTimer implements Timer, TimerContext, TimerRef, Runnable {
         throw error;
       }
     }
+    if (!isScheduled()) {
+      this.node.didUnscheduleTimer(this);
+    }
     final long dt = System.nanoTime() - t0;
     if (this.node instanceof AgentModel) {
       AgentModel.TIMER_EVENT_DELTA.incrementAndGet((AgentModel) this.node);
@@ -21,6 +21,7 @@ import swim.runtime.warp.MapUplinkModem;
 import swim.structure.Attr;
 import swim.structure.Record;
 import swim.structure.Value;
+import swim.warp.EventMessage;
 import swim.warp.SyncRequest;
 
 public class MapLaneUplink extends MapUplinkModem {
@@ -43,6 +44,11 @@ public class MapLaneUplink extends MapUplinkModem {
     return this.laneBinding.stage();
   }
 
+  @Override
+  protected EventMessage eventMessage(Value body) {
+    return this.laneBinding.eventCache().eventMessage(nodeUri(), laneUri(), body);
+  }
+
   @Override
   protected Value nextDownKey(Value key) {
     final Value value = this.laneBinding.get(key);
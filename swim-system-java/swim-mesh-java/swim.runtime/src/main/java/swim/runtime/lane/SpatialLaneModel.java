@@ -16,6 +16,8 @@ package swim.runtime.lane;
 
 import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import swim.api.LaneException;
 import swim.api.Link;
 import swim.api.data.SpatialData;
@@ -23,12 +25,14 @@ import swim.collections.FingerTrieSeq;
 import swim.concurrent.Cont;
 import swim.concurrent.Conts;
 import swim.concurrent.Stage;
+import swim.math.BoxZ2;
 import swim.math.Z2Form;
 import swim.runtime.LaneRelay;
 import swim.runtime.LaneView;
 import swim.runtime.Push;
 import swim.runtime.WarpBinding;
 import swim.runtime.warp.WarpLaneModel;
+import swim.spatial.QTree;
 import swim.spatial.SpatialMap;
 import swim.structure.Form;
 import swim.structure.Record;
@@ -40,13 +44,19 @@ public class SpatialLaneModel<S> extends WarpLaneModel<SpatialLaneView<?, S, ?>,
   static final int RESIDENT = 1 << 0;
   static final int TRANSIENT = 1 << 1;
   static final int SIGNED = 1 << 2;
+  @SuppressWarnings("unchecked")
+  static final AtomicReferenceFieldUpdater<SpatialLaneModel<?>, QTree<Value, BoxZ2, SpatialLaneUplink<?>>> REGION_UPLINKS =
+      AtomicReferenceFieldUpdater.newUpdater((Class<SpatialLaneModel<?>>) (Class<?>) SpatialLaneModel.class,
+                                             (Class<QTree<Value, BoxZ2, SpatialLaneUplink<?>>>) (Class<?>) QTree.class, "regionUplinks");
   protected final Z2Form<S> shapeForm;
   protected int flags;
   protected SpatialData<Value, S, Value> data;
+  volatile QTree<Value, BoxZ2, SpatialLaneUplink<?>> regionUplinks;
 
   SpatialLaneModel(Z2Form<S> shapeForm, int flags) {
     this.shapeForm = shapeForm;
     this.flags = flags;
+    this.regionUplinks = QTree.empty(BoxZ2.form());
   }
 
   public SpatialLaneModel(Z2Form<S> shapeForm) {
@@ -107,6 +117,121 @@ public class SpatialLaneModel<S> extends WarpLaneModel<SpatialLaneView<?, S, ?>,
     } while (uplinks != this.uplinks);
   }
 
+  @SuppressWarnings("unchecked")
+  protected void cueDownKey(Value key, S shape) {
+    if (shape == null) {
+      cueDownKey(key);
+      return;
+    }
+    FingerTrieSeq<SpatialLaneUplink<S>> uplinks;
+    do {
+      uplinks = this.uplinks;
+      for (int i = 0, n = uplinks.size(); i < n; i += 1) {
+        final SpatialLaneUplink<S> uplink = uplinks.get(i);
+        if (uplink.region == null) {
+          uplink.cueDownKey(key);
+        }
+      }
+    } while (uplinks != this.uplinks);
+    final QTree<Value, BoxZ2, SpatialLaneUplink<?>> regionUplinks = this.regionUplinks;
+    if (!regionUplinks.isEmpty()) {
+      final Iterator<SpatialMap.Entry<Value, BoxZ2, SpatialLaneUplink<?>>> regionUplinksIterator =
+          regionUplinks.iterator(bounds(shape));
+      while (regionUplinksIterator.hasNext()) {
+        ((SpatialLaneUplink<S>) regionUplinksIterator.next().getValue()).cueDownKey(key);
+      }
+    }
+  }
+
+  protected void sendDown(Value body, S oldShape, S newShape) {
+    if (oldShape == null || newShape == null) {
+      sendDown(body);
+      return;
+    }
+    FingerTrieSeq<SpatialLaneUplink<S>> uplinks;
+    FingerTrieSeq<Value> closedLinks = FingerTrieSeq.empty();
+    do {
+      uplinks = this.uplinks;
+      for (int i = 0, n = uplinks.size(); i < n; i += 1) {
+        final SpatialLaneUplink<S> uplink = uplinks.get(i);
+        if (uplink.region == null) {
+          if (uplink.isConnected()) {
+            uplink.sendDown(body);
+          } else {
+            closedLinks = closedLinks.appended(uplink.linkKey());
+          }
+        }
+      }
+    } while (uplinks != this.uplinks);
+    final QTree<Value, BoxZ2, SpatialLaneUplink<?>> regionUplinks = this.regionUplinks;
+    if (!regionUplinks.isEmpty()) {
+      final BoxZ2 oldBounds = bounds(oldShape);
+      Iterator<SpatialMap.Entry<Value, BoxZ2, SpatialLaneUplink<?>>> regionUplinksIterator =
+          regionUplinks.iterator(oldBounds);
+      while (regionUplinksIterator.hasNext()) {
+        final SpatialLaneUplink<?> uplink = regionUplinksIterator.next().getValue();
+        if (uplink.isConnected()) {
+          uplink.sendDown(body);
+        } else {
+          closedLinks = closedLinks.appended(uplink.linkKey());
+        }
+      }
+      if (oldShape != newShape) {
+        regionUplinksIterator = regionUplinks.iterator(bounds(newShape));
+        while (regionUplinksIterator.hasNext()) {
+          final SpatialMap.Entry<Value, BoxZ2, SpatialLaneUplink<?>> entry = regionUplinksIterator.next();
+          // Skip uplinks that were already sent the event for the old shape.
+          if (!entry.getShape().intersects(oldBounds)) {
+            final SpatialLaneUplink<?> uplink = entry.getValue();
+            if (uplink.isConnected()) {
+              uplink.sendDown(body);
+            } else {
+              closedLinks = closedLinks.appended(uplink.linkKey());
+            }
+          }
+        }
+      }
+    }
+
+    for (Value linkKey : closedLinks) {
+      closeUplink(linkKey);
+    }
+  }
+
+  BoxZ2 bounds(S shape) {
+    final Z2Form<S> shapeForm = this.shapeForm;
+    return new BoxZ2(shapeForm.getXMin(shape), shapeForm.getYMin(shape),
+                     shapeForm.getXMax(shape), shapeForm.getYMax(shape));
+  }
+
+  @Override
+  protected void didOpenUplink(SpatialLaneUplink<S> uplink) {
+    super.didOpenUplink(uplink);
+    final BoxZ2 region = uplink.region;
+    if (region != null) {
+      QTree<Value, BoxZ2, SpatialLaneUplink<?>> oldRegionUplinks;
+      QTree<Value, BoxZ2, SpatialLaneUplink<?>> newRegionUplinks;
+      do {
+        oldRegionUplinks = this.regionUplinks;
+        newRegionUplinks = oldRegionUplinks.updated(uplink.linkKey(), region, uplink);
+      } while (oldRegionUplinks != newRegionUplinks && !REGION_UPLINKS.compareAndSet(this, oldRegionUplinks, newRegionUplinks));
+    }
+  }
+
+  @Override
+  protected void didCloseUplink(SpatialLaneUplink<S> uplink) {
+    super.didCloseUplink(uplink);
+    final BoxZ2 region = uplink.region;
+    if (region != null) {
+      QTree<Value, BoxZ2, SpatialLaneUplink<?>> oldRegionUplinks;
+      QTree<Value, BoxZ2, SpatialLaneUplink<?>> newRegionUplinks;
+      do {
+        oldRegionUplinks = this.regionUplinks;
+        newRegionUplinks = oldRegionUplinks.removed(uplink.linkKey(), region);
+      } while (oldRegionUplinks != newRegionUplinks && !REGION_UPLINKS.compareAndSet(this, oldRegionUplinks, newRegionUplinks));
+    }
+  }
+
   @Override
   protected void didOpenLaneView(SpatialLaneView<?, S, ?> view) {
     view.setLaneBinding(this);
@@ -255,6 +380,17 @@ public class SpatialLaneModel<S> extends WarpLaneModel<SpatialLaneView<?, S, ?>,
     return this.data.keyIterator();
   }
 
+  public Iterator<Value> keyIterator(BoxZ2 region) {
+    final S query = this.shapeForm.cast(BoxZ2.form().mold(region));
+    final Iterator<SpatialMap.Entry<Value, S, Value>> entries;
+    if (query != null) {
+      entries = this.data.iterator(query);
+    } else {
+      entries = this.data.iterator();
+    }
+    return new SpatialLaneRegionKeyIterator<S>(entries, this.shapeForm, region);
+  }
+
   public Iterator<Value> valueIterator() {
     return this.data.valueIterator();
   }
@@ -323,6 +459,9 @@ final class SpatialLaneRelayUpdate<S> extends LaneRelay<SpatialLaneModel<S>, Spa
   protected void beginPhase(int phase) {
     if (phase == 2) {
       this.oldValue = model.data.put(key, shapeObject, newValue);
+      if (this.oldValue == null) {
+        this.oldValue = Value.absent();
+      }
       if (this.valueForm != null) {
         this.oldObject = this.valueForm.cast(this.oldValue);
         if (this.oldObject == null) {
@@ -409,7 +548,7 @@ final class SpatialLaneRelayUpdate<S> extends LaneRelay<SpatialLaneModel<S>, Spa
 
   @Override
   protected void done() {
-    this.model.cueDownKey(this.key);
+    this.model.cueDownKey(this.key, this.shapeObject);
     if (this.cont != null) {
       try {
         this.cont.bind(this.message);
@@ -482,6 +621,9 @@ final class SpatialLaneRelayMove<S> extends LaneRelay<SpatialLaneModel<S>, Spati
   protected void beginPhase(int phase) {
     if (phase == 2) {
       this.oldValue = model.data.move(key, oldShapeObject, newShapeObject, newValue);
+      if (this.oldValue == null) {
+        this.oldValue = Value.absent();
+      }
       if (this.valueForm != null) {
         this.oldObject = this.valueForm.cast(this.oldValue);
         if (this.oldObject == null) {
@@ -569,9 +711,10 @@ final class SpatialLaneRelayMove<S> extends LaneRelay<SpatialLaneModel<S>, Spati
 
   @Override
   protected void done() {
+    final Z2Form<S> shapeForm = this.model.shapeForm;
     final Record header = Record.create(3).slot("key", key).slot("from", shapeForm.mold(this.oldShapeObject).toValue())
         .slot("to", shapeForm.mold(this.newShapeObject).toValue());
-    this.model.sendDown(Record.create(1).attr("move", header));
+    this.model.sendDown(Record.create(1).attr("move", header), this.oldShapeObject, this.newShapeObject);
     if (this.cont != null) {
       try {
         this.cont.bind(this.message);
@@ -632,6 +775,9 @@ final class SpatialLaneRelayRemove<S> extends LaneRelay<SpatialLaneModel<S>, Spa
   protected void beginPhase(int phase) {
     if (phase == 2) {
       this.oldValue = model.data.remove(key, shapeObject);
+      if (this.oldValue == null) {
+        this.oldValue = Value.absent();
+      }
       if (this.valueForm != null) {
         this.oldObject = this.valueForm.cast(this.oldValue);
         if (this.oldObject == null) {
@@ -705,8 +851,8 @@ final class SpatialLaneRelayRemove<S> extends LaneRelay<SpatialLaneModel<S>, Spa
 
   @Override
   protected void done() {
-    final Record header = Record.create(2).slot("key", key).slot("shape", shapeForm.mold(this.shapeObject).toValue());
-    this.model.sendDown(Record.create(1).attr("move", header));
+    final Record header = Record.create(2).slot("key", key).slot("shape", this.model.shapeForm.mold(this.shapeObject).toValue());
+    this.model.sendDown(Record.create(1).attr("remove", header), this.shapeObject, this.shapeObject);
     if (this.cont != null) {
       try {
         this.cont.bind(this.message);
@@ -801,3 +947,47 @@ final class SpatialLaneRelayClear<S> extends LaneRelay<SpatialLaneModel<S>, Spat
   }
 
 }
+
+final class SpatialLaneRegionKeyIterator<S> implements Iterator<Value> {
+
+  final Iterator<SpatialMap.Entry<Value, S, Value>> entries;
+  final Z2Form<S> shapeForm;
+  final BoxZ2 region;
+  Value nextKey;
+
+  SpatialLaneRegionKeyIterator(Iterator<SpatialMap.Entry<Value, S, Value>> entries, Z2Form<S> shapeForm, BoxZ2 region) {
+    this.entries = entries;
+    this.shapeForm = shapeForm;
+    this.region = region;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (this.nextKey != null) {
+      return true;
+    }
+    final Z2Form<S> shapeForm = this.shapeForm;
+    final BoxZ2 region = this.region;
+    while (this.entries.hasNext()) {
+      final SpatialMap.Entry<Value, S, Value> entry = this.entries.next();
+      final S shape = entry.getShape();
+      if (shapeForm.getXMin(shape) <= region.xMax && region.xMin <= shapeForm.getXMax(shape)
+          && shapeForm.getYMin(shape) <= region.yMax && region.yMin <= shapeForm.getYMax(shape)) {
+        this.nextKey = entry.getKey();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Value next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final Value key = this.nextKey;
+    this.nextKey = null;
+    return key;
+  }
+
+}
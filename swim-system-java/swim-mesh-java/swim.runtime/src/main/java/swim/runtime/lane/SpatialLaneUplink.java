@@ -15,6 +15,7 @@
 package swim.runtime.lane;
 
 import swim.concurrent.Stage;
+import swim.math.BoxZ2;
 import swim.runtime.UplinkAddress;
 import swim.runtime.WarpBinding;
 import swim.runtime.warp.MapUplinkModem;
@@ -26,11 +27,15 @@ import swim.warp.SyncRequest;
 public class SpatialLaneUplink<S> extends MapUplinkModem {
 
   final SpatialLaneModel<S> laneBinding;
+  final BoxZ2 region;
 
   public SpatialLaneUplink(SpatialLaneModel<S> laneBinding, WarpBinding linkBinding,
                            UplinkAddress uplinkAddress) {
     super(linkBinding, uplinkAddress);
     this.laneBinding = laneBinding;
+    // Links whose body is a @box(xMin, yMin, xMax, yMax) only receive
+    // updates for shapes that intersect the box.
+    this.region = BoxZ2.form().cast(linkBinding.body());
   }
 
   @Override
@@ -38,6 +43,10 @@ public class SpatialLaneUplink<S> extends MapUplinkModem {
     return this.laneBinding;
   }
 
+  public final BoxZ2 region() {
+    return this.region;
+  }
+
   @Override
   public Stage stage() {
     return this.laneBinding.stage();
@@ -55,7 +64,12 @@ public class SpatialLaneUplink<S> extends MapUplinkModem {
 
   @Override
   protected void willSync(SyncRequest request) {
-    syncDown(this.laneBinding.keyIterator());
+    final BoxZ2 region = this.region;
+    if (region != null) {
+      syncDown(this.laneBinding.keyIterator(region));
+    } else {
+      syncDown(this.laneBinding.keyIterator());
+    }
     super.willSync(request);
   }
 
@@ -19,6 +19,7 @@ import swim.runtime.UplinkAddress;
 import swim.runtime.WarpBinding;
 import swim.runtime.warp.DemandUplinkModem;
 import swim.structure.Value;
+import swim.warp.EventMessage;
 import swim.warp.SyncRequest;
 
 public class ValueLaneUplink extends DemandUplinkModem {
@@ -41,6 +42,11 @@ public class ValueLaneUplink extends DemandUplinkModem {
     return this.laneBinding.stage();
   }
 
+  @Override
+  protected EventMessage eventMessage(Value body) {
+    return this.laneBinding.eventCache().eventMessage(nodeUri(), laneUri(), body);
+  }
+
   @Override
   protected Value nextDownCue() {
     return this.laneBinding.get();
@@ -28,14 +28,24 @@ public class AgentPulse extends Pulse {
   protected final long execTime;
   protected final int timerEventRate;
   protected final long timerEventCount;
+  protected final long mailboxSize;
+  protected final int runLength;
 
   public AgentPulse(long agentCount, long execRate, long execTime,
-                    int timerEventRate, long timerEventCount) {
+                    int timerEventRate, long timerEventCount,
+                    long mailboxSize, int runLength) {
     this.agentCount = agentCount;
     this.execRate = execRate;
     this.execTime = execTime;
     this.timerEventRate = timerEventRate;
     this.timerEventCount = timerEventCount;
+    this.mailboxSize = mailboxSize;
+    this.runLength = runLength;
+  }
+
+  public AgentPulse(long agentCount, long execRate, long execTime,
+                    int timerEventRate, long timerEventCount) {
+    this(agentCount, execRate, execTime, timerEventRate, timerEventCount, 0L, 0);
   }
 
   @Kind
@@ -49,7 +59,8 @@ public class AgentPulse extends Pulse {
   @Override
   public boolean isDefined() {
     return this.agentCount != 0L || this.execRate != 9L || this.execTime != 0L
-        || this.timerEventRate != 0 || this.timerEventCount != 0L;
+        || this.timerEventRate != 0 || this.timerEventCount != 0L
+        || this.mailboxSize != 0L || this.runLength != 0;
   }
 
   public final long agentCount() {
@@ -72,6 +83,14 @@ public class AgentPulse extends Pulse {
     return this.timerEventCount;
   }
 
+  public final long mailboxSize() {
+    return this.mailboxSize;
+  }
+
+  public final int runLength() {
+    return this.runLength;
+  }
+
   @Override
   public Value toValue() {
     return form().mold(this).toValue();
@@ -89,7 +108,7 @@ final class AgentPulseForm extends Form<AgentPulse> {
   @Override
   public Item mold(AgentPulse pulse) {
     if (pulse != null) {
-      final Record record = Record.create(5);
+      final Record record = Record.create(7);
       if (pulse.agentCount > 0L) {
         record.slot("agentCount", pulse.agentCount);
       }
@@ -105,6 +124,12 @@ final class AgentPulseForm extends Form<AgentPulse> {
       if (pulse.timerEventCount > 0L) {
         record.slot("timerEventCount", pulse.timerEventCount);
       }
+      if (pulse.mailboxSize > 0L) {
+        record.slot("mailboxSize", pulse.mailboxSize);
+      }
+      if (pulse.runLength > 0) {
+        record.slot("runLength", pulse.runLength);
+      }
       return record;
     } else {
       return Item.extant();
@@ -119,7 +144,10 @@ final class AgentPulseForm extends Form<AgentPulse> {
     final long execTime = value.get("execTime").longValue(0L);
     final int timerEventRate = value.get("timerEventRate").intValue(0);
     final long timerEventCount = value.get("timerEventCount").longValue(0L);
-    return new AgentPulse(agentCount, execRate, execTime, timerEventRate, timerEventCount);
+    final long mailboxSize = value.get("mailboxSize").longValue(0L);
+    final int runLength = value.get("runLength").intValue(0);
+    return new AgentPulse(agentCount, execRate, execTime, timerEventRate, timerEventCount,
+                          mailboxSize, runLength);
   }
 
 }
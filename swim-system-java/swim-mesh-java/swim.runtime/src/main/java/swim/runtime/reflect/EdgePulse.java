@@ -14,6 +14,7 @@
 
 package swim.runtime.reflect;
 
+import swim.store.StorePulse;
 import swim.structure.Form;
 import swim.structure.Item;
 import swim.structure.Kind;
@@ -30,9 +31,11 @@ public class EdgePulse extends Pulse {
   protected final AgentPulse agents;
   protected final WarpDownlinkPulse downlinks;
   protected final WarpUplinkPulse uplinks;
+  protected final StorePulse store;
 
   public EdgePulse(int meshCount, int partCount, int hostCount, long nodeCount,
-                   AgentPulse agents, WarpDownlinkPulse downlinks, WarpUplinkPulse uplinks) {
+                   AgentPulse agents, WarpDownlinkPulse downlinks, WarpUplinkPulse uplinks,
+                   StorePulse store) {
     this.meshCount = meshCount;
     this.partCount = partCount;
     this.hostCount = hostCount;
@@ -40,6 +43,12 @@ public class EdgePulse extends Pulse {
     this.agents = agents;
     this.downlinks = downlinks;
     this.uplinks = uplinks;
+    this.store = store;
+  }
+
+  public EdgePulse(int meshCount, int partCount, int hostCount, long nodeCount,
+                   AgentPulse agents, WarpDownlinkPulse downlinks, WarpUplinkPulse uplinks) {
+    this(meshCount, partCount, hostCount, nodeCount, agents, downlinks, uplinks, StorePulse.empty());
   }
 
   @Kind
@@ -53,7 +62,8 @@ public class EdgePulse extends Pulse {
   @Override
   public boolean isDefined() {
     return this.meshCount != 0 || this.partCount != 0 || this.hostCount != 0 || this.nodeCount != 0L
-        || this.agents.isDefined() || this.downlinks.isDefined() || this.uplinks.isDefined();
+        || this.agents.isDefined() || this.downlinks.isDefined() || this.uplinks.isDefined()
+        || this.store.isDefined();
   }
 
   public final int meshCount() {
@@ -84,6 +94,10 @@ public class EdgePulse extends Pulse {
     return this.uplinks;
   }
 
+  public final StorePulse store() {
+    return this.store;
+  }
+
   @Override
   public Value toValue() {
     return form().mold(this).toValue();
@@ -101,7 +115,7 @@ final class EdgePulseForm extends Form<EdgePulse> {
   @Override
   public Item mold(EdgePulse pulse) {
     if (pulse != null) {
-      final Record record = Record.create(7);
+      final Record record = Record.create(8);
       if (pulse.meshCount > 0) {
         record.slot("meshCount", pulse.meshCount);
       }
@@ -123,6 +137,9 @@ final class EdgePulseForm extends Form<EdgePulse> {
       if (pulse.uplinks.isDefined()) {
         record.slot("uplinks", pulse.uplinks.toValue());
       }
+      if (pulse.store.isDefined()) {
+        record.slot("store", pulse.store.toValue());
+      }
       return record;
     } else {
       return Item.extant();
@@ -139,7 +156,8 @@ final class EdgePulseForm extends Form<EdgePulse> {
     final AgentPulse agents = value.get("agents").coerce(AgentPulse.form());
     final WarpDownlinkPulse downlinks = value.get("downlinks").coerce(WarpDownlinkPulse.form());
     final WarpUplinkPulse uplinks = value.get("uplinks").coerce(WarpUplinkPulse.form());
-    return new EdgePulse(edgeCount, partCount, hostCount, nodeCount, agents, downlinks, uplinks);
+    final StorePulse store = value.get("store").coerce(StorePulse.form());
+    return new EdgePulse(edgeCount, partCount, hostCount, nodeCount, agents, downlinks, uplinks, store);
   }
 
 }
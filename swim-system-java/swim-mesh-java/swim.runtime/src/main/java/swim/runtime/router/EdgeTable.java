@@ -31,6 +31,7 @@ import swim.collections.HashTrieMap;
 import swim.concurrent.Conts;
 import swim.concurrent.Schedule;
 import swim.concurrent.Stage;
+import swim.concurrent.StripedCounter;
 import swim.runtime.AbstractTierBinding;
 import swim.runtime.DownlinkView;
 import swim.runtime.EdgeAddress;
@@ -60,6 +61,7 @@ import swim.runtime.reflect.MeshInfo;
 import swim.runtime.reflect.WarpDownlinkPulse;
 import swim.runtime.reflect.WarpUplinkPulse;
 import swim.store.StoreBinding;
+import swim.store.StorePulse;
 import swim.uri.Uri;
 
 public class EdgeTable extends AbstractTierBinding implements EdgeBinding {
@@ -68,94 +70,54 @@ public class EdgeTable extends AbstractTierBinding implements EdgeBinding {
   @SuppressWarnings("unchecked")
   static final AtomicReferenceFieldUpdater<EdgeTable, HashTrieMap<Uri, MeshBinding>> MESHES =
       AtomicReferenceFieldUpdater.newUpdater(EdgeTable.class, (Class<HashTrieMap<Uri, MeshBinding>>) (Class<?>) HashTrieMap.class, "meshes");
-  static final AtomicIntegerFieldUpdater<EdgeTable> MESH_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "meshOpenDelta");
   static final AtomicLongFieldUpdater<EdgeTable> MESH_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "meshOpenCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> MESH_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "meshCloseDelta");
   static final AtomicLongFieldUpdater<EdgeTable> MESH_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "meshCloseCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> PART_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "partOpenDelta");
   static final AtomicLongFieldUpdater<EdgeTable> PART_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "partOpenCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> PART_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "partCloseDelta");
   static final AtomicLongFieldUpdater<EdgeTable> PART_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "partCloseCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> HOST_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "hostOpenDelta");
   static final AtomicLongFieldUpdater<EdgeTable> HOST_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "hostOpenCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> HOST_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "hostCloseDelta");
   static final AtomicLongFieldUpdater<EdgeTable> HOST_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "hostCloseCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> NODE_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "nodeOpenDelta");
   static final AtomicLongFieldUpdater<EdgeTable> NODE_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "nodeOpenCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> NODE_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "nodeCloseDelta");
   static final AtomicLongFieldUpdater<EdgeTable> NODE_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "nodeCloseCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> AGENT_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "agentOpenDelta");
   static final AtomicLongFieldUpdater<EdgeTable> AGENT_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "agentOpenCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> AGENT_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "agentCloseDelta");
   static final AtomicLongFieldUpdater<EdgeTable> AGENT_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "agentCloseCount");
-  static final AtomicLongFieldUpdater<EdgeTable> AGENT_EXEC_DELTA =
-      AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "agentExecDelta");
   static final AtomicLongFieldUpdater<EdgeTable> AGENT_EXEC_RATE =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "agentExecRate");
   static final AtomicLongFieldUpdater<EdgeTable> AGENT_EXEC_TIME =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "agentExecTime");
-  static final AtomicIntegerFieldUpdater<EdgeTable> TIMER_EVENT_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "timerEventDelta");
   static final AtomicIntegerFieldUpdater<EdgeTable> TIMER_EVENT_RATE =
       AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "timerEventRate");
   static final AtomicLongFieldUpdater<EdgeTable> TIMER_EVENT_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "timerEventCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> DOWNLINK_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "downlinkOpenDelta");
   static final AtomicLongFieldUpdater<EdgeTable> DOWNLINK_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "downlinkOpenCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> DOWNLINK_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "downlinkCloseDelta");
   static final AtomicLongFieldUpdater<EdgeTable> DOWNLINK_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "downlinkCloseCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> DOWNLINK_EVENT_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "downlinkEventDelta");
   static final AtomicIntegerFieldUpdater<EdgeTable> DOWNLINK_EVENT_RATE =
       AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "downlinkEventRate");
   static final AtomicLongFieldUpdater<EdgeTable> DOWNLINK_EVENT_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "downlinkEventCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> DOWNLINK_COMMAND_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "downlinkCommandDelta");
   static final AtomicIntegerFieldUpdater<EdgeTable> DOWNLINK_COMMAND_RATE =
       AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "downlinkCommandRate");
   static final AtomicLongFieldUpdater<EdgeTable> DOWNLINK_COMMAND_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "downlinkCommandCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> UPLINK_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "uplinkOpenDelta");
   static final AtomicLongFieldUpdater<EdgeTable> UPLINK_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "uplinkOpenCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> UPLINK_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "uplinkCloseDelta");
   static final AtomicLongFieldUpdater<EdgeTable> UPLINK_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "uplinkCloseCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> UPLINK_EVENT_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "uplinkEventDelta");
   static final AtomicIntegerFieldUpdater<EdgeTable> UPLINK_EVENT_RATE =
       AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "uplinkEventRate");
   static final AtomicLongFieldUpdater<EdgeTable> UPLINK_EVENT_COUNT =
       AtomicLongFieldUpdater.newUpdater(EdgeTable.class, "uplinkEventCount");
-  static final AtomicIntegerFieldUpdater<EdgeTable> UPLINK_COMMAND_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "uplinkCommandDelta");
   static final AtomicIntegerFieldUpdater<EdgeTable> UPLINK_COMMAND_RATE =
       AtomicIntegerFieldUpdater.newUpdater(EdgeTable.class, "uplinkCommandRate");
   static final AtomicLongFieldUpdater<EdgeTable> UPLINK_COMMAND_COUNT =
@@ -165,50 +127,50 @@ public class EdgeTable extends AbstractTierBinding implements EdgeBinding {
   protected EdgeContext edgeContext;
   volatile HashTrieMap<Uri, MeshBinding> meshes;
   volatile MeshBinding network;
-  volatile int meshOpenDelta;
+  final StripedCounter meshOpenDelta = new StripedCounter();
   volatile long meshOpenCount;
-  volatile int meshCloseDelta;
+  final StripedCounter meshCloseDelta = new StripedCounter();
   volatile long meshCloseCount;
-  volatile int partOpenDelta;
+  final StripedCounter partOpenDelta = new StripedCounter();
   volatile long partOpenCount;
-  volatile int partCloseDelta;
+  final StripedCounter partCloseDelta = new StripedCounter();
   volatile long partCloseCount;
-  volatile int hostOpenDelta;
+  final StripedCounter hostOpenDelta = new StripedCounter();
   volatile long hostOpenCount;
-  volatile int hostCloseDelta;
+  final StripedCounter hostCloseDelta = new StripedCounter();
   volatile long hostCloseCount;
-  volatile int nodeOpenDelta;
+  final StripedCounter nodeOpenDelta = new StripedCounter();
   volatile long nodeOpenCount;
-  volatile int nodeCloseDelta;
+  final StripedCounter nodeCloseDelta = new StripedCounter();
   volatile long nodeCloseCount;
-  volatile int agentOpenDelta;
+  final StripedCounter agentOpenDelta = new StripedCounter();
   volatile long agentOpenCount;
-  volatile int agentCloseDelta;
+  final StripedCounter agentCloseDelta = new StripedCounter();
   volatile long agentCloseCount;
-  volatile long agentExecDelta;
+  final StripedCounter agentExecDelta = new StripedCounter();
   volatile long agentExecRate;
   volatile long agentExecTime;
-  volatile int timerEventDelta;
+  final StripedCounter timerEventDelta = new StripedCounter();
   volatile int timerEventRate;
   volatile long timerEventCount;
-  volatile int downlinkOpenDelta;
+  final StripedCounter downlinkOpenDelta = new StripedCounter();
   volatile long downlinkOpenCount;
-  volatile int downlinkCloseDelta;
+  final StripedCounter downlinkCloseDelta = new StripedCounter();
   volatile long downlinkCloseCount;
-  volatile int downlinkEventDelta;
+  final StripedCounter downlinkEventDelta = new StripedCounter();
   volatile int downlinkEventRate;
   volatile long downlinkEventCount;
-  volatile int downlinkCommandDelta;
+  final StripedCounter downlinkCommandDelta = new StripedCounter();
   volatile int downlinkCommandRate;
   volatile long downlinkCommandCount;
-  volatile int uplinkOpenDelta;
+  final StripedCounter uplinkOpenDelta = new StripedCounter();
   volatile long uplinkOpenCount;
-  volatile int uplinkCloseDelta;
+  final StripedCounter uplinkCloseDelta = new StripedCounter();
   volatile long uplinkCloseCount;
-  volatile int uplinkEventDelta;
+  final StripedCounter uplinkEventDelta = new StripedCounter();
   volatile int uplinkEventRate;
   volatile long uplinkEventCount;
-  volatile int uplinkCommandDelta;
+  final StripedCounter uplinkCommandDelta = new StripedCounter();
   volatile int uplinkCommandRate;
   volatile long uplinkCommandCount;
   volatile long lastReportTime;
@@ -471,7 +433,7 @@ public class EdgeTable extends AbstractTierBinding implements EdgeBinding {
     if (metaMeshes != null) {
       metaMeshes.cue(mesh.meshUri());
     }
-    MESH_OPEN_DELTA.incrementAndGet(this);
+    this.meshOpenDelta.increment();
     flushMetrics();
   }
 
@@ -480,7 +442,7 @@ public class EdgeTable extends AbstractTierBinding implements EdgeBinding {
     if (metaMeshes != null) {
       metaMeshes.remove(mesh.meshUri());
     }
-    MESH_CLOSE_DELTA.incrementAndGet(this);
+    this.meshCloseDelta.increment();
     flushMetrics();
   }
 
@@ -711,39 +673,39 @@ public class EdgeTable extends AbstractTierBinding implements EdgeBinding {
   }
 
   protected void accumulateMeshProfile(MeshProfile profile) {
-    PART_OPEN_DELTA.addAndGet(this, profile.partOpenDelta());
-    PART_CLOSE_DELTA.addAndGet(this, profile.partCloseDelta());
-    HOST_OPEN_DELTA.addAndGet(this, profile.hostOpenDelta());
-    HOST_CLOSE_DELTA.addAndGet(this, profile.hostCloseDelta());
-    NODE_OPEN_DELTA.addAndGet(this, profile.nodeOpenDelta());
-    NODE_CLOSE_DELTA.addAndGet(this, profile.nodeCloseDelta());
-    AGENT_OPEN_DELTA.addAndGet(this, profile.agentOpenDelta());
-    AGENT_CLOSE_DELTA.addAndGet(this, profile.agentCloseDelta());
-    AGENT_EXEC_DELTA.addAndGet(this, profile.agentExecDelta());
+    this.partOpenDelta.add(profile.partOpenDelta());
+    this.partCloseDelta.add(profile.partCloseDelta());
+    this.hostOpenDelta.add(profile.hostOpenDelta());
+    this.hostCloseDelta.add(profile.hostCloseDelta());
+    this.nodeOpenDelta.add(profile.nodeOpenDelta());
+    this.nodeCloseDelta.add(profile.nodeCloseDelta());
+    this.agentOpenDelta.add(profile.agentOpenDelta());
+    this.agentCloseDelta.add(profile.agentCloseDelta());
+    this.agentExecDelta.add(profile.agentExecDelta());
     AGENT_EXEC_RATE.addAndGet(this, profile.agentExecRate());
-    TIMER_EVENT_DELTA.addAndGet(this, profile.timerEventDelta());
+    this.timerEventDelta.add(profile.timerEventDelta());
     TIMER_EVENT_RATE.addAndGet(this, profile.timerEventRate());
-    DOWNLINK_OPEN_DELTA.addAndGet(this, profile.downlinkOpenDelta());
-    DOWNLINK_CLOSE_DELTA.addAndGet(this, profile.downlinkCloseDelta());
-    DOWNLINK_EVENT_DELTA.addAndGet(this, profile.downlinkEventDelta());
+    this.downlinkOpenDelta.add(profile.downlinkOpenDelta());
+    this.downlinkCloseDelta.add(profile.downlinkCloseDelta());
+    this.downlinkEventDelta.add(profile.downlinkEventDelta());
     DOWNLINK_EVENT_RATE.addAndGet(this, profile.downlinkEventRate());
-    DOWNLINK_COMMAND_DELTA.addAndGet(this, profile.downlinkCommandDelta());
+    this.downlinkCommandDelta.add(profile.downlinkCommandDelta());
     DOWNLINK_COMMAND_RATE.addAndGet(this, profile.downlinkCommandRate());
-    UPLINK_OPEN_DELTA.addAndGet(this, profile.uplinkOpenDelta());
-    UPLINK_CLOSE_DELTA.addAndGet(this, profile.uplinkCloseDelta());
-    UPLINK_EVENT_DELTA.addAndGet(this, profile.uplinkEventDelta());
+    this.uplinkOpenDelta.add(profile.uplinkOpenDelta());
+    this.uplinkCloseDelta.add(profile.uplinkCloseDelta());
+    this.uplinkEventDelta.add(profile.uplinkEventDelta());
     UPLINK_EVENT_RATE.addAndGet(this, profile.uplinkEventRate());
-    UPLINK_COMMAND_DELTA.addAndGet(this, profile.uplinkCommandDelta());
+    this.uplinkCommandDelta.add(profile.uplinkCommandDelta());
     UPLINK_COMMAND_RATE.addAndGet(this, profile.uplinkCommandRate());
     didUpdateMetrics();
   }
 
   protected void accumulateWarpDownlinkProfile(WarpDownlinkProfile profile) {
-    DOWNLINK_OPEN_DELTA.addAndGet(this, profile.openDelta());
-    DOWNLINK_CLOSE_DELTA.addAndGet(this, profile.closeDelta());
-    DOWNLINK_EVENT_DELTA.addAndGet(this, profile.eventDelta());
+    this.downlinkOpenDelta.add(profile.openDelta());
+    this.downlinkCloseDelta.add(profile.closeDelta());
+    this.downlinkEventDelta.add(profile.eventDelta());
     DOWNLINK_EVENT_RATE.addAndGet(this, profile.eventRate());
-    DOWNLINK_COMMAND_DELTA.addAndGet(this, profile.commandDelta());
+    this.downlinkCommandDelta.add(profile.commandDelta());
     DOWNLINK_COMMAND_RATE.addAndGet(this, profile.commandRate());
     didUpdateMetrics();
   }
@@ -793,57 +755,57 @@ public class EdgeTable extends AbstractTierBinding implements EdgeBinding {
   }
 
   protected EdgeProfile collectProfile(long dt) {
-    final int meshOpenDelta = MESH_OPEN_DELTA.getAndSet(this, 0);
+    final int meshOpenDelta = (int) this.meshOpenDelta.sumThenReset();
     final long meshOpenCount = MESH_OPEN_COUNT.addAndGet(this, (long) meshOpenDelta);
-    final int meshCloseDelta = MESH_CLOSE_DELTA.getAndSet(this, 0);
+    final int meshCloseDelta = (int) this.meshCloseDelta.sumThenReset();
     final long meshCloseCount = MESH_CLOSE_COUNT.addAndGet(this, (long) meshCloseDelta);
 
-    final int partOpenDelta = PART_OPEN_DELTA.getAndSet(this, 0);
+    final int partOpenDelta = (int) this.partOpenDelta.sumThenReset();
     final long partOpenCount = PART_OPEN_COUNT.addAndGet(this, (long) partOpenDelta);
-    final int partCloseDelta = PART_CLOSE_DELTA.getAndSet(this, 0);
+    final int partCloseDelta = (int) this.partCloseDelta.sumThenReset();
     final long partCloseCount = PART_CLOSE_COUNT.addAndGet(this, (long) partCloseDelta);
 
-    final int hostOpenDelta = HOST_OPEN_DELTA.getAndSet(this, 0);
+    final int hostOpenDelta = (int) this.hostOpenDelta.sumThenReset();
     final long hostOpenCount = HOST_OPEN_COUNT.addAndGet(this, (long) hostOpenDelta);
-    final int hostCloseDelta = HOST_CLOSE_DELTA.getAndSet(this, 0);
+    final int hostCloseDelta = (int) this.hostCloseDelta.sumThenReset();
     final long hostCloseCount = HOST_CLOSE_COUNT.addAndGet(this, (long) hostCloseDelta);
 
-    final int nodeOpenDelta = NODE_OPEN_DELTA.getAndSet(this, 0);
+    final int nodeOpenDelta = (int) this.nodeOpenDelta.sumThenReset();
     final long nodeOpenCount = NODE_OPEN_COUNT.addAndGet(this, (long) nodeOpenDelta);
-    final int nodeCloseDelta = NODE_CLOSE_DELTA.getAndSet(this, 0);
+    final int nodeCloseDelta = (int) this.nodeCloseDelta.sumThenReset();
     final long nodeCloseCount = NODE_CLOSE_COUNT.addAndGet(this, (long) nodeCloseDelta);
 
-    final int agentOpenDelta = AGENT_OPEN_DELTA.getAndSet(this, 0);
+    final int agentOpenDelta = (int) this.agentOpenDelta.sumThenReset();
     final long agentOpenCount = AGENT_OPEN_COUNT.addAndGet(this, (long) agentOpenDelta);
-    final int agentCloseDelta = AGENT_CLOSE_DELTA.getAndSet(this, 0);
+    final int agentCloseDelta = (int) this.agentCloseDelta.sumThenReset();
     final long agentCloseCount = AGENT_CLOSE_COUNT.addAndGet(this, (long) agentCloseDelta);
-    final long agentExecDelta = AGENT_EXEC_DELTA.getAndSet(this, 0L);
+    final long agentExecDelta = this.agentExecDelta.sumThenReset();
     final long agentExecRate = AGENT_EXEC_RATE.getAndSet(this, 0L);
     final long agentExecTime = AGENT_EXEC_TIME.addAndGet(this, agentExecDelta);
 
-    final int timerEventDelta = TIMER_EVENT_DELTA.getAndSet(this, 0);
+    final int timerEventDelta = (int) this.timerEventDelta.sumThenReset();
     final int timerEventRate = TIMER_EVENT_RATE.getAndSet(this, 0);
     final long timerEventCount = TIMER_EVENT_COUNT.addAndGet(this, (long) timerEventDelta);
 
-    final int downlinkOpenDelta = DOWNLINK_OPEN_DELTA.getAndSet(this, 0);
+    final int downlinkOpenDelta = (int) this.downlinkOpenDelta.sumThenReset();
     final long downlinkOpenCount = DOWNLINK_OPEN_COUNT.addAndGet(this, (long) downlinkOpenDelta);
-    final int downlinkCloseDelta = DOWNLINK_CLOSE_DELTA.getAndSet(this, 0);
+    final int downlinkCloseDelta = (int) this.downlinkCloseDelta.sumThenReset();
     final long downlinkCloseCount = DOWNLINK_CLOSE_COUNT.addAndGet(this, (long) downlinkCloseDelta);
-    final int downlinkEventDelta = DOWNLINK_EVENT_DELTA.getAndSet(this, 0);
+    final int downlinkEventDelta = (int) this.downlinkEventDelta.sumThenReset();
     final int downlinkEventRate = DOWNLINK_EVENT_RATE.getAndSet(this, 0);
     final long downlinkEventCount = DOWNLINK_EVENT_COUNT.addAndGet(this, (long) downlinkEventDelta);
-    final int downlinkCommandDelta = DOWNLINK_COMMAND_DELTA.getAndSet(this, 0);
+    final int downlinkCommandDelta = (int) this.downlinkCommandDelta.sumThenReset();
     final int downlinkCommandRate = DOWNLINK_COMMAND_RATE.getAndSet(this, 0);
     final long downlinkCommandCount = DOWNLINK_COMMAND_COUNT.addAndGet(this, (long) downlinkCommandDelta);
 
-    final int uplinkOpenDelta = UPLINK_OPEN_DELTA.getAndSet(this, 0);
+    final int uplinkOpenDelta = (int) this.uplinkOpenDelta.sumThenReset();
     final long uplinkOpenCount = UPLINK_OPEN_COUNT.addAndGet(this, (long) uplinkOpenDelta);
-    final int uplinkCloseDelta = UPLINK_CLOSE_DELTA.getAndSet(this, 0);
+    final int uplinkCloseDelta = (int) this.uplinkCloseDelta.sumThenReset();
     final long uplinkCloseCount = UPLINK_CLOSE_COUNT.addAndGet(this, (long) uplinkCloseDelta);
-    final int uplinkEventDelta = UPLINK_EVENT_DELTA.getAndSet(this, 0);
+    final int uplinkEventDelta = (int) this.uplinkEventDelta.sumThenReset();
     final int uplinkEventRate = UPLINK_EVENT_RATE.getAndSet(this, 0);
     final long uplinkEventCount = UPLINK_EVENT_COUNT.addAndGet(this, (long) uplinkEventDelta);
-    final int uplinkCommandDelta = UPLINK_COMMAND_DELTA.getAndSet(this, 0);
+    final int uplinkCommandDelta = (int) this.uplinkCommandDelta.sumThenReset();
     final int uplinkCommandRate = UPLINK_COMMAND_RATE.getAndSet(this, 0);
     final long uplinkCommandCount = UPLINK_COMMAND_COUNT.addAndGet(this, (long) uplinkCommandDelta);
 
@@ -859,7 +821,10 @@ public class EdgeTable extends AbstractTierBinding implements EdgeBinding {
     final long uplinkCount = uplinkOpenCount - uplinkCloseCount;
     final WarpUplinkPulse uplinkPulse = new WarpUplinkPulse(uplinkCount, uplinkEventRate, uplinkEventCount,
         uplinkCommandRate, uplinkCommandCount);
-    this.pulse = new EdgePulse(meshCount, partCount, hostCount, nodeCount, agentPulse, downlinkPulse, uplinkPulse);
+    final StoreBinding store = store();
+    final StorePulse storePulse = store != null ? store.pulse() : StorePulse.empty();
+    this.pulse = new EdgePulse(meshCount, partCount, hostCount, nodeCount, agentPulse, downlinkPulse, uplinkPulse,
+                               storePulse);
     final DemandLane<EdgePulse> metaPulse = this.metaPulse;
     if (metaPulse != null) {
       metaPulse.cue();
@@ -14,8 +14,12 @@
 
 package swim.runtime.router;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
@@ -29,9 +33,15 @@ import swim.api.lane.function.OnSyncKeys;
 import swim.api.policy.Policy;
 import swim.api.warp.WarpUplink;
 import swim.collections.FingerTrieSeq;
+import swim.concurrent.Cont;
 import swim.concurrent.Conts;
 import swim.concurrent.Schedule;
 import swim.concurrent.Stage;
+import swim.concurrent.StripedCounter;
+import swim.concurrent.Sync;
+import swim.concurrent.SyncException;
+import swim.concurrent.TimerFunction;
+import swim.concurrent.TimerRef;
 import swim.runtime.AbstractTierBinding;
 import swim.runtime.HostAddress;
 import swim.runtime.HostBinding;
@@ -44,9 +54,11 @@ import swim.runtime.NodeAddress;
 import swim.runtime.NodeBinding;
 import swim.runtime.NodeContext;
 import swim.runtime.PartBinding;
+import swim.runtime.PassivationDef;
 import swim.runtime.Push;
 import swim.runtime.TierContext;
 import swim.runtime.UplinkError;
+import swim.runtime.agent.AgentModel;
 import swim.runtime.agent.AgentNode;
 import swim.runtime.profile.HostProfile;
 import swim.runtime.profile.NodeProfile;
@@ -76,113 +88,116 @@ public class HostTable extends AbstractTierBinding implements HostBinding {
   @SuppressWarnings("unchecked")
   static final AtomicReferenceFieldUpdater<HostTable, UriMapper<NodeBinding>> NODES =
       AtomicReferenceFieldUpdater.newUpdater(HostTable.class, (Class<UriMapper<NodeBinding>>) (Class<?>) UriMapper.class, "nodes");
+  static final AtomicLongFieldUpdater<HostTable> NODE_VERSION =
+      AtomicLongFieldUpdater.newUpdater(HostTable.class, "nodeVersion");
+  static final AtomicReferenceFieldUpdater<HostTable, TimerRef> PASSIVATION_TIMER =
+      AtomicReferenceFieldUpdater.newUpdater(HostTable.class, TimerRef.class, "passivationTimer");
+  static final long PASSIVATION_INTERVAL;
+  static final long NODE_CREATION_TIMEOUT;
+  static final ThreadLocal<HostTableNodeCreation> NODE_CREATION = new ThreadLocal<HostTableNodeCreation>();
   static final AtomicIntegerFieldUpdater<HostTable> FLAGS =
       AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "flags");
-  static final AtomicIntegerFieldUpdater<HostTable> NODE_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "nodeOpenDelta");
   static final AtomicLongFieldUpdater<HostTable> NODE_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "nodeOpenCount");
-  static final AtomicIntegerFieldUpdater<HostTable> NODE_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "nodeCloseDelta");
   static final AtomicLongFieldUpdater<HostTable> NODE_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "nodeCloseCount");
-  static final AtomicIntegerFieldUpdater<HostTable> AGENT_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "agentOpenDelta");
   static final AtomicLongFieldUpdater<HostTable> AGENT_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "agentOpenCount");
-  static final AtomicIntegerFieldUpdater<HostTable> AGENT_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "agentCloseDelta");
   static final AtomicLongFieldUpdater<HostTable> AGENT_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "agentCloseCount");
-  static final AtomicLongFieldUpdater<HostTable> AGENT_EXEC_DELTA =
-      AtomicLongFieldUpdater.newUpdater(HostTable.class, "agentExecDelta");
   static final AtomicLongFieldUpdater<HostTable> AGENT_EXEC_RATE =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "agentExecRate");
   static final AtomicLongFieldUpdater<HostTable> AGENT_EXEC_TIME =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "agentExecTime");
-  static final AtomicIntegerFieldUpdater<HostTable> TIMER_EVENT_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "timerEventDelta");
   static final AtomicIntegerFieldUpdater<HostTable> TIMER_EVENT_RATE =
       AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "timerEventRate");
   static final AtomicLongFieldUpdater<HostTable> TIMER_EVENT_COUNT =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "timerEventCount");
-  static final AtomicIntegerFieldUpdater<HostTable> DOWNLINK_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "downlinkOpenDelta");
   static final AtomicLongFieldUpdater<HostTable> DOWNLINK_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "downlinkOpenCount");
-  static final AtomicIntegerFieldUpdater<HostTable> DOWNLINK_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "downlinkCloseDelta");
   static final AtomicLongFieldUpdater<HostTable> DOWNLINK_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "downlinkCloseCount");
-  static final AtomicIntegerFieldUpdater<HostTable> DOWNLINK_EVENT_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "downlinkEventDelta");
   static final AtomicIntegerFieldUpdater<HostTable> DOWNLINK_EVENT_RATE =
       AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "downlinkEventRate");
   static final AtomicLongFieldUpdater<HostTable> DOWNLINK_EVENT_COUNT =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "downlinkEventCount");
-  static final AtomicIntegerFieldUpdater<HostTable> DOWNLINK_COMMAND_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "downlinkCommandDelta");
   static final AtomicIntegerFieldUpdater<HostTable> DOWNLINK_COMMAND_RATE =
       AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "downlinkCommandRate");
   static final AtomicLongFieldUpdater<HostTable> DOWNLINK_COMMAND_COUNT =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "downlinkCommandCount");
-  static final AtomicIntegerFieldUpdater<HostTable> UPLINK_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "uplinkOpenDelta");
   static final AtomicLongFieldUpdater<HostTable> UPLINK_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "uplinkOpenCount");
-  static final AtomicIntegerFieldUpdater<HostTable> UPLINK_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "uplinkCloseDelta");
   static final AtomicLongFieldUpdater<HostTable> UPLINK_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "uplinkCloseCount");
-  static final AtomicIntegerFieldUpdater<HostTable> UPLINK_EVENT_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "uplinkEventDelta");
   static final AtomicIntegerFieldUpdater<HostTable> UPLINK_EVENT_RATE =
       AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "uplinkEventRate");
   static final AtomicLongFieldUpdater<HostTable> UPLINK_EVENT_COUNT =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "uplinkEventCount");
-  static final AtomicIntegerFieldUpdater<HostTable> UPLINK_COMMAND_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "uplinkCommandDelta");
   static final AtomicIntegerFieldUpdater<HostTable> UPLINK_COMMAND_RATE =
       AtomicIntegerFieldUpdater.newUpdater(HostTable.class, "uplinkCommandRate");
   static final AtomicLongFieldUpdater<HostTable> UPLINK_COMMAND_COUNT =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "uplinkCommandCount");
   static final AtomicLongFieldUpdater<HostTable> LAST_REPORT_TIME =
       AtomicLongFieldUpdater.newUpdater(HostTable.class, "lastReportTime");
+
+  static {
+    long passivationInterval;
+    try {
+      passivationInterval = Long.parseLong(System.getProperty("swim.host.passivation.interval"));
+    } catch (NumberFormatException e) {
+      passivationInterval = 10000L;
+    }
+    PASSIVATION_INTERVAL = passivationInterval;
+
+    long nodeCreationTimeout;
+    try {
+      nodeCreationTimeout = Long.parseLong(System.getProperty("swim.host.node.creation.timeout"));
+    } catch (NumberFormatException e) {
+      nodeCreationTimeout = 10000L;
+    }
+    NODE_CREATION_TIMEOUT = nodeCreationTimeout;
+  }
+
   protected HostContext hostContext;
+  final ConcurrentHashMap<Uri, NodeBinding> nodeIndex;
+  final ConcurrentHashMap<Uri, HostTableNodeCreation> nodeCreations;
   volatile UriMapper<NodeBinding> nodes;
+  volatile long nodeVersion;
+  final ConcurrentHashMap<Uri, HostTablePassivation> passivations;
+  volatile TimerRef passivationTimer;
   volatile int flags;
-  volatile int nodeOpenDelta;
+  final StripedCounter nodeOpenDelta = new StripedCounter();
   volatile long nodeOpenCount;
-  volatile int nodeCloseDelta;
+  final StripedCounter nodeCloseDelta = new StripedCounter();
   volatile long nodeCloseCount;
-  volatile int agentOpenDelta;
+  final StripedCounter agentOpenDelta = new StripedCounter();
   volatile long agentOpenCount;
-  volatile int agentCloseDelta;
+  final StripedCounter agentCloseDelta = new StripedCounter();
   volatile long agentCloseCount;
-  volatile long agentExecDelta;
+  final StripedCounter agentExecDelta = new StripedCounter();
   volatile long agentExecRate;
   volatile long agentExecTime;
-  volatile int timerEventDelta;
+  final StripedCounter timerEventDelta = new StripedCounter();
   volatile int timerEventRate;
   volatile long timerEventCount;
-  volatile int downlinkOpenDelta;
+  final StripedCounter downlinkOpenDelta = new StripedCounter();
   volatile long downlinkOpenCount;
-  volatile int downlinkCloseDelta;
+  final StripedCounter downlinkCloseDelta = new StripedCounter();
   volatile long downlinkCloseCount;
-  volatile int downlinkEventDelta;
+  final StripedCounter downlinkEventDelta = new StripedCounter();
   volatile int downlinkEventRate;
   volatile long downlinkEventCount;
-  volatile int downlinkCommandDelta;
+  final StripedCounter downlinkCommandDelta = new StripedCounter();
   volatile int downlinkCommandRate;
   volatile long downlinkCommandCount;
-  volatile int uplinkOpenDelta;
+  final StripedCounter uplinkOpenDelta = new StripedCounter();
   volatile long uplinkOpenCount;
-  volatile int uplinkCloseDelta;
+  final StripedCounter uplinkCloseDelta = new StripedCounter();
   volatile long uplinkCloseCount;
-  volatile int uplinkEventDelta;
+  final StripedCounter uplinkEventDelta = new StripedCounter();
   volatile int uplinkEventRate;
   volatile long uplinkEventCount;
-  volatile int uplinkCommandDelta;
+  final StripedCounter uplinkCommandDelta = new StripedCounter();
   volatile int uplinkCommandRate;
   volatile long uplinkCommandCount;
   volatile long lastReportTime;
@@ -198,6 +213,9 @@ public class HostTable extends AbstractTierBinding implements HostBinding {
   SupplyLane<LogEntry> metaFailLog;
 
   public HostTable() {
+    this.nodeIndex = new ConcurrentHashMap<Uri, NodeBinding>();
+    this.nodeCreations = new ConcurrentHashMap<Uri, HostTableNodeCreation>();
+    this.passivations = new ConcurrentHashMap<Uri, HostTablePassivation>();
     this.nodes = UriMapper.empty();
   }
 
@@ -418,134 +436,409 @@ public class HostTable extends AbstractTierBinding implements HostBinding {
 
   @Override
   public UriMapper<NodeBinding> nodes() {
-    return this.nodes;
+    do {
+      final UriMapper<NodeBinding> oldNodes = this.nodes;
+      if (oldNodes != null) {
+        return oldNodes;
+      }
+      // Rebuild the directory snapshot from the node index, and discard it
+      // if the index changed while it was being built.
+      final long version = this.nodeVersion;
+      UriMapper<NodeBinding> newNodes = UriMapper.empty();
+      final Iterator<Map.Entry<Uri, NodeBinding>> nodeEntries = this.nodeIndex.entrySet().iterator();
+      while (nodeEntries.hasNext()) {
+        final Map.Entry<Uri, NodeBinding> nodeEntry = nodeEntries.next();
+        newNodes = newNodes.updated(nodeEntry.getKey(), nodeEntry.getValue());
+      }
+      if (NODES.compareAndSet(this, null, newNodes)) {
+        if (version == this.nodeVersion) {
+          return newNodes;
+        }
+        NODES.compareAndSet(this, newNodes, null);
+      }
+    } while (true);
+  }
+
+  void didUpdateNodes() {
+    NODE_VERSION.incrementAndGet(this);
+    this.nodes = null;
   }
 
   @Override
   public NodeBinding getNode(Uri nodeUri) {
-    return this.nodes.get(nodeUri);
+    return this.nodeIndex.get(nodeUri);
   }
 
   @Override
   public NodeBinding openNode(Uri nodeUri) {
-    UriMapper<NodeBinding> oldNodes;
-    UriMapper<NodeBinding> newNodes;
-    NodeBinding nodeBinding = null;
     do {
-      oldNodes = this.nodes;
-      final NodeBinding node = oldNodes.get(nodeUri);
-      if (node != null) {
-        if (nodeBinding != null) {
-          // Lost creation race.
-          nodeBinding.close();
+      final NodeBinding nodeBinding = this.nodeIndex.get(nodeUri);
+      final HostTableNodeCreation oldCreation;
+      if (nodeBinding != null) {
+        didAccessNode(nodeUri);
+        if (nodeBinding.isStarted()) {
+          return nodeBinding;
+        }
+        // Nodes are published before they start; wait for an in-flight
+        // creation or passivation of the node to complete.
+        oldCreation = this.nodeCreations.get(nodeUri);
+        if (oldCreation == null) {
+          return null;
+        }
+      } else {
+        final HostTableNodeCreation creation = new HostTableNodeCreation();
+        oldCreation = this.nodeCreations.putIfAbsent(nodeUri, creation);
+        if (oldCreation == null) {
+          return createNode(nodeUri, creation);
         }
-        newNodes = oldNodes;
-        if (node.isStarted()) {
-          nodeBinding = node;
+      }
+      if (oldCreation.thread == Thread.currentThread()) {
+        // Reentrant open of a node that this thread is still creating.
+        return null;
+      }
+      // Wait for the in-flight creation or passivation of the node to
+      // complete, then look it up again.
+      try {
+        if (NODE_CREATION.get() == null) {
+          oldCreation.await();
         } else {
-          nodeBinding = null;
+          // This thread is itself creating or passivating a node, which the
+          // other creation may be waiting on in turn; bound the wait, and
+          // fail the open, rather than risk a deadlock.
+          oldCreation.await(NODE_CREATION_TIMEOUT);
         }
-        break;
-      } else if (nodeBinding == null) {
-        final NodeAddress nodeAddress = cellAddress().nodeUri(nodeUri);
-        nodeBinding = this.hostContext.createNode(nodeAddress);
-        if (nodeBinding != null) {
-          nodeBinding = this.hostContext.injectNode(nodeAddress, nodeBinding);
-          final NodeContext nodeContext = createNodeContext(nodeAddress, nodeBinding);
-          nodeBinding.setNodeContext(nodeContext);
-          nodeBinding = nodeBinding.nodeWrapper();
-          nodeBinding.openLanes(nodeBinding);
-          nodeBinding.openAgents(nodeBinding);
-          newNodes = oldNodes.updated(nodeUri, nodeBinding);
+      } catch (SyncException error) {
+        return null;
+      } catch (InterruptedException error) {
+        Thread.currentThread().interrupt();
+        return null;
+      }
+    } while (true);
+  }
+
+  /**
+   * Binds the started node with the given {@code nodeUri} to {@code cont},
+   * creating the node if necessary, or binds {@code null} if no such node
+   * exists.  If another thread is creating or passivating the node, {@code
+   * cont} is bound once that completes, instead of blocking this thread.
+   */
+  void routeNode(Uri nodeUri, Cont<NodeBinding> cont) {
+    final NodeBinding nodeBinding = this.nodeIndex.get(nodeUri);
+    if (nodeBinding != null) {
+      didAccessNode(nodeUri);
+      if (nodeBinding.isStarted()) {
+        bindNode(nodeUri, nodeBinding, cont);
+      } else {
+        // Nodes are published before they start; wait for an in-flight
+        // creation or passivation of the node to complete.
+        final HostTableNodeCreation creation = this.nodeCreations.get(nodeUri);
+        if (creation != null) {
+          creation.observe(new HostTableRouteNode(this, nodeUri, cont));
         } else {
-          newNodes = oldNodes;
-          break;
+          cont.bind(null);
         }
+      }
+      return;
+    }
+    final HostTableNodeCreation creation = new HostTableNodeCreation();
+    final HostTableNodeCreation oldCreation = this.nodeCreations.putIfAbsent(nodeUri, creation);
+    if (oldCreation == null) {
+      final NodeBinding newNode = createNode(nodeUri, creation);
+      if (newNode != null) {
+        bindNode(nodeUri, newNode, cont);
       } else {
-        newNodes = oldNodes.updated(nodeUri, nodeBinding);
+        cont.bind(null);
       }
-    } while (nodeBinding == null
-        || (oldNodes != newNodes && !NODES.compareAndSet(this, oldNodes, newNodes)));
+    } else {
+      oldCreation.observe(new HostTableRouteNode(this, nodeUri, cont));
+    }
+  }
 
-    if (oldNodes != newNodes) {
-      activate(nodeBinding);
-      didOpenNode(nodeBinding);
+  /**
+   * Binds the started {@code nodeBinding} to {@code cont}, holding off
+   * passivation of the node until {@code cont} returns, so that links and
+   * commands routed to the node can't be lost to a concurrent passivation.
+   * If the node is being, or has been, passivated, {@code cont} gets routed
+   * again once the passivation completes.
+   */
+  void bindNode(Uri nodeUri, NodeBinding nodeBinding, Cont<NodeBinding> cont) {
+    final HostTablePassivation passivation = this.passivations.isEmpty() ? null : this.passivations.get(nodeUri);
+    if (passivation != null && passivation.node == nodeBinding) {
+      if (passivation.enter()) {
+        try {
+          cont.bind(nodeBinding);
+        } finally {
+          passivation.exit();
+        }
+        return;
+      }
+    } else if (passivation == null && this.nodeIndex.get(nodeUri) == nodeBinding) {
+      // Passivatable nodes are registered before they're published, and
+      // unpublished before they're unregistered, so a published node with
+      // no registered passivation can't be passivated.
+      cont.bind(nodeBinding);
+      return;
+    }
+    final HostTableNodeCreation creation = this.nodeCreations.get(nodeUri);
+    if (creation != null) {
+      creation.observe(new HostTableRouteNode(this, nodeUri, cont));
+    } else {
+      routeNode(nodeUri, cont);
     }
-    return nodeBinding;
   }
 
-  @Override
-  public NodeBinding openNode(Uri nodeUri, NodeBinding node) {
-    UriMapper<NodeBinding> oldNodes;
-    UriMapper<NodeBinding> newNodes;
+  NodeBinding createNode(Uri nodeUri, HostTableNodeCreation creation) {
+    final HostTableNodeCreation outerCreation = NODE_CREATION.get();
+    NODE_CREATION.set(creation);
     NodeBinding nodeBinding = null;
-    do {
-      oldNodes = this.nodes;
-      if (oldNodes.containsKey(nodeUri)) {
-        nodeBinding = null;
-        newNodes = oldNodes;
-        break;
-      } else {
-        if (nodeBinding == null) {
-          final NodeAddress nodeAddress = cellAddress().nodeUri(nodeUri);
-          nodeBinding = this.hostContext.injectNode(nodeAddress, node);
-          final NodeContext nodeContext = createNodeContext(nodeAddress, nodeBinding);
-          nodeBinding.setNodeContext(nodeContext);
-          nodeBinding = nodeBinding.nodeWrapper();
-          nodeBinding.openLanes(nodeBinding);
-          nodeBinding.openAgents(nodeBinding);
+    try {
+      nodeBinding = this.nodeIndex.get(nodeUri);
+      if (nodeBinding != null) {
+        // Creation completed between our lookup and our claim.
+        if (!nodeBinding.isStarted()) {
+          nodeBinding = null;
         }
-        newNodes = oldNodes.updated(nodeUri, nodeBinding);
+        return nodeBinding;
       }
-    } while (oldNodes != newNodes && !NODES.compareAndSet(this, oldNodes, newNodes));
-    if (nodeBinding != null) {
-      activate(nodeBinding);
-      didOpenNode(nodeBinding);
+      final NodeAddress nodeAddress = cellAddress().nodeUri(nodeUri);
+      nodeBinding = this.hostContext.createNode(nodeAddress);
+      if (nodeBinding != null) {
+        nodeBinding = this.hostContext.injectNode(nodeAddress, nodeBinding);
+        final NodeContext nodeContext = createNodeContext(nodeAddress, nodeBinding);
+        nodeBinding.setNodeContext(nodeContext);
+        nodeBinding = nodeBinding.nodeWrapper();
+        nodeBinding.openLanes(nodeBinding);
+        nodeBinding.openAgents(nodeBinding);
+        final PassivationDef passivationDef = passivationDef(nodeBinding);
+        if (passivationDef != null && passivationDef.isDefined()) {
+          this.passivations.put(nodeUri, new HostTablePassivation(nodeBinding, passivationDef));
+        }
+        this.nodeIndex.put(nodeUri, nodeBinding);
+        didUpdateNodes();
+        activate(nodeBinding);
+        didOpenNode(nodeBinding);
+        if (passivationDef != null && passivationDef.isDefined()) {
+          schedulePassivation(passivationDef);
+        }
+      }
+      return nodeBinding;
+    } finally {
+      NODE_CREATION.set(outerCreation);
+      this.nodeCreations.remove(nodeUri, creation);
+      creation.bind(nodeBinding);
     }
-    return nodeBinding;
   }
 
-  public void closeNode(Uri nodeUri) {
-    UriMapper<NodeBinding> oldNodes;
-    UriMapper<NodeBinding> newNodes;
+  @Override
+  public NodeBinding openNode(Uri nodeUri, NodeBinding node) {
+    if (this.nodeIndex.containsKey(nodeUri)) {
+      return null;
+    }
+    final HostTableNodeCreation creation = new HostTableNodeCreation();
+    if (this.nodeCreations.putIfAbsent(nodeUri, creation) != null) {
+      return null;
+    }
+    final HostTableNodeCreation outerCreation = NODE_CREATION.get();
+    NODE_CREATION.set(creation);
     NodeBinding nodeBinding = null;
-    do {
-      oldNodes = this.nodes;
-      final NodeBinding node = oldNodes.get(nodeUri);
-      if (node != null) {
-        nodeBinding = node;
-        newNodes = oldNodes.removed(nodeUri);
-      } else {
-        nodeBinding = null;
-        newNodes = oldNodes;
-        break;
+    try {
+      if (!this.nodeIndex.containsKey(nodeUri)) {
+        final NodeAddress nodeAddress = cellAddress().nodeUri(nodeUri);
+        nodeBinding = this.hostContext.injectNode(nodeAddress, node);
+        final NodeContext nodeContext = createNodeContext(nodeAddress, nodeBinding);
+        nodeBinding.setNodeContext(nodeContext);
+        nodeBinding = nodeBinding.nodeWrapper();
+        nodeBinding.openLanes(nodeBinding);
+        nodeBinding.openAgents(nodeBinding);
+        this.nodeIndex.put(nodeUri, nodeBinding);
+        didUpdateNodes();
+        activate(nodeBinding);
+        didOpenNode(nodeBinding);
       }
-    } while (oldNodes != newNodes && !NODES.compareAndSet(this, oldNodes, newNodes));
+      return nodeBinding;
+    } finally {
+      NODE_CREATION.set(outerCreation);
+      this.nodeCreations.remove(nodeUri, creation);
+      creation.bind(nodeBinding);
+    }
+  }
+
+  public void closeNode(Uri nodeUri) {
+    final NodeBinding nodeBinding = this.nodeIndex.remove(nodeUri);
     if (nodeBinding != null) {
+      didUpdateNodes();
+      this.passivations.remove(nodeUri);
       nodeBinding.didClose();
       didCloseNode(nodeBinding);
     }
   }
 
   public void closeNodes() {
-    UriMapper<NodeBinding> oldNodes;
-    final UriMapper<NodeBinding> newNodes = UriMapper.empty();
-    do {
-      oldNodes = this.nodes;
-    } while (oldNodes != newNodes && !NODES.compareAndSet(this, oldNodes, newNodes));
-    if (!oldNodes.isEmpty()) {
-      final DemandMapLane<Uri, NodeInfo> metaNodes = this.metaNodes;
-      for (NodeBinding nodeBinding : oldNodes.values()) {
+    final DemandMapLane<Uri, NodeInfo> metaNodes = this.metaNodes;
+    boolean closed = false;
+    final Iterator<Uri> nodeUris = this.nodeIndex.keySet().iterator();
+    while (nodeUris.hasNext()) {
+      final Uri nodeUri = nodeUris.next();
+      final NodeBinding nodeBinding = this.nodeIndex.remove(nodeUri);
+      if (nodeBinding != null) {
+        didUpdateNodes();
+        this.passivations.remove(nodeUri);
         nodeBinding.close();
         nodeBinding.didClose();
         if (metaNodes != null) {
           metaNodes.cue(nodeBinding.nodeUri());
         }
+        closed = true;
       }
+    }
+    if (closed) {
       flushMetrics();
     }
   }
 
+  void didAccessNode(Uri nodeUri) {
+    if (!this.passivations.isEmpty()) {
+      final HostTablePassivation passivation = this.passivations.get(nodeUri);
+      if (passivation != null) {
+        passivation.lastAccessTime = System.currentTimeMillis();
+      }
+    }
+  }
+
+  protected PassivationDef passivationDef(NodeBinding node) {
+    final AgentModel agentModel = node.unwrapNode(AgentModel.class);
+    return agentModel != null ? agentModel.passivationDef() : null;
+  }
+
+  protected boolean isPassivatable(NodeBinding node) {
+    if (!node.isStarted()) {
+      return false;
+    }
+    final AgentNode agentNode = node.unwrapNode(AgentNode.class);
+    if (agentNode != null && (agentNode.mailboxSize() != 0 || agentNode.hasScheduledTimers()
+        || agentNode.hasOpenDownlinks())) {
+      return false;
+    }
+    final Iterator<LaneBinding> lanesIterator = node.lanes().valueIterator();
+    while (lanesIterator.hasNext()) {
+      if (!lanesIterator.next().uplinks().isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  void schedulePassivation(PassivationDef passivationDef) {
+    TimerRef passivationTimer = this.passivationTimer;
+    if (passivationTimer == null) {
+      passivationTimer = schedule().timer(new HostTablePassivationTimer(this));
+      if (!PASSIVATION_TIMER.compareAndSet(this, null, passivationTimer)) {
+        passivationTimer = this.passivationTimer;
+      }
+    }
+    if (!passivationTimer.isScheduled()) {
+      final long idleTimeout = passivationDef.idleTimeout();
+      passivationTimer.reschedule(idleTimeout > 0L ? Math.min(idleTimeout, PASSIVATION_INTERVAL) : PASSIVATION_INTERVAL);
+    }
+  }
+
+  void passivateNodes() {
+    if (!isStarted()) {
+      return;
+    }
+    final long now = System.currentTimeMillis();
+    long interval = PASSIVATION_INTERVAL;
+    // Group residents by the PassivationDef instance of the route, or node
+    // definition, that owns them; distinct routes with equal limits each
+    // get their own resident budget.
+    IdentityHashMap<PassivationDef, ArrayList<HostTablePassivation>> residents = null;
+    final Iterator<Map.Entry<Uri, HostTablePassivation>> passivationsIterator = this.passivations.entrySet().iterator();
+    while (passivationsIterator.hasNext()) {
+      final Map.Entry<Uri, HostTablePassivation> entry = passivationsIterator.next();
+      final HostTablePassivation passivation = entry.getValue();
+      final PassivationDef passivationDef = passivation.passivationDef;
+      final long idleTimeout = passivationDef.idleTimeout();
+      passivation.accessTime = passivation.lastAccessTime;
+      if (idleTimeout > 0L) {
+        if (now - passivation.accessTime >= idleTimeout && passivateNode(entry.getKey(), passivation)) {
+          continue;
+        }
+        interval = Math.min(interval, idleTimeout);
+      }
+      if (passivationDef.maxResident() > 0) {
+        if (residents == null) {
+          residents = new IdentityHashMap<PassivationDef, ArrayList<HostTablePassivation>>();
+        }
+        ArrayList<HostTablePassivation> group = residents.get(passivationDef);
+        if (group == null) {
+          group = new ArrayList<HostTablePassivation>();
+          residents.put(passivationDef, group);
+        }
+        group.add(passivation);
+      }
+    }
+    if (residents != null) {
+      for (Map.Entry<PassivationDef, ArrayList<HostTablePassivation>> entry : residents.entrySet()) {
+        final ArrayList<HostTablePassivation> group = entry.getValue();
+        int excess = group.size() - entry.getKey().maxResident();
+        if (excess > 0) {
+          // Passivate the least recently accessed idle nodes first.
+          Collections.sort(group);
+          for (int i = 0, n = group.size(); excess > 0 && i < n; i += 1) {
+            final HostTablePassivation passivation = group.get(i);
+            if (passivateNode(passivation.node.nodeUri(), passivation)) {
+              excess -= 1;
+            }
+          }
+        }
+      }
+    }
+    final TimerRef passivationTimer = this.passivationTimer;
+    if (passivationTimer != null && !this.passivations.isEmpty()) {
+      passivationTimer.reschedule(interval);
+    }
+  }
+
+  boolean passivateNode(Uri nodeUri, HostTablePassivation passivation) {
+    final NodeBinding nodeBinding = passivation.node;
+    if (!isPassivatable(nodeBinding)) {
+      return false;
+    }
+    final HostTableNodeCreation creation = new HostTableNodeCreation();
+    if (this.nodeCreations.putIfAbsent(nodeUri, creation) != null) {
+      return false;
+    }
+    final HostTableNodeCreation outerCreation = NODE_CREATION.get();
+    NODE_CREATION.set(creation);
+    try {
+      if (this.nodeIndex.get(nodeUri) != nodeBinding) {
+        // The node was closed, or never published.
+        this.passivations.remove(nodeUri, passivation);
+        return false;
+      }
+      if (!passivation.close()) {
+        // Links or commands are being routed to the node.
+        return false;
+      }
+      if (!isPassivatable(nodeBinding) || !this.nodeIndex.remove(nodeUri, nodeBinding)) {
+        passivation.reopen();
+        return false;
+      }
+      didUpdateNodes();
+      this.passivations.remove(nodeUri, passivation);
+      // Lane state is written through to the node's store, so closing the
+      // node is enough to release its lanes until it's next opened.
+      nodeBinding.close();
+      nodeBinding.didClose();
+      didCloseNode(nodeBinding);
+      return true;
+    } finally {
+      NODE_CREATION.set(outerCreation);
+      this.nodeCreations.remove(nodeUri, creation);
+      creation.bind(null);
+    }
+  }
+
   protected void didOpenNode(NodeBinding node) {
     final DemandMapLane<Uri, NodeInfo> metaNodes = this.metaNodes;
     if (metaNodes != null) {
@@ -553,7 +846,7 @@ public class HostTable extends AbstractTierBinding implements HostBinding {
       metaNodes.cue(nodeUri);
       cueAncestorNodes(nodeUri);
     }
-    NODE_OPEN_DELTA.incrementAndGet(this);
+    this.nodeOpenDelta.increment();
     flushMetrics();
   }
 
@@ -564,7 +857,7 @@ public class HostTable extends AbstractTierBinding implements HostBinding {
       metaNodes.remove(nodeUri);
       cueAncestorNodes(nodeUri);
     }
-    NODE_CLOSE_DELTA.incrementAndGet(this);
+    this.nodeCloseDelta.increment();
     flushMetrics();
   }
 
@@ -636,23 +929,12 @@ public class HostTable extends AbstractTierBinding implements HostBinding {
 
   @Override
   public void openUplink(LinkBinding link) {
-    final NodeBinding nodeBinding = openNode(link.nodeUri());
-    if (nodeBinding != null) {
-      nodeBinding.openUplink(link);
-    } else {
-      UplinkError.rejectNodeNotFound(link);
-    }
+    routeNode(link.nodeUri(), new HostTableOpenUplink(link));
   }
 
   @Override
   public void pushUp(Push<?> push) {
-    final Uri nodeUri = push.nodeUri();
-    final NodeBinding nodeBinding = openNode(nodeUri);
-    if (nodeBinding != null) {
-      nodeBinding.pushUp(push);
-    } else {
-      push.trap(new HostException("unknown node: " + nodeUri));
-    }
+    routeNode(push.nodeUri(), new HostTablePushUp(push));
   }
 
   @Override
@@ -712,7 +994,7 @@ public class HostTable extends AbstractTierBinding implements HostBinding {
   @Override
   protected void willOpen() {
     super.willOpen();
-    final Iterator<NodeBinding> nodesIterator = this.nodes.valueIterator();
+    final Iterator<NodeBinding> nodesIterator = this.nodeIndex.values().iterator();
     while (nodesIterator.hasNext()) {
       nodesIterator.next().open();
     }
@@ -721,7 +1003,7 @@ public class HostTable extends AbstractTierBinding implements HostBinding {
   @Override
   protected void willLoad() {
     super.willLoad();
-    final Iterator<NodeBinding> nodesIterator = this.nodes.valueIterator();
+    final Iterator<NodeBinding> nodesIterator = this.nodeIndex.values().iterator();
     while (nodesIterator.hasNext()) {
       nodesIterator.next().load();
     }
@@ -730,16 +1012,24 @@ public class HostTable extends AbstractTierBinding implements HostBinding {
   @Override
   protected void willStart() {
     super.willStart();
-    final Iterator<NodeBinding> nodesIterator = this.nodes.valueIterator();
+    final Iterator<NodeBinding> nodesIterator = this.nodeIndex.values().iterator();
     while (nodesIterator.hasNext()) {
       nodesIterator.next().start();
     }
+    final TimerRef passivationTimer = this.passivationTimer;
+    if (passivationTimer != null && !this.passivations.isEmpty()) {
+      passivationTimer.reschedule(PASSIVATION_INTERVAL);
+    }
   }
 
   @Override
   protected void willStop() {
     super.willStop();
-    final Iterator<NodeBinding> nodesIterator = this.nodes.valueIterator();
+    final TimerRef passivationTimer = this.passivationTimer;
+    if (passivationTimer != null) {
+      passivationTimer.cancel();
+    }
+    final Iterator<NodeBinding> nodesIterator = this.nodeIndex.values().iterator();
     while (nodesIterator.hasNext()) {
       nodesIterator.next().stop();
     }
@@ -748,7 +1038,7 @@ public class HostTable extends AbstractTierBinding implements HostBinding {
   @Override
   protected void willUnload() {
     super.willUnload();
-    final Iterator<NodeBinding> nodesIterator = this.nodes.valueIterator();
+    final Iterator<NodeBinding> nodesIterator = this.nodeIndex.values().iterator();
     while (nodesIterator.hasNext()) {
       nodesIterator.next().unload();
     }
@@ -757,7 +1047,11 @@ public class HostTable extends AbstractTierBinding implements HostBinding {
   @Override
   protected void willClose() {
     super.willClose();
-    final Iterator<NodeBinding> nodesIterator = this.nodes.valueIterator();
+    final TimerRef passivationTimer = this.passivationTimer;
+    if (passivationTimer != null) {
+      passivationTimer.cancel();
+    }
+    final Iterator<NodeBinding> nodesIterator = this.nodeIndex.values().iterator();
     while (nodesIterator.hasNext()) {
       nodesIterator.next().close();
     }
@@ -802,33 +1096,33 @@ public class HostTable extends AbstractTierBinding implements HostBinding {
   }
 
   protected void accumulateNodeProfile(NodeProfile profile) {
-    AGENT_OPEN_DELTA.addAndGet(this, profile.agentOpenDelta());
-    AGENT_CLOSE_DELTA.addAndGet(this, profile.agentCloseDelta());
-    AGENT_EXEC_DELTA.addAndGet(this, profile.agentExecDelta());
+    this.agentOpenDelta.add(profile.agentOpenDelta());
+    this.agentCloseDelta.add(profile.agentCloseDelta());
+    this.agentExecDelta.add(profile.agentExecDelta());
     AGENT_EXEC_RATE.addAndGet(this, profile.agentExecRate());
-    TIMER_EVENT_DELTA.addAndGet(this, profile.timerEventDelta());
+    this.timerEventDelta.add(profile.timerEventDelta());
     TIMER_EVENT_RATE.addAndGet(this, profile.timerEventRate());
-    DOWNLINK_OPEN_DELTA.addAndGet(this, profile.downlinkOpenDelta());
-    DOWNLINK_CLOSE_DELTA.addAndGet(this, profile.downlinkCloseDelta());
-    DOWNLINK_EVENT_DELTA.addAndGet(this, profile.downlinkEventDelta());
+    this.downlinkOpenDelta.add(profile.downlinkOpenDelta());
+    this.downlinkCloseDelta.add(profile.downlinkCloseDelta());
+    this.downlinkEventDelta.add(profile.downlinkEventDelta());
     DOWNLINK_EVENT_RATE.addAndGet(this, profile.downlinkEventRate());
-    DOWNLINK_COMMAND_DELTA.addAndGet(this, profile.downlinkCommandDelta());
+    this.downlinkCommandDelta.add(profile.downlinkCommandDelta());
     DOWNLINK_COMMAND_RATE.addAndGet(this, profile.downlinkCommandRate());
-    UPLINK_OPEN_DELTA.addAndGet(this, profile.uplinkOpenDelta());
-    UPLINK_CLOSE_DELTA.addAndGet(this, profile.uplinkCloseDelta());
-    UPLINK_EVENT_DELTA.addAndGet(this, profile.uplinkEventDelta());
+    this.uplinkOpenDelta.add(profile.uplinkOpenDelta());
+    this.uplinkCloseDelta.add(profile.uplinkCloseDelta());
+    this.uplinkEventDelta.add(profile.uplinkEventDelta());
     UPLINK_EVENT_RATE.addAndGet(this, profile.uplinkEventRate());
-    UPLINK_COMMAND_DELTA.addAndGet(this, profile.uplinkCommandDelta());
+    this.uplinkCommandDelta.add(profile.uplinkCommandDelta());
     UPLINK_COMMAND_RATE.addAndGet(this, profile.uplinkCommandRate());
     didUpdateMetrics();
   }
 
   protected void accumulateWarpDownlinkProfile(WarpDownlinkProfile profile) {
-    DOWNLINK_OPEN_DELTA.addAndGet(this, profile.openDelta());
-    DOWNLINK_CLOSE_DELTA.addAndGet(this, profile.closeDelta());
-    DOWNLINK_EVENT_DELTA.addAndGet(this, profile.eventDelta());
+    this.downlinkOpenDelta.add(profile.openDelta());
+    this.downlinkCloseDelta.add(profile.closeDelta());
+    this.downlinkEventDelta.add(profile.eventDelta());
     DOWNLINK_EVENT_RATE.addAndGet(this, profile.eventRate());
-    DOWNLINK_COMMAND_DELTA.addAndGet(this, profile.commandDelta());
+    this.downlinkCommandDelta.add(profile.commandDelta());
     DOWNLINK_COMMAND_RATE.addAndGet(this, profile.commandRate());
     didUpdateMetrics();
   }
@@ -878,42 +1172,42 @@ public class HostTable extends AbstractTierBinding implements HostBinding {
   }
 
   protected HostProfile collectProfile(long dt) {
-    final int nodeOpenDelta = NODE_OPEN_DELTA.getAndSet(this, 0);
+    final int nodeOpenDelta = (int) this.nodeOpenDelta.sumThenReset();
     final long nodeOpenCount = NODE_OPEN_COUNT.addAndGet(this, (long) nodeOpenDelta);
-    final int nodeCloseDelta = NODE_CLOSE_DELTA.getAndSet(this, 0);
+    final int nodeCloseDelta = (int) this.nodeCloseDelta.sumThenReset();
     final long nodeCloseCount = NODE_CLOSE_COUNT.addAndGet(this, (long) nodeCloseDelta);
 
-    final int agentOpenDelta = AGENT_OPEN_DELTA.getAndSet(this, 0);
+    final int agentOpenDelta = (int) this.agentOpenDelta.sumThenReset();
     final long agentOpenCount = AGENT_OPEN_COUNT.addAndGet(this, (long) agentOpenDelta);
-    final int agentCloseDelta = AGENT_CLOSE_DELTA.getAndSet(this, 0);
+    final int agentCloseDelta = (int) this.agentCloseDelta.sumThenReset();
     final long agentCloseCount = AGENT_CLOSE_COUNT.addAndGet(this, (long) agentCloseDelta);
-    final long agentExecDelta = AGENT_EXEC_DELTA.getAndSet(this, 0L);
+    final long agentExecDelta = this.agentExecDelta.sumThenReset();
     final long agentExecRate = AGENT_EXEC_RATE.getAndSet(this, 0L);
     final long agentExecTime = AGENT_EXEC_TIME.addAndGet(this, agentExecDelta);
 
-    final int timerEventDelta = TIMER_EVENT_DELTA.getAndSet(this, 0);
+    final int timerEventDelta = (int) this.timerEventDelta.sumThenReset();
     final int timerEventRate = TIMER_EVENT_RATE.getAndSet(this, 0);
     final long timerEventCount = TIMER_EVENT_COUNT.addAndGet(this, (long) timerEventDelta);
 
-    final int downlinkOpenDelta = DOWNLINK_OPEN_DELTA.getAndSet(this, 0);
+    final int downlinkOpenDelta = (int) this.downlinkOpenDelta.sumThenReset();
     final long downlinkOpenCount = DOWNLINK_OPEN_COUNT.addAndGet(this, (long) downlinkOpenDelta);
-    final int downlinkCloseDelta = DOWNLINK_CLOSE_DELTA.getAndSet(this, 0);
+    final int downlinkCloseDelta = (int) this.downlinkCloseDelta.sumThenReset();
     final long downlinkCloseCount = DOWNLINK_CLOSE_COUNT.addAndGet(this, (long) downlinkCloseDelta);
-    final int downlinkEventDelta = DOWNLINK_EVENT_DELTA.getAndSet(this, 0);
+    final int downlinkEventDelta = (int) this.downlinkEventDelta.sumThenReset();
     final int downlinkEventRate = DOWNLINK_EVENT_RATE.getAndSet(this, 0);
     final long downlinkEventCount = DOWNLINK_EVENT_COUNT.addAndGet(this, (long) downlinkEventDelta);
-    final int downlinkCommandDelta = DOWNLINK_COMMAND_DELTA.getAndSet(this, 0);
+    final int downlinkCommandDelta = (int) this.downlinkCommandDelta.sumThenReset();
     final int downlinkCommandRate = DOWNLINK_COMMAND_RATE.getAndSet(this, 0);
     final long downlinkCommandCount = DOWNLINK_COMMAND_COUNT.addAndGet(this, (long) downlinkCommandDelta);
 
-    final int uplinkOpenDelta = UPLINK_OPEN_DELTA.getAndSet(this, 0);
+    final int uplinkOpenDelta = (int) this.uplinkOpenDelta.sumThenReset();
     final long uplinkOpenCount = UPLINK_OPEN_COUNT.addAndGet(this, (long) uplinkOpenDelta);
-    final int uplinkCloseDelta = UPLINK_CLOSE_DELTA.getAndSet(this, 0);
+    final int uplinkCloseDelta = (int) this.uplinkCloseDelta.sumThenReset();
     final long uplinkCloseCount = UPLINK_CLOSE_COUNT.addAndGet(this, (long) uplinkCloseDelta);
-    final int uplinkEventDelta = UPLINK_EVENT_DELTA.getAndSet(this, 0);
+    final int uplinkEventDelta = (int) this.uplinkEventDelta.sumThenReset();
     final int uplinkEventRate = UPLINK_EVENT_RATE.getAndSet(this, 0);
     final long uplinkEventCount = UPLINK_EVENT_COUNT.addAndGet(this, (long) uplinkEventDelta);
-    final int uplinkCommandDelta = UPLINK_COMMAND_DELTA.getAndSet(this, 0);
+    final int uplinkCommandDelta = (int) this.uplinkCommandDelta.sumThenReset();
     final int uplinkCommandRate = UPLINK_COMMAND_RATE.getAndSet(this, 0);
     final long uplinkCommandCount = UPLINK_COMMAND_COUNT.addAndGet(this, (long) uplinkCommandDelta);
 
@@ -1090,3 +1384,207 @@ final class HostTablePulseController implements OnCue<HostPulse> {
   }
 
 }
+
+final class HostTableNodeCreation extends Sync<NodeBinding> {
+
+  final Thread thread;
+  NodeBinding nodeBinding;
+  ArrayList<Cont<NodeBinding>> observers;
+
+  HostTableNodeCreation() {
+    this.thread = Thread.currentThread();
+  }
+
+  /**
+   * Binds {@code observer} to the created node once this creation completes,
+   * or immediately, if it has already completed.
+   */
+  void observe(Cont<NodeBinding> observer) {
+    synchronized (this) {
+      if (!isReleasable()) {
+        if (this.observers == null) {
+          this.observers = new ArrayList<Cont<NodeBinding>>();
+        }
+        this.observers.add(observer);
+        return;
+      }
+    }
+    observer.bind(this.nodeBinding);
+  }
+
+  @Override
+  public void bind(NodeBinding nodeBinding) {
+    final ArrayList<Cont<NodeBinding>> observers;
+    synchronized (this) {
+      this.nodeBinding = nodeBinding;
+      super.bind(nodeBinding);
+      observers = this.observers;
+      this.observers = null;
+    }
+    if (observers != null) {
+      for (int i = 0, n = observers.size(); i < n; i += 1) {
+        final Cont<NodeBinding> observer = observers.get(i);
+        try {
+          observer.bind(nodeBinding);
+        } catch (Throwable error) {
+          if (Conts.isNonFatal(error)) {
+            observer.trap(error);
+          } else {
+            throw error;
+          }
+        }
+      }
+    }
+  }
+
+}
+
+/**
+ * Resumes routing to a node once an in-flight creation or passivation of
+ * the node completes.  A creation hands over the node it created; after a
+ * passivation, or a creation that didn't start its node, the node gets
+ * routed again, which reactivates it if it still exists.
+ */
+final class HostTableRouteNode implements Cont<NodeBinding> {
+
+  final HostTable host;
+  final Uri nodeUri;
+  final Cont<NodeBinding> cont;
+
+  HostTableRouteNode(HostTable host, Uri nodeUri, Cont<NodeBinding> cont) {
+    this.host = host;
+    this.nodeUri = nodeUri;
+    this.cont = cont;
+  }
+
+  @Override
+  public void bind(NodeBinding nodeBinding) {
+    if (nodeBinding != null && nodeBinding.isStarted()) {
+      this.host.bindNode(this.nodeUri, nodeBinding, this.cont);
+    } else {
+      this.host.routeNode(this.nodeUri, this.cont);
+    }
+  }
+
+  @Override
+  public void trap(Throwable error) {
+    this.cont.trap(error);
+  }
+
+}
+
+final class HostTableOpenUplink implements Cont<NodeBinding> {
+
+  final LinkBinding link;
+
+  HostTableOpenUplink(LinkBinding link) {
+    this.link = link;
+  }
+
+  @Override
+  public void bind(NodeBinding nodeBinding) {
+    if (nodeBinding != null) {
+      nodeBinding.openUplink(this.link);
+    } else {
+      UplinkError.rejectNodeNotFound(this.link);
+    }
+  }
+
+  @Override
+  public void trap(Throwable error) {
+    this.link.didFail(error);
+  }
+
+}
+
+final class HostTablePushUp implements Cont<NodeBinding> {
+
+  final Push<?> push;
+
+  HostTablePushUp(Push<?> push) {
+    this.push = push;
+  }
+
+  @Override
+  public void bind(NodeBinding nodeBinding) {
+    if (nodeBinding != null) {
+      nodeBinding.pushUp(this.push);
+    } else {
+      this.push.trap(new HostException("unknown node: " + this.push.nodeUri()));
+    }
+  }
+
+  @Override
+  public void trap(Throwable error) {
+    this.push.trap(error);
+  }
+
+}
+
+final class HostTablePassivation implements Comparable<HostTablePassivation> {
+
+  static final AtomicIntegerFieldUpdater<HostTablePassivation> ROUTES =
+      AtomicIntegerFieldUpdater.newUpdater(HostTablePassivation.class, "routes");
+
+  final NodeBinding node;
+  final PassivationDef passivationDef;
+  volatile long lastAccessTime;
+  long accessTime;
+  /**
+   * Number of links and commands currently being routed to the node, or
+   * {@code -1} if the node is being passivated.
+   */
+  volatile int routes;
+
+  HostTablePassivation(NodeBinding node, PassivationDef passivationDef) {
+    this.node = node;
+    this.passivationDef = passivationDef;
+    this.lastAccessTime = System.currentTimeMillis();
+  }
+
+  boolean enter() {
+    do {
+      final int oldRoutes = this.routes;
+      if (oldRoutes < 0) {
+        return false;
+      } else if (ROUTES.compareAndSet(this, oldRoutes, oldRoutes + 1)) {
+        return true;
+      }
+    } while (true);
+  }
+
+  void exit() {
+    ROUTES.decrementAndGet(this);
+  }
+
+  boolean close() {
+    return ROUTES.compareAndSet(this, 0, -1);
+  }
+
+  void reopen() {
+    ROUTES.set(this, 0);
+  }
+
+  @Override
+  public int compareTo(HostTablePassivation that) {
+    // Orders by the access time sampled at the start of a passivation sweep,
+    // which stays stable while concurrent accesses update lastAccessTime.
+    return Long.compare(this.accessTime, that.accessTime);
+  }
+
+}
+
+final class HostTablePassivationTimer implements TimerFunction {
+
+  final HostTable host;
+
+  HostTablePassivationTimer(HostTable host) {
+    this.host = host;
+  }
+
+  @Override
+  public void runTimer() {
+    this.host.passivateNodes();
+  }
+
+}
@@ -31,6 +31,7 @@ import swim.collections.FingerTrieSeq;
 import swim.concurrent.Conts;
 import swim.concurrent.Schedule;
 import swim.concurrent.Stage;
+import swim.concurrent.StripedCounter;
 import swim.runtime.AbstractTierBinding;
 import swim.runtime.EdgeBinding;
 import swim.runtime.HostBinding;
@@ -71,86 +72,50 @@ public class MeshTable extends AbstractTierBinding implements MeshBinding {
   @SuppressWarnings("unchecked")
   static final AtomicReferenceFieldUpdater<MeshTable, FingerTrieSeq<PartBinding>> PARTS =
       AtomicReferenceFieldUpdater.newUpdater(MeshTable.class, (Class<FingerTrieSeq<PartBinding>>) (Class<?>) FingerTrieSeq.class, "parts");
-  static final AtomicIntegerFieldUpdater<MeshTable> PART_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "partOpenDelta");
   static final AtomicLongFieldUpdater<MeshTable> PART_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "partOpenCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> PART_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "partCloseDelta");
   static final AtomicLongFieldUpdater<MeshTable> PART_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "partCloseCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> HOST_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "hostOpenDelta");
   static final AtomicLongFieldUpdater<MeshTable> HOST_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "hostOpenCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> HOST_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "hostCloseDelta");
   static final AtomicLongFieldUpdater<MeshTable> HOST_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "hostCloseCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> NODE_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "nodeOpenDelta");
   static final AtomicLongFieldUpdater<MeshTable> NODE_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "nodeOpenCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> NODE_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "nodeCloseDelta");
   static final AtomicLongFieldUpdater<MeshTable> NODE_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "nodeCloseCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> AGENT_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "agentOpenDelta");
   static final AtomicLongFieldUpdater<MeshTable> AGENT_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "agentOpenCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> AGENT_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "agentCloseDelta");
   static final AtomicLongFieldUpdater<MeshTable> AGENT_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "agentCloseCount");
-  static final AtomicLongFieldUpdater<MeshTable> AGENT_EXEC_DELTA =
-      AtomicLongFieldUpdater.newUpdater(MeshTable.class, "agentExecDelta");
   static final AtomicLongFieldUpdater<MeshTable> AGENT_EXEC_RATE =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "agentExecRate");
   static final AtomicLongFieldUpdater<MeshTable> AGENT_EXEC_TIME =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "agentExecTime");
-  static final AtomicIntegerFieldUpdater<MeshTable> TIMER_EVENT_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "timerEventDelta");
   static final AtomicIntegerFieldUpdater<MeshTable> TIMER_EVENT_RATE =
       AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "timerEventRate");
   static final AtomicLongFieldUpdater<MeshTable> TIMER_EVENT_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "timerEventCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> DOWNLINK_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "downlinkOpenDelta");
   static final AtomicLongFieldUpdater<MeshTable> DOWNLINK_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "downlinkOpenCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> DOWNLINK_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "downlinkCloseDelta");
   static final AtomicLongFieldUpdater<MeshTable> DOWNLINK_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "downlinkCloseCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> DOWNLINK_EVENT_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "downlinkEventDelta");
   static final AtomicIntegerFieldUpdater<MeshTable> DOWNLINK_EVENT_RATE =
       AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "downlinkEventRate");
   static final AtomicLongFieldUpdater<MeshTable> DOWNLINK_EVENT_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "downlinkEventCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> DOWNLINK_COMMAND_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "downlinkCommandDelta");
   static final AtomicIntegerFieldUpdater<MeshTable> DOWNLINK_COMMAND_RATE =
       AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "downlinkCommandRate");
   static final AtomicLongFieldUpdater<MeshTable> DOWNLINK_COMMAND_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "downlinkCommandCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> UPLINK_OPEN_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "uplinkOpenDelta");
   static final AtomicLongFieldUpdater<MeshTable> UPLINK_OPEN_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "uplinkOpenCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> UPLINK_CLOSE_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "uplinkCloseDelta");
   static final AtomicLongFieldUpdater<MeshTable> UPLINK_CLOSE_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "uplinkCloseCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> UPLINK_EVENT_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "uplinkEventDelta");
   static final AtomicIntegerFieldUpdater<MeshTable> UPLINK_EVENT_RATE =
       AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "uplinkEventRate");
   static final AtomicLongFieldUpdater<MeshTable> UPLINK_EVENT_COUNT =
       AtomicLongFieldUpdater.newUpdater(MeshTable.class, "uplinkEventCount");
-  static final AtomicIntegerFieldUpdater<MeshTable> UPLINK_COMMAND_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "uplinkCommandDelta");
   static final AtomicIntegerFieldUpdater<MeshTable> UPLINK_COMMAND_RATE =
       AtomicIntegerFieldUpdater.newUpdater(MeshTable.class, "uplinkCommandRate");
   static final AtomicLongFieldUpdater<MeshTable> UPLINK_COMMAND_COUNT =
@@ -161,46 +126,46 @@ public class MeshTable extends AbstractTierBinding implements MeshBinding {
   volatile FingerTrieSeq<PartBinding> parts;
   volatile PartBinding gateway;
   volatile PartBinding ourself;
-  volatile int partOpenDelta;
+  final StripedCounter partOpenDelta = new StripedCounter();
   volatile long partOpenCount;
-  volatile int partCloseDelta;
+  final StripedCounter partCloseDelta = new StripedCounter();
   volatile long partCloseCount;
-  volatile int hostOpenDelta;
+  final StripedCounter hostOpenDelta = new StripedCounter();
   volatile long hostOpenCount;
-  volatile int hostCloseDelta;
+  final StripedCounter hostCloseDelta = new StripedCounter();
   volatile long hostCloseCount;
-  volatile int nodeOpenDelta;
+  final StripedCounter nodeOpenDelta = new StripedCounter();
   volatile long nodeOpenCount;
-  volatile int nodeCloseDelta;
+  final StripedCounter nodeCloseDelta = new StripedCounter();
   volatile long nodeCloseCount;
-  volatile int agentOpenDelta;
+  final StripedCounter agentOpenDelta = new StripedCounter();
   volatile long agentOpenCount;
-  volatile int agentCloseDelta;
+  final StripedCounter agentCloseDelta = new StripedCounter();
   volatile long agentCloseCount;
-  volatile long agentExecDelta;
+  final StripedCounter agentExecDelta = new StripedCounter();
   volatile long agentExecRate;
   volatile long agentExecTime;
-  volatile int timerEventDelta;
+  final StripedCounter timerEventDelta = new StripedCounter();
   volatile int timerEventRate;
   volatile long timerEventCount;
-  volatile int downlinkOpenDelta;
+  final StripedCounter downlinkOpenDelta = new StripedCounter();
   volatile long downlinkOpenCount;
-  volatile int downlinkCloseDelta;
+  final StripedCounter downlinkCloseDelta = new StripedCounter();
   volatile long downlinkCloseCount;
-  volatile int downlinkEventDelta;
+  final StripedCounter downlinkEventDelta = new StripedCounter();
   volatile int downlinkEventRate;
   volatile long downlinkEventCount;
-  volatile int downlinkCommandDelta;
+  final StripedCounter downlinkCommandDelta = new StripedCounter();
   volatile int downlinkCommandRate;
   volatile long downlinkCommandCount;
-  volatile int uplinkOpenDelta;
+  final StripedCounter uplinkOpenDelta = new StripedCounter();
   volatile long uplinkOpenCount;
-  volatile int uplinkCloseDelta;
+  final StripedCounter uplinkCloseDelta = new StripedCounter();
   volatile long uplinkCloseCount;
-  volatile int uplinkEventDelta;
+  final StripedCounter uplinkEventDelta = new StripedCounter();
   volatile int uplinkEventRate;
   volatile long uplinkEventCount;
-  volatile int uplinkCommandDelta;
+  final StripedCounter uplinkCommandDelta = new StripedCounter();
   volatile int uplinkCommandRate;
   volatile long uplinkCommandCount;
   volatile long lastReportTime;
@@ -571,7 +536,7 @@ public class MeshTable extends AbstractTierBinding implements MeshBinding {
     if (metaParts != null) {
       metaParts.cue(part.partKey());
     }
-    PART_OPEN_DELTA.incrementAndGet(this);
+    this.partOpenDelta.increment();
     flushMetrics();
   }
 
@@ -580,7 +545,7 @@ public class MeshTable extends AbstractTierBinding implements MeshBinding {
     if (metaParts != null) {
       metaParts.remove(part.partKey());
     }
-    PART_CLOSE_DELTA.incrementAndGet(this);
+    this.partCloseDelta.increment();
     flushMetrics();
   }
 
@@ -804,37 +769,37 @@ public class MeshTable extends AbstractTierBinding implements MeshBinding {
   }
 
   protected void accumulatePartProfile(PartProfile profile) {
-    HOST_OPEN_DELTA.addAndGet(this, profile.hostOpenDelta());
-    HOST_CLOSE_DELTA.addAndGet(this, profile.hostCloseDelta());
-    NODE_OPEN_DELTA.addAndGet(this, profile.nodeOpenDelta());
-    NODE_CLOSE_DELTA.addAndGet(this, profile.nodeCloseDelta());
-    AGENT_OPEN_DELTA.addAndGet(this, profile.agentOpenDelta());
-    AGENT_CLOSE_DELTA.addAndGet(this, profile.agentCloseDelta());
-    AGENT_EXEC_DELTA.addAndGet(this, profile.agentExecDelta());
+    this.hostOpenDelta.add(profile.hostOpenDelta());
+    this.hostCloseDelta.add(profile.hostCloseDelta());
+    this.nodeOpenDelta.add(profile.nodeOpenDelta());
+    this.nodeCloseDelta.add(profile.nodeCloseDelta());
+    this.agentOpenDelta.add(profile.agentOpenDelta());
+    this.agentCloseDelta.add(profile.agentCloseDelta());
+    this.agentExecDelta.add(profile.agentExecDelta());
     AGENT_EXEC_RATE.addAndGet(this, profile.agentExecRate());
-    TIMER_EVENT_DELTA.addAndGet(this, profile.timerEventDelta());
+    this.timerEventDelta.add(profile.timerEventDelta());
     TIMER_EVENT_RATE.addAndGet(this, profile.timerEventRate());
-    DOWNLINK_OPEN_DELTA.addAndGet(this, profile.downlinkOpenDelta());
-    DOWNLINK_CLOSE_DELTA.addAndGet(this, profile.downlinkCloseDelta());
-    DOWNLINK_EVENT_DELTA.addAndGet(this, profile.downlinkEventDelta());
+    this.downlinkOpenDelta.add(profile.downlinkOpenDelta());
+    this.downlinkCloseDelta.add(profile.downlinkCloseDelta());
+    this.downlinkEventDelta.add(profile.downlinkEventDelta());
     DOWNLINK_EVENT_RATE.addAndGet(this, profile.downlinkEventRate());
-    DOWNLINK_COMMAND_DELTA.addAndGet(this, profile.downlinkCommandDelta());
+    this.downlinkCommandDelta.add(profile.downlinkCommandDelta());
     DOWNLINK_COMMAND_RATE.addAndGet(this, profile.downlinkCommandRate());
-    UPLINK_OPEN_DELTA.addAndGet(this, profile.uplinkOpenDelta());
-    UPLINK_CLOSE_DELTA.addAndGet(this, profile.uplinkCloseDelta());
-    UPLINK_EVENT_DELTA.addAndGet(this, profile.uplinkEventDelta());
+    this.uplinkOpenDelta.add(profile.uplinkOpenDelta());
+    this.uplinkCloseDelta.add(profile.uplinkCloseDelta());
+    this.uplinkEventDelta.add(profile.uplinkEventDelta());
     UPLINK_EVENT_RATE.addAndGet(this, profile.uplinkEventRate());
-    UPLINK_COMMAND_DELTA.addAndGet(this, profile.uplinkCommandDelta());
+    this.uplinkCommandDelta.add(profile.uplinkCommandDelta());
     UPLINK_COMMAND_RATE.addAndGet(this, profile.uplinkCommandRate());
     didUpdateMetrics();
   }
 
   protected void accumulateWarpDownlinkProfile(WarpDownlinkProfile profile) {
-    DOWNLINK_OPEN_DELTA.addAndGet(this, profile.openDelta());
-    DOWNLINK_CLOSE_DELTA.addAndGet(this, profile.closeDelta());
-    DOWNLINK_EVENT_DELTA.addAndGet(this, profile.eventDelta());
+    this.downlinkOpenDelta.add(profile.openDelta());
+    this.downlinkCloseDelta.add(profile.closeDelta());
+    this.downlinkEventDelta.add(profile.eventDelta());
     DOWNLINK_EVENT_RATE.addAndGet(this, profile.eventRate());
-    DOWNLINK_COMMAND_DELTA.addAndGet(this, profile.commandDelta());
+    this.downlinkCommandDelta.add(profile.commandDelta());
     DOWNLINK_COMMAND_RATE.addAndGet(this, profile.commandRate());
     didUpdateMetrics();
   }
@@ -884,52 +849,52 @@ public class MeshTable extends AbstractTierBinding implements MeshBinding {
   }
 
   protected MeshProfile collectProfile(long dt) {
-    final int partOpenDelta = PART_OPEN_DELTA.getAndSet(this, 0);
+    final int partOpenDelta = (int) this.partOpenDelta.sumThenReset();
     final long partOpenCount = PART_OPEN_COUNT.addAndGet(this, (long) partOpenDelta);
-    final int partCloseDelta = PART_CLOSE_DELTA.getAndSet(this, 0);
+    final int partCloseDelta = (int) this.partCloseDelta.sumThenReset();
     final long partCloseCount = PART_CLOSE_COUNT.addAndGet(this, (long) partCloseDelta);
 
-    final int hostOpenDelta = HOST_OPEN_DELTA.getAndSet(this, 0);
+    final int hostOpenDelta = (int) this.hostOpenDelta.sumThenReset();
     final long hostOpenCount = HOST_OPEN_COUNT.addAndGet(this, (long) hostOpenDelta);
-    final int hostCloseDelta = HOST_CLOSE_DELTA.getAndSet(this, 0);
+    final int hostCloseDelta = (int) this.hostCloseDelta.sumThenReset();
     final long hostCloseCount = HOST_CLOSE_COUNT.addAndGet(this, (long) hostCloseDelta);
 
-    final int nodeOpenDelta = NODE_OPEN_DELTA.getAndSet(this, 0);
+    final int nodeOpenDelta = (int) this.nodeOpenDelta.sumThenReset();
     final long nodeOpenCount = NODE_OPEN_COUNT.addAndGet(this, (long) nodeOpenDelta);
-    final int nodeCloseDelta = NODE_CLOSE_DELTA.getAndSet(this, 0);
+    final int nodeCloseDelta = (int) this.nodeCloseDelta.sumThenReset();
     final long nodeCloseCount = NODE_CLOSE_COUNT.addAndGet(this, (long) nodeCloseDelta);
 
-    final int agentOpenDelta = AGENT_OPEN_DELTA.getAndSet(this, 0);
+    final int agentOpenDelta = (int) this.agentOpenDelta.sumThenReset();
     final long agentOpenCount = AGENT_OPEN_COUNT.addAndGet(this, (long) agentOpenDelta);
-    final int agentCloseDelta = AGENT_CLOSE_DELTA.getAndSet(this, 0);
+    final int agentCloseDelta = (int) this.agentCloseDelta.sumThenReset();
     final long agentCloseCount = AGENT_CLOSE_COUNT.addAndGet(this, (long) agentCloseDelta);
-    final long agentExecDelta = AGENT_EXEC_DELTA.getAndSet(this, 0L);
+    final long agentExecDelta = this.agentExecDelta.sumThenReset();
     final long agentExecRate = AGENT_EXEC_RATE.getAndSet(this, 0L);
     final long agentExecTime = AGENT_EXEC_TIME.addAndGet(this, agentExecDelta);
 
-    final int timerEventDelta = TIMER_EVENT_DELTA.getAndSet(this, 0);
+    final int timerEventDelta = (int) this.timerEventDelta.sumThenReset();
     final int timerEventRate = TIMER_EVENT_RATE.getAndSet(this, 0);
     final long timerEventCount = TIMER_EVENT_COUNT.addAndGet(this, (long) timerEventDelta);
 
-    final int downlinkOpenDelta = DOWNLINK_OPEN_DELTA.getAndSet(this, 0);
+    final int downlinkOpenDelta = (int) this.downlinkOpenDelta.sumThenReset();
     final long downlinkOpenCount = DOWNLINK_OPEN_COUNT.addAndGet(this, (long) downlinkOpenDelta);
-    final int downlinkCloseDelta = DOWNLINK_CLOSE_DELTA.getAndSet(this, 0);
+    final int downlinkCloseDelta = (int) this.downlinkCloseDelta.sumThenReset();
     final long downlinkCloseCount = DOWNLINK_CLOSE_COUNT.addAndGet(this, (long) downlinkCloseDelta);
-    final int downlinkEventDelta = DOWNLINK_EVENT_DELTA.getAndSet(this, 0);
+    final int downlinkEventDelta = (int) this.downlinkEventDelta.sumThenReset();
     final int downlinkEventRate = DOWNLINK_EVENT_RATE.getAndSet(this, 0);
     final long downlinkEventCount = DOWNLINK_EVENT_COUNT.addAndGet(this, (long) downlinkEventDelta);
-    final int downlinkCommandDelta = DOWNLINK_COMMAND_DELTA.getAndSet(this, 0);
+    final int downlinkCommandDelta = (int) this.downlinkCommandDelta.sumThenReset();
     final int downlinkCommandRate = DOWNLINK_COMMAND_RATE.getAndSet(this, 0);
     final long downlinkCommandCount = DOWNLINK_COMMAND_COUNT.addAndGet(this, (long) downlinkCommandDelta);
 
-    final int uplinkOpenDelta = UPLINK_OPEN_DELTA.getAndSet(this, 0);
+    final int uplinkOpenDelta = (int) this.uplinkOpenDelta.sumThenReset();
     final long uplinkOpenCount = UPLINK_OPEN_COUNT.addAndGet(this, (long) uplinkOpenDelta);
-    final int uplinkCloseDelta = UPLINK_CLOSE_DELTA.getAndSet(this, 0);
+    final int uplinkCloseDelta = (int) this.uplinkCloseDelta.sumThenReset();
     final long uplinkCloseCount = UPLINK_CLOSE_COUNT.addAndGet(this, (long) uplinkCloseDelta);
-    final int uplinkEventDelta = UPLINK_EVENT_DELTA.getAndSet(this, 0);
+    final int uplinkEventDelta = (int) this.uplinkEventDelta.sumThenReset();
     final int uplinkEventRate = UPLINK_EVENT_RATE.getAndSet(this, 0);
     final long uplinkEventCount = UPLINK_EVENT_COUNT.addAndGet(this, (long) uplinkEventDelta);
-    final int uplinkCommandDelta = UPLINK_COMMAND_DELTA.getAndSet(this, 0);
+    final int uplinkCommandDelta = (int) this.uplinkCommandDelta.sumThenReset();
     final int uplinkCommandRate = UPLINK_COMMAND_RATE.getAndSet(this, 0);
     final long uplinkCommandCount = UPLINK_COMMAND_COUNT.addAndGet(this, (long) uplinkCommandDelta);
 
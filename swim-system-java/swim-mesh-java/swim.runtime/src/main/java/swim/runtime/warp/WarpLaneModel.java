@@ -16,6 +16,7 @@ package swim.runtime.warp;
 
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import swim.api.LaneException;
 import swim.api.auth.Identity;
 import swim.api.warp.WarpUplink;
@@ -33,6 +34,7 @@ import swim.runtime.profile.WarpLaneProfile;
 import swim.runtime.profile.WarpUplinkProfile;
 import swim.structure.Value;
 import swim.warp.CommandMessage;
+import swim.warp.EventCache;
 
 public abstract class WarpLaneModel<View extends WarpLaneView, U extends WarpUplinkModem> extends LaneModel<View, U> {
 
@@ -114,6 +116,10 @@ public abstract class WarpLaneModel<View extends WarpLaneView, U extends WarpUpl
   @SuppressWarnings("unchecked")
   static final AtomicLongFieldUpdater<WarpLaneModel<?, ?>> LAST_REPORT_TIME =
       AtomicLongFieldUpdater.newUpdater((Class<WarpLaneModel<?, ?>>) (Class<?>) WarpLaneModel.class, "lastReportTime");
+  @SuppressWarnings("unchecked")
+  static final AtomicReferenceFieldUpdater<WarpLaneModel<?, ?>, EventCache> EVENT_CACHE =
+      AtomicReferenceFieldUpdater.newUpdater((Class<WarpLaneModel<?, ?>>) (Class<?>) WarpLaneModel.class, EventCache.class, "eventCache");
+  static final int EVENT_CACHE_SIZE;
   volatile long execDelta;
   volatile long execTime;
   volatile int commandDelta;
@@ -140,6 +146,7 @@ public abstract class WarpLaneModel<View extends WarpLaneView, U extends WarpUpl
   volatile int uplinkCommandRate;
   volatile long uplinkCommandCount;
   volatile long lastReportTime;
+  volatile EventCache eventCache;
 
   @Override
   protected U createUplink(LinkBinding link) {
@@ -151,6 +158,19 @@ public abstract class WarpLaneModel<View extends WarpLaneView, U extends WarpUpl
 
   protected abstract U createWarpUplink(WarpBinding link);
 
+  public EventCache eventCache() {
+    EventCache eventCache = this.eventCache;
+    if (eventCache == null) {
+      final EventCache newEventCache = new EventCache(EVENT_CACHE_SIZE);
+      if (EVENT_CACHE.compareAndSet(this, null, newEventCache)) {
+        eventCache = newEventCache;
+      } else {
+        eventCache = this.eventCache;
+      }
+    }
+    return eventCache;
+  }
+
   @SuppressWarnings("unchecked")
   public void cueDown() {
     FingerTrieSeq<U> uplinks;
@@ -364,6 +384,16 @@ public abstract class WarpLaneModel<View extends WarpLaneView, U extends WarpUpl
         uplinkCommandDelta, uplinkCommandRate, uplinkCommandCount);
   }
 
+  static {
+    int eventCacheSize;
+    try {
+      eventCacheSize = Integer.parseInt(System.getProperty("swim.lane.event.cache.size"));
+    } catch (NumberFormatException e) {
+      eventCacheSize = 32;
+    }
+    EVENT_CACHE_SIZE = eventCacheSize;
+  }
+
 }
 
 final class WarpLaneRelayOnCommand<View extends WarpLaneView> extends LaneRelay<WarpLaneModel<View, ?>, View> {
@@ -29,6 +29,7 @@ import swim.api.warp.function.OnSyncedResponse;
 import swim.api.warp.function.OnUnlinkRequest;
 import swim.api.warp.function.OnUnlinkedResponse;
 import swim.concurrent.Conts;
+import swim.concurrent.StripedCounter;
 import swim.runtime.AbstractUplinkContext;
 import swim.runtime.LinkBinding;
 import swim.runtime.Metric;
@@ -62,12 +63,8 @@ public abstract class WarpUplinkModem extends AbstractUplinkContext implements W
   static final int PULLING_UP = 1 << 7;
   static final AtomicIntegerFieldUpdater<WarpUplinkModem> STATUS =
       AtomicIntegerFieldUpdater.newUpdater(WarpUplinkModem.class, "status");
-  static final AtomicIntegerFieldUpdater<WarpUplinkModem> EVENT_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(WarpUplinkModem.class, "eventDelta");
   static final AtomicLongFieldUpdater<WarpUplinkModem> EVENT_COUNT =
       AtomicLongFieldUpdater.newUpdater(WarpUplinkModem.class, "eventCount");
-  static final AtomicIntegerFieldUpdater<WarpUplinkModem> COMMAND_DELTA =
-      AtomicIntegerFieldUpdater.newUpdater(WarpUplinkModem.class, "commandDelta");
   static final AtomicLongFieldUpdater<WarpUplinkModem> COMMAND_TOTAL =
       AtomicLongFieldUpdater.newUpdater(WarpUplinkModem.class, "commandCount");
   static final AtomicLongFieldUpdater<WarpUplinkModem> LAST_REPORT_TIME =
@@ -75,9 +72,9 @@ public abstract class WarpUplinkModem extends AbstractUplinkContext implements W
   protected final WarpBinding linkBinding;
   protected final UplinkAddress uplinkAddress;
   protected volatile int status;
-  volatile int eventDelta;
+  final StripedCounter eventDelta = new StripedCounter();
   volatile long eventCount;
-  volatile int commandDelta;
+  final StripedCounter commandDelta = new StripedCounter();
   volatile long commandCount;
   volatile long lastReportTime;
 
@@ -587,10 +584,14 @@ public abstract class WarpUplinkModem extends AbstractUplinkContext implements W
     return null;
   }
 
+  protected EventMessage eventMessage(Value body) {
+    return new EventMessage(nodeUri(), laneUri(), body);
+  }
+
   protected EventMessage nextDownQueueEvent() {
     final Value body = nextDownQueue();
     if (body != null) {
-      return new EventMessage(nodeUri(), laneUri(), body);
+      return eventMessage(body);
     } else {
       return null;
     }
@@ -603,7 +604,7 @@ public abstract class WarpUplinkModem extends AbstractUplinkContext implements W
   protected EventMessage nextDownCueEvent() {
     final Value body = nextDownCue();
     if (body != null) {
-      return new EventMessage(nodeUri(), laneUri(), body);
+      return eventMessage(body);
     } else {
       return null;
     }
@@ -989,12 +990,12 @@ public abstract class WarpUplinkModem extends AbstractUplinkContext implements W
   }
 
   protected void onEvent(EventMessage message) {
-    EVENT_DELTA.incrementAndGet(this);
+    this.eventDelta.increment();
     didUpdateMetrics();
   }
 
   protected void onCommand(CommandMessage message) {
-    COMMAND_DELTA.incrementAndGet(this);
+    this.commandDelta.increment();
     didUpdateMetrics();
   }
 
@@ -1150,10 +1151,10 @@ public abstract class WarpUplinkModem extends AbstractUplinkContext implements W
   }
 
   protected WarpUplinkProfile collectProfile(long dt) {
-    final int eventDelta = EVENT_DELTA.getAndSet(this, 0);
+    final int eventDelta = (int) this.eventDelta.sumThenReset();
     final int eventRate = (int) Math.ceil((1000.0 * (double) eventDelta) / (double) dt);
     final long eventCount = EVENT_COUNT.addAndGet(this, (long) eventDelta);
-    final int commandDelta = COMMAND_DELTA.getAndSet(this, 0);
+    final int commandDelta = (int) this.commandDelta.sumThenReset();
     final int commandRate = (int) Math.ceil((1000.0 * (double) commandDelta) / (double) dt);
     final long commandCount = COMMAND_TOTAL.addAndGet(this, (long) commandDelta);
 
@@ -0,0 +1,187 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.server;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+import swim.concurrent.Theater;
+import swim.runtime.agent.AgentNode;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class AgentMailboxSpec {
+
+  static Runnable awaitCommand(final CountDownLatch start, final CountDownLatch release) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        start.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException error) {
+          throw new RuntimeException(error);
+        }
+      }
+    };
+  }
+
+  static Runnable countCommand(final CountDownLatch done) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        done.countDown();
+      }
+    };
+  }
+
+  @Test
+  public void testRunCommandBudget() throws InterruptedException {
+    final Theater stage = new Theater();
+    final TestAgentNode node = new TestAgentNode(0, false, 3);
+    final CountDownLatch start = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(9);
+    try {
+      stage.start();
+      stage.task(node);
+      node.execute(awaitCommand(start, release));
+      start.await(5, TimeUnit.SECONDS);
+      node.collectRunLength();
+      // Queue commands behind the blocked command, so a single run could
+      // drain them all if it weren't budgeted.
+      for (int i = 0; i < 9; i += 1) {
+        node.execute(countCommand(done));
+      }
+      release.countDown();
+      done.await(5, TimeUnit.SECONDS);
+      assertEquals(done.getCount(), 0L);
+      assertEquals(node.collectRunLength(), 3);
+    } finally {
+      stage.stop();
+    }
+  }
+
+  @Test
+  public void testDropMailboxOverflow() throws InterruptedException {
+    final Theater stage = new Theater();
+    final TestAgentNode node = new TestAgentNode(2, true, 0);
+    final CountDownLatch start = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(2);
+    try {
+      stage.start();
+      stage.task(node);
+      node.execute(awaitCommand(start, release));
+      start.await(5, TimeUnit.SECONDS);
+      node.execute(countCommand(done));
+      node.execute(countCommand(done));
+      assertEquals(node.mailboxSize(), 2);
+      node.execute(countCommand(done));
+      assertEquals(node.overflowCount.get(), 1);
+      assertEquals(node.mailboxSize(), 2);
+      release.countDown();
+      done.await(5, TimeUnit.SECONDS);
+      assertEquals(done.getCount(), 0L);
+      assertEquals(node.overflowCount.get(), 1);
+    } finally {
+      stage.stop();
+    }
+  }
+
+  @Test
+  public void testBlockOnMailboxOverflow() throws InterruptedException {
+    final Theater stage = new Theater();
+    final ForkJoinPool pool = new ForkJoinPool(1);
+    final TestAgentNode node = new TestAgentNode(1, false, 0);
+    final CountDownLatch start = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch didExecute = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(2);
+    try {
+      stage.start();
+      stage.task(node);
+      node.execute(awaitCommand(start, release));
+      start.await(5, TimeUnit.SECONDS);
+      node.execute(countCommand(done));
+      // Threads of foreign fork-join pools wait for the mailbox to drain.
+      pool.execute(new Runnable() {
+        @Override
+        public void run() {
+          node.execute(countCommand(done));
+          didExecute.countDown();
+        }
+      });
+      assertFalse(didExecute.await(200, TimeUnit.MILLISECONDS));
+      release.countDown();
+      assertTrue(didExecute.await(5, TimeUnit.SECONDS));
+      done.await(5, TimeUnit.SECONDS);
+      assertEquals(done.getCount(), 0L);
+    } finally {
+      pool.shutdown();
+      stage.stop();
+    }
+  }
+
+  static final class TestAgentNode extends AgentNode {
+
+    final int mailboxCapacity;
+    final boolean mailboxDropsOverflow;
+    final int runCommandBudget;
+    final AtomicInteger overflowCount = new AtomicInteger();
+
+    TestAgentNode(int mailboxCapacity, boolean mailboxDropsOverflow, int runCommandBudget) {
+      this.mailboxCapacity = mailboxCapacity;
+      this.mailboxDropsOverflow = mailboxDropsOverflow;
+      this.runCommandBudget = runCommandBudget;
+    }
+
+    @Override
+    public boolean isClosed() {
+      // Waiters on the mailbox of a closed agent are released.
+      return false;
+    }
+
+    @Override
+    protected int mailboxCapacity() {
+      return this.mailboxCapacity;
+    }
+
+    @Override
+    protected boolean mailboxDropsOverflow() {
+      return this.mailboxDropsOverflow;
+    }
+
+    @Override
+    protected void mailboxDidOverflow(Runnable command) {
+      this.overflowCount.incrementAndGet();
+    }
+
+    @Override
+    protected int runCommandBudget() {
+      return this.runCommandBudget;
+    }
+
+    @Override
+    protected int collectRunLength() {
+      return super.collectRunLength();
+    }
+
+  }
+
+}
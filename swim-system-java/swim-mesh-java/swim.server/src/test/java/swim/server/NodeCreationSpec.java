@@ -0,0 +1,222 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.server;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+import swim.actor.ActorSpace;
+import swim.actor.ActorSpaceDef;
+import swim.api.SwimLane;
+import swim.api.SwimRoute;
+import swim.api.agent.AbstractAgent;
+import swim.api.agent.AgentRoute;
+import swim.api.lane.CommandLane;
+import swim.api.plane.AbstractPlane;
+import swim.api.warp.function.OnCommand;
+import swim.kernel.Kernel;
+import swim.runtime.HostBinding;
+import swim.runtime.NodeBinding;
+import swim.structure.Value;
+import swim.uri.Uri;
+import swim.uri.UriMapper;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class NodeCreationSpec {
+
+  static HostBinding host(ActorSpace space, Uri nodeUri) {
+    return space.edge().network().openPart(nodeUri).master();
+  }
+
+  @Test
+  public void testSingleFlightNodeCreation() throws Exception {
+    final Kernel kernel = ServerLoader.loadServerStack();
+    final ActorSpace space = (ActorSpace) kernel.openSpace(ActorSpaceDef.fromName("test"));
+    final TestNodeCreationPlane plane = space.openPlane("test", TestNodeCreationPlane.class);
+
+    final int nodeCount = 16;
+    final int threadCount = 8;
+    final CountDownLatch laneOnCommand = new CountDownLatch(nodeCount * threadCount);
+    TestNodeCreationAgent.agentCount.set(0);
+    TestNodeCreationAgent.laneOnCommand = laneOnCommand;
+    try {
+      kernel.start();
+      final CyclicBarrier barrier = new CyclicBarrier(threadCount);
+      final Thread[] threads = new Thread[threadCount];
+      for (int i = 0; i < threadCount; i += 1) {
+        threads[i] = new Thread() {
+          @Override
+          public void run() {
+            try {
+              barrier.await();
+            } catch (Exception cause) {
+              throw new RuntimeException(cause);
+            }
+            for (int j = 0; j < nodeCount; j += 1) {
+              plane.command("/create/" + j, "command", Value.extant());
+            }
+          }
+        };
+        threads[i].start();
+      }
+      for (int i = 0; i < threadCount; i += 1) {
+        threads[i].join();
+      }
+      laneOnCommand.await(5, TimeUnit.SECONDS);
+      assertEquals(laneOnCommand.getCount(), 0L);
+      assertEquals(TestNodeCreationAgent.agentCount.get(), nodeCount);
+    } finally {
+      kernel.stop();
+    }
+  }
+
+  @Test
+  public void testRebuildNodesSnapshot() throws Exception {
+    final Kernel kernel = ServerLoader.loadServerStack();
+    final ActorSpace space = (ActorSpace) kernel.openSpace(ActorSpaceDef.fromName("test"));
+    space.openPlane("test", TestNodeCreationPlane.class);
+
+    try {
+      kernel.start();
+      final Uri fooUri = Uri.parse("/snapshot/foo");
+      final Uri barUri = Uri.parse("/snapshot/bar");
+      final HostBinding host = host(space, fooUri);
+
+      final NodeBinding foo = host.openNode(fooUri);
+      assertNotNull(foo);
+      final UriMapper<NodeBinding> nodes = host.nodes();
+      assertSame(nodes.get(fooUri), foo);
+      assertNull(nodes.get(barUri));
+      assertSame(host.nodes(), nodes);
+
+      final NodeBinding bar = host.openNode(barUri);
+      assertNotNull(bar);
+      assertSame(host.openNode(barUri), bar);
+      final UriMapper<NodeBinding> newNodes = host.nodes();
+      assertSame(newNodes.get(fooUri), foo);
+      assertSame(newNodes.get(barUri), bar);
+      assertNull(nodes.get(barUri));
+      assertSame(host.nodes(), newNodes);
+    } finally {
+      kernel.stop();
+    }
+  }
+
+  @Test
+  public void testOpenNodesCreatingEachOther() throws Exception {
+    final Kernel kernel = ServerLoader.loadServerStack();
+    final ActorSpace space = (ActorSpace) kernel.openSpace(ActorSpaceDef.fromName("test"));
+    space.openPlane("test", TestNodeCreationPlane.class);
+
+    final Uri fooUri = Uri.parse("/cross/foo");
+    final Uri barUri = Uri.parse("/cross/bar");
+    TestCrossCreationAgent.space = space;
+    TestCrossCreationAgent.barrier = new CyclicBarrier(2);
+    try {
+      kernel.start();
+      final Thread fooThread = new Thread() {
+        @Override
+        public void run() {
+          host(space, fooUri).openNode(fooUri);
+        }
+      };
+      final Thread barThread = new Thread() {
+        @Override
+        public void run() {
+          host(space, barUri).openNode(barUri);
+        }
+      };
+      fooThread.start();
+      barThread.start();
+      // Each creation opens the other node; the opens must fail, rather
+      // than wait on each other forever.
+      fooThread.join(30000L);
+      barThread.join(30000L);
+      assertFalse(fooThread.isAlive());
+      assertFalse(barThread.isAlive());
+      TestCrossCreationAgent.barrier = null;
+      assertNotNull(host(space, fooUri).openNode(fooUri));
+      assertNotNull(host(space, barUri).openNode(barUri));
+    } finally {
+      TestCrossCreationAgent.space = null;
+      TestCrossCreationAgent.barrier = null;
+      kernel.stop();
+    }
+  }
+
+  static class TestNodeCreationAgent extends AbstractAgent {
+
+    static final AtomicInteger agentCount = new AtomicInteger();
+    static volatile CountDownLatch laneOnCommand;
+
+    @SwimLane("command")
+    CommandLane<Value> command = this.<Value>commandLane()
+        .onCommand(new OnCommand<Value>() {
+          @Override
+          public void onCommand(Value value) {
+            final CountDownLatch laneOnCommand = TestNodeCreationAgent.laneOnCommand;
+            if (laneOnCommand != null) {
+              laneOnCommand.countDown();
+            }
+          }
+        });
+
+    TestNodeCreationAgent() {
+      agentCount.incrementAndGet();
+    }
+
+  }
+
+  static class TestCrossCreationAgent extends AbstractAgent {
+
+    static volatile ActorSpace space;
+    static volatile CyclicBarrier barrier;
+
+    TestCrossCreationAgent() {
+      final CyclicBarrier barrier = TestCrossCreationAgent.barrier;
+      if (barrier != null) {
+        // Wait for both nodes to be mid-creation, then open the other one.
+        try {
+          barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception cause) {
+          throw new RuntimeException(cause);
+        }
+        final Uri peerUri = Uri.parse("/cross/" + (nodeUri().toString().endsWith("/foo") ? "bar" : "foo"));
+        host(space, peerUri).openNode(peerUri);
+      }
+    }
+
+  }
+
+  static class TestNodeCreationPlane extends AbstractPlane {
+
+    @SwimRoute("/create/:id")
+    AgentRoute<TestNodeCreationAgent> createAgent;
+
+    @SwimRoute("/snapshot/:id")
+    AgentRoute<TestNodeCreationAgent> snapshotAgent;
+
+    @SwimRoute("/cross/:id")
+    AgentRoute<TestCrossCreationAgent> crossAgent;
+
+  }
+
+}
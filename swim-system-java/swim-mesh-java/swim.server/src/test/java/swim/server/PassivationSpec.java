@@ -0,0 +1,458 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.server;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+import swim.actor.ActorSpaceDef;
+import swim.api.SwimLane;
+import swim.api.agent.AbstractAgent;
+import swim.api.agent.AbstractAgentRoute;
+import swim.api.agent.AgentContext;
+import swim.api.downlink.ValueDownlink;
+import swim.api.lane.CommandLane;
+import swim.api.lane.ValueLane;
+import swim.api.plane.AbstractPlane;
+import swim.api.warp.function.DidSync;
+import swim.api.warp.function.OnCommand;
+import swim.concurrent.TimerFunction;
+import swim.java.JavaAgentFactory;
+import swim.kernel.Kernel;
+import swim.structure.Form;
+import swim.structure.Num;
+import swim.structure.Text;
+import swim.structure.Value;
+import swim.uri.Uri;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class PassivationSpec {
+
+  @Test
+  public void testPassivateIdleAgent() throws InterruptedException {
+    final Kernel kernel = ServerLoader.loadServerStack();
+    final TestPassivationPlane plane = kernel.openSpace(ActorSpaceDef.fromName("test"))
+        .openPlane("test", TestPassivationPlane.class);
+
+    final CountDownLatch agentDidStart = new CountDownLatch(2);
+    final CountDownLatch agentDidClose = new CountDownLatch(1);
+    class TestPassivationAgent extends AbstractAgent {
+
+      TestPassivationAgent(AgentContext context) {
+        super(context);
+      }
+
+      @Override
+      public void didStart() {
+        System.out.println("agent didStart: " + nodeUri());
+        agentDidStart.countDown();
+      }
+
+      @Override
+      public void didClose() {
+        System.out.println("agent didClose: " + nodeUri());
+        agentDidClose.countDown();
+      }
+
+    }
+
+    class TestPassivationRoute extends AbstractAgentRoute<TestPassivationAgent> {
+
+      @Override
+      public TestPassivationAgent createAgent(AgentContext context) {
+        return new TestPassivationAgent(context);
+      }
+
+      @Override
+      public Value id(Uri nodeUri) {
+        return Text.from("passivation");
+      }
+
+      @Override
+      public long idleTimeout() {
+        return 100L;
+      }
+
+    }
+
+    try {
+      plane.addAgentRoute("passivation", "/passivation/:name", new TestPassivationRoute());
+      kernel.start();
+      plane.command("/passivation/idle", "lane", Value.absent());
+      agentDidClose.await(2, TimeUnit.SECONDS);
+      assertEquals(agentDidClose.getCount(), 0);
+      plane.command("/passivation/idle", "lane", Value.absent());
+      agentDidStart.await(1, TimeUnit.SECONDS);
+      assertEquals(agentDidStart.getCount(), 0);
+    } finally {
+      kernel.stop();
+    }
+  }
+
+  @Test
+  public void testRouteCommandsWhilePassivating() throws InterruptedException {
+    final Kernel kernel = ServerLoader.loadServerStack();
+    final TestPassivationPlane plane = kernel.openSpace(ActorSpaceDef.fromName("test"))
+        .openPlane("test", TestPassivationPlane.class);
+
+    final int nodeCount = 4;
+    final int threadCount = 4;
+    final int commandCount = 250;
+    final CountDownLatch laneOnCommand = new CountDownLatch(threadCount * commandCount);
+    TestResidentAgent.laneOnCommand = laneOnCommand;
+    TestResidentAgent.agentCount.set(0);
+    TestResidentAgent.closeCounts.clear();
+    try {
+      plane.addAgentRoute("evict", "/evict/:id", new TestResidentRoute(1L, 1));
+      kernel.start();
+      final Thread[] threads = new Thread[threadCount];
+      for (int i = 0; i < threadCount; i += 1) {
+        threads[i] = new Thread() {
+          @Override
+          public void run() {
+            for (int j = 0; j < commandCount; j += 1) {
+              plane.command("/evict/" + (j % nodeCount), "command", Value.extant());
+              if (j % 10 == 0) {
+                try {
+                  // Give the host a chance to passivate idle nodes.
+                  Thread.sleep(25L);
+                } catch (InterruptedException error) {
+                  return;
+                }
+              }
+            }
+          }
+        };
+        threads[i].start();
+      }
+      for (int i = 0; i < threadCount; i += 1) {
+        threads[i].join();
+      }
+      laneOnCommand.await(5, TimeUnit.SECONDS);
+      assertEquals(laneOnCommand.getCount(), 0L);
+      // Passivated nodes were reactivated to receive later commands.
+      assertTrue(TestResidentAgent.agentCount.get() > nodeCount);
+    } finally {
+      kernel.stop();
+    }
+  }
+
+  @Test
+  public void testLimitResidentsPerRoute() throws InterruptedException {
+    final Kernel kernel = ServerLoader.loadServerStack();
+    final TestPassivationPlane plane = kernel.openSpace(ActorSpaceDef.fromName("test"))
+        .openPlane("test", TestPassivationPlane.class);
+
+    TestResidentAgent.laneOnCommand = null;
+    TestResidentAgent.agentCount.set(0);
+    TestResidentAgent.closeCounts.clear();
+    try {
+      // Distinct routes with equal limits; each may keep one resident.
+      plane.addAgentRoute("foo", "/foo/:id", new TestResidentRoute(0L, 1));
+      plane.addAgentRoute("bar", "/bar/:id", new TestResidentRoute(0L, 1));
+      // A linked node that's never passivated keeps the host sweeping.
+      plane.addAgentRoute("pace", "/pace/:id", new TestResidentRoute(50L, 0));
+      kernel.start();
+      plane.downlink().nodeUri("/pace/0").laneUri("command").open();
+      plane.command("/foo/0", "command", Value.extant());
+      plane.command("/foo/1", "command", Value.extant());
+      plane.command("/bar/0", "command", Value.extant());
+      plane.command("/bar/1", "command", Value.extant());
+      final long deadline = System.currentTimeMillis() + 2000L;
+      while (closeCount("/foo/") + closeCount("/bar/") < 2 && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10L);
+      }
+      // Let a few more sweeps run to catch any excess passivation.
+      Thread.sleep(300L);
+      assertEquals(closeCount("/foo/"), 1);
+      assertEquals(closeCount("/bar/"), 1);
+      assertEquals(closeCount("/pace/"), 0);
+    } finally {
+      kernel.stop();
+    }
+  }
+
+  @Test
+  public void testRestoreLaneStateOnReactivation() throws InterruptedException {
+    final Kernel kernel = ServerLoader.loadServerStack();
+    final TestPassivationPlane plane = kernel.openSpace(ActorSpaceDef.fromName("test"))
+        .openPlane("test", TestPassivationPlane.class);
+
+    TestStatefulAgent.reset();
+    final CountDownLatch linkDidSync = new CountDownLatch(1);
+    try {
+      plane.addAgentRoute("stateful", "/stateful/:id", new TestStatefulRoute());
+      kernel.start();
+      plane.command("/stateful/restore", "set", Num.from(42));
+      awaitClose("/stateful/restore", 1);
+      assertEquals(TestStatefulAgent.closeCount("/stateful/restore"), 1);
+      final ValueDownlink<Integer> stateLink = plane.downlinkValue()
+          .valueForm(Form.forInteger())
+          .nodeUri("/stateful/restore")
+          .laneUri("state")
+          .didSync(new DidSync() {
+            @Override
+            public void didSync() {
+              linkDidSync.countDown();
+            }
+          })
+          .open();
+      linkDidSync.await(1, TimeUnit.SECONDS);
+      assertEquals(linkDidSync.getCount(), 0L);
+      // The node was reactivated, with the lane state it had when passivated.
+      assertEquals(TestStatefulAgent.startCount("/stateful/restore"), 2);
+      assertEquals(stateLink.get(), Integer.valueOf(42));
+    } finally {
+      kernel.stop();
+    }
+  }
+
+  @Test
+  public void testHoldPassivationForScheduledTimers() throws InterruptedException {
+    final Kernel kernel = ServerLoader.loadServerStack();
+    final TestPassivationPlane plane = kernel.openSpace(ActorSpaceDef.fromName("test"))
+        .openPlane("test", TestPassivationPlane.class);
+
+    TestStatefulAgent.reset();
+    try {
+      plane.addAgentRoute("stateful", "/stateful/:id", new TestStatefulRoute());
+      kernel.start();
+      plane.command("/stateful/timer", "schedule", Num.from(800));
+      Thread.sleep(500L);
+      // Idle, but with a timer pending.
+      assertEquals(TestStatefulAgent.closeCount("/stateful/timer"), 0);
+      awaitClose("/stateful/timer", 1);
+      assertEquals(TestStatefulAgent.timerCount.get(), 1);
+      assertEquals(TestStatefulAgent.closeCount("/stateful/timer"), 1);
+    } finally {
+      kernel.stop();
+    }
+  }
+
+  @Test
+  public void testHoldPassivationForOpenDownlinks() throws InterruptedException {
+    final Kernel kernel = ServerLoader.loadServerStack();
+    final TestPassivationPlane plane = kernel.openSpace(ActorSpaceDef.fromName("test"))
+        .openPlane("test", TestPassivationPlane.class);
+
+    TestStatefulAgent.reset();
+    try {
+      plane.addAgentRoute("stateful", "/stateful/:id", new TestStatefulRoute());
+      kernel.start();
+      plane.command("/stateful/watcher", "watch", Text.from("/stateful/watched"));
+      Thread.sleep(500L);
+      // Idle, but with a downlink open.
+      assertEquals(TestStatefulAgent.closeCount("/stateful/watcher"), 0);
+      plane.command("/stateful/watcher", "unwatch", Value.extant());
+      awaitClose("/stateful/watcher", 1);
+      assertEquals(TestStatefulAgent.closeCount("/stateful/watcher"), 1);
+    } finally {
+      kernel.stop();
+    }
+  }
+
+  static void awaitClose(String nodeUri, int closeCount) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 3000L;
+    while (TestStatefulAgent.closeCount(nodeUri) < closeCount && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10L);
+    }
+  }
+
+  static int closeCount(String prefix) {
+    final AtomicInteger closeCount = TestResidentAgent.closeCounts.get(prefix);
+    return closeCount != null ? closeCount.get() : 0;
+  }
+
+  static class TestPassivationPlane extends AbstractPlane {
+    // nop
+  }
+
+  static class TestResidentAgent extends AbstractAgent {
+
+    static final AtomicInteger agentCount = new AtomicInteger();
+    static final ConcurrentHashMap<String, AtomicInteger> closeCounts = new ConcurrentHashMap<String, AtomicInteger>();
+    static volatile CountDownLatch laneOnCommand;
+
+    @SwimLane("command")
+    CommandLane<Value> command = this.<Value>commandLane()
+        .onCommand(new OnCommand<Value>() {
+          @Override
+          public void onCommand(Value value) {
+            final CountDownLatch laneOnCommand = TestResidentAgent.laneOnCommand;
+            if (laneOnCommand != null) {
+              laneOnCommand.countDown();
+            }
+          }
+        });
+
+    TestResidentAgent() {
+      agentCount.incrementAndGet();
+    }
+
+    @Override
+    public void didClose() {
+      final String nodeUri = nodeUri().toString();
+      final String prefix = nodeUri.substring(0, nodeUri.lastIndexOf('/') + 1);
+      AtomicInteger closeCount = closeCounts.get(prefix);
+      if (closeCount == null) {
+        closeCount = new AtomicInteger();
+        final AtomicInteger oldCloseCount = closeCounts.putIfAbsent(prefix, closeCount);
+        if (oldCloseCount != null) {
+          closeCount = oldCloseCount;
+        }
+      }
+      closeCount.incrementAndGet();
+    }
+
+  }
+
+  static class TestStatefulAgent extends AbstractAgent {
+
+    static final ConcurrentHashMap<String, AtomicInteger> startCounts = new ConcurrentHashMap<String, AtomicInteger>();
+    static final ConcurrentHashMap<String, AtomicInteger> closeCounts = new ConcurrentHashMap<String, AtomicInteger>();
+    static final AtomicInteger timerCount = new AtomicInteger();
+
+    ValueDownlink<Value> watchLink;
+
+    @SwimLane("state")
+    ValueLane<Integer> state = this.<Integer>valueLane().valueForm(Form.forInteger());
+
+    @SwimLane("set")
+    CommandLane<Integer> set = this.<Integer>commandLane()
+        .valueForm(Form.forInteger())
+        .onCommand(new OnCommand<Integer>() {
+          @Override
+          public void onCommand(Integer value) {
+            state.set(value);
+          }
+        });
+
+    @SwimLane("schedule")
+    CommandLane<Integer> schedule = this.<Integer>commandLane()
+        .valueForm(Form.forInteger())
+        .onCommand(new OnCommand<Integer>() {
+          @Override
+          public void onCommand(Integer delay) {
+            setTimer(delay.longValue(), new TimerFunction() {
+              @Override
+              public void runTimer() {
+                timerCount.incrementAndGet();
+              }
+            });
+          }
+        });
+
+    @SwimLane("watch")
+    CommandLane<String> watch = this.<String>commandLane()
+        .valueForm(Form.forString())
+        .onCommand(new OnCommand<String>() {
+          @Override
+          public void onCommand(String nodeUri) {
+            watchLink = downlinkValue().nodeUri(nodeUri).laneUri("state").open();
+          }
+        });
+
+    @SwimLane("unwatch")
+    CommandLane<Value> unwatch = this.<Value>commandLane()
+        .onCommand(new OnCommand<Value>() {
+          @Override
+          public void onCommand(Value value) {
+            if (watchLink != null) {
+              watchLink.close();
+              watchLink = null;
+            }
+          }
+        });
+
+    static void reset() {
+      startCounts.clear();
+      closeCounts.clear();
+      timerCount.set(0);
+    }
+
+    static int startCount(String nodeUri) {
+      final AtomicInteger startCount = startCounts.get(nodeUri);
+      return startCount != null ? startCount.get() : 0;
+    }
+
+    static int closeCount(String nodeUri) {
+      final AtomicInteger closeCount = closeCounts.get(nodeUri);
+      return closeCount != null ? closeCount.get() : 0;
+    }
+
+    static void increment(ConcurrentHashMap<String, AtomicInteger> counts, String nodeUri) {
+      AtomicInteger count = counts.get(nodeUri);
+      if (count == null) {
+        count = new AtomicInteger();
+        final AtomicInteger oldCount = counts.putIfAbsent(nodeUri, count);
+        if (oldCount != null) {
+          count = oldCount;
+        }
+      }
+      count.incrementAndGet();
+    }
+
+    @Override
+    public void didStart() {
+      increment(startCounts, nodeUri().toString());
+    }
+
+    @Override
+    public void didClose() {
+      increment(closeCounts, nodeUri().toString());
+    }
+
+  }
+
+  static class TestStatefulRoute extends JavaAgentFactory<TestStatefulAgent> {
+
+    TestStatefulRoute() {
+      super(TestStatefulAgent.class);
+    }
+
+    @Override
+    public long idleTimeout() {
+      return 100L;
+    }
+
+  }
+
+  static class TestResidentRoute extends JavaAgentFactory<TestResidentAgent> {
+
+    final long idleTimeout;
+    final int maxResident;
+
+    TestResidentRoute(long idleTimeout, int maxResident) {
+      super(TestResidentAgent.class);
+      this.idleTimeout = idleTimeout;
+      this.maxResident = maxResident;
+    }
+
+    @Override
+    public long idleTimeout() {
+      return this.idleTimeout;
+    }
+
+    @Override
+    public int maxResident() {
+      return this.maxResident;
+    }
+
+  }
+
+}
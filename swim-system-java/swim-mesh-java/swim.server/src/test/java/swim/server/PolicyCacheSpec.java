@@ -0,0 +1,257 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.server;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+import swim.actor.ActorSpace;
+import swim.actor.ActorSpaceDef;
+import swim.api.SwimLane;
+import swim.api.SwimRoute;
+import swim.api.agent.AbstractAgent;
+import swim.api.agent.AgentRoute;
+import swim.api.auth.Identity;
+import swim.api.downlink.EventDownlink;
+import swim.api.lane.CommandLane;
+import swim.api.plane.AbstractPlane;
+import swim.api.policy.AbstractPolicy;
+import swim.api.policy.PolicyCache;
+import swim.api.policy.PolicyDirective;
+import swim.api.store.Store;
+import swim.api.warp.function.OnCommand;
+import swim.kernel.Kernel;
+import swim.service.web.WebServiceDef;
+import swim.structure.Text;
+import swim.structure.Value;
+import swim.uri.Uri;
+import swim.warp.CommandMessage;
+import swim.warp.Envelope;
+import swim.warp.LinkRequest;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class PolicyCacheSpec {
+
+  @Test
+  public void testCacheVerdicts() {
+    final PolicyCache cache = new PolicyCache(60000L);
+    final CommandMessage message = new CommandMessage("/a", "x");
+    final PolicyDirective<CommandMessage> directive = PolicyDirective.allow();
+    assertNull(cache.get(message, null));
+    assertSame(cache.put(message, null, directive), directive);
+    assertSame(cache.get(message, null), directive);
+    assertSame(cache.get(new CommandMessage("/a", "x", Text.from("body")), null), directive);
+    assertNull(cache.get(new CommandMessage("/a", "y"), null));
+    assertNull(cache.get(new LinkRequest("/a", "x"), null));
+  }
+
+  @Test
+  public void testExpireVerdicts() throws InterruptedException {
+    final PolicyCache cache = new PolicyCache(50L);
+    final CommandMessage foo = new CommandMessage("/foo", "x");
+    final CommandMessage bar = new CommandMessage("/bar", "x");
+    cache.put(foo, null, PolicyDirective.allow());
+    cache.put(bar, null, PolicyDirective.allow().stable());
+    Thread.sleep(100L);
+    assertNull(cache.get(foo, null));
+    assertEquals(cache.get(bar, null), PolicyDirective.allow().stable());
+    cache.purge();
+    assertEquals(cache.size(), 1);
+  }
+
+  @Test
+  public void testNeverCacheRewrites() {
+    final PolicyCache cache = new PolicyCache(60000L);
+    final CommandMessage message = new CommandMessage("/a", "x");
+    final PolicyDirective<CommandMessage> directive = PolicyDirective.allow(new CommandMessage("/b", "x"));
+    assertSame(cache.put(message, null, directive), directive);
+    assertNull(cache.get(message, null));
+    cache.put(message, null, directive.stable());
+    assertNull(cache.get(message, null));
+    assertEquals(cache.size(), 0);
+  }
+
+  @Test
+  public void testInvalidateVerdicts() {
+    final PolicyCache cache = new PolicyCache(60000L);
+    final Identity alice = new TestIdentity();
+    final Identity bob = new TestIdentity();
+    final CommandMessage foo = new CommandMessage("/foo", "x");
+    final CommandMessage bar = new CommandMessage("/bar", "x");
+    cache.put(foo, alice, PolicyDirective.allow().stable());
+    cache.put(bar, alice, PolicyDirective.allow());
+    cache.put(foo, bob, PolicyDirective.allow().stable());
+    cache.put(bar, bob, PolicyDirective.allow());
+    assertEquals(cache.size(), 4);
+
+    cache.invalidate(foo, bob);
+    assertNull(cache.get(foo, bob));
+    assertEquals(cache.size(), 3);
+
+    // Identities are compared by reference, and invalidating one drops
+    // its stable verdicts too.
+    cache.invalidate(alice);
+    assertNull(cache.get(foo, alice));
+    assertNull(cache.get(bar, alice));
+    assertEquals(cache.get(bar, bob), PolicyDirective.allow());
+    assertEquals(cache.size(), 1);
+
+    cache.put(foo, alice, PolicyDirective.allow());
+    cache.invalidate(Uri.parse("/bar"));
+    assertNull(cache.get(bar, bob));
+    assertEquals(cache.get(foo, alice), PolicyDirective.allow());
+
+    cache.invalidate();
+    assertEquals(cache.size(), 0);
+  }
+
+  @Test
+  public void testSkipStableCommands() throws InterruptedException {
+    final Kernel kernel = ServerLoader.loadServerStack();
+    final ActorSpace space = (ActorSpace) kernel.openSpace(ActorSpaceDef.fromName("test"));
+    final TestPolicyPlane plane = space.openPlane("test", TestPolicyPlane.class);
+    final TestPolicy policy = new TestPolicy();
+    space.setPolicy(policy);
+
+    final int commandCount = 5;
+    final CountDownLatch laneOnCommand = new CountDownLatch(2 * commandCount);
+    TestPolicyAgent.laneOnCommand = laneOnCommand;
+    try {
+      kernel.openService(WebServiceDef.standard().port(53556).spaceName("test"));
+      kernel.start();
+      final EventDownlink<Value> linkedLink = plane.downlink()
+          .hostUri("warp://localhost:53556")
+          .nodeUri("/policy/linked")
+          .laneUri("command")
+          .open();
+      final EventDownlink<Value> stableLink = plane.downlink()
+          .hostUri("warp://localhost:53556")
+          .nodeUri("/policy/stable")
+          .laneUri("command")
+          .open();
+      for (int i = 0; i < commandCount; i += 1) {
+        linkedLink.command(Value.extant());
+        stableLink.command(Value.extant());
+      }
+      laneOnCommand.await(5, TimeUnit.SECONDS);
+      assertEquals(laneOnCommand.getCount(), 0L);
+      // A stable link verdict doesn't exempt commands on the link.
+      assertEquals(policy.linkCount("/policy/linked"), 1);
+      assertEquals(policy.commandCount("/policy/linked"), commandCount);
+      // A stable command verdict exempts later commands on the link.
+      assertEquals(policy.commandCount("/policy/stable"), 1);
+    } finally {
+      kernel.stop();
+    }
+  }
+
+  static final class TestIdentity implements Identity {
+
+    @Override
+    public boolean isAuthenticated() {
+      return true;
+    }
+
+    @Override
+    public Uri requestUri() {
+      return Uri.empty();
+    }
+
+    @Override
+    public Uri fromUri() {
+      return Uri.empty();
+    }
+
+    @Override
+    public Value subject() {
+      return Value.absent();
+    }
+
+    @Override
+    public Store data() {
+      return null;
+    }
+
+    @Override
+    public Store session() {
+      return null;
+    }
+
+  }
+
+  static final class TestPolicy extends AbstractPolicy {
+
+    final AtomicInteger linkedLinkCount = new AtomicInteger();
+    final AtomicInteger linkedCommandCount = new AtomicInteger();
+    final AtomicInteger stableCommandCount = new AtomicInteger();
+
+    int linkCount(String nodeUri) {
+      return "/policy/linked".equals(nodeUri) ? this.linkedLinkCount.get() : 0;
+    }
+
+    int commandCount(String nodeUri) {
+      return "/policy/linked".equals(nodeUri) ? this.linkedCommandCount.get() : this.stableCommandCount.get();
+    }
+
+    @Override
+    protected <T> PolicyDirective<T> authorize(Envelope envelope, Identity identity) {
+      final String nodeUri = envelope.nodeUri().path().toString();
+      if ("/policy/linked".equals(nodeUri)) {
+        if (envelope instanceof LinkRequest) {
+          this.linkedLinkCount.incrementAndGet();
+          return this.<T>allow().stable();
+        } else if (envelope instanceof CommandMessage) {
+          this.linkedCommandCount.incrementAndGet();
+        }
+      } else if ("/policy/stable".equals(nodeUri)) {
+        if (envelope instanceof CommandMessage) {
+          this.stableCommandCount.incrementAndGet();
+          return this.<T>allow().stable();
+        }
+      }
+      return allow();
+    }
+
+  }
+
+  static class TestPolicyAgent extends AbstractAgent {
+
+    static volatile CountDownLatch laneOnCommand;
+
+    @SwimLane("command")
+    CommandLane<Value> command = this.<Value>commandLane()
+        .onCommand(new OnCommand<Value>() {
+          @Override
+          public void onCommand(Value value) {
+            final CountDownLatch laneOnCommand = TestPolicyAgent.laneOnCommand;
+            if (laneOnCommand != null) {
+              laneOnCommand.countDown();
+            }
+          }
+        });
+
+  }
+
+  static class TestPolicyPlane extends AbstractPlane {
+
+    @SwimRoute("/policy/:id")
+    AgentRoute<TestPolicyAgent> policyAgent;
+
+  }
+
+}
@@ -0,0 +1,141 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.server;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+import swim.actor.ActorSpaceDef;
+import swim.api.SwimLane;
+import swim.api.SwimRoute;
+import swim.api.agent.AbstractAgent;
+import swim.api.agent.AgentRoute;
+import swim.api.downlink.MapDownlink;
+import swim.api.lane.SpatialLane;
+import swim.api.plane.AbstractPlane;
+import swim.kernel.Kernel;
+import swim.math.BoxZ2;
+import swim.observable.function.DidUpdateShape;
+import swim.service.web.WebServiceDef;
+import swim.structure.Record;
+import swim.structure.Text;
+import swim.structure.Value;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class SpatialLaneSpec {
+
+  static Value updateCommand(String key, BoxZ2 shape, String value) {
+    return Record.create(2).attr("update", Record.create(2).slot("key", key).slot("shape", shape.toValue()))
+        .concat(Text.from(value));
+  }
+
+  @Test
+  public void testLinkToSpatialLaneRegion() throws InterruptedException {
+    final Kernel kernel = ServerLoader.loadServerStack();
+    final TestSpatialPlane plane = kernel.openSpace(ActorSpaceDef.fromName("test"))
+        .openPlane("test", TestSpatialPlane.class);
+
+    final CountDownLatch laneDidUpdate = new CountDownLatch(2);
+    TestSpatialLaneAgent.laneDidUpdate = laneDidUpdate;
+    try {
+      kernel.openService(WebServiceDef.standard().port(53556).spaceName("test"));
+      kernel.start();
+
+      plane.command("/spatial/map", "spatial", updateCommand("inside", BoxZ2.of(1L, 1L, 2L, 2L), "a"));
+      plane.command("/spatial/map", "spatial", updateCommand("outside", BoxZ2.of(100L, 100L, 101L, 101L), "b"));
+      laneDidUpdate.await(1, TimeUnit.SECONDS);
+      assertEquals(laneDidUpdate.getCount(), 0);
+
+      final CountDownLatch regionDidSync = new CountDownLatch(1);
+      final CountDownLatch regionDidUpdate = new CountDownLatch(1);
+      final MapDownlink<String, String> regionLink = plane.downlinkMap()
+          .keyClass(String.class)
+          .valueClass(String.class)
+          .hostUri("warp://localhost:53556")
+          .nodeUri("/spatial/map")
+          .laneUri("spatial")
+          .body(BoxZ2.of(0L, 0L, 10L, 10L).toValue())
+          .didUpdate((key, newValue, oldValue) -> {
+            if ("inside2".equals(key)) {
+              regionDidUpdate.countDown();
+            }
+          })
+          .didSync(regionDidSync::countDown)
+          .open();
+      final CountDownLatch worldDidSync = new CountDownLatch(1);
+      final CountDownLatch worldDidUpdate = new CountDownLatch(2);
+      final MapDownlink<String, String> worldLink = plane.downlinkMap()
+          .keyClass(String.class)
+          .valueClass(String.class)
+          .hostUri("warp://127.0.0.1:53556") // distinct host, so the links aren't shared
+          .nodeUri("/spatial/map")
+          .laneUri("spatial")
+          .didUpdate((key, newValue, oldValue) -> {
+            if ("inside2".equals(key) || "outside2".equals(key)) {
+              worldDidUpdate.countDown();
+            }
+          })
+          .didSync(worldDidSync::countDown)
+          .open();
+      regionDidSync.await(1, TimeUnit.SECONDS);
+      worldDidSync.await(1, TimeUnit.SECONDS);
+      assertEquals(regionDidSync.getCount(), 0);
+      assertEquals(worldDidSync.getCount(), 0);
+      assertTrue(regionLink.containsKey("inside"));
+      assertFalse(regionLink.containsKey("outside"));
+      assertTrue(worldLink.containsKey("inside"));
+      assertTrue(worldLink.containsKey("outside"));
+
+      plane.command("/spatial/map", "spatial", updateCommand("outside2", BoxZ2.of(200L, 200L, 201L, 201L), "d"));
+      plane.command("/spatial/map", "spatial", updateCommand("inside2", BoxZ2.of(3L, 3L, 4L, 4L), "c"));
+      regionDidUpdate.await(1, TimeUnit.SECONDS);
+      worldDidUpdate.await(1, TimeUnit.SECONDS);
+      assertEquals(regionDidUpdate.getCount(), 0);
+      assertEquals(worldDidUpdate.getCount(), 0);
+      assertEquals(regionLink.get("inside2"), "c");
+      assertFalse(regionLink.containsKey("outside2"));
+      assertEquals(worldLink.get("outside2"), "d");
+    } finally {
+      kernel.stop();
+    }
+  }
+
+  static class TestSpatialLaneAgent extends AbstractAgent {
+
+    static CountDownLatch laneDidUpdate;
+
+    @SwimLane("spatial")
+    SpatialLane<String, BoxZ2, String> testSpatial = this.<String, BoxZ2, String>spatialLane(BoxZ2.form())
+        .keyClass(String.class)
+        .valueClass(String.class)
+        .didUpdate(new DidUpdateShape<String, BoxZ2, String>() {
+          @Override
+          public void didUpdate(String key, BoxZ2 shape, String newValue, String oldValue) {
+            laneDidUpdate.countDown();
+          }
+        });
+
+  }
+
+  static class TestSpatialPlane extends AbstractPlane {
+
+    @SwimRoute("/spatial/:name")
+    AgentRoute<TestSpatialLaneAgent> spatialRoute;
+
+  }
+
+}
@@ -38,6 +38,7 @@ import swim.uri.UriHost;
 import swim.uri.UriPath;
 import swim.uri.UriPort;
 import swim.uri.UriScheme;
+import swim.warp.BinaryEnvelope;
 import swim.web.WebRequest;
 import swim.web.WebResponse;
 import swim.web.WebRoute;
@@ -101,7 +102,9 @@ public class WebServer extends AbstractWarpServer {
     // TODO: Refactor into WarpSpaceRoute.
     final WsRequest wsRequest = WsRequest.from(httpRequest);
     if (wsRequest != null) {
-      final WsResponse wsResponse = wsRequest.accept(this.wsSettings);
+      final WsResponse wsResponse = wsRequest.protocols().contains(BinaryEnvelope.PROTOCOL)
+          ? wsRequest.accept(this.wsSettings, BinaryEnvelope.PROTOCOL)
+          : wsRequest.accept(this.wsSettings);
       if (wsResponse != null) {
         return warpWebSocketResponder(wsRequest, wsResponse);
       }
@@ -24,6 +24,8 @@ import swim.api.store.StoreException;
 import swim.concurrent.MainStage;
 import swim.concurrent.Stage;
 import swim.db.BTreeMap;
+import swim.db.FileStore;
+import swim.db.PageCache;
 import swim.db.QTreeMap;
 import swim.db.STreeList;
 import swim.db.Store;
@@ -37,6 +39,7 @@ import swim.store.MapDataBinding;
 import swim.store.SpatialDataBinding;
 import swim.store.StoreBinding;
 import swim.store.StoreContext;
+import swim.store.StorePulse;
 import swim.store.ValueDataBinding;
 import swim.structure.Text;
 import swim.structure.Value;
@@ -81,6 +84,17 @@ public class DbStore implements StoreBinding, StoreContext {
     this.store.database().closeTrunk(treeName);
   }
 
+  @Override
+  public StorePulse pulse() {
+    if (this.store instanceof FileStore) {
+      final PageCache pageCache = ((FileStore) this.store).pageCache();
+      return new StorePulse((long) pageCache.size(), pageCache.weight(), pageCache.hitCount(),
+                            pageCache.missCount(), pageCache.evictionCount(),
+                            pageCache.loadCount(), pageCache.loadTime());
+    }
+    return StorePulse.empty();
+  }
+
   @Override
   public void close() {
     if (!this.name.isDefined()) {
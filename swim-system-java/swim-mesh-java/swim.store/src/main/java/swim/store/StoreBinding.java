@@ -28,6 +28,14 @@ public interface StoreBinding extends Store {
 
   void closeData(Value name);
 
+  /**
+   * Returns a snapshot of this store's page cache statistics; stores without
+   * a page cache return {@link StorePulse#empty()}.
+   */
+  default StorePulse pulse() {
+    return StorePulse.empty();
+  }
+
   void close();
 
 }
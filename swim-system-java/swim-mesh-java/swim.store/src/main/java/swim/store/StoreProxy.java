@@ -59,6 +59,11 @@ public class StoreProxy implements StoreBinding, StoreContext {
     this.storeBinding.closeData(name);
   }
 
+  @Override
+  public StorePulse pulse() {
+    return this.storeBinding.pulse();
+  }
+
   @Override
   public void close() {
     this.storeContext.close();
@@ -0,0 +1,154 @@
+// Copyright 2015-2020 SWIM.AI inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package swim.store;
+
+import swim.structure.Form;
+import swim.structure.Item;
+import swim.structure.Kind;
+import swim.structure.Record;
+import swim.structure.Value;
+
+public class StorePulse {
+
+  private static Form<StorePulse> form;
+  private static StorePulse empty;
+  protected final long pageCacheSize;
+  protected final long pageCacheWeight;
+  protected final long pageHitCount;
+  protected final long pageMissCount;
+  protected final long pageEvictCount;
+  protected final long pageLoadCount;
+  protected final long pageLoadTime;
+
+  public StorePulse(long pageCacheSize, long pageCacheWeight, long pageHitCount,
+                    long pageMissCount, long pageEvictCount, long pageLoadCount,
+                    long pageLoadTime) {
+    this.pageCacheSize = pageCacheSize;
+    this.pageCacheWeight = pageCacheWeight;
+    this.pageHitCount = pageHitCount;
+    this.pageMissCount = pageMissCount;
+    this.pageEvictCount = pageEvictCount;
+    this.pageLoadCount = pageLoadCount;
+    this.pageLoadTime = pageLoadTime;
+  }
+
+  public static StorePulse empty() {
+    if (empty == null) {
+      empty = new StorePulse(0L, 0L, 0L, 0L, 0L, 0L, 0L);
+    }
+    return empty;
+  }
+
+  @Kind
+  public static Form<StorePulse> form() {
+    if (form == null) {
+      form = new StorePulseForm();
+    }
+    return form;
+  }
+
+  public boolean isDefined() {
+    return this.pageCacheSize != 0L || this.pageCacheWeight != 0L
+        || this.pageHitCount != 0L || this.pageMissCount != 0L || this.pageEvictCount != 0L
+        || this.pageLoadCount != 0L || this.pageLoadTime != 0L;
+  }
+
+  public final long pageCacheSize() {
+    return this.pageCacheSize;
+  }
+
+  public final long pageCacheWeight() {
+    return this.pageCacheWeight;
+  }
+
+  public final long pageHitCount() {
+    return this.pageHitCount;
+  }
+
+  public final long pageMissCount() {
+    return this.pageMissCount;
+  }
+
+  public final long pageEvictCount() {
+    return this.pageEvictCount;
+  }
+
+  public final long pageLoadCount() {
+    return this.pageLoadCount;
+  }
+
+  public final long pageLoadTime() {
+    return this.pageLoadTime;
+  }
+
+  public Value toValue() {
+    return form().mold(this).toValue();
+  }
+
+}
+
+final class StorePulseForm extends Form<StorePulse> {
+
+  @Override
+  public Class<?> type() {
+    return StorePulse.class;
+  }
+
+  @Override
+  public Item mold(StorePulse pulse) {
+    if (pulse != null) {
+      final Record record = Record.create(7);
+      if (pulse.pageCacheSize > 0L) {
+        record.slot("pageCacheSize", pulse.pageCacheSize);
+      }
+      if (pulse.pageCacheWeight > 0L) {
+        record.slot("pageCacheWeight", pulse.pageCacheWeight);
+      }
+      if (pulse.pageHitCount > 0L) {
+        record.slot("pageHitCount", pulse.pageHitCount);
+      }
+      if (pulse.pageMissCount > 0L) {
+        record.slot("pageMissCount", pulse.pageMissCount);
+      }
+      if (pulse.pageEvictCount > 0L) {
+        record.slot("pageEvictCount", pulse.pageEvictCount);
+      }
+      if (pulse.pageLoadCount > 0L) {
+        record.slot("pageLoadCount", pulse.pageLoadCount);
+      }
+      if (pulse.pageLoadTime > 0L) {
+        record.slot("pageLoadTime", pulse.pageLoadTime);
+      }
+      return record;
+    } else {
+      return Item.extant();
+    }
+  }
+
+  @Override
+  public StorePulse cast(Item item) {
+    final Value value = item.toValue();
+    final long pageCacheSize = value.get("pageCacheSize").longValue(0L);
+    final long pageCacheWeight = value.get("pageCacheWeight").longValue(0L);
+    final long pageHitCount = value.get("pageHitCount").longValue(0L);
+    final long pageMissCount = value.get("pageMissCount").longValue(0L);
+    final long pageEvictCount = value.get("pageEvictCount").longValue(0L);
+    final long pageLoadCount = value.get("pageLoadCount").longValue(0L);
+    final long pageLoadTime = value.get("pageLoadTime").longValue(0L);
+    return new StorePulse(pageCacheSize, pageCacheWeight, pageHitCount, pageMissCount,
+                          pageEvictCount, pageLoadCount, pageLoadTime);
+  }
+
+}